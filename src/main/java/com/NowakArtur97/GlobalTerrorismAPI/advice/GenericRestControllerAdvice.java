@@ -1,8 +1,12 @@
 package com.NowakArtur97.GlobalTerrorismAPI.advice;
 
 import com.NowakArtur97.GlobalTerrorismAPI.controller.GenericRestControllerImpl;
+import com.NowakArtur97.GlobalTerrorismAPI.exception.InvalidPageCursorException;
+import com.NowakArtur97.GlobalTerrorismAPI.exception.PreconditionFailedException;
+import com.NowakArtur97.GlobalTerrorismAPI.exception.PreconditionRequiredException;
 import com.NowakArtur97.GlobalTerrorismAPI.exception.ResourceNotFoundException;
 import com.NowakArtur97.GlobalTerrorismAPI.model.response.ErrorResponse;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -22,4 +26,35 @@ public class GenericRestControllerAdvice {
 
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(InvalidPageCursorException.class)
+    ResponseEntity<ErrorResponse> handleInvalidPageCursorException(InvalidPageCursorException exception) {
+
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value());
+
+        errorResponse.addError(exception.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    // The repository throws OptimisticLockingFailureException if the node was changed between loading and saving it
+    @ExceptionHandler({PreconditionFailedException.class, OptimisticLockingFailureException.class})
+    ResponseEntity<ErrorResponse> handlePreconditionFailedException(RuntimeException exception) {
+
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.PRECONDITION_FAILED.value());
+
+        errorResponse.addError(exception.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(PreconditionRequiredException.class)
+    ResponseEntity<ErrorResponse> handlePreconditionRequiredException(PreconditionRequiredException exception) {
+
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.PRECONDITION_REQUIRED.value());
+
+        errorResponse.addError(exception.getMessage());
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_REQUIRED);
+    }
 }
@@ -0,0 +1,10 @@
+package com.NowakArtur97.GlobalTerrorismAPI.configuration;
+
+import com.NowakArtur97.GlobalTerrorismAPI.property.ConditionalRequestsConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(value = ConditionalRequestsConfigurationProperties.class)
+class ConditionalRequestsConfiguration {
+}
@@ -0,0 +1,10 @@
+package com.NowakArtur97.GlobalTerrorismAPI.configuration;
+
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(value = ImportConfigurationProperties.class)
+class DataImportConfiguration {
+}
@@ -0,0 +1,10 @@
+package com.NowakArtur97.GlobalTerrorismAPI.configuration;
+
+import com.NowakArtur97.GlobalTerrorismAPI.property.LocationCacheConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(value = LocationCacheConfigurationProperties.class)
+class LocationCacheConfiguration {
+}
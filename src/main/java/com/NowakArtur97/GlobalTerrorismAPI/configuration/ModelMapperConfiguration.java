@@ -1,9 +1,12 @@
 package com.NowakArtur97.GlobalTerrorismAPI.configuration;
 
+import com.NowakArtur97.GlobalTerrorismAPI.dto.EventDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
 import org.modelmapper.Converter;
 import org.modelmapper.ModelMapper;
 import org.modelmapper.convention.MatchingStrategies;
+import org.modelmapper.spi.PropertyMapping;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +15,8 @@ import javax.json.JsonValue;
 @Configuration
 class ModelMapperConfiguration {
 
+	private final static String ID_PROPERTY = "id";
+
 	@Bean
 	ModelMapper getModelMapper() {
 
@@ -30,6 +35,11 @@ class ModelMapperConfiguration {
 
 		modelMapper.addConverter(myConverter);
 
+		// The id of an event in a request only identifies an existing event, it is never copied to the mapped nodes
+		modelMapper.typeMap(EventDTO.class, EventNode.class).setPropertyCondition(context ->
+				!(context.getMapping() instanceof PropertyMapping && ID_PROPERTY
+						.equals(((PropertyMapping) context.getMapping()).getLastSourceProperty().getName())));
+
 		return modelMapper;
 	}
 }
@@ -0,0 +1,13 @@
+package com.NowakArtur97.GlobalTerrorismAPI.configuration;
+
+import com.NowakArtur97.GlobalTerrorismAPI.repository.BaseNeo4jRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.BaseNeo4jRepositoryFactoryBean;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.BaseRepository;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.repository.config.EnableNeo4jRepositories;
+
+@Configuration
+@EnableNeo4jRepositories(basePackageClasses = BaseRepository.class, repositoryBaseClass = BaseNeo4jRepository.class,
+        repositoryFactoryBeanClass = BaseNeo4jRepositoryFactoryBean.class)
+class Neo4jRepositoryConfiguration {
+}
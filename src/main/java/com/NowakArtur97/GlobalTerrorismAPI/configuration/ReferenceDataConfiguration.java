@@ -0,0 +1,10 @@
+package com.NowakArtur97.GlobalTerrorismAPI.configuration;
+
+import com.NowakArtur97.GlobalTerrorismAPI.property.ReferenceDataConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(value = ReferenceDataConfigurationProperties.class)
+class ReferenceDataConfiguration {
+}
@@ -5,6 +5,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.filter.JwtRequestFilter;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -29,6 +30,9 @@ class WebSecurityConfiguration extends WebSecurityConfigurerAdapter {
 
     private final ExceptionHandlerFilter exceptionHandlerFilter;
 
+    // Authority of the users allowed to export snapshots of the whole graph
+    private final static String ADMIN_ROLE = "admin";
+
     @Value("${jwt.ignoredAntMatchers}")
     private String[] ignoredAntMatchers;
 
@@ -63,6 +67,7 @@ class WebSecurityConfiguration extends WebSecurityConfigurerAdapter {
                 .authorizeRequests()
                 .antMatchers(ignoredAntMatchers)
                 .permitAll()
+                .requestMatchers(EndpointRequest.to("snapshot")).hasAuthority(ADMIN_ROLE)
                 .antMatchers("/api/v1/**").authenticated()
                 .and()
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
@@ -11,7 +11,7 @@ import org.springframework.web.bind.annotation.RequestMethod;
 public interface BasicGenericRestController<M extends RepresentationModel<M>> {
 
     @GetMapping
-    ResponseEntity<PagedModel<M>> findAll(Pageable pageable);
+    ResponseEntity<PagedModel<M>> findAll(Pageable pageable, String after, boolean count);
 
     @GetMapping(path = "/{id}")
     ResponseEntity<M> findById(Long id);
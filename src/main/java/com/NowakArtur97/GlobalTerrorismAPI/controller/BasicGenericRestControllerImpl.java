@@ -3,17 +3,30 @@ package com.NowakArtur97.GlobalTerrorismAPI.controller;
 import com.NowakArtur97.GlobalTerrorismAPI.exception.ResourceNotFoundException;
 import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.BasicGenericService;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.CursorSlice;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageCursor;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.SliceModel;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionTag;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @RestController
 public abstract class BasicGenericRestControllerImpl<M extends RepresentationModel<M>, T extends Node>
@@ -29,34 +42,117 @@ public abstract class BasicGenericRestControllerImpl<M extends RepresentationMod
 
     protected final PagedResourcesAssembler<T> pagedResourcesAssembler;
 
+    protected final VersionHelper versionHelper;
+
+    private final Class<T> nodeTypeClass;
+
     protected BasicGenericRestControllerImpl(BasicGenericService<T> service,
                                              RepresentationModelAssemblerSupport<T, M> modelAssembler,
-                                             PagedResourcesAssembler<T> pagedResourcesAssembler) {
+                                             PagedResourcesAssembler<T> pagedResourcesAssembler,
+                                             VersionHelper versionHelper) {
 
         this.modelTypeParameterClass = (Class<M>) GenericTypeResolver.resolveTypeArguments(getClass(),
                 BasicGenericRestControllerImpl.class)[0];
+        this.nodeTypeClass = (Class<T>) GenericTypeResolver.resolveTypeArguments(getClass(),
+                BasicGenericRestControllerImpl.class)[1];
         this.modelType = this.modelTypeParameterClass.getSimpleName();
         this.service = service;
         this.modelAssembler = modelAssembler;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
+        this.versionHelper = versionHelper;
     }
 
     @GetMapping
     @Override
-    public ResponseEntity<PagedModel<M>> findAll(Pageable pageable) {
+    public ResponseEntity<PagedModel<M>> findAll(Pageable pageable,
+                                                 @RequestParam(value = "after", required = false) String after,
+                                                 @RequestParam(value = "count", defaultValue = "true") boolean count) {
+
+        // Taken before reading, so that a write in between outdates the response
+        VersionTag tag = versionHelper.getTag(nodeTypeClass);
+
+        HttpHeaders notModifiedHeaders = versionHelper.checkNotModified(tag, null);
 
-        Page<T> resources = service.findAll(pageable);
-        PagedModel<M> pagedModel = pagedResourcesAssembler.toModel(resources, modelAssembler);
+        if (notModifiedHeaders != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(notModifiedHeaders).build();
+        }
 
-        return new ResponseEntity<>(pagedModel, HttpStatus.OK);
+        PagedModel<M> pagedModel;
+
+        if (after != null) {
+            pagedModel = findAllAfter(after, pageable);
+        } else if (!count) {
+            pagedModel = findAllWithoutCount(pageable);
+        } else {
+            pagedModel = pagedResourcesAssembler.toModel(service.findAll(pageable), modelAssembler);
+        }
+
+        return new ResponseEntity<>(pagedModel, versionHelper.getHeaders(tag, null), HttpStatus.OK);
+    }
+
+    // Counting only up to one element past the page is enough for the assembler to link the next one. As the total
+    // is not known, the link to the last page and the totals of the metadata are left out
+    private PagedModel<M> findAllWithoutCount(Pageable pageable) {
+
+        Slice<T> resources = service.findAllWithoutCount(pageable);
+
+        long knownElements = pageable.getOffset() + resources.getNumberOfElements() + (resources.hasNext() ? 1 : 0);
+
+        Page<T> page = new PageImpl<>(resources.getContent(), pageable, knownElements);
+
+        PagedModel<M> pagedModel = pagedResourcesAssembler.toModel(page, modelAssembler);
+
+        return new SliceModel<>(pagedModel.getContent(),
+                SliceModel.SliceMetadata.ofNumber(resources.getSize(), resources.getNumber()),
+                pagedModel.getLinks().without(IanaLinkRelations.LAST));
+    }
+
+    // Cursor pages have no number nor total, their metadata holds the size and the cursor of the next page, which is
+    // also carried by the next link
+    private PagedModel<M> findAllAfter(String after, Pageable pageable) {
+
+        PageCursor cursor = after.isEmpty() ? null : PageCursor.decode(after);
+
+        CursorSlice<T> resources = service.findAllAfter(cursor, pageable);
+
+        Page<T> page = new PageImpl<>(resources.getContent(), PageRequest.of(0, pageable.getPageSize(),
+                pageable.getSort()), resources.getNumberOfElements());
+
+        Link selfLink = new Link(ServletUriComponentsBuilder.fromCurrentRequest().toUriString());
+
+        PagedModel<M> pagedModel = pagedResourcesAssembler.toModel(page, modelAssembler, selfLink);
+
+        Links links = pagedModel.getLinks();
+
+        if (resources.hasNext()) {
+
+            String nextLink = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("page")
+                    .replaceQueryParam("after", resources.getNextCursor().encode())
+                    .toUriString();
+
+            links = links.and(new Link(nextLink, IanaLinkRelations.NEXT));
+        }
+
+        return new SliceModel<>(pagedModel.getContent(),
+                SliceModel.SliceMetadata.ofCursor(pageable.getPageSize(), resources.getNextCursor()), links);
     }
 
     @GetMapping(path = "/{id}")
     @Override
     public ResponseEntity<M> findById(@PathVariable("id") Long id) {
 
-        return service.findById(id).map(modelAssembler::toModel).map(ResponseEntity::ok)
-                .orElseThrow(() -> new ResourceNotFoundException(modelType, id));
+        VersionTag tag = versionHelper.getTag(nodeTypeClass);
+
+        HttpHeaders notModifiedHeaders = versionHelper.checkNotModified(tag, id);
+
+        if (notModifiedHeaders != null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(notModifiedHeaders).build();
+        }
+
+        T node = service.findProjectedById(id).orElseThrow(() -> new ResourceNotFoundException(modelType, id));
+
+        return new ResponseEntity<>(modelAssembler.toModel(node), versionHelper.getHeaders(tag, node), HttpStatus.OK);
     }
 
     @RequestMapping(method = RequestMethod.OPTIONS)
@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.CityTag;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
@@ -36,8 +37,9 @@ public class CityController extends GenericRestControllerImpl<CityModel, CityDTO
     public CityController(GenericService<CityNode, CityDTO> service,
                           RepresentationModelAssemblerSupport<CityNode, CityModel> modelAssembler,
                           PagedResourcesAssembler<CityNode> pagedResourcesAssembler,
-                          PatchHelper patchHelper, ViolationHelper<CityNode, CityDTO> violationHelper) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper);
+                          PatchHelper patchHelper, ViolationHelper<CityNode, CityDTO> violationHelper,
+                          VersionHelper versionHelper) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper, versionHelper);
     }
 
     @GetMapping
@@ -45,8 +47,12 @@ public class CityController extends GenericRestControllerImpl<CityModel, CityDTO
     @ApiOperation(value = "Find All Cities", notes = "Look up all cities")
     @ApiResponse(code = 200, message = "Displayed list of all Cities", response = PagedModel.class)
     @ApiPageable
-    public ResponseEntity<PagedModel<CityModel>> findAll(Pageable pageable) {
-        return super.findAll(pageable);
+    public ResponseEntity<PagedModel<CityModel>> findAll(Pageable pageable,
+            @ApiParam(value = "Cursor from the next link of the previous page, empty for the first page. Replaces the page number, pages are sorted by id or by date", name = "after")
+            @RequestParam(value = "after", required = false) String after,
+            @ApiParam(value = "Whether to count all elements for the page metadata, without counting only the next page is linked", name = "count", defaultValue = "true")
+            @RequestParam(value = "count", defaultValue = "true") boolean count) {
+        return super.findAll(pageable, after, count);
     }
 
     @GetMapping("/{id}")
@@ -80,7 +86,9 @@ public class CityController extends GenericRestControllerImpl<CityModel, CityDTO
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated a City", response = CityModel.class),
             @ApiResponse(code = 201, message = "Successfully added new City", response = CityModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current City", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update City", response = ErrorResponse.class)})
     public ResponseEntity<CityModel> update(
             @ApiParam(value = "Id of the City being updated", name = "id", type = "integer", required = true, example = "1") @PathVariable("id") Long id,
             @ApiParam(value = "City to update", name = "city", required = true) @RequestBody @Valid CityDTO dto) {
@@ -93,7 +101,9 @@ public class CityController extends GenericRestControllerImpl<CityModel, CityDTO
             consumes = PatchMediaType.APPLICATION_JSON_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated City's fields", response = CityModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current City", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update City", response = ErrorResponse.class)})
     public ResponseEntity<CityModel> updateFields(
             @ApiParam(value = "Id of the City being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -110,7 +120,9 @@ public class CityController extends GenericRestControllerImpl<CityModel, CityDTO
             consumes = PatchMediaType.APPLICATION_JSON_MERGE_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated City's fields", response = CityModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current City", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update City", response = ErrorResponse.class)})
     public ResponseEntity<CityModel> updateFields(
             @ApiParam(value = "Id of the City being updated", name = "id2", type = "integer", required = true, example = "1")
             @PathVariable("id2") Long id,
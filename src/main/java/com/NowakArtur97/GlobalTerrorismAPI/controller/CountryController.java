@@ -6,6 +6,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.model.response.ErrorResponse;
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.BasicGenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.CountryTag;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
 import org.springframework.data.domain.Pageable;
@@ -26,8 +27,9 @@ public class CountryController extends BasicGenericRestControllerImpl<CountryMod
 
     public CountryController(BasicGenericService<CountryNode> service,
                              RepresentationModelAssemblerSupport<CountryNode, CountryModel> modelAssembler,
-                             PagedResourcesAssembler<CountryNode> pagedResourcesAssembler) {
-        super(service, modelAssembler, pagedResourcesAssembler);
+                             PagedResourcesAssembler<CountryNode> pagedResourcesAssembler,
+                             VersionHelper versionHelper) {
+        super(service, modelAssembler, pagedResourcesAssembler, versionHelper);
     }
 
     @GetMapping
@@ -35,8 +37,12 @@ public class CountryController extends BasicGenericRestControllerImpl<CountryMod
     @ApiOperation(value = "Find All Countries", notes = "Look up all countries")
     @ApiResponse(code = 200, message = "Displayed list of all Countries", response = PagedModel.class)
     @ApiPageable
-    public ResponseEntity<PagedModel<CountryModel>> findAll(Pageable pageable) {
-        return super.findAll(pageable);
+    public ResponseEntity<PagedModel<CountryModel>> findAll(Pageable pageable,
+            @ApiParam(value = "Cursor from the next link of the previous page, empty for the first page. Replaces the page number, pages are sorted by id or by date", name = "after")
+            @RequestParam(value = "after", required = false) String after,
+            @ApiParam(value = "Whether to count all elements for the page metadata, without counting only the next page is linked", name = "count", defaultValue = "true")
+            @RequestParam(value = "count", defaultValue = "true") boolean count) {
+        return super.findAll(pageable, after, count);
     }
 
     @GetMapping("/{id}")
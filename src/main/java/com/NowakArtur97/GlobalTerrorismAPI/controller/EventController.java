@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.EventTag;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
@@ -33,8 +34,8 @@ import javax.validation.Valid;
         @ApiResponse(code = 403, message = "Access to the resource is prohibited")})
 public class EventController extends GenericRestControllerImpl<EventModel, EventDTO, EventNode> {
 
-    public EventController(GenericService<EventNode, EventDTO> service, RepresentationModelAssemblerSupport<EventNode, EventModel> modelAssembler, PagedResourcesAssembler<EventNode> pagedResourcesAssembler, PatchHelper patchHelper, ViolationHelper<EventNode, EventDTO> violationHelper) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper);
+    public EventController(GenericService<EventNode, EventDTO> service, RepresentationModelAssemblerSupport<EventNode, EventModel> modelAssembler, PagedResourcesAssembler<EventNode> pagedResourcesAssembler, PatchHelper patchHelper, ViolationHelper<EventNode, EventDTO> violationHelper, VersionHelper versionHelper) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper, versionHelper);
     }
 
     @GetMapping
@@ -42,8 +43,12 @@ public class EventController extends GenericRestControllerImpl<EventModel, Event
     @ApiOperation(value = "Find All Events", notes = "Look up all events")
     @ApiResponse(code = 200, message = "Displayed list of all Events", response = PagedModel.class)
     @ApiPageable
-    public ResponseEntity<PagedModel<EventModel>> findAll(Pageable pageable) {
-        return super.findAll(pageable);
+    public ResponseEntity<PagedModel<EventModel>> findAll(Pageable pageable,
+            @ApiParam(value = "Cursor from the next link of the previous page, empty for the first page. Replaces the page number, pages are sorted by id or by date", name = "after")
+            @RequestParam(value = "after", required = false) String after,
+            @ApiParam(value = "Whether to count all elements for the page metadata, without counting only the next page is linked", name = "count", defaultValue = "true")
+            @RequestParam(value = "count", defaultValue = "true") boolean count) {
+        return super.findAll(pageable, after, count);
     }
 
     @GetMapping("/{id}")
@@ -77,7 +82,9 @@ public class EventController extends GenericRestControllerImpl<EventModel, Event
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Event", response = EventModel.class),
             @ApiResponse(code = 201, message = "Successfully added new Event", response = EventModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Event", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Event", response = ErrorResponse.class)})
     public ResponseEntity<EventModel> update(
             @ApiParam(value = "Id of the Event being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -91,7 +98,9 @@ public class EventController extends GenericRestControllerImpl<EventModel, Event
             consumes = PatchMediaType.APPLICATION_JSON_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Event's fields", response = EventModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Event", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Event", response = ErrorResponse.class)})
     public ResponseEntity<EventModel> updateFields(
             @ApiParam(value = "Id of the Event being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -108,7 +117,9 @@ public class EventController extends GenericRestControllerImpl<EventModel, Event
             consumes = PatchMediaType.APPLICATION_JSON_MERGE_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Event's fields", response = EventModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Event", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Event", response = ErrorResponse.class)})
     public ResponseEntity<EventModel> updateFields(
             @ApiParam(value = "Id of the Event being updated", name = "id2", type = "integer", required = true, example = "1")
             @PathVariable("id2") Long id,
@@ -5,12 +5,15 @@ import com.NowakArtur97.GlobalTerrorismAPI.exception.ResourceNotFoundException;
 import com.NowakArtur97.GlobalTerrorismAPI.mediaType.PatchMediaType;
 import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
+import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchChanges;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.mvc.RepresentationModelAssemblerSupport;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -39,9 +42,10 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
     protected GenericRestControllerImpl(GenericService<T, D> service,
                                         RepresentationModelAssemblerSupport<T, M> modelAssembler,
                                         PagedResourcesAssembler<T> pagedResourcesAssembler,
-                                        PatchHelper patchHelper, ViolationHelper<T, D> violationHelper) {
+                                        PatchHelper patchHelper, ViolationHelper<T, D> violationHelper,
+                                        VersionHelper versionHelper) {
 
-        super(service, modelAssembler, pagedResourcesAssembler);
+        super(service, modelAssembler, pagedResourcesAssembler, versionHelper);
 
         this.nodeTypeParameterClass = (Class<T>) GenericTypeResolver.resolveTypeArguments(getClass(),
                 GenericRestControllerImpl.class)[2];
@@ -69,17 +73,20 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
 
         Optional<T> nodeOptional = service.findById(id, DEFAULT_DEPTH_FOR_JSON_PATCH);
 
+        // The repository checks the version again when saving, in case the node was changed after it was loaded
+        versionHelper.checkMatch(modelType, id, nodeOptional.orElse(null));
+
         if (id != null && nodeOptional.isPresent()) {
 
             T node = service.update(nodeOptional.get(), dto);
 
-            return new ResponseEntity<>(modelAssembler.toModel(node), HttpStatus.OK);
+            return new ResponseEntity<>(modelAssembler.toModel(node), getVersionHeaders(node), HttpStatus.OK);
 
         } else {
 
             T node = service.saveNew(dto);
 
-            return new ResponseEntity<>(modelAssembler.toModel(node), HttpStatus.CREATED);
+            return new ResponseEntity<>(modelAssembler.toModel(node), getVersionHeaders(node), HttpStatus.CREATED);
         }
     }
 
@@ -87,36 +94,40 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
     @Override
     public ResponseEntity<M> updateFields(@PathVariable("id") Long id, @RequestBody JsonPatch objectAsJsonPatch) {
 
-        T node = service.findById(id, DEFAULT_DEPTH_FOR_JSON_PATCH)
+        T node = service.findWithRelationshipsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(modelType, id));
 
+        versionHelper.checkMatch(modelType, id, node);
+
         T nodePatched = patchHelper.patch(objectAsJsonPatch, node, nodeTypeParameterClass);
 
         violationHelper.violate(nodePatched, dtoTypeParameterClass);
 
-        service.save(nodePatched);
+        nodePatched = saveChanges(node, nodePatched);
 
         M resource = modelAssembler.toModel(nodePatched);
 
-        return new ResponseEntity<>(resource, HttpStatus.OK);
+        return new ResponseEntity<>(resource, getVersionHeaders(nodePatched), HttpStatus.OK);
     }
 
     @PatchMapping(path = "/{id2}", consumes = PatchMediaType.APPLICATION_JSON_MERGE_PATCH_VALUE)
     @Override
     public ResponseEntity<M> updateFields(@PathVariable("id2") Long id, @RequestBody JsonMergePatch objectAsJsonMergePatch) {
 
-        T node = service.findById(id, DEFAULT_DEPTH_FOR_JSON_PATCH)
+        T node = service.findWithRelationshipsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(modelType, id));
 
+        versionHelper.checkMatch(modelType, id, node);
+
         T nodePatched = patchHelper.mergePatch(objectAsJsonMergePatch, node, nodeTypeParameterClass);
 
         violationHelper.violate(nodePatched, dtoTypeParameterClass);
 
-        nodePatched = service.save(nodePatched);
+        nodePatched = saveChanges(node, nodePatched);
 
         M resource = modelAssembler.toModel(nodePatched);
 
-        return new ResponseEntity<>(resource, HttpStatus.OK);
+        return new ResponseEntity<>(resource, getVersionHeaders(nodePatched), HttpStatus.OK);
     }
 
     @DeleteMapping(path = "/{id}")
@@ -127,4 +138,25 @@ public abstract class GenericRestControllerImpl<M extends RepresentationModel<M>
 
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    // The ETag of the saved node, so that the client can update it again
+    private HttpHeaders getVersionHeaders(T node) {
+
+        return versionHelper.getHeaders(versionHelper.getTag(nodeTypeParameterClass), node);
+    }
+
+    // Services resolve the related nodes again when saving, which a patch of the node's own properties does not need
+    private T saveChanges(T node, T nodePatched) {
+
+        // The version is only changed by saving the node
+        nodePatched.setVersion(node.getVersion());
+
+        PatchChanges changes = patchHelper.getChanges(node, nodePatched);
+
+        if (changes.isEmpty()) {
+            return nodePatched;
+        }
+
+        return changes.hasRelationshipChanges() ? service.save(nodePatched) : service.saveProperties(nodePatched);
+    }
 }
@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.GroupTag;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
@@ -36,8 +37,9 @@ public class GroupController extends GenericRestControllerImpl<GroupModel, Group
     public GroupController(GenericService<GroupNode, GroupDTO> service,
                            RepresentationModelAssemblerSupport<GroupNode, GroupModel> modelAssembler,
                            PagedResourcesAssembler<GroupNode> pagedResourcesAssembler,
-                           PatchHelper patchHelper, ViolationHelper<GroupNode, GroupDTO> violationHelper) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper);
+                           PatchHelper patchHelper, ViolationHelper<GroupNode, GroupDTO> violationHelper,
+                           VersionHelper versionHelper) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper, versionHelper);
     }
 
     @GetMapping
@@ -45,8 +47,12 @@ public class GroupController extends GenericRestControllerImpl<GroupModel, Group
     @ApiOperation(value = "Find All Groups", notes = "Look up all groups")
     @ApiResponse(code = 200, message = "Displayed list of all Groups", response = PagedModel.class)
     @ApiPageable
-    public ResponseEntity<PagedModel<GroupModel>> findAll(Pageable pageable) {
-        return super.findAll(pageable);
+    public ResponseEntity<PagedModel<GroupModel>> findAll(Pageable pageable,
+            @ApiParam(value = "Cursor from the next link of the previous page, empty for the first page. Replaces the page number, pages are sorted by id or by date", name = "after")
+            @RequestParam(value = "after", required = false) String after,
+            @ApiParam(value = "Whether to count all elements for the page metadata, without counting only the next page is linked", name = "count", defaultValue = "true")
+            @RequestParam(value = "count", defaultValue = "true") boolean count) {
+        return super.findAll(pageable, after, count);
     }
 
     @GetMapping("/{id}")
@@ -80,7 +86,9 @@ public class GroupController extends GenericRestControllerImpl<GroupModel, Group
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated a Group", response = GroupModel.class),
             @ApiResponse(code = 201, message = "Successfully added new Group", response = GroupModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Group", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Group", response = ErrorResponse.class)})
     public ResponseEntity<GroupModel> update(
             @ApiParam(value = "Id of the Group being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -93,7 +101,9 @@ public class GroupController extends GenericRestControllerImpl<GroupModel, Group
     @ApiOperation(value = "Update Group' fields using Json Patch", notes = "Update Group's fields using Json Patch", consumes = PatchMediaType.APPLICATION_JSON_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Group's fields", response = GroupModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Group", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Group", response = ErrorResponse.class)})
     public ResponseEntity<GroupModel> updateFields(
             @ApiParam(value = "Id of the Group being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -109,7 +119,9 @@ public class GroupController extends GenericRestControllerImpl<GroupModel, Group
     @ApiOperation(value = "Update Group's fields using Json Merge Patch", notes = "Update Group's fields using Json Merge Patch", consumes = PatchMediaType.APPLICATION_JSON_MERGE_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Group's fields", response = GroupModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Group", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Group", response = ErrorResponse.class)})
     public ResponseEntity<GroupModel> updateFields(
             @ApiParam(value = "Id of the Group being updated", name = "id2", type = "integer", required = true, example = "1")
             @PathVariable("id2") Long id,
@@ -10,11 +10,10 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GroupService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.GroupEventsTag;
-import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.PagedModel;
@@ -25,7 +24,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1/groups")
@@ -45,8 +43,6 @@ public class GroupEventsController {
 
     private final PagedResourcesAssembler<EventNode> eventsPagedResourcesAssembler;
 
-    private final PageHelper pageHelper;
-
     @GetMapping("/{id}/events")
     @ApiOperation(value = "Find Group's Events by id", notes = "Provide an id to look up specific Group's Events")
     @ApiResponses({
@@ -57,10 +53,8 @@ public class GroupEventsController {
     public ResponseEntity<PagedModel<EventModel>> findGroupEvents(@ApiParam(value = "Group's id value needed to retrieve events",
             name = "id", type = "integer", required = true, example = "1") @PathVariable("id") Long id, Pageable pageable) {
 
-        List<EventNode> eventsCausedByGroup = groupService.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("GroupModel", id)).getEventsCaused();
-
-        PageImpl<EventNode> pages = pageHelper.convertListToPage(pageable, eventsCausedByGroup);
+        Page<EventNode> pages = groupService.findAllEventsByGroupId(id, pageable)
+                .orElseThrow(() -> new ResourceNotFoundException("GroupModel", id));
 
         PagedModel<EventModel> pagedModel = eventsPagedResourcesAssembler.toModel(pages, eventModelAssembler);
 
@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.ProvinceTag;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
@@ -36,8 +37,9 @@ public class ProvinceController extends GenericRestControllerImpl<ProvinceModel,
     public ProvinceController(GenericService<ProvinceNode, ProvinceDTO> service,
                        RepresentationModelAssemblerSupport<ProvinceNode, ProvinceModel> modelAssembler,
                        PagedResourcesAssembler<ProvinceNode> pagedResourcesAssembler,
-                       PatchHelper patchHelper, ViolationHelper<ProvinceNode, ProvinceDTO> violationHelper) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper);
+                       PatchHelper patchHelper, ViolationHelper<ProvinceNode, ProvinceDTO> violationHelper,
+                       VersionHelper versionHelper) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper, versionHelper);
     }
 
     @GetMapping
@@ -45,8 +47,12 @@ public class ProvinceController extends GenericRestControllerImpl<ProvinceModel,
     @ApiOperation(value = "Find All Provinces", notes = "Look up all provinces")
     @ApiResponse(code = 200, message = "Displayed list of all Provinces", response = PagedModel.class)
     @ApiPageable
-    public ResponseEntity<PagedModel<ProvinceModel>> findAll(Pageable pageable) {
-        return super.findAll(pageable);
+    public ResponseEntity<PagedModel<ProvinceModel>> findAll(Pageable pageable,
+            @ApiParam(value = "Cursor from the next link of the previous page, empty for the first page. Replaces the page number, pages are sorted by id or by date", name = "after")
+            @RequestParam(value = "after", required = false) String after,
+            @ApiParam(value = "Whether to count all elements for the page metadata, without counting only the next page is linked", name = "count", defaultValue = "true")
+            @RequestParam(value = "count", defaultValue = "true") boolean count) {
+        return super.findAll(pageable, after, count);
     }
 
     @GetMapping("/{id}")
@@ -80,7 +86,9 @@ public class ProvinceController extends GenericRestControllerImpl<ProvinceModel,
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated a Province", response = ProvinceModel.class),
             @ApiResponse(code = 201, message = "Successfully added new Province", response = ProvinceModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Province", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Province", response = ErrorResponse.class)})
     public ResponseEntity<ProvinceModel> update(
             @ApiParam(value = "Id of the Province being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -94,7 +102,9 @@ public class ProvinceController extends GenericRestControllerImpl<ProvinceModel,
             consumes = PatchMediaType.APPLICATION_JSON_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Province's fields", response = ProvinceModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Province", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Province", response = ErrorResponse.class)})
     public ResponseEntity<ProvinceModel> updateFields(
             @ApiParam(value = "Id of the Province being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -111,7 +121,9 @@ public class ProvinceController extends GenericRestControllerImpl<ProvinceModel,
     @ApiOperation(value = "Update Province's fields using Json Merge Patch", notes = "Update Province's fields using Json Merge Patch", consumes = PatchMediaType.APPLICATION_JSON_MERGE_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Province's fields", response = ProvinceModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Province", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Province", response = ErrorResponse.class)})
     public ResponseEntity<ProvinceModel> updateFields(
             @ApiParam(value = "Id of the Province being updated", name = "id2", type = "integer", required = true, example = "1")
             @PathVariable("id2") Long id,
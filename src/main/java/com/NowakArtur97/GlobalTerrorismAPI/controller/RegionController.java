@@ -6,6 +6,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.model.response.RegionModel;
 import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.BasicGenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.RegionTag;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
 import org.springframework.data.domain.Pageable;
@@ -26,8 +27,9 @@ public class RegionController extends BasicGenericRestControllerImpl<RegionModel
 
     public RegionController(BasicGenericService<RegionNode> service,
                      RepresentationModelAssemblerSupport<RegionNode, RegionModel> modelAssembler,
-                     PagedResourcesAssembler<RegionNode> pagedResourcesAssembler) {
-        super(service, modelAssembler, pagedResourcesAssembler);
+                     PagedResourcesAssembler<RegionNode> pagedResourcesAssembler,
+                     VersionHelper versionHelper) {
+        super(service, modelAssembler, pagedResourcesAssembler, versionHelper);
     }
 
     @GetMapping
@@ -35,8 +37,12 @@ public class RegionController extends BasicGenericRestControllerImpl<RegionModel
     @ApiOperation(value = "Find All Regions", notes = "Look up all regions")
     @ApiResponse(code = 200, message = "Displayed list of all Regions", response = PagedModel.class)
     @ApiPageable
-    public ResponseEntity<PagedModel<RegionModel>> findAll(Pageable pageable) {
-        return super.findAll(pageable);
+    public ResponseEntity<PagedModel<RegionModel>> findAll(Pageable pageable,
+            @ApiParam(value = "Cursor from the next link of the previous page, empty for the first page. Replaces the page number, pages are sorted by id or by date", name = "after")
+            @RequestParam(value = "after", required = false) String after,
+            @ApiParam(value = "Whether to count all elements for the page metadata, without counting only the next page is linked", name = "count", defaultValue = "true")
+            @RequestParam(value = "count", defaultValue = "true") boolean count) {
+        return super.findAll(pageable, after, count);
     }
 
     @GetMapping("/{id}")
@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.tag.TargetTag;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import com.github.wnameless.spring.bulkapi.Bulkable;
 import io.swagger.annotations.*;
@@ -36,8 +37,9 @@ public class TargetController extends GenericRestControllerImpl<TargetModel, Tar
     public TargetController(GenericService<TargetNode, TargetDTO> service,
                      RepresentationModelAssemblerSupport<TargetNode, TargetModel> modelAssembler,
                      PagedResourcesAssembler<TargetNode> pagedResourcesAssembler,
-                     PatchHelper patchHelper, ViolationHelper<TargetNode, TargetDTO> violationHelper) {
-        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper);
+                     PatchHelper patchHelper, ViolationHelper<TargetNode, TargetDTO> violationHelper,
+                     VersionHelper versionHelper) {
+        super(service, modelAssembler, pagedResourcesAssembler, patchHelper, violationHelper, versionHelper);
     }
 
     @GetMapping
@@ -45,8 +47,12 @@ public class TargetController extends GenericRestControllerImpl<TargetModel, Tar
     @ApiOperation(value = "Find All Targets", notes = "Look up all targets")
     @ApiResponse(code = 200, message = "Displayed list of all Targets", response = PagedModel.class)
     @ApiPageable
-    public ResponseEntity<PagedModel<TargetModel>> findAll(Pageable pageable) {
-        return super.findAll(pageable);
+    public ResponseEntity<PagedModel<TargetModel>> findAll(Pageable pageable,
+            @ApiParam(value = "Cursor from the next link of the previous page, empty for the first page. Replaces the page number, pages are sorted by id or by date", name = "after")
+            @RequestParam(value = "after", required = false) String after,
+            @ApiParam(value = "Whether to count all elements for the page metadata, without counting only the next page is linked", name = "count", defaultValue = "true")
+            @RequestParam(value = "count", defaultValue = "true") boolean count) {
+        return super.findAll(pageable, after, count);
     }
 
     @GetMapping("/{id}")
@@ -80,7 +86,9 @@ public class TargetController extends GenericRestControllerImpl<TargetModel, Tar
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated a  Target", response = TargetModel.class),
             @ApiResponse(code = 201, message = "Successfully added a new Target", response = TargetModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Target", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Target", response = ErrorResponse.class)})
     public ResponseEntity<TargetModel> update(
             @ApiParam(value = "Id of the Target being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -94,7 +102,9 @@ public class TargetController extends GenericRestControllerImpl<TargetModel, Tar
             consumes = PatchMediaType.APPLICATION_JSON_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Target's fields", response = TargetModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Target", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Target", response = ErrorResponse.class)})
     public ResponseEntity<TargetModel> updateFields(
             @ApiParam(value = "Id of the Target being updated", name = "id", type = "integer", required = true, example = "1")
             @PathVariable("id") Long id,
@@ -111,7 +121,9 @@ public class TargetController extends GenericRestControllerImpl<TargetModel, Tar
             consumes = PatchMediaType.APPLICATION_JSON_MERGE_PATCH_VALUE)
     @ApiResponses({
             @ApiResponse(code = 200, message = "Successfully updated Target's fields", response = TargetModel.class),
-            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class)})
+            @ApiResponse(code = 400, message = "Incorrectly entered data", response = ErrorResponse.class),
+            @ApiResponse(code = 412, message = "If-Match does not match the current Target", response = ErrorResponse.class),
+            @ApiResponse(code = 428, message = "If-Match is required to update Target", response = ErrorResponse.class)})
     public ResponseEntity<TargetModel> updateFields(
             @ApiParam(value = "Id of the Target being updated", name = "id2", type = "integer", required = true, example = "1")
             @PathVariable("id2") Long id,
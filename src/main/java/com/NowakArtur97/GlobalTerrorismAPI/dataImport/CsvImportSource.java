@@ -0,0 +1,311 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.XlsxColumnType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a comma separated file through memory mapped windows. Fields are located by scanning the mapped bytes,
+ * only the columns mapped in {@link XlsxColumnType} are decoded to strings. Quoted fields may contain separators,
+ * line breaks and doubled quotes, as the summaries of the GTD release do.
+ */
+class CsvImportSource implements ImportSource {
+
+    private final static byte QUOTE = '"';
+
+    private final static byte SEPARATOR = ',';
+
+    private final static byte LINE_FEED = '\n';
+
+    private final static byte CARRIAGE_RETURN = '\r';
+
+    // A record crossing the end of a window is parsed again from the start of the next one
+    private final static long WINDOW_SIZE = 256L * 1024 * 1024;
+
+    // Maps a file column index to its column type, null for columns which are not imported
+    private final static XlsxColumnType[] PROJECTION = createProjection();
+
+    private final FileChannel channel;
+
+    private final Charset charset;
+
+    private final boolean hasHeader;
+
+    private volatile long bytesRead;
+
+    private volatile long rowsRead;
+
+    CsvImportSource(Path file, Charset charset, boolean hasHeader) throws IOException {
+
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.charset = charset;
+        this.hasHeader = hasHeader;
+    }
+
+    @Override
+    public void read(RawRowHandler handler) throws IOException, InterruptedException {
+
+        long fileSize = channel.size();
+        long windowStart = 0;
+        long rowNumber = 0;
+        boolean isHeader = hasHeader;
+
+        while (windowStart < fileSize) {
+
+            long windowSize = Math.min(WINDOW_SIZE, fileSize - windowStart);
+
+            RecordParser parser = new RecordParser(channel.map(FileChannel.MapMode.READ_ONLY, windowStart, windowSize),
+                    windowStart + windowSize == fileSize);
+
+            int recordStart = 0;
+
+            while (parser.hasRemaining()) {
+
+                RawRow row = new RawRow(rowNumber);
+
+                if (!parser.parse(row)) {
+                    break;
+                }
+
+                recordStart = parser.getPosition();
+
+                if (isHeader) {
+
+                    isHeader = false;
+
+                } else if (!parser.isBlankRecord()) {
+
+                    handler.handle(row);
+
+                    rowNumber++;
+                }
+
+                bytesRead = windowStart + recordStart;
+                rowsRead = rowNumber;
+            }
+
+            if (recordStart == 0) {
+                throw new IOException("Record starting at byte: " + windowStart + " is longer than: " + WINDOW_SIZE
+                        + " bytes");
+            }
+
+            windowStart += recordStart;
+        }
+    }
+
+    // Extrapolates the average record length read so far to the whole file
+    @Override
+    public long estimateTotalRows() {
+
+        long rows = rowsRead;
+        long bytes = bytesRead;
+
+        if (rows == 0 || bytes == 0) {
+            return -1;
+        }
+
+        try {
+            return channel.size() * rows / bytes;
+
+        } catch (IOException exception) {
+
+            return -1;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        channel.close();
+    }
+
+    private static XlsxColumnType[] createProjection() {
+
+        int lastIndex = 0;
+
+        for (XlsxColumnType column : XlsxColumnType.values()) {
+            lastIndex = Math.max(lastIndex, column.getIndex());
+        }
+
+        XlsxColumnType[] projection = new XlsxColumnType[lastIndex + 1];
+
+        for (XlsxColumnType column : XlsxColumnType.values()) {
+            projection[column.getIndex()] = column;
+        }
+
+        return projection;
+    }
+
+    private class RecordParser {
+
+        private final MappedByteBuffer window;
+
+        private final int limit;
+
+        private final boolean isLastWindow;
+
+        private int position;
+
+        private boolean isBlankRecord;
+
+        private RecordParser(MappedByteBuffer window, boolean isLastWindow) {
+
+            this.window = window;
+            this.limit = window.limit();
+            this.isLastWindow = isLastWindow;
+        }
+
+        private boolean hasRemaining() {
+
+            return position < limit;
+        }
+
+        private int getPosition() {
+
+            return position;
+        }
+
+        private boolean isBlankRecord() {
+
+            return isBlankRecord;
+        }
+
+        // Returns false when the record does not end within this window
+        private boolean parse(RawRow row) {
+
+            int current = position;
+            int columnIndex = 0;
+
+            while (true) {
+
+                int fieldStart;
+                int fieldEnd;
+                boolean hasEscapedQuotes = false;
+
+                if (current < limit && window.get(current) == QUOTE) {
+
+                    fieldStart = ++current;
+
+                    while (true) {
+
+                        if (current >= limit) {
+
+                            if (!isLastWindow) {
+                                return false;
+                            }
+
+                            fieldEnd = current;
+
+                            break;
+                        }
+
+                        if (window.get(current) == QUOTE) {
+
+                            if (current + 1 >= limit && !isLastWindow) {
+                                return false;
+                            }
+
+                            if (current + 1 < limit && window.get(current + 1) == QUOTE) {
+
+                                hasEscapedQuotes = true;
+                                current += 2;
+
+                                continue;
+                            }
+
+                            fieldEnd = current++;
+
+                            break;
+                        }
+
+                        current++;
+                    }
+
+                    current = skipToDelimiter(current);
+
+                } else {
+
+                    fieldStart = current;
+                    current = skipToDelimiter(current);
+                    fieldEnd = current;
+                }
+
+                if (current >= limit && !isLastWindow) {
+                    return false;
+                }
+
+                if (columnIndex < PROJECTION.length && PROJECTION[columnIndex] != null) {
+                    row.set(PROJECTION[columnIndex], decode(fieldStart, fieldEnd, hasEscapedQuotes));
+                }
+
+                isBlankRecord = columnIndex == 0 && fieldStart == fieldEnd;
+
+                columnIndex++;
+
+                if (current >= limit) {
+
+                    position = current;
+
+                    return true;
+                }
+
+                byte delimiter = window.get(current++);
+
+                if (delimiter == SEPARATOR) {
+
+                    isBlankRecord = false;
+
+                    continue;
+                }
+
+                if (delimiter == CARRIAGE_RETURN) {
+
+                    if (current >= limit && !isLastWindow) {
+                        return false;
+                    }
+
+                    if (current < limit && window.get(current) == LINE_FEED) {
+                        current++;
+                    }
+                }
+
+                position = current;
+
+                return true;
+            }
+        }
+
+        private int skipToDelimiter(int current) {
+
+            while (current < limit) {
+
+                byte character = window.get(current);
+
+                if (character == SEPARATOR || character == LINE_FEED || character == CARRIAGE_RETURN) {
+                    break;
+                }
+
+                current++;
+            }
+
+            return current;
+        }
+
+        private String decode(int start, int end, boolean hasEscapedQuotes) {
+
+            ByteBuffer field = window.duplicate();
+
+            field.limit(end).position(start);
+
+            String value = charset.decode(field).toString();
+
+            return hasEscapedQuotes ? value.replace("\"\"", "\"") : value;
+        }
+    }
+}
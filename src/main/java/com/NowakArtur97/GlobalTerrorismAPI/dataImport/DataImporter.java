@@ -0,0 +1,12 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import java.io.IOException;
+
+public interface DataImporter {
+
+    long importData() throws IOException;
+
+    void importDataInBackground();
+
+    boolean hasUnfinishedImport();
+}
@@ -0,0 +1,272 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportFormatType;
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportModeType;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.CacheEvictor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+@Component
+@Slf4j
+class DataImporterImpl implements DataImporter, DisposableBean {
+
+    private final ImportConfigurationProperties importConfigurationProperties;
+
+    private final ImportPipeline importPipeline;
+
+    private final ImportCheckpointStore importCheckpointStore;
+
+    private final ImportProgressTracker importProgressTracker;
+
+    private final GraphSnapshotRestorer graphSnapshotRestorer;
+
+    private final ImportLock importLock;
+
+    private final CacheEvictor cacheEvictor;
+
+    private final ThreadPoolTaskExecutor importTaskExecutor;
+
+    DataImporterImpl(ImportConfigurationProperties importConfigurationProperties, ImportPipeline importPipeline,
+                     ImportCheckpointStore importCheckpointStore, ImportProgressTracker importProgressTracker,
+                     GraphSnapshotRestorer graphSnapshotRestorer, ImportLock importLock,
+                     CacheEvictor cacheEvictor,
+                     TaskExecutorBuilder taskExecutorBuilder) {
+
+        this.importConfigurationProperties = importConfigurationProperties;
+        this.importPipeline = importPipeline;
+        this.importCheckpointStore = importCheckpointStore;
+        this.importProgressTracker = importProgressTracker;
+        this.graphSnapshotRestorer = graphSnapshotRestorer;
+        this.importLock = importLock;
+        this.cacheEvictor = cacheEvictor;
+
+        // Not exposed as a bean, which would replace the executor auto-configured for the application
+        this.importTaskExecutor = taskExecutorBuilder.corePoolSize(1).maxPoolSize(1).threadNamePrefix("import-")
+                .build();
+        this.importTaskExecutor.initialize();
+    }
+
+    @Override
+    public boolean hasUnfinishedImport() {
+
+        return importCheckpointStore.hasUnfinishedImport();
+    }
+
+    @Override
+    public void importDataInBackground() {
+
+        if (importProgressTracker.isImporting()) {
+            return;
+        }
+
+        importProgressTracker.schedule();
+
+        importTaskExecutor.execute(() -> {
+
+            try {
+                long rowsImported = importData();
+
+                log.info("##################### Imported " + rowsImported + " rows #####################");
+
+            } catch (FileNotFoundException exception) {
+
+                log.error("##################### File: " + importConfigurationProperties.getPathToFile()
+                        + " not found #####################", exception);
+
+                importProgressTracker.fail(exception);
+
+            } catch (IOException | RuntimeException exception) {
+
+                log.error("##################### Couldn't load data #####################", exception);
+
+                importProgressTracker.fail(exception);
+
+            } finally {
+
+                importProgressTracker.skip();
+            }
+        });
+    }
+
+    // Interrupts a running import, the committed batches are resumed on the next start
+    @Override
+    public void destroy() {
+
+        importTaskExecutor.shutdown();
+    }
+
+    @Override
+    public long importData() throws IOException {
+
+        try {
+            if (!importLock.acquire()) {
+                return 0;
+            }
+
+        } catch (InterruptedException exception) {
+
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException("Interrupted while waiting for the import lock");
+        }
+
+        boolean isCompleted = false;
+
+        try {
+            long rowsImported = importConfiguredFile();
+
+            isCompleted = true;
+
+            return rowsImported;
+
+        } finally {
+
+            cacheEvictor.evictAfterCypherWrite();
+
+            importLock.release(isCompleted);
+        }
+    }
+
+    private long importConfiguredFile() throws IOException {
+
+        String pathToFile = importConfigurationProperties.getPathToFile();
+
+        ImportFormatType format = importConfigurationProperties.getFormat() != null
+                ? importConfigurationProperties.getFormat()
+                : ImportFormatType.fromFileName(pathToFile);
+
+        Path file = Paths.get(pathToFile);
+
+        if (Files.isRegularFile(file)) {
+            return importFile(file, format);
+        }
+
+        URL resource = this.getClass().getClassLoader().getResource(pathToFile);
+
+        if (resource == null) {
+            throw new FileNotFoundException(pathToFile);
+        }
+
+        if ("file".equals(resource.getProtocol())) {
+            return importFile(toPath(resource), format);
+        }
+
+        // Both sources need random access to a file, which a resource packed in the jar does not give
+        Path temporaryFile = Files.createTempFile("import-", format.getExtension());
+
+        try (InputStream inputStream = resource.openStream()) {
+
+            Files.copy(inputStream, temporaryFile, StandardCopyOption.REPLACE_EXISTING);
+
+            return importFile(temporaryFile, format);
+
+        } finally {
+
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private long importFile(Path file, ImportFormatType format) throws IOException {
+
+        String fileHash = hash(file);
+
+        if (format == ImportFormatType.SNAPSHOT) {
+            return graphSnapshotRestorer.restore(file, fileHash);
+        }
+
+        if (importConfigurationProperties.getMode() == ImportModeType.INCREMENTAL
+                && importCheckpointStore.isCompleted(fileHash)) {
+
+            log.info("##################### File: " + file + " was already imported #####################");
+
+            return 0;
+        }
+
+        ImportCheckpoint checkpoint = importCheckpointStore.start(fileHash, importConfigurationProperties.getBatchSize());
+
+        long rowsImported;
+
+        try (ImportSource importSource = createImportSource(file, format)) {
+
+            rowsImported = importPipeline.run(importSource, checkpoint);
+        }
+
+        importCheckpointStore.complete(checkpoint, checkpoint.getCommittedRows() + rowsImported);
+
+        return rowsImported;
+    }
+
+    // Identifies the file, so that an interrupted import is only resumed from the same data
+    private String hash(Path file) throws IOException {
+
+        MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+
+        } catch (NoSuchAlgorithmException exception) {
+
+            throw new IllegalStateException(exception);
+        }
+
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(file), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+
+        StringBuilder hash = new StringBuilder();
+
+        for (byte hashByte : digest.digest()) {
+            hash.append(String.format("%02x", hashByte));
+        }
+
+        return hash.toString();
+    }
+
+    private ImportSource createImportSource(Path file, ImportFormatType format) throws IOException {
+
+        switch (format) {
+
+            case CSV:
+                return new CsvImportSource(file, Charset.forName(importConfigurationProperties.getCsvCharset()),
+                        importConfigurationProperties.isCsvHeader());
+
+            case SNAPSHOT:
+                throw new IllegalArgumentException("Snapshot: " + file + " is restored as a whole, not row by row");
+
+            case XLSX:
+            default:
+                return new XlsxImportSource(file, importConfigurationProperties.isXlsxHeader());
+        }
+    }
+
+    private Path toPath(URL resource) throws IOException {
+
+        try {
+            return Paths.get(resource.toURI());
+
+        } catch (URISyntaxException exception) {
+
+            throw new IOException("Invalid path to file: " + resource, exception);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportFormatType;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes a snapshot of the graph on request. Setting the import path to the written file makes new instances
+ * restore it instead of importing the workbook. Snapshots are only written into the snapshot directory and never
+ * replace an existing one, exporting them is reserved for administrators by the security configuration.
+ */
+@Component
+@Endpoint(id = "snapshot")
+@RequiredArgsConstructor
+class GraphSnapshotEndpoint {
+
+    private final ImportConfigurationProperties importConfigurationProperties;
+
+    private final GraphSnapshotWriter graphSnapshotWriter;
+
+    @WriteOperation
+    public GraphSnapshotSummary export(String fileName) {
+
+        // Only a plain file name is accepted, snapshots are never written outside of the snapshot directory
+        if (fileName.isBlank() || fileName.contains("/") || fileName.contains("\\") || fileName.startsWith(".")) {
+            throw new InvalidEndpointRequestException("Invalid snapshot file name: " + fileName,
+                    "Invalid snapshot file name");
+        }
+
+        String extension = ImportFormatType.SNAPSHOT.getExtension();
+
+        Path snapshotDirectory = Paths.get(importConfigurationProperties.getSnapshotDirectory()).toAbsolutePath()
+                .normalize();
+        Path snapshotFile = snapshotDirectory.resolve(fileName.endsWith(extension) ? fileName : fileName + extension)
+                .normalize();
+
+        if (!snapshotDirectory.equals(snapshotFile.getParent())) {
+            throw new InvalidEndpointRequestException("Invalid snapshot file name: " + fileName,
+                    "Invalid snapshot file name");
+        }
+
+        try {
+            return graphSnapshotWriter.write(snapshotFile);
+
+        } catch (FileAlreadyExistsException exception) {
+
+            throw new InvalidEndpointRequestException("Snapshot already exists: " + snapshotFile,
+                    "Snapshot already exists");
+
+        } catch (IOException exception) {
+
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
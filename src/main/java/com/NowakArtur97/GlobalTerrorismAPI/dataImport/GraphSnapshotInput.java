@@ -0,0 +1,168 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.GraphSnapshotSectionType;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.NowakArtur97.GlobalTerrorismAPI.dataImport.GraphSnapshotOutput.*;
+
+/**
+ * Decodes a snapshot written by {@link GraphSnapshotOutput}.
+ */
+class GraphSnapshotInput implements Closeable {
+
+    private final static int BUFFER_SIZE = 1 << 16;
+
+    private final static GraphSnapshotSectionType[] SECTIONS = GraphSnapshotSectionType.values();
+
+    private final DataInputStream input;
+
+    private final List<String> strings = new ArrayList<>();
+
+    GraphSnapshotInput(InputStream inputStream) {
+
+        this.input = new DataInputStream(new BufferedInputStream(inputStream, BUFFER_SIZE));
+    }
+
+    // Returns the number of events the snapshot was expected to hold when it was written
+    long readHeader() throws IOException {
+
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a graph snapshot");
+        }
+
+        int version = input.readUnsignedByte();
+
+        if (version != VERSION) {
+            throw new IOException("Unsupported graph snapshot version: " + version);
+        }
+
+        return readVarLong();
+    }
+
+    // Returns null after the last section
+    GraphSnapshotSectionType readSection() throws IOException {
+
+        int tag = input.readUnsignedByte();
+
+        if (tag == END_OF_SNAPSHOT) {
+            return null;
+        }
+
+        if (tag > SECTIONS.length) {
+            throw new IOException("Unknown graph snapshot section: " + tag);
+        }
+
+        return SECTIONS[tag - 1];
+    }
+
+    // Returns 0 at the end of a section
+    int readChunkSize() throws IOException {
+
+        return (int) readVarLong();
+    }
+
+    long readVarLong() throws IOException {
+
+        long value = 0;
+        int shift = 0;
+
+        while (true) {
+
+            int nextByte = input.readUnsignedByte();
+
+            value |= (long) (nextByte & 0x7F) << shift;
+
+            if ((nextByte & 0x80) == 0) {
+                return value;
+            }
+
+            shift += 7;
+
+            if (shift > 63) {
+                throw new IOException("Malformed varint in graph snapshot");
+            }
+        }
+    }
+
+    String readString() throws IOException {
+
+        long tag = readVarLong();
+
+        if (tag == NULL_STRING) {
+            return null;
+        }
+
+        if (tag == NEW_STRING) {
+
+            byte[] bytes = new byte[(int) readVarLong()];
+
+            input.readFully(bytes);
+
+            String value = new String(bytes, StandardCharsets.UTF_8);
+
+            strings.add(value);
+
+            return value;
+        }
+
+        long index = tag - FIRST_STRING_INDEX;
+
+        if (index >= strings.size()) {
+            throw new IOException("Unknown string index in graph snapshot: " + index);
+        }
+
+        return strings.get((int) index);
+    }
+
+    // Returns -1 for a missing reference
+    long readReference() throws IOException {
+
+        return readVarLong() - 1;
+    }
+
+    Long readNullableLong() throws IOException {
+
+        if (!input.readBoolean()) {
+            return null;
+        }
+
+        long zigzag = readVarLong();
+
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    Double readNullableDouble() throws IOException {
+
+        return input.readBoolean() ? input.readDouble() : null;
+    }
+
+    Boolean[] readBooleans(int count) throws IOException {
+
+        int packed = input.readUnsignedByte();
+
+        Boolean[] values = new Boolean[count];
+
+        for (int i = 0; i < count; i++) {
+
+            int value = (packed >> (i * 2)) & 0b11;
+
+            values[i] = value == NULL_BOOLEAN ? null : value == TRUE_BOOLEAN;
+        }
+
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        input.close();
+    }
+}
@@ -0,0 +1,166 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.GraphSnapshotSectionType;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Encodes a graph snapshot. After the header every section starts with its tag, followed by chunks of records, each
+ * chunk prefixed with its record count, and ends with an empty chunk. Nodes get consecutive ids in the order they are
+ * written, references to other nodes are written as varints of those ids.
+ * <p>
+ * Strings are deduplicated through a table built while writing: the first occurrence of a string is written in
+ * full and takes the next index, every following one is written as that index. The reader rebuilds the same table,
+ * so the snapshot can be streamed in both directions without a second pass.
+ */
+class GraphSnapshotOutput implements Closeable {
+
+    // "GTDS"
+    final static int MAGIC = 0x47544453;
+
+    final static int VERSION = 1;
+
+    final static int END_OF_SNAPSHOT = 0;
+
+    final static int END_OF_SECTION = 0;
+
+    final static int NULL_STRING = 0;
+
+    final static int NEW_STRING = 1;
+
+    final static int FIRST_STRING_INDEX = 2;
+
+    final static int NO_REFERENCE = 0;
+
+    final static int NULL_BOOLEAN = 0;
+
+    final static int FALSE_BOOLEAN = 1;
+
+    final static int TRUE_BOOLEAN = 2;
+
+    private final static int BUFFER_SIZE = 1 << 16;
+
+    private final DataOutputStream output;
+
+    private final Map<String, Integer> strings = new HashMap<>();
+
+    GraphSnapshotOutput(OutputStream outputStream) {
+
+        this.output = new DataOutputStream(new BufferedOutputStream(outputStream, BUFFER_SIZE));
+    }
+
+    void writeHeader(long estimatedEvents) throws IOException {
+
+        output.writeInt(MAGIC);
+        output.writeByte(VERSION);
+        writeVarLong(estimatedEvents);
+    }
+
+    void startSection(GraphSnapshotSectionType section) throws IOException {
+
+        output.writeByte(section.ordinal() + 1);
+    }
+
+    void startChunk(int records) throws IOException {
+
+        writeVarLong(records);
+    }
+
+    void endSection() throws IOException {
+
+        writeVarLong(END_OF_SECTION);
+    }
+
+    void finish() throws IOException {
+
+        output.writeByte(END_OF_SNAPSHOT);
+        output.flush();
+    }
+
+    void writeVarLong(long value) throws IOException {
+
+        while ((value & ~0x7FL) != 0) {
+
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+
+        output.writeByte((int) value);
+    }
+
+    void writeString(String value) throws IOException {
+
+        if (value == null) {
+            writeVarLong(NULL_STRING);
+            return;
+        }
+
+        Integer index = strings.get(value);
+
+        if (index != null) {
+            writeVarLong(FIRST_STRING_INDEX + (long) index);
+            return;
+        }
+
+        strings.put(value, strings.size());
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        writeVarLong(NEW_STRING);
+        writeVarLong(bytes.length);
+        output.write(bytes);
+    }
+
+    // A negative id writes a missing reference
+    void writeReference(long nodeId) throws IOException {
+
+        writeVarLong(nodeId < 0 ? NO_REFERENCE : nodeId + 1);
+    }
+
+    void writeNullableLong(Long value) throws IOException {
+
+        output.writeBoolean(value != null);
+
+        // Zigzag encoded, so that small negative values stay short as well
+        if (value != null) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+    }
+
+    void writeNullableDouble(Double value) throws IOException {
+
+        output.writeBoolean(value != null);
+
+        if (value != null) {
+            output.writeDouble(value);
+        }
+    }
+
+    // Up to four nullable booleans packed into a single byte, two bits each
+    void writeBooleans(Boolean... values) throws IOException {
+
+        int packed = 0;
+
+        for (int i = 0; i < values.length; i++) {
+
+            int value = values[i] == null ? NULL_BOOLEAN : values[i] ? TRUE_BOOLEAN : FALSE_BOOLEAN;
+
+            packed |= value << (i * 2);
+        }
+
+        output.writeByte(packed);
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        output.close();
+    }
+}
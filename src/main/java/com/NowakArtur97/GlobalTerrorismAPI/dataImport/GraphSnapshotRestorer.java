@@ -0,0 +1,9 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface GraphSnapshotRestorer {
+
+    long restore(Path snapshotFile, String fileHash) throws IOException;
+}
@@ -0,0 +1,345 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.GraphSnapshotSectionType;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.CypherLabels;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads a snapshot written by {@link GraphSnapshotWriterImpl} into an empty database. Nodes are created in batches
+ * with their relationships to the nodes of earlier sections, which are found by the ids returned for them, so no
+ * natural key has to be merged or looked up.
+ */
+@Component
+@Slf4j
+class GraphSnapshotRestorerImpl implements GraphSnapshotRestorer {
+
+    // Expects row and node to be bound
+    private final static String RETURN_IDS_QUERY_PART = "RETURN row.snapshotId AS snapshotId, id(node) AS id";
+
+    private final static Map<GraphSnapshotSectionType, String> CREATE_QUERIES = createQueries();
+
+    private final static String COUNT_NODES_QUERY = "MATCH (node:%s) RETURN count(node) AS nodes";
+
+    private final static long MISSING_ID = -1;
+
+    private final Session session;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ImportConfigurationProperties importConfigurationProperties;
+
+    private final ImportProgressTracker importProgressTracker;
+
+    GraphSnapshotRestorerImpl(Session session, PlatformTransactionManager transactionManager,
+                              ImportConfigurationProperties importConfigurationProperties,
+                              ImportProgressTracker importProgressTracker) {
+
+        this.session = session;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importConfigurationProperties = importConfigurationProperties;
+        this.importProgressTracker = importProgressTracker;
+    }
+
+    @Override
+    public long restore(Path snapshotFile, String fileHash) throws IOException {
+
+        if (!isGraphEmpty()) {
+
+            log.info("##################### Database is not empty, snapshot: " + snapshotFile
+                    + " was not restored #####################");
+
+            return 0;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(snapshotFile);
+             GraphSnapshotInput input = new GraphSnapshotInput(inputStream)) {
+
+            long estimatedEvents = input.readHeader();
+
+            importProgressTracker.start(new ImportCheckpoint(fileHash, importConfigurationProperties.getBatchSize(),
+                    Set.of(), 0), () -> estimatedEvents);
+
+            try {
+                long events = restoreSections(input);
+
+                importProgressTracker.complete();
+
+                log.info("##################### Restored " + events + " events from snapshot: " + snapshotFile
+                        + " #####################");
+
+                return events;
+
+            } catch (IOException | RuntimeException exception) {
+
+                importProgressTracker.fail(exception);
+
+                throw exception;
+            }
+        }
+    }
+
+    private long restoreSections(GraphSnapshotInput input) throws IOException {
+
+        int batchSize = importConfigurationProperties.getBatchSize();
+
+        // Maps the id of a node in the snapshot to the id of the node created for it
+        long[] nodeIds = grow(new long[0], 1024);
+        long nextSnapshotId = 0;
+        long events = 0;
+
+        GraphSnapshotSectionType section;
+
+        while ((section = input.readSection()) != null) {
+
+            List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+
+            int chunkSize;
+
+            while ((chunkSize = input.readChunkSize()) > 0) {
+
+                for (int i = 0; i < chunkSize; i++) {
+
+                    batch.add(readNode(section, input, nextSnapshotId++, nodeIds));
+
+                    if (batch.size() == batchSize) {
+
+                        nodeIds = create(section, batch, nodeIds, nextSnapshotId);
+                        events += countEvents(section, batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+
+            if (!batch.isEmpty()) {
+
+                nodeIds = create(section, batch, nodeIds, nextSnapshotId);
+                events += countEvents(section, batch);
+            }
+        }
+
+        return events;
+    }
+
+    private Map<String, Object> readNode(GraphSnapshotSectionType section, GraphSnapshotInput input, long snapshotId,
+                                         long[] nodeIds) throws IOException {
+
+        Map<String, Object> node = new HashMap<>();
+
+        node.put("snapshotId", snapshotId);
+
+        switch (section) {
+
+            case REGION:
+                node.put("name", input.readString());
+                break;
+
+            case COUNTRY:
+                node.put("name", input.readString());
+                node.put("regionId", toDatabaseId(input.readReference(), nodeIds));
+                break;
+
+            case PROVINCE:
+                node.put("name", input.readString());
+                node.put("countryId", toDatabaseId(input.readReference(), nodeIds));
+                break;
+
+            case CITY:
+                node.put("name", input.readString());
+                node.put("latitude", input.readNullableDouble());
+                node.put("longitude", input.readNullableDouble());
+                node.put("provinceId", toDatabaseId(input.readReference(), nodeIds));
+                break;
+
+            case TARGET:
+                node.put("target", input.readString());
+                node.put("countryId", toDatabaseId(input.readReference(), nodeIds));
+                break;
+
+            case EVENT:
+                node.put("eventId", input.readNullableLong());
+                node.put("sourceHash", input.readString());
+                node.put("summary", input.readString());
+                node.put("motive", input.readString());
+                node.put("date", input.readString());
+
+                Boolean[] flags = input.readBooleans(3);
+
+                node.put("isPartOfMultipleIncidents", flags[0]);
+                node.put("isSuccessful", flags[1]);
+                node.put("isSuicidal", flags[2]);
+                node.put("targetId", toDatabaseId(input.readReference(), nodeIds));
+                node.put("cityId", toDatabaseId(input.readReference(), nodeIds));
+                break;
+
+            case GROUP:
+                node.put("name", input.readString());
+
+                int eventCount = (int) input.readVarLong();
+
+                List<Long> eventIds = new ArrayList<>(eventCount);
+
+                for (int i = 0; i < eventCount; i++) {
+
+                    Long eventId = toDatabaseId(input.readReference(), nodeIds);
+
+                    if (eventId != null) {
+                        eventIds.add(eventId);
+                    }
+                }
+
+                node.put("eventIds", eventIds);
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown snapshot section: " + section);
+        }
+
+        return node;
+    }
+
+    // Returns the id mapping, grown to hold every node read so far
+    private long[] create(GraphSnapshotSectionType section, List<Map<String, Object>> batch, long[] nodeIds,
+                          long nodesRead) {
+
+        long[] grownNodeIds = grow(nodeIds, nodesRead);
+
+        transactionTemplate.execute(status -> {
+
+            for (Map<String, Object> createdNode : session.query(CREATE_QUERIES.get(section), Map.of("rows", batch))) {
+                grownNodeIds[(int) ((Number) createdNode.get("snapshotId")).longValue()] =
+                        ((Number) createdNode.get("id")).longValue();
+            }
+
+            return null;
+        });
+
+        return grownNodeIds;
+    }
+
+    private static long[] grow(long[] nodeIds, long minimumLength) {
+
+        if (minimumLength <= nodeIds.length) {
+            return nodeIds;
+        }
+
+        int capacity = Math.max(nodeIds.length, 1);
+
+        while (capacity < minimumLength) {
+            capacity *= 2;
+        }
+
+        long[] grownNodeIds = Arrays.copyOf(nodeIds, capacity);
+
+        Arrays.fill(grownNodeIds, nodeIds.length, capacity, MISSING_ID);
+
+        return grownNodeIds;
+    }
+
+    private long countEvents(GraphSnapshotSectionType section, List<Map<String, Object>> batch) {
+
+        if (section != GraphSnapshotSectionType.EVENT) {
+            return 0;
+        }
+
+        importProgressTracker.rowsImported(batch.size());
+
+        return batch.size();
+    }
+
+    private boolean isGraphEmpty() {
+
+        for (GraphSnapshotSectionType section : GraphSnapshotSectionType.values()) {
+
+            Map<String, Object> result = session.query(String.format(COUNT_NODES_QUERY, section.getLabel()), Map.of())
+                    .iterator().next();
+
+            if (((Number) result.get("nodes")).longValue() > 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static Long toDatabaseId(long snapshotId, long[] nodeIds) {
+
+        if (snapshotId < 0 || snapshotId >= nodeIds.length || nodeIds[(int) snapshotId] == MISSING_ID) {
+            return null;
+        }
+
+        return nodeIds[(int) snapshotId];
+    }
+
+    private static Map<GraphSnapshotSectionType, String> createQueries() {
+
+        Map<GraphSnapshotSectionType, String> queries = new EnumMap<>(GraphSnapshotSectionType.class);
+
+        queries.put(GraphSnapshotSectionType.REGION, "UNWIND $rows AS row " +
+                "CREATE (node:" + CypherLabels.REGION + " {name: row.name}) " +
+                RETURN_IDS_QUERY_PART);
+
+        queries.put(GraphSnapshotSectionType.COUNTRY, "UNWIND $rows AS row " +
+                "CREATE (node:" + CypherLabels.COUNTRY + " {name: row.name}) " +
+                linkQueryPart("region", "regionId", "(node)-[:PART_OF]->(region)") +
+                RETURN_IDS_QUERY_PART);
+
+        queries.put(GraphSnapshotSectionType.PROVINCE, "UNWIND $rows AS row " +
+                "CREATE (node:" + CypherLabels.PROVINCE + " {name: row.name}) " +
+                linkQueryPart("country", "countryId", "(node)-[:PART_OF]->(country)") +
+                RETURN_IDS_QUERY_PART);
+
+        queries.put(GraphSnapshotSectionType.CITY, "UNWIND $rows AS row " +
+                "CREATE (node:" + CypherLabels.CITY + " {name: row.name, latitude: row.latitude, longitude: row.longitude}) " +
+                linkQueryPart("province", "provinceId", "(node)-[:PART_OF]->(province)") +
+                RETURN_IDS_QUERY_PART);
+
+        queries.put(GraphSnapshotSectionType.TARGET, "UNWIND $rows AS row " +
+                "CREATE (node:" + CypherLabels.TARGET + " {target: row.target}) " +
+                linkQueryPart("country", "countryId", "(node)-[:IS_FROM]->(country)") +
+                RETURN_IDS_QUERY_PART);
+
+        queries.put(GraphSnapshotSectionType.EVENT, "UNWIND $rows AS row " +
+                "CREATE (node:" + CypherLabels.EVENT + " {eventId: row.eventId, sourceHash: row.sourceHash, summary: row.summary, " +
+                "motive: row.motive, date: row.date, isPartOfMultipleIncidents: row.isPartOfMultipleIncidents, " +
+                "isSuccessful: row.isSuccessful, isSuicidal: row.isSuicidal}) " +
+                linkQueryPart("target", "targetId", "(node)-[:TARGETS]->(target)") +
+                linkQueryPart("city", "cityId", "(node)-[:LOCATED_IN]->(city)") +
+                RETURN_IDS_QUERY_PART);
+
+        // Nothing references groups, their ids are not needed
+        queries.put(GraphSnapshotSectionType.GROUP, "UNWIND $rows AS row " +
+                "CREATE (node:" + CypherLabels.GROUP + " {name: row.name}) " +
+                "WITH row, node " +
+                "UNWIND row.eventIds AS eventId " +
+                "MATCH (event) WHERE id(event) = eventId " +
+                "CREATE (node)-[:CARRIES_OUT]->(event)");
+
+        return queries;
+    }
+
+    // Links the node to the node with the id in the given row property, if there is one
+    private static String linkQueryPart(String variable, String idProperty, String relationship) {
+
+        return "WITH row, node " +
+                "OPTIONAL MATCH (" + variable + ") WHERE id(" + variable + ") = row." + idProperty + " " +
+                "FOREACH (ignored IN CASE WHEN " + variable + " IS NULL THEN [] ELSE [1] END | " +
+                "CREATE " + relationship + ") ";
+    }
+}
@@ -0,0 +1,19 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class GraphSnapshotSummary {
+
+    private String file;
+
+    private long nodes;
+
+    private long events;
+
+    private long bytes;
+
+    private long elapsedMillis;
+}
@@ -0,0 +1,9 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface GraphSnapshotWriter {
+
+    GraphSnapshotSummary write(Path snapshotFile) throws IOException;
+}
@@ -0,0 +1,326 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.GraphSnapshotSectionType;
+import com.NowakArtur97.GlobalTerrorismAPI.util.collection.LongLongHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Streams the imported part of the graph into a snapshot, one page of nodes at a time and in a single read
+ * transaction, so that the snapshot is consistent even while the API is being used. The file is written next to
+ * its target and moved into place when complete, a restore never sees a partially written snapshot. An existing
+ * snapshot is never replaced, as it may be the one that new instances restore.
+ */
+@Component
+@Slf4j
+class GraphSnapshotWriterImpl implements GraphSnapshotWriter {
+
+    private final static int PAGE_SIZE = 10_000;
+
+    private final static String PAGE_QUERY_PART =
+            "WHERE id(node) > $after " +
+                    "WITH node ORDER BY id(node) LIMIT $limit " +
+                    "RETURN id(node) AS id, ";
+
+    private final static Map<GraphSnapshotSectionType, String> PAGE_QUERIES = createPageQueries();
+
+    private final static String COUNT_EVENTS_QUERY = "MATCH (event:Event) RETURN count(event) AS events";
+
+    private final static long MISSING_ID = -1;
+
+    private final Session session;
+
+    private final TransactionTemplate transactionTemplate;
+
+    GraphSnapshotWriterImpl(Session session, PlatformTransactionManager transactionManager) {
+
+        this.session = session;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Override
+    public GraphSnapshotSummary write(Path snapshotFile) throws IOException {
+
+        long startTime = System.nanoTime();
+
+        Path directory = snapshotFile.toAbsolutePath().getParent();
+
+        Files.createDirectories(directory);
+
+        if (Files.exists(snapshotFile)) {
+            throw new FileAlreadyExistsException(snapshotFile.toString());
+        }
+
+        Path temporaryFile = Files.createTempFile(directory, snapshotFile.getFileName().toString(), ".tmp");
+
+        long[] counts;
+
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile);
+                 GraphSnapshotOutput output = new GraphSnapshotOutput(outputStream)) {
+
+                counts = writeInTransaction(output);
+            }
+
+            // Within the same directory a move is a rename, which fails if the snapshot was written meanwhile
+            Files.move(temporaryFile, snapshotFile);
+
+        } finally {
+
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        GraphSnapshotSummary summary = GraphSnapshotSummary.builder()
+                .file(snapshotFile.toString())
+                .nodes(counts[0])
+                .events(counts[1])
+                .bytes(Files.size(snapshotFile))
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime))
+                .build();
+
+        log.info("##################### Written snapshot of " + summary.getNodes() + " nodes to: " + snapshotFile
+                + " #####################");
+
+        return summary;
+    }
+
+    // Returns the number of nodes and the number of events written
+    private long[] writeInTransaction(GraphSnapshotOutput output) throws IOException {
+
+        try {
+            return transactionTemplate.execute(status -> {
+
+                try {
+                    return write(output);
+
+                } catch (IOException exception) {
+
+                    throw new UncheckedIOException(exception);
+                }
+            });
+
+        } catch (UncheckedIOException exception) {
+
+            throw exception.getCause();
+        }
+    }
+
+    private long[] write(GraphSnapshotOutput output) throws IOException {
+
+        Map<String, Object> eventCount = session.query(COUNT_EVENTS_QUERY, Map.of()).iterator().next();
+
+        output.writeHeader(((Number) eventCount.get("events")).longValue());
+
+        // Maps the id of a node in the database to its id in the snapshot
+        LongLongHashMap nodeIds = new LongLongHashMap();
+
+        long events = 0;
+
+        for (GraphSnapshotSectionType section : GraphSnapshotSectionType.values()) {
+
+            output.startSection(section);
+
+            long after = -1;
+
+            while (true) {
+
+                List<Map<String, Object>> page = new ArrayList<>(PAGE_SIZE);
+
+                session.query(PAGE_QUERIES.get(section), Map.of("after", after, "limit", PAGE_SIZE)).forEach(page::add);
+
+                if (page.isEmpty()) {
+                    break;
+                }
+
+                output.startChunk(page.size());
+
+                for (Map<String, Object> node : page) {
+
+                    nodeIds.put(toLong(node.get("id")), nodeIds.size());
+
+                    writeNode(section, node, nodeIds, output);
+                }
+
+                if (section == GraphSnapshotSectionType.EVENT) {
+                    events += page.size();
+                }
+
+                after = toLong(page.get(page.size() - 1).get("id"));
+            }
+
+            output.endSection();
+        }
+
+        output.finish();
+
+        return new long[]{nodeIds.size(), events};
+    }
+
+    private void writeNode(GraphSnapshotSectionType section, Map<String, Object> node, LongLongHashMap nodeIds,
+                           GraphSnapshotOutput output) throws IOException {
+
+        switch (section) {
+
+            case REGION:
+                output.writeString(toString(node.get("name")));
+                break;
+
+            case COUNTRY:
+                output.writeString(toString(node.get("name")));
+                output.writeReference(toNodeId(node.get("regionId"), nodeIds));
+                break;
+
+            case PROVINCE:
+                output.writeString(toString(node.get("name")));
+                output.writeReference(toNodeId(node.get("countryId"), nodeIds));
+                break;
+
+            case CITY:
+                output.writeString(toString(node.get("name")));
+                output.writeNullableDouble(toDouble(node.get("latitude")));
+                output.writeNullableDouble(toDouble(node.get("longitude")));
+                output.writeReference(toNodeId(node.get("provinceId"), nodeIds));
+                break;
+
+            case TARGET:
+                output.writeString(toString(node.get("target")));
+                output.writeReference(toNodeId(node.get("countryId"), nodeIds));
+                break;
+
+            case EVENT:
+                output.writeNullableLong(node.get("eventId") != null ? toLong(node.get("eventId")) : null);
+                output.writeString(toString(node.get("sourceHash")));
+                output.writeString(toString(node.get("summary")));
+                output.writeString(toString(node.get("motive")));
+                output.writeString(toString(node.get("date")));
+                output.writeBooleans((Boolean) node.get("isPartOfMultipleIncidents"), (Boolean) node.get("isSuccessful"),
+                        (Boolean) node.get("isSuicidal"));
+                output.writeReference(toNodeId(node.get("targetId"), nodeIds));
+                output.writeReference(toNodeId(node.get("cityId"), nodeIds));
+                break;
+
+            case GROUP:
+                output.writeString(toString(node.get("name")));
+
+                List<Long> eventIds = new ArrayList<>();
+
+                for (Object eventId : toCollection(node.get("eventIds"))) {
+
+                    long snapshotEventId = toNodeId(eventId, nodeIds);
+
+                    if (snapshotEventId != MISSING_ID) {
+                        eventIds.add(snapshotEventId);
+                    }
+                }
+
+                output.writeVarLong(eventIds.size());
+
+                for (long eventId : eventIds) {
+                    output.writeReference(eventId);
+                }
+                break;
+
+            default:
+                throw new IllegalArgumentException("Unknown snapshot section: " + section);
+        }
+    }
+
+    private static Map<GraphSnapshotSectionType, String> createPageQueries() {
+
+        Map<GraphSnapshotSectionType, String> queries = new EnumMap<>(GraphSnapshotSectionType.class);
+
+        queries.put(GraphSnapshotSectionType.REGION, "MATCH (node:Region) " + PAGE_QUERY_PART +
+                "node.name AS name");
+
+        queries.put(GraphSnapshotSectionType.COUNTRY, "MATCH (node:Country) " + PAGE_QUERY_PART +
+                "node.name AS name, head([(node)-[:PART_OF]->(region:Region) | id(region)]) AS regionId");
+
+        queries.put(GraphSnapshotSectionType.PROVINCE, "MATCH (node:Province) " + PAGE_QUERY_PART +
+                "node.name AS name, head([(node)-[:PART_OF]->(country:Country) | id(country)]) AS countryId");
+
+        queries.put(GraphSnapshotSectionType.CITY, "MATCH (node:City) " + PAGE_QUERY_PART +
+                "node.name AS name, node.latitude AS latitude, node.longitude AS longitude, " +
+                "head([(node)-[:PART_OF]->(province:Province) | id(province)]) AS provinceId");
+
+        queries.put(GraphSnapshotSectionType.TARGET, "MATCH (node:Target) " + PAGE_QUERY_PART +
+                "node.target AS target, head([(node)-[:IS_FROM]->(country:Country) | id(country)]) AS countryId");
+
+        queries.put(GraphSnapshotSectionType.EVENT, "MATCH (node:Event) " + PAGE_QUERY_PART +
+                "node.eventId AS eventId, node.sourceHash AS sourceHash, node.summary AS summary, " +
+                "node.motive AS motive, node.date AS date, " +
+                "node.isPartOfMultipleIncidents AS isPartOfMultipleIncidents, node.isSuccessful AS isSuccessful, " +
+                "node.isSuicidal AS isSuicidal, head([(node)-[:TARGETS]->(target:Target) | id(target)]) AS targetId, " +
+                "head([(node)-[:LOCATED_IN]->(city:City) | id(city)]) AS cityId");
+
+        queries.put(GraphSnapshotSectionType.GROUP, "MATCH (node:Group) " + PAGE_QUERY_PART +
+                "node.name AS name, [(node)-[:CARRIES_OUT]-(event:Event) | id(event)] AS eventIds");
+
+        return queries;
+    }
+
+    private static long toNodeId(Object databaseId, LongLongHashMap nodeIds) {
+
+        return databaseId != null ? nodeIds.get(toLong(databaseId), MISSING_ID) : MISSING_ID;
+    }
+
+    private static long toLong(Object value) {
+
+        return ((Number) value).longValue();
+    }
+
+    private static Double toDouble(Object value) {
+
+        return value != null ? ((Number) value).doubleValue() : null;
+    }
+
+    private static String toString(Object value) {
+
+        return value != null ? value.toString() : null;
+    }
+
+    // Lists in query results come back as arrays or collections, depending on the driver
+    private static Collection<?> toCollection(Object value) {
+
+        if (value == null) {
+            return List.of();
+        }
+
+        if (value instanceof Collection) {
+            return (Collection<?>) value;
+        }
+
+        if (value instanceof Object[]) {
+            return List.of((Object[]) value);
+        }
+
+        if (value instanceof long[]) {
+
+            List<Long> values = new ArrayList<>();
+
+            for (long element : (long[]) value) {
+                values.add(element);
+            }
+
+            return values;
+        }
+
+        throw new IllegalArgumentException("Unexpected list in query result: " + value.getClass());
+    }
+}
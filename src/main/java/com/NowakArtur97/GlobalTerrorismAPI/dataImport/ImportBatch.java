@@ -0,0 +1,13 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class ImportBatch<R> {
+
+    private long sequence;
+
+    private List<R> rows;
+}
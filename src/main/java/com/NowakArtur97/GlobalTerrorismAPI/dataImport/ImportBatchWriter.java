@@ -0,0 +1,6 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+public interface ImportBatchWriter {
+
+    void write(ImportBatch<ImportRow> batch, ImportCheckpoint checkpoint);
+}
@@ -0,0 +1,447 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportModeType;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.CypherLabels;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.driver.exceptions.TransientException;
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.typeconversion.DateStringConverter;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Writes a batch in two transactions. Regions, countries, provinces, cities and groups are merged first, one batch
+ * at a time, because concurrent MERGEs of the same natural key would create duplicates. Events and targets are then
+ * created by id lookups of those nodes, which is safe to run from several writer threads at once.
+ * <p>
+ * In the incremental mode the events of a batch are first looked up by their GTD event id. Rows with an unchanged
+ * source hash are skipped, changed ones update their event in place and only the remaining ones are created. Rows
+ * without an event id are skipped and logged, as they cannot be told apart from the events created by earlier runs.
+ */
+@Component
+@Slf4j
+class ImportBatchWriterImpl implements ImportBatchWriter {
+
+    private final static String MERGE_LOCATIONS_QUERY =
+            "UNWIND $locations AS location " +
+                    "MERGE (region:Region {name: location.regionName}) " +
+                    "ON CREATE SET region:" + CypherLabels.NODE + " " +
+                    "MERGE (country:Country {name: location.countryName}) " +
+                    "ON CREATE SET country:" + CypherLabels.NODE + " " +
+                    "MERGE (country)-[:PART_OF]->(region) " +
+                    "MERGE (country)<-[:PART_OF]-(province:Province {name: location.provinceName}) " +
+                    "ON CREATE SET province:" + CypherLabels.NODE + " " +
+                    "MERGE (city:City {name: location.cityName, latitude: location.cityLatitude, " +
+                    "longitude: location.cityLongitude}) " +
+                    "ON CREATE SET city:" + CypherLabels.NODE + " " +
+                    "MERGE (city)-[:PART_OF]->(province) " +
+                    "RETURN location.index AS index, id(country) AS countryId, id(province) AS provinceId, " +
+                    "id(city) AS cityId";
+
+    private final static String MERGE_CITIES_OF_KNOWN_PROVINCES_QUERY =
+            "UNWIND $locations AS location " +
+                    "MATCH (province) WHERE id(province) = location.provinceId " +
+                    "MERGE (city:City {name: location.cityName, latitude: location.cityLatitude, " +
+                    "longitude: location.cityLongitude}) " +
+                    "ON CREATE SET city:" + CypherLabels.NODE + " " +
+                    "MERGE (city)-[:PART_OF]->(province) " +
+                    "RETURN location.index AS index, id(city) AS cityId";
+
+    private final static String MERGE_GROUPS_QUERY =
+            "UNWIND $groupNames AS groupName " +
+                    "MERGE (group:Group {name: groupName}) " +
+                    "ON CREATE SET group:" + CypherLabels.NODE + " " +
+                    "RETURN groupName, id(group) AS groupId";
+
+    // Expects row, event, country and city to be bound
+    private final static String LINK_EVENTS_QUERY_PART =
+            "CREATE (target:" + CypherLabels.TARGET + " {target: row.targetName})-[:IS_FROM]->(country) " +
+                    "CREATE (event)-[:TARGETS]->(target) " +
+                    "CREATE (event)-[:LOCATED_IN]->(city) " +
+                    "WITH row, event " +
+                    "OPTIONAL MATCH (group) WHERE id(group) = row.groupId " +
+                    "FOREACH (ignored IN CASE WHEN group IS NULL THEN [] ELSE [1] END | " +
+                    "CREATE (group)-[:CARRIES_OUT]->(event)) " +
+                    "FOREACH (ignored IN CASE WHEN group IS NULL THEN [1] ELSE [] END | " +
+                    "CREATE (:" + CypherLabels.GROUP + " {name: row.groupName})-[:CARRIES_OUT]->(event))";
+
+    private final static String CREATE_EVENTS_QUERY =
+            "UNWIND $rows AS row " +
+                    "MATCH (country) WHERE id(country) = row.countryId " +
+                    "MATCH (city) WHERE id(city) = row.cityId " +
+                    "CREATE (event:" + CypherLabels.EVENT + " {eventId: row.eventId, sourceHash: row.sourceHash, summary: row.summary, " +
+                    "motive: row.motive, date: row.date, isPartOfMultipleIncidents: row.isPartOfMultipleIncidents, " +
+                    "isSuccessful: row.isSuccessful, isSuicidal: row.isSuicidal}) " +
+                    LINK_EVENTS_QUERY_PART;
+
+    private final static String FIND_EVENTS_QUERY =
+            "UNWIND $eventIds AS eventId " +
+                    "MATCH (event:Event {eventId: eventId}) " +
+                    "RETURN eventId, id(event) AS id, event.sourceHash AS sourceHash";
+
+    // Targets and unknown groups belong to a single event, so they are replaced. Shared groups are only unlinked.
+    private final static String UPDATE_EVENTS_QUERY =
+            "UNWIND $rows AS row " +
+                    "MATCH (event) WHERE id(event) = row.id " +
+                    "MATCH (country) WHERE id(country) = row.countryId " +
+                    "MATCH (city) WHERE id(city) = row.cityId " +
+                    "SET event.sourceHash = row.sourceHash, event.summary = row.summary, event.motive = row.motive, " +
+                    "event.date = row.date, event.isPartOfMultipleIncidents = row.isPartOfMultipleIncidents, " +
+                    "event.isSuccessful = row.isSuccessful, event.isSuicidal = row.isSuicidal, " +
+                    "event.version = coalesce(event.version, 0) + 1 " +
+                    "WITH row, event, country, city " +
+                    "OPTIONAL MATCH (event)-[:TARGETS]->(oldTarget) " +
+                    "DETACH DELETE oldTarget " +
+                    "WITH DISTINCT row, event, country, city " +
+                    "OPTIONAL MATCH (event)-[oldLocation:LOCATED_IN]->() " +
+                    "DELETE oldLocation " +
+                    "WITH DISTINCT row, event, country, city " +
+                    "OPTIONAL MATCH (oldGroup)-[oldCarriesOut:CARRIES_OUT]-(event) " +
+                    "DELETE oldCarriesOut " +
+                    "WITH row, event, country, city, collect(oldGroup) AS oldGroups " +
+                    "FOREACH (oldGroup IN [group IN oldGroups WHERE toLower(group.name) = $unknownGroupName " +
+                    "AND NOT (group)-[:CARRIES_OUT]-()] | DELETE oldGroup) " +
+                    "WITH row, event, country, city " +
+                    LINK_EVENTS_QUERY_PART;
+
+    private final static String CREATE_BATCH_CHECKPOINT_QUERY =
+            "CREATE (:ImportBatchCheckpoint {fileHash: $fileHash, sequence: $sequence, rows: $rowCount})";
+
+    private final static String UNKNOWN_GROUP_NAME = "unknown";
+
+    private final static int MAX_ATTEMPTS = 3;
+
+    private final DateStringConverter dateStringConverter = new DateStringConverter(DateString.ISO_8601);
+
+    private final Lock referenceDataLock = new ReentrantLock();
+
+    private final Session session;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ImportEntityRegistry importEntityRegistry;
+
+    private final ImportConfigurationProperties importConfigurationProperties;
+
+    ImportBatchWriterImpl(Session session, PlatformTransactionManager transactionManager,
+                          ImportEntityRegistry importEntityRegistry,
+                          ImportConfigurationProperties importConfigurationProperties) {
+
+        this.session = session;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importEntityRegistry = importEntityRegistry;
+        this.importConfigurationProperties = importConfigurationProperties;
+    }
+
+    @Override
+    public void write(ImportBatch<ImportRow> batch, ImportCheckpoint checkpoint) {
+
+        boolean isIncremental = importConfigurationProperties.getMode() == ImportModeType.INCREMENTAL;
+
+        Map<Long, Map<String, Object>> existingEvents = isIncremental ? findExistingEvents(batch.getRows()) : Map.of();
+
+        List<ImportRow> newRows = new ArrayList<>();
+        List<ImportRow> changedRows = new ArrayList<>();
+        int rowsWithoutEventId = 0;
+
+        for (ImportRow row : batch.getRows()) {
+
+            if (isIncremental && row.getEventId() == null) {
+
+                rowsWithoutEventId++;
+
+                continue;
+            }
+
+            Map<String, Object> existingEvent = row.getEventId() != null ? existingEvents.get(row.getEventId()) : null;
+
+            if (existingEvent == null) {
+                newRows.add(row);
+            } else if (!row.getSourceHash().equals(existingEvent.get("sourceHash"))) {
+                changedRows.add(row);
+            }
+        }
+
+        if (rowsWithoutEventId > 0) {
+            log.info("##################### Skipped: " + rowsWithoutEventId + " rows without event id of batch: "
+                    + batch.getSequence() + " #####################");
+        }
+
+        List<ImportRow> rowsToWrite = new ArrayList<>(newRows);
+        rowsToWrite.addAll(changedRows);
+
+        List<Map<String, Object>> parametersOfRows = withRetry(() -> mergeReferenceData(rowsToWrite));
+
+        List<Map<String, Object>> createdEvents = parametersOfRows.subList(0, newRows.size());
+
+        List<Map<String, Object>> updatedEvents = parametersOfRows.subList(newRows.size(), parametersOfRows.size());
+
+        for (int index = 0; index < changedRows.size(); index++) {
+            updatedEvents.get(index).put("id", existingEvents.get(changedRows.get(index).getEventId()).get("id"));
+        }
+
+        Map<String, Object> batchCheckpoint = Map.of("fileHash", checkpoint.getFileHash(),
+                "sequence", batch.getSequence(), "rowCount", batch.getRows().size());
+
+        // The checkpoint commits together with the events, a batch is either imported and marked or neither
+        withRetry(() -> transactionTemplate.execute(status -> {
+
+            if (!createdEvents.isEmpty()) {
+                session.query(CREATE_EVENTS_QUERY, Map.of("rows", createdEvents));
+            }
+
+            if (!updatedEvents.isEmpty()) {
+                session.query(UPDATE_EVENTS_QUERY, Map.of("rows", updatedEvents, "unknownGroupName", UNKNOWN_GROUP_NAME));
+            }
+
+            return session.query(CREATE_BATCH_CHECKPOINT_QUERY, batchCheckpoint);
+        }));
+    }
+
+    private Map<Long, Map<String, Object>> findExistingEvents(List<ImportRow> rows) {
+
+        List<Long> eventIds = rows.stream()
+                .map(ImportRow::getEventId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (eventIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Map<String, Object>> existingEvents = new HashMap<>();
+
+        for (Map<String, Object> event : session.query(FIND_EVENTS_QUERY, Map.of("eventIds", eventIds))) {
+            existingEvents.put(((Number) event.get("eventId")).longValue(), event);
+        }
+
+        return existingEvents;
+    }
+
+    // Only nodes missing from the registry are merged, so after the first batches most rows cost no lookups at all.
+    // The ids of the rows are read while the lock is held, other writers register new ids in the meantime.
+    private List<Map<String, Object>> mergeReferenceData(List<ImportRow> batch) {
+
+        referenceDataLock.lock();
+
+        try {
+            List<ImportRow> rowsWithNewProvince = new ArrayList<>();
+            List<ImportRow> rowsWithNewCity = new ArrayList<>();
+            Set<String> newGroupNames = new HashSet<>();
+
+            for (ImportRow row : batch) {
+
+                if (importEntityRegistry.findCityId(row.getCityName(), row.getCityLatitude(), row.getCityLongitude())
+                        == ImportEntityRegistry.MISSING_ID) {
+
+                    if (importEntityRegistry.findProvinceId(row.getProvinceName(), row.getCountryName())
+                            == ImportEntityRegistry.MISSING_ID) {
+                        rowsWithNewProvince.add(row);
+                    } else {
+                        rowsWithNewCity.add(row);
+                    }
+                }
+
+                if (!isGroupUnknown(row) && importEntityRegistry.findGroupId(row.getGroupName()) == ImportEntityRegistry.MISSING_ID) {
+                    newGroupNames.add(row.getGroupName());
+                }
+            }
+
+            if (!rowsWithNewProvince.isEmpty() || !rowsWithNewCity.isEmpty() || !newGroupNames.isEmpty()) {
+
+                // Ids are registered only after the commit, a rolled back transaction must not leave stale ids behind
+                List<Runnable> registrations = transactionTemplate.execute(status -> {
+
+                    List<Runnable> newIds = new ArrayList<>();
+
+                    mergeLocations(rowsWithNewProvince, newIds);
+                    mergeCitiesOfKnownProvinces(rowsWithNewCity, newIds);
+                    mergeGroups(newGroupNames, newIds);
+
+                    return newIds;
+                });
+
+                registrations.forEach(Runnable::run);
+            }
+
+            return batch.stream().map(this::toParameters).collect(Collectors.toList());
+
+        } finally {
+
+            referenceDataLock.unlock();
+        }
+    }
+
+    private void mergeLocations(List<ImportRow> rows, List<Runnable> newIds) {
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> locations = toLocationParameters(rows);
+
+        for (Map<String, Object> location : session.query(MERGE_LOCATIONS_QUERY, Map.of("locations", locations))) {
+
+            ImportRow row = rows.get(((Number) location.get("index")).intValue());
+
+            long countryId = ((Number) location.get("countryId")).longValue();
+            long provinceId = ((Number) location.get("provinceId")).longValue();
+            long cityId = ((Number) location.get("cityId")).longValue();
+
+            newIds.add(() -> {
+                importEntityRegistry.registerCountry(row.getCountryName(), countryId);
+                importEntityRegistry.registerProvince(row.getProvinceName(), row.getCountryName(), provinceId);
+                importEntityRegistry.registerCity(row.getCityName(), row.getCityLatitude(), row.getCityLongitude(), cityId);
+            });
+        }
+    }
+
+    private void mergeCitiesOfKnownProvinces(List<ImportRow> rows, List<Runnable> newIds) {
+
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Map<String, Object>> locations = toLocationParameters(rows);
+
+        for (int index = 0; index < rows.size(); index++) {
+
+            ImportRow row = rows.get(index);
+
+            locations.get(index).put("provinceId",
+                    importEntityRegistry.findProvinceId(row.getProvinceName(), row.getCountryName()));
+        }
+
+        for (Map<String, Object> location : session.query(MERGE_CITIES_OF_KNOWN_PROVINCES_QUERY,
+                Map.of("locations", locations))) {
+
+            ImportRow row = rows.get(((Number) location.get("index")).intValue());
+
+            long cityId = ((Number) location.get("cityId")).longValue();
+
+            newIds.add(() ->
+                    importEntityRegistry.registerCity(row.getCityName(), row.getCityLatitude(), row.getCityLongitude(), cityId));
+        }
+    }
+
+    private void mergeGroups(Set<String> groupNames, List<Runnable> newIds) {
+
+        if (groupNames.isEmpty()) {
+            return;
+        }
+
+        for (Map<String, Object> group : session.query(MERGE_GROUPS_QUERY, Map.of("groupNames", groupNames))) {
+
+            String groupName = (String) group.get("groupName");
+            long groupId = ((Number) group.get("groupId")).longValue();
+
+            newIds.add(() -> importEntityRegistry.registerGroup(groupName, groupId));
+        }
+    }
+
+    private List<Map<String, Object>> toLocationParameters(List<ImportRow> rows) {
+
+        List<Map<String, Object>> locations = new ArrayList<>(rows.size());
+
+        for (int index = 0; index < rows.size(); index++) {
+
+            ImportRow row = rows.get(index);
+
+            Map<String, Object> location = new HashMap<>();
+
+            location.put("index", index);
+            location.put("regionName", row.getRegionName());
+            location.put("countryName", row.getCountryName());
+            location.put("provinceName", row.getProvinceName());
+            location.put("cityName", row.getCityName());
+            location.put("cityLatitude", row.getCityLatitude());
+            location.put("cityLongitude", row.getCityLongitude());
+
+            locations.add(location);
+        }
+
+        return locations;
+    }
+
+    private Map<String, Object> toParameters(ImportRow row) {
+
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put("eventId", row.getEventId());
+        parameters.put("sourceHash", row.getSourceHash());
+        parameters.put("countryId", requireId(importEntityRegistry.findCountryId(row.getCountryName()), row));
+        parameters.put("cityId", requireId(importEntityRegistry.findCityId(row.getCityName(), row.getCityLatitude(),
+                row.getCityLongitude()), row));
+        parameters.put("groupId", isGroupUnknown(row) ? null
+                : requireId(importEntityRegistry.findGroupId(row.getGroupName()), row));
+        parameters.put("targetName", row.getTargetName());
+        parameters.put("summary", row.getSummary());
+        parameters.put("motive", row.getMotive());
+        parameters.put("date", dateStringConverter.toGraphProperty(row.getDate()));
+        parameters.put("isPartOfMultipleIncidents", row.isPartOfMultipleIncidents());
+        parameters.put("isSuccessful", row.isSuccessful());
+        parameters.put("isSuicidal", row.isSuicidal());
+        parameters.put("groupName", row.getGroupName());
+
+        return parameters;
+    }
+
+    // A missing id would make the MATCH of the event drop the row while its batch is still marked as imported
+    private long requireId(long id, ImportRow row) {
+
+        if (id == ImportEntityRegistry.MISSING_ID) {
+            throw new IllegalStateException("Reference data of the row with event id: " + row.getEventId()
+                    + " was not merged.");
+        }
+
+        return id;
+    }
+
+    // Every event of an unknown perpetrator gets its own group, the known ones are shared
+    private boolean isGroupUnknown(ImportRow row) {
+
+        return UNKNOWN_GROUP_NAME.equalsIgnoreCase(row.getGroupName());
+    }
+
+    // Writers touching the same city or group can deadlock each other, Neo4j then aborts one of the transactions
+    private <T> T withRetry(Supplier<T> work) {
+
+        for (int attempt = 1; ; attempt++) {
+
+            try {
+                return work.get();
+
+            } catch (RuntimeException exception) {
+
+                if (attempt == MAX_ATTEMPTS || !isTransient(exception)) {
+                    throw exception;
+                }
+
+                log.info("##################### Retrying import batch after: " + exception.getMessage()
+                        + " #####################");
+            }
+        }
+    }
+
+    private boolean isTransient(Throwable exception) {
+
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+
+            if (cause instanceof TransientException || cause instanceof TransientDataAccessException) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,23 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import lombok.Value;
+
+import java.util.Set;
+
+@Value
+public class ImportCheckpoint {
+
+    private String fileHash;
+
+    // Taken over from the interrupted import, so that batch sequences point to the same rows again
+    private int batchSize;
+
+    private Set<Long> committedBatches;
+
+    private long committedRows;
+
+    public boolean isCommitted(long sequence) {
+
+        return committedBatches.contains(sequence);
+    }
+}
@@ -0,0 +1,12 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+public interface ImportCheckpointStore {
+
+    ImportCheckpoint start(String fileHash, int batchSize);
+
+    boolean hasUnfinishedImport();
+
+    boolean isCompleted(String fileHash);
+
+    void complete(ImportCheckpoint checkpoint, long rows);
+}
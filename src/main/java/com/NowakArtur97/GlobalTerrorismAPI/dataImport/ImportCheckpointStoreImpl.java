@@ -0,0 +1,123 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the progress of an import in the graph. Every committed batch leaves an ImportBatchCheckpoint node created
+ * in the same transaction as its events, so after a crash exactly the batches without such a node are imported
+ * again. Neither label is mapped by the OGM, so the checkpoints never show up in the API.
+ */
+@Component
+@Slf4j
+class ImportCheckpointStoreImpl implements ImportCheckpointStore {
+
+    private final static String START_QUERY =
+            "MERGE (checkpoint:ImportCheckpoint {fileHash: $fileHash}) " +
+                    "ON CREATE SET checkpoint.batchSize = $batchSize, checkpoint.completed = false, " +
+                    "checkpoint.startedAt = timestamp() " +
+                    "RETURN checkpoint.batchSize AS batchSize, checkpoint.completed AS completed";
+
+    private final static String RESTART_QUERY =
+            "MATCH (checkpoint:ImportCheckpoint {fileHash: $fileHash}) " +
+                    "SET checkpoint.batchSize = $batchSize, checkpoint.completed = false, " +
+                    "checkpoint.startedAt = timestamp() " +
+                    "REMOVE checkpoint.rows, checkpoint.completedAt " +
+                    "WITH checkpoint " +
+                    "OPTIONAL MATCH (batch:ImportBatchCheckpoint {fileHash: $fileHash}) " +
+                    "DELETE batch";
+
+    private final static String FIND_COMMITTED_BATCHES_QUERY =
+            "MATCH (batch:ImportBatchCheckpoint {fileHash: $fileHash}) " +
+                    "RETURN batch.sequence AS sequence, batch.rows AS rows";
+
+    private final static String FIND_UNFINISHED_QUERY =
+            "MATCH (checkpoint:ImportCheckpoint {completed: false}) " +
+                    "RETURN count(checkpoint) AS unfinished";
+
+    private final static String FIND_COMPLETED_QUERY =
+            "MATCH (checkpoint:ImportCheckpoint {fileHash: $fileHash, completed: true}) " +
+                    "RETURN count(checkpoint) AS completed";
+
+    private final static String COMPLETE_QUERY =
+            "MATCH (checkpoint:ImportCheckpoint {fileHash: $fileHash}) " +
+                    "SET checkpoint.completed = true, checkpoint.rows = $rows, checkpoint.completedAt = timestamp() " +
+                    "WITH checkpoint " +
+                    "OPTIONAL MATCH (batch:ImportBatchCheckpoint {fileHash: $fileHash}) " +
+                    "DELETE batch";
+
+    private final Session session;
+
+    private final TransactionTemplate transactionTemplate;
+
+    ImportCheckpointStoreImpl(Session session, PlatformTransactionManager transactionManager) {
+
+        this.session = session;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ImportCheckpoint start(String fileHash, int batchSize) {
+
+        return transactionTemplate.execute(status -> {
+
+            Map<String, Object> checkpoint = session.query(START_QUERY,
+                    Map.of("fileHash", fileHash, "batchSize", batchSize)).iterator().next();
+
+            // The data of a finished import has been removed since, the file is imported from scratch
+            if (Boolean.TRUE.equals(checkpoint.get("completed"))) {
+
+                session.query(RESTART_QUERY, Map.of("fileHash", fileHash, "batchSize", batchSize));
+
+                return new ImportCheckpoint(fileHash, batchSize, Set.of(), 0);
+            }
+
+            Set<Long> committedBatches = new HashSet<>();
+            long committedRows = 0;
+
+            for (Map<String, Object> batch : session.query(FIND_COMMITTED_BATCHES_QUERY, Map.of("fileHash", fileHash))) {
+
+                committedBatches.add(((Number) batch.get("sequence")).longValue());
+                committedRows += ((Number) batch.get("rows")).longValue();
+            }
+
+            if (!committedBatches.isEmpty()) {
+
+                log.info("##################### Resuming import after " + committedRows + " rows #####################");
+            }
+
+            return new ImportCheckpoint(fileHash, ((Number) checkpoint.get("batchSize")).intValue(), committedBatches,
+                    committedRows);
+        });
+    }
+
+    @Override
+    public boolean hasUnfinishedImport() {
+
+        Map<String, Object> result = session.query(FIND_UNFINISHED_QUERY, Map.of()).iterator().next();
+
+        return ((Number) result.get("unfinished")).longValue() > 0;
+    }
+
+    @Override
+    public boolean isCompleted(String fileHash) {
+
+        Map<String, Object> result = session.query(FIND_COMPLETED_QUERY, Map.of("fileHash", fileHash)).iterator().next();
+
+        return ((Number) result.get("completed")).longValue() > 0;
+    }
+
+    @Override
+    public void complete(ImportCheckpoint checkpoint, long rows) {
+
+        transactionTemplate.execute(status ->
+                session.query(COMPLETE_QUERY, Map.of("fileHash", checkpoint.getFileHash(), "rows", rows)));
+    }
+}
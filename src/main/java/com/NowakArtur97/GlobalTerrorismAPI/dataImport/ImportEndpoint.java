@@ -0,0 +1,20 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "import")
+@RequiredArgsConstructor
+class ImportEndpoint {
+
+    private final ImportProgressTracker importProgressTracker;
+
+    @ReadOperation
+    public ImportProgress progress() {
+
+        return importProgressTracker.getProgress();
+    }
+}
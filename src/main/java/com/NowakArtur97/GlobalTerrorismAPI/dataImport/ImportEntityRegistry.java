@@ -0,0 +1,24 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+public interface ImportEntityRegistry {
+
+    long MISSING_ID = -1L;
+
+    long findCountryId(String countryName);
+
+    long findProvinceId(String provinceName, String countryName);
+
+    long findCityId(String cityName, double latitude, double longitude);
+
+    long findGroupId(String groupName);
+
+    void registerCountry(String countryName, long id);
+
+    void registerProvince(String provinceName, String countryName, long id);
+
+    void registerCity(String cityName, double latitude, double longitude, long id);
+
+    void registerGroup(String groupName, long id);
+
+    void clear();
+}
@@ -0,0 +1,94 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the graph ids of the nodes merged so far, indexed by their natural key. The keys themselves are stored, not a
+ * hash of them, so two nodes whose keys only share a hash never get each other's id. The names are the strings of
+ * the decoded rows, a few hundred thousand of them for the full GTD file.
+ * <p>
+ * Not thread-safe, the batch writer only uses it while holding its reference data lock.
+ */
+@Component
+class ImportEntityRegistryImpl implements ImportEntityRegistry {
+
+    private final Map<String, Long> countries = new HashMap<>();
+
+    private final Map<List<Object>, Long> provinces = new HashMap<>();
+
+    private final Map<List<Object>, Long> cities = new HashMap<>();
+
+    private final Map<String, Long> groups = new HashMap<>();
+
+    @Override
+    public long findCountryId(String countryName) {
+
+        return countries.getOrDefault(countryName, MISSING_ID);
+    }
+
+    @Override
+    public long findProvinceId(String provinceName, String countryName) {
+
+        return provinces.getOrDefault(provinceKey(provinceName, countryName), MISSING_ID);
+    }
+
+    @Override
+    public long findCityId(String cityName, double latitude, double longitude) {
+
+        return cities.getOrDefault(cityKey(cityName, latitude, longitude), MISSING_ID);
+    }
+
+    @Override
+    public long findGroupId(String groupName) {
+
+        return groups.getOrDefault(groupName, MISSING_ID);
+    }
+
+    @Override
+    public void registerCountry(String countryName, long id) {
+
+        countries.put(countryName, id);
+    }
+
+    @Override
+    public void registerProvince(String provinceName, String countryName, long id) {
+
+        provinces.put(provinceKey(provinceName, countryName), id);
+    }
+
+    @Override
+    public void registerCity(String cityName, double latitude, double longitude, long id) {
+
+        cities.put(cityKey(cityName, latitude, longitude), id);
+    }
+
+    @Override
+    public void registerGroup(String groupName, long id) {
+
+        groups.put(groupName, id);
+    }
+
+    @Override
+    public void clear() {
+
+        countries.clear();
+        provinces.clear();
+        cities.clear();
+        groups.clear();
+    }
+
+    private static List<Object> provinceKey(String provinceName, String countryName) {
+
+        return Arrays.asList(provinceName, countryName);
+    }
+
+    private static List<Object> cityKey(String cityName, double latitude, double longitude) {
+
+        return Arrays.asList(cityName, latitude, longitude);
+    }
+}
@@ -0,0 +1,53 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+/**
+ * 64-bit FNV-1a hashing of import values. Strings are terminated, so that ("ab", "c") and ("a", "bc") differ. Only
+ * used for the source hash telling whether a row changed since the last import, where a collision skips one update of
+ * a changed row. Values which have to identify something, like the keys of nodes, are compared themselves.
+ */
+final class ImportHash {
+
+    final static long OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private final static long PRIME = 0x100000001b3L;
+
+    private ImportHash() {
+    }
+
+    static long hash(long hash, String value) {
+
+        if (value != null) {
+
+            for (int i = 0; i < value.length(); i++) {
+
+                hash ^= value.charAt(i);
+                hash *= PRIME;
+            }
+        }
+
+        hash ^= 0xffff;
+
+        return hash * PRIME;
+    }
+
+    static long hash(long hash, long value) {
+
+        for (int i = 0; i < Long.BYTES; i++) {
+
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= PRIME;
+        }
+
+        return hash;
+    }
+
+    static long hash(long hash, double value) {
+
+        return hash(hash, Double.doubleToLongBits(value));
+    }
+
+    static long hash(long hash, boolean value) {
+
+        return hash(hash, value ? 1L : 0L);
+    }
+}
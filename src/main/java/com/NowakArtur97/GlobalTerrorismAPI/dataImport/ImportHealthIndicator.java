@@ -0,0 +1,48 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports OUT_OF_SERVICE while the data is being imported, so that the readiness group keeps the instance out of
+ * the load balancer until the import is done. The liveness group does not include this indicator.
+ */
+@Component
+@RequiredArgsConstructor
+class ImportHealthIndicator implements HealthIndicator {
+
+    private final ImportProgressTracker importProgressTracker;
+
+    @Override
+    public Health health() {
+
+        ImportProgress progress = importProgressTracker.getProgress();
+
+        Health.Builder builder;
+
+        switch (progress.getStatus()) {
+
+            case SCHEDULED:
+            case RUNNING:
+                builder = Health.outOfService();
+                break;
+
+            case FAILED:
+                builder = Health.down().withDetail("error", String.valueOf(progress.getError()));
+                break;
+
+            default:
+                builder = Health.up();
+                break;
+        }
+
+        return builder.withDetail("status", progress.getStatus())
+                .withDetail("rowsImported", progress.getRowsImported())
+                .withDetail("rowsResumed", progress.getRowsResumed())
+                .withDetail("estimatedTotalRows", progress.getEstimatedTotalRows())
+                .withDetail("estimatedSecondsRemaining", progress.getEstimatedSecondsRemaining())
+                .build();
+    }
+}
@@ -0,0 +1,9 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+public interface ImportLock {
+
+    // Returns false when another instance completed an import while this one was waiting for the lock
+    boolean acquire() throws InterruptedException;
+
+    void release(boolean isCompleted);
+}
@@ -0,0 +1,222 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.schema.SchemaBootstrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.ogm.session.Session;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets a single instance import at a time when several replicas share one database. The lock is a lease on an
+ * ImportLock node which the holder renews while importing, so a crashed holder loses it after the time to live and a
+ * waiting instance takes over, resuming from the checkpoints of the batches already committed.
+ * <p>
+ * An instance waiting for the lock remembers when it started waiting. Once an import has been completed after that
+ * moment, the data it wanted to import is there and it stops waiting without importing.
+ * <p>
+ * Concurrent MERGEs only agree on one lock node if its name is unique, so the lock is not taken without the
+ * uniqueness constraint, which is created before the first attempt if it is missing.
+ */
+@Component
+@Slf4j
+class ImportLockImpl implements ImportLock, DisposableBean {
+
+    private final static String LOCK_LABEL = "ImportLock";
+
+    private final static String LOCK_NAME_PROPERTY = "name";
+
+    private final static String LOCK_NAME = "startupImport";
+
+    private final static long NOT_WAITING = -1;
+
+    // Setting lockedAt first takes the write lock of the node, so that the lease is read after any concurrent
+    // acquisition has committed and two instances can never both see it as free
+    private final static String ACQUIRE_QUERY =
+            "MERGE (lock:ImportLock {name: $name}) " +
+                    "SET lock.lockedAt = timestamp() " +
+                    "WITH lock, CASE WHEN $since = " + NOT_WAITING + " THEN timestamp() ELSE $since END AS since " +
+                    "WITH lock, since, coalesce(lock.completedAt, -1) >= since AS isDataReady, " +
+                    "(lock.owner IS NULL OR lock.owner = $owner OR lock.expiresAt < timestamp()) AS isFree " +
+                    "FOREACH (ignored IN CASE WHEN isFree AND NOT isDataReady THEN [1] ELSE [] END | " +
+                    "SET lock.owner = $owner, lock.expiresAt = timestamp() + $timeToLive) " +
+                    "RETURN since, isDataReady, isFree AND NOT isDataReady AS acquired";
+
+    private final static String RENEW_QUERY =
+            "MATCH (lock:ImportLock {name: $name, owner: $owner}) " +
+                    "SET lock.expiresAt = timestamp() + $timeToLive " +
+                    "RETURN count(lock) AS renewed";
+
+    private final static String RELEASE_QUERY =
+            "MATCH (lock:ImportLock {name: $name, owner: $owner}) " +
+                    "SET lock.owner = null, lock.expiresAt = 0, " +
+                    "lock.completedAt = CASE WHEN $isCompleted THEN timestamp() ELSE lock.completedAt END";
+
+    private final Session session;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final SchemaBootstrapper schemaBootstrapper;
+
+    private final ThreadPoolTaskScheduler renewalScheduler;
+
+    private final String owner;
+
+    private final long timeToLiveMillis;
+
+    private final long pollMillis;
+
+    private volatile ScheduledFuture<?> renewal;
+
+    private volatile Thread holder;
+
+    private volatile boolean isLockNameUnique;
+
+    ImportLockImpl(Session session, PlatformTransactionManager transactionManager,
+                   ImportConfigurationProperties importConfigurationProperties,
+                   TaskSchedulerBuilder taskSchedulerBuilder, SchemaBootstrapper schemaBootstrapper) {
+
+        this.session = session;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.schemaBootstrapper = schemaBootstrapper;
+        this.owner = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID();
+        this.timeToLiveMillis = TimeUnit.SECONDS.toMillis(importConfigurationProperties.getLockTimeToLiveSeconds());
+        this.pollMillis = TimeUnit.SECONDS.toMillis(importConfigurationProperties.getLockPollSeconds());
+
+        this.renewalScheduler = taskSchedulerBuilder.poolSize(1).threadNamePrefix("import-lock-").build();
+        this.renewalScheduler.initialize();
+    }
+
+    @Override
+    public boolean acquire() throws InterruptedException {
+
+        ensureUniqueLockName();
+
+        long since = NOT_WAITING;
+        boolean isWaiting = false;
+
+        while (true) {
+
+            Map<String, Object> lease = tryAcquire(since);
+
+            since = ((Number) lease.get("since")).longValue();
+
+            if (Boolean.TRUE.equals(lease.get("acquired"))) {
+
+                startRenewal();
+
+                return true;
+            }
+
+            if (Boolean.TRUE.equals(lease.get("isDataReady"))) {
+
+                log.info("##################### Data was imported by another instance #####################");
+
+                return false;
+            }
+
+            if (!isWaiting) {
+
+                log.info("##################### Waiting for the import of another instance #####################");
+
+                isWaiting = true;
+            }
+
+            Thread.sleep(pollMillis);
+        }
+    }
+
+    @Override
+    public void release(boolean isCompleted) {
+
+        stopRenewal();
+
+        transactionTemplate.execute(status -> session.query(RELEASE_QUERY,
+                Map.of("name", LOCK_NAME, "owner", owner, "isCompleted", isCompleted)));
+    }
+
+    @Override
+    public void destroy() {
+
+        renewalScheduler.shutdown();
+    }
+
+    private void ensureUniqueLockName() {
+
+        if (isLockNameUnique) {
+            return;
+        }
+
+        if (!schemaBootstrapper.createUniqueConstraint(LOCK_LABEL, LOCK_NAME_PROPERTY)) {
+            throw new IllegalStateException("Missing uniqueness constraint on: " + LOCK_LABEL + "("
+                    + LOCK_NAME_PROPERTY + "), several instances could hold the import lock at once.");
+        }
+
+        isLockNameUnique = true;
+    }
+
+    private Map<String, Object> tryAcquire(long since) {
+
+        return transactionTemplate.execute(status -> session.query(ACQUIRE_QUERY,
+                Map.of("name", LOCK_NAME, "owner", owner, "since", since, "timeToLive", timeToLiveMillis))
+                .iterator().next());
+    }
+
+    private void startRenewal() {
+
+        holder = Thread.currentThread();
+        renewal = renewalScheduler.scheduleAtFixedRate(this::renew, Duration.ofMillis(timeToLiveMillis / 3));
+    }
+
+    private void stopRenewal() {
+
+        holder = null;
+
+        ScheduledFuture<?> currentRenewal = renewal;
+
+        if (currentRenewal != null) {
+            currentRenewal.cancel(false);
+        }
+
+        renewal = null;
+    }
+
+    private void renew() {
+
+        try {
+            Map<String, Object> result = transactionTemplate.execute(status -> session.query(RENEW_QUERY,
+                    Map.of("name", LOCK_NAME, "owner", owner, "timeToLive", timeToLiveMillis)).iterator().next());
+
+            if (((Number) result.get("renewed")).longValue() > 0) {
+                return;
+            }
+
+            // Another instance took over the expired lease, importing on would write the same rows twice
+            log.error("##################### Import lock was lost, stopping the import #####################");
+
+            Thread currentHolder = holder;
+
+            stopRenewal();
+
+            if (currentHolder != null) {
+                currentHolder.interrupt();
+            }
+
+        } catch (RuntimeException exception) {
+
+            // The lease is still valid until it expires, the next renewal tries again
+            log.warn("##################### Couldn't renew import lock #####################", exception);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import java.io.IOException;
+
+public interface ImportPipeline {
+
+    long run(ImportSource importSource, ImportCheckpoint checkpoint) throws IOException;
+}
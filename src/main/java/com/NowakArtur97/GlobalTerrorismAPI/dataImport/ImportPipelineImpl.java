@@ -0,0 +1,302 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the import as a staged pipeline: a single parser thread reading the source, decode workers turning raw rows
+ * into typed ones, an assembler handing batches over in the original order and writer threads committing them.
+ * Stages are connected by bounded queues and the number of batches in flight is capped, so a slow stage blocks
+ * the ones before it instead of buffering the whole file in memory.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class ImportPipelineImpl implements ImportPipeline {
+
+    private final static ImportBatch<?> END_OF_STAGE = new ImportBatch<>(-1, List.of());
+
+    private final ImportConfigurationProperties importConfigurationProperties;
+
+    private final ImportRowDecoder importRowDecoder;
+
+    private final ImportBatchWriter importBatchWriter;
+
+    private final ImportEntityRegistry importEntityRegistry;
+
+    private final ImportProgressTracker importProgressTracker;
+
+    @Override
+    public long run(ImportSource importSource, ImportCheckpoint checkpoint) throws IOException {
+
+        // Ids remembered from an earlier run may belong to nodes deleted since then
+        importEntityRegistry.clear();
+
+        importProgressTracker.start(checkpoint, importSource::estimateTotalRows);
+
+        try {
+            long rowsImported = new PipelineRun(importSource, checkpoint).execute();
+
+            importProgressTracker.complete();
+
+            return rowsImported;
+
+        } catch (IOException | RuntimeException exception) {
+
+            importProgressTracker.fail(exception);
+
+            throw exception;
+        }
+    }
+
+    private class PipelineRun {
+
+        private final ImportSource importSource;
+
+        private final ImportCheckpoint checkpoint;
+
+        private final int batchSize;
+
+        private final int decodeThreads = importConfigurationProperties.getDecodeThreads();
+
+        private final int writerThreads = importConfigurationProperties.getWriterThreads();
+
+        private final BlockingQueue<ImportBatch<RawRow>> rawBatches;
+
+        private final BlockingQueue<ImportBatch<ImportRow>> decodedBatches;
+
+        private final BlockingQueue<ImportBatch<ImportRow>> orderedBatches;
+
+        private final Semaphore batchesInFlight;
+
+        private final AtomicLong rowsWritten = new AtomicLong();
+
+        private List<RawRow> rawRows;
+
+        private long nextRawSequence;
+
+        private long startTime;
+
+        private PipelineRun(ImportSource importSource, ImportCheckpoint checkpoint) {
+
+            int queueCapacity = importConfigurationProperties.getQueueCapacity();
+
+            this.importSource = importSource;
+            this.checkpoint = checkpoint;
+            this.batchSize = checkpoint.getBatchSize();
+            this.rawRows = new ArrayList<>(batchSize);
+            this.rawBatches = new ArrayBlockingQueue<>(queueCapacity);
+            this.decodedBatches = new ArrayBlockingQueue<>(queueCapacity);
+            this.orderedBatches = new ArrayBlockingQueue<>(queueCapacity);
+            // Bounds the batches waiting for a missing predecessor in the assembler
+            this.batchesInFlight = new Semaphore(queueCapacity * 2);
+        }
+
+        private long execute() throws IOException {
+
+            ExecutorService executor = Executors.newFixedThreadPool(decodeThreads + writerThreads + 2,
+                    new CustomizableThreadFactory("import-"));
+
+            CompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+
+            List<Callable<Void>> tasks = new ArrayList<>();
+
+            tasks.add(this::parse);
+            tasks.addAll(Collections.<Callable<Void>>nCopies(decodeThreads, this::decode));
+            tasks.add(this::assembleInOrder);
+            tasks.addAll(Collections.<Callable<Void>>nCopies(writerThreads, this::write));
+
+            startTime = System.nanoTime();
+
+            tasks.forEach(stages::submit);
+
+            try {
+                for (int i = 0; i < tasks.size(); i++) {
+                    stages.take().get();
+                }
+
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+
+                throw new InterruptedIOException("Import interrupted");
+
+            } catch (ExecutionException e) {
+
+                throw propagate(e.getCause());
+
+            } finally {
+
+                executor.shutdownNow();
+            }
+
+            long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), 1);
+
+            log.info("##################### Imported " + rowsWritten.get() + " rows in " + elapsedMillis + " ms ("
+                    + rowsWritten.get() * 1000 / elapsedMillis + " rows/s) #####################");
+
+            return rowsWritten.get();
+        }
+
+        private Void parse() throws IOException, InterruptedException {
+
+            importSource.read(row -> {
+
+                rawRows.add(row);
+
+                if (rawRows.size() == batchSize) {
+                    publishRawBatch();
+                }
+            });
+
+            if (!rawRows.isEmpty()) {
+                publishRawBatch();
+            }
+
+            for (int i = 0; i < decodeThreads; i++) {
+                rawBatches.put(endOfStage());
+            }
+
+            return null;
+        }
+
+        private void publishRawBatch() throws InterruptedException {
+
+            // Committed by an interrupted run of the same file, the rows still have to be read to reach the next batch
+            if (checkpoint.isCommitted(nextRawSequence)) {
+
+                nextRawSequence++;
+                rawRows.clear();
+
+                return;
+            }
+
+            batchesInFlight.acquire();
+
+            rawBatches.put(new ImportBatch<>(nextRawSequence++, rawRows));
+
+            rawRows = new ArrayList<>(batchSize);
+        }
+
+        private Void decode() throws InterruptedException {
+
+            for (ImportBatch<RawRow> batch = rawBatches.take(); batch != END_OF_STAGE; batch = rawBatches.take()) {
+
+                List<ImportRow> rows = batch.getRows().stream()
+                        .map(importRowDecoder::decode)
+                        .collect(Collectors.toList());
+
+                decodedBatches.put(new ImportBatch<>(batch.getSequence(), rows));
+            }
+
+            decodedBatches.put(endOfStage());
+
+            return null;
+        }
+
+        private Void assembleInOrder() throws InterruptedException {
+
+            Map<Long, ImportBatch<ImportRow>> waitingBatches = new HashMap<>();
+
+            long nextSequence = nextUncommittedSequence(0);
+            int finishedDecoders = 0;
+
+            while (finishedDecoders < decodeThreads) {
+
+                ImportBatch<ImportRow> batch = decodedBatches.take();
+
+                if (batch == END_OF_STAGE) {
+
+                    finishedDecoders++;
+
+                    continue;
+                }
+
+                waitingBatches.put(batch.getSequence(), batch);
+
+                while (waitingBatches.containsKey(nextSequence)) {
+
+                    orderedBatches.put(waitingBatches.remove(nextSequence));
+
+                    nextSequence = nextUncommittedSequence(nextSequence + 1);
+
+                    batchesInFlight.release();
+                }
+            }
+
+            for (int i = 0; i < writerThreads; i++) {
+                orderedBatches.put(endOfStage());
+            }
+
+            return null;
+        }
+
+        private Void write() throws InterruptedException {
+
+            for (ImportBatch<ImportRow> batch = orderedBatches.take(); batch != END_OF_STAGE; batch = orderedBatches.take()) {
+
+                importBatchWriter.write(batch, checkpoint);
+
+                importProgressTracker.rowsImported(batch.getRows().size());
+
+                throttle(rowsWritten.addAndGet(batch.getRows().size()));
+            }
+
+            return null;
+        }
+
+        private long nextUncommittedSequence(long sequence) {
+
+            while (checkpoint.isCommitted(sequence)) {
+                sequence++;
+            }
+
+            return sequence;
+        }
+
+        private void throttle(long rowsImported) throws InterruptedException {
+
+            int targetRowsPerSecond = importConfigurationProperties.getTargetRowsPerSecond();
+
+            if (targetRowsPerSecond <= 0) {
+                return;
+            }
+
+            long expectedElapsedNanos = TimeUnit.SECONDS.toNanos(rowsImported) / targetRowsPerSecond;
+            long aheadOfScheduleNanos = expectedElapsedNanos - (System.nanoTime() - startTime);
+
+            if (aheadOfScheduleNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(aheadOfScheduleNanos);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private <R> ImportBatch<R> endOfStage() {
+
+            return (ImportBatch<R>) END_OF_STAGE;
+        }
+
+        private IOException propagate(Throwable cause) {
+
+            if (cause instanceof IOException) {
+                return (IOException) cause;
+            }
+
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            return new IOException("Import failed", cause);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportStatusType;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ImportProgress {
+
+    private ImportStatusType status;
+
+    private String fileHash;
+
+    private long rowsImported;
+
+    // Rows committed by an earlier, interrupted run of the same file
+    private long rowsResumed;
+
+    private long estimatedTotalRows;
+
+    private long rowsPerSecond;
+
+    private long estimatedSecondsRemaining;
+
+    private long elapsedSeconds;
+
+    private String error;
+}
@@ -0,0 +1,128 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportStatusType;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Progress of the running or last import, updated by the pipeline threads and read by the actuator endpoint.
+ */
+@Component
+public class ImportProgressTracker {
+
+    private final AtomicLong rowsImported = new AtomicLong();
+
+    private volatile ImportStatusType status = ImportStatusType.IDLE;
+
+    private volatile String fileHash;
+
+    private volatile long rowsResumed;
+
+    private volatile LongSupplier estimatedTotalRows = () -> -1;
+
+    private volatile long startTime;
+
+    private volatile long endTime;
+
+    private volatile String error;
+
+    // Submitted to the background executor, the file is not being read yet
+    void schedule() {
+
+        this.fileHash = null;
+        this.rowsResumed = 0;
+        this.estimatedTotalRows = () -> -1;
+        this.rowsImported.set(0);
+        this.error = null;
+        this.startTime = System.nanoTime();
+        this.status = ImportStatusType.SCHEDULED;
+    }
+
+    void start(ImportCheckpoint checkpoint, LongSupplier estimatedTotalRows) {
+
+        this.fileHash = checkpoint.getFileHash();
+        this.rowsResumed = checkpoint.getCommittedRows();
+        this.estimatedTotalRows = estimatedTotalRows;
+        this.rowsImported.set(0);
+        this.error = null;
+        this.startTime = System.nanoTime();
+        this.status = ImportStatusType.RUNNING;
+    }
+
+    long rowsImported(int rows) {
+
+        return rowsImported.addAndGet(rows);
+    }
+
+    void complete() {
+
+        endTime = System.nanoTime();
+        status = ImportStatusType.COMPLETED;
+    }
+
+    // The file was already imported, the scheduled import finished without running the pipeline
+    void skip() {
+
+        if (status == ImportStatusType.SCHEDULED) {
+            status = ImportStatusType.IDLE;
+        }
+    }
+
+    void fail(Throwable cause) {
+
+        // The pipeline records its own failure before rethrowing it
+        if (status == ImportStatusType.FAILED) {
+            return;
+        }
+
+        endTime = System.nanoTime();
+        error = cause.getMessage();
+        status = ImportStatusType.FAILED;
+    }
+
+    public boolean isImporting() {
+
+        ImportStatusType currentStatus = status;
+
+        return currentStatus == ImportStatusType.SCHEDULED || currentStatus == ImportStatusType.RUNNING;
+    }
+
+    public ImportProgress getProgress() {
+
+        ImportStatusType currentStatus = status;
+
+        if (currentStatus == ImportStatusType.IDLE || currentStatus == ImportStatusType.SCHEDULED) {
+            return ImportProgress.builder().status(currentStatus).estimatedTotalRows(-1).estimatedSecondsRemaining(-1)
+                    .build();
+        }
+
+        long imported = rowsImported.get();
+        long elapsedNanos = (currentStatus == ImportStatusType.RUNNING ? System.nanoTime() : endTime) - startTime;
+        long elapsedMillis = Math.max(TimeUnit.NANOSECONDS.toMillis(elapsedNanos), 1);
+        long rowsPerSecond = imported * 1000 / elapsedMillis;
+        long totalRows = estimatedTotalRows.getAsLong();
+
+        long secondsRemaining = -1;
+
+        if (currentStatus == ImportStatusType.COMPLETED) {
+            secondsRemaining = 0;
+        } else if (currentStatus == ImportStatusType.RUNNING && totalRows > 0 && rowsPerSecond > 0) {
+            secondsRemaining = Math.max(totalRows - rowsResumed - imported, 0) / rowsPerSecond;
+        }
+
+        return ImportProgress.builder()
+                .status(currentStatus)
+                .fileHash(fileHash)
+                .rowsImported(imported)
+                .rowsResumed(rowsResumed)
+                .estimatedTotalRows(totalRows)
+                .rowsPerSecond(rowsPerSecond)
+                .estimatedSecondsRemaining(secondsRemaining)
+                .elapsedSeconds(TimeUnit.MILLISECONDS.toSeconds(elapsedMillis))
+                .error(error)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.Date;
+
+@Value
+@Builder
+public class ImportRow {
+
+    // GTD eventid, null when the row does not have one
+    private Long eventId;
+
+    // Changes whenever any of the imported values of the row changes
+    private String sourceHash;
+
+    private String regionName;
+
+    private String countryName;
+
+    private String provinceName;
+
+    private String cityName;
+
+    private double cityLatitude;
+
+    private double cityLongitude;
+
+    private String targetName;
+
+    private String summary;
+
+    private String motive;
+
+    private Date date;
+
+    private boolean isPartOfMultipleIncidents;
+
+    private boolean isSuccessful;
+
+    private boolean isSuicidal;
+
+    private String groupName;
+}
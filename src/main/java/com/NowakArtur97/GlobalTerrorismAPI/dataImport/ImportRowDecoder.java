@@ -0,0 +1,6 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+public interface ImportRowDecoder {
+
+    ImportRow decode(RawRow row);
+}
@@ -0,0 +1,91 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.XlsxColumnType;
+import org.springframework.stereotype.Component;
+
+import java.util.Calendar;
+import java.util.Date;
+
+@Component
+class ImportRowDecoderImpl implements ImportRowDecoder {
+
+    private final static XlsxColumnType[] TEXT_COLUMNS = {XlsxColumnType.REGION_NAME, XlsxColumnType.COUNTRY_NAME,
+            XlsxColumnType.PROVINCE_NAME, XlsxColumnType.CITY_NAME, XlsxColumnType.TARGET_NAME,
+            XlsxColumnType.EVENT_SUMMARY, XlsxColumnType.EVENT_MOTIVE, XlsxColumnType.GROUP_NAME};
+
+    @Override
+    public ImportRow decode(RawRow row) {
+
+        double eventId = row.getNumber(XlsxColumnType.EVENT_ID, -1);
+
+        int yearOfEvent = (int) row.getNumber(XlsxColumnType.YEAR_OF_EVENT, 1900);
+        int monthOfEvent = (int) row.getNumber(XlsxColumnType.MONTH_OF_EVENT, 1);
+        int dayOfEvent = (int) row.getNumber(XlsxColumnType.DAY_OF_EVENT, 1);
+
+        double latitude = row.getNumber(XlsxColumnType.CITY_LATITUDE, 0);
+        double longitude = row.getNumber(XlsxColumnType.CITY_LONGITUDE, 0);
+
+        boolean isPartOfMultipleIncidents = row.getBoolean(XlsxColumnType.WAS_EVENT_PART_OF_MULTIPLE_INCIDENTS);
+        boolean isSuccessful = row.getBoolean(XlsxColumnType.WAS_EVENT_SUCCESS);
+        boolean isSuicidal = row.getBoolean(XlsxColumnType.WAS_EVENT_SUICIDE);
+
+        // Built from the decoded values, so that the same data read from XLSX or CSV gives the same hash
+        long sourceHash = ImportHash.OFFSET_BASIS;
+
+        for (XlsxColumnType column : TEXT_COLUMNS) {
+            sourceHash = ImportHash.hash(sourceHash, row.get(column));
+        }
+
+        sourceHash = ImportHash.hash(sourceHash, yearOfEvent);
+        sourceHash = ImportHash.hash(sourceHash, monthOfEvent);
+        sourceHash = ImportHash.hash(sourceHash, dayOfEvent);
+        sourceHash = ImportHash.hash(sourceHash, latitude);
+        sourceHash = ImportHash.hash(sourceHash, longitude);
+        sourceHash = ImportHash.hash(sourceHash, isPartOfMultipleIncidents);
+        sourceHash = ImportHash.hash(sourceHash, isSuccessful);
+        sourceHash = ImportHash.hash(sourceHash, isSuicidal);
+
+        return ImportRow.builder()
+                .eventId(eventId >= 0 ? (long) eventId : null)
+                .sourceHash(Long.toHexString(sourceHash))
+                .regionName(row.get(XlsxColumnType.REGION_NAME))
+                .countryName(row.get(XlsxColumnType.COUNTRY_NAME))
+                .provinceName(row.get(XlsxColumnType.PROVINCE_NAME))
+                .cityName(row.get(XlsxColumnType.CITY_NAME))
+                .cityLatitude(latitude)
+                .cityLongitude(longitude)
+                .targetName(row.get(XlsxColumnType.TARGET_NAME))
+                .summary(row.get(XlsxColumnType.EVENT_SUMMARY))
+                .motive(row.get(XlsxColumnType.EVENT_MOTIVE))
+                .date(getEventDate(yearOfEvent, monthOfEvent, dayOfEvent))
+                .isPartOfMultipleIncidents(isPartOfMultipleIncidents)
+                .isSuccessful(isSuccessful)
+                .isSuicidal(isSuicidal)
+                .groupName(row.get(XlsxColumnType.GROUP_NAME))
+                .build();
+    }
+
+    private Date getEventDate(int yearOfEvent, int monthOfEvent, int dayOfEvent) {
+
+        monthOfEvent = isMonthCorrect(monthOfEvent) ? monthOfEvent - 1 : 0;
+        dayOfEvent = isDayCorrect(dayOfEvent) ? dayOfEvent : 1;
+
+        Calendar cal = Calendar.getInstance();
+
+        cal.set(Calendar.YEAR, yearOfEvent);
+        cal.set(Calendar.MONTH, monthOfEvent);
+        cal.set(Calendar.DAY_OF_MONTH, dayOfEvent);
+
+        return cal.getTime();
+    }
+
+    private boolean isMonthCorrect(int monthOfEvent) {
+
+        return monthOfEvent > 0 && monthOfEvent <= 12;
+    }
+
+    private boolean isDayCorrect(int dayOfEvent) {
+
+        return dayOfEvent > 0 && dayOfEvent <= 31;
+    }
+}
@@ -0,0 +1,12 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ImportSource extends Closeable {
+
+    void read(RawRowHandler handler) throws IOException, InterruptedException;
+
+    // -1 while unknown, may be called from other threads during read
+    long estimateTotalRows();
+}
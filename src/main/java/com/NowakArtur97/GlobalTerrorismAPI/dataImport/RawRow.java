@@ -0,0 +1,82 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.XlsxColumnType;
+import lombok.Getter;
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * Values of the projected columns of a single source row. Sources store numeric cells as doubles, so they reach
+ * the decoder without being formatted to text and parsed again.
+ */
+public class RawRow {
+
+    // Doubles above it are not exact whole numbers anymore
+    private final static double MAX_EXACT_LONG = 1L << 53;
+
+    @Getter
+    private final long number;
+
+    private final String[] strings = new String[XlsxColumnType.values().length];
+
+    private final double[] numbers = new double[XlsxColumnType.values().length];
+
+    private final boolean[] isNumeric = new boolean[XlsxColumnType.values().length];
+
+    public RawRow(long number) {
+
+        this.number = number;
+    }
+
+    // Whole numbers are written without a fraction, as the CSV export of the same release has them: 1 and not 1.0
+    public String get(XlsxColumnType column) {
+
+        int ordinal = column.ordinal();
+
+        if (isNumeric[ordinal]) {
+
+            double number = numbers[ordinal];
+
+            return number == Math.rint(number) && Math.abs(number) < MAX_EXACT_LONG
+                    ? Long.toString((long) number)
+                    : Double.toString(number);
+        }
+
+        String value = strings[ordinal];
+
+        return value != null ? value : "";
+    }
+
+    public double getNumber(XlsxColumnType column, double defaultValue) {
+
+        int ordinal = column.ordinal();
+
+        if (isNumeric[ordinal]) {
+            return numbers[ordinal];
+        }
+
+        String value = strings[ordinal];
+
+        return NumberUtils.isParsable(value) ? Double.parseDouble(value) : defaultValue;
+    }
+
+    public boolean getBoolean(XlsxColumnType column) {
+
+        return getNumber(column, 0) == 1;
+    }
+
+    public void set(XlsxColumnType column, String value) {
+
+        int ordinal = column.ordinal();
+
+        strings[ordinal] = value;
+        isNumeric[ordinal] = false;
+    }
+
+    public void set(XlsxColumnType column, double value) {
+
+        int ordinal = column.ordinal();
+
+        numbers[ordinal] = value;
+        isNumeric[ordinal] = true;
+    }
+}
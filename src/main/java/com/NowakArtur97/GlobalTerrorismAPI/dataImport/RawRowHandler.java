@@ -0,0 +1,7 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+@FunctionalInterface
+public interface RawRowHandler {
+
+    void handle(RawRow row) throws InterruptedException;
+}
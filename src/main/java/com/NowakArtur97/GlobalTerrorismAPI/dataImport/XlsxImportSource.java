@@ -0,0 +1,347 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.XlsxColumnType;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Reads the first sheet of a workbook with a SAX parser. Only the columns mapped in {@link XlsxColumnType} are
+ * decoded, the characters of every other cell are skipped while parsing, and numeric cells are handed over as
+ * doubles instead of text. The first row holds the column names in the GTD releases and is skipped like the header
+ * of a CSV file.
+ */
+class XlsxImportSource implements ImportSource {
+
+    private final static String DIMENSION_ELEMENT = "dimension";
+
+    private final static String ROW_ELEMENT = "row";
+
+    private final static String CELL_ELEMENT = "c";
+
+    private final static String VALUE_ELEMENT = "v";
+
+    private final static String INLINE_TEXT_ELEMENT = "t";
+
+    private final static String REFERENCE_ATTRIBUTE = "r";
+
+    private final static String DIMENSION_REFERENCE_ATTRIBUTE = "ref";
+
+    private final static String TYPE_ATTRIBUTE = "t";
+
+    private final static String SHARED_STRING_TYPE = "s";
+
+    private final static String INLINE_STRING_TYPE = "inlineStr";
+
+    private final static String FORMULA_STRING_TYPE = "str";
+
+    private final static String BOOLEAN_TYPE = "b";
+
+    private final static String ERROR_TYPE = "e";
+
+    private final static int NOT_PROJECTED = -1;
+
+    private final static XlsxColumnType[] COLUMNS = XlsxColumnType.values();
+
+    // Maps a sheet column index to the ordinal of its column type
+    private final static int[] PROJECTION = createProjection();
+
+    private final Path workbookFile;
+
+    private final boolean hasHeader;
+
+    private volatile long estimatedTotalRows = -1;
+
+    XlsxImportSource(Path workbookFile, boolean hasHeader) {
+
+        this.workbookFile = workbookFile;
+        this.hasHeader = hasHeader;
+    }
+
+    @Override
+    public void read(RawRowHandler handler) throws IOException, InterruptedException {
+
+        readWorkbook(workbookFile.toFile(), handler);
+    }
+
+    @Override
+    public long estimateTotalRows() {
+
+        return estimatedTotalRows;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void readWorkbook(File workbookFile, RawRowHandler handler) throws IOException, InterruptedException {
+
+        OPCPackage opcPackage = null;
+
+        try {
+            opcPackage = OPCPackage.open(workbookFile, PackageAccess.READ);
+
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+
+            XlsxSharedStrings sharedStrings = readSharedStrings(xssfReader);
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+
+            if (!sheets.hasNext()) {
+                return;
+            }
+
+            XMLReader reader = XMLHelper.newXMLReader();
+
+            reader.setContentHandler(new SheetHandler(sharedStrings, handler));
+
+            try (InputStream sheet = sheets.next()) {
+                reader.parse(new InputSource(sheet));
+            }
+
+        } catch (SAXException exception) {
+
+            if (exception.getException() instanceof InterruptedException) {
+                throw (InterruptedException) exception.getException();
+            }
+
+            throw new IOException("Unable to read workbook", exception);
+
+        } catch (OpenXML4JException | ParserConfigurationException exception) {
+
+            throw new IOException("Unable to read workbook", exception);
+
+        } finally {
+
+            if (opcPackage != null) {
+                opcPackage.revert();
+            }
+        }
+    }
+
+    private XlsxSharedStrings readSharedStrings(XSSFReader xssfReader) throws IOException, OpenXML4JException {
+
+        InputStream sharedStringsStream = xssfReader.getSharedStringsData();
+
+        if (sharedStringsStream == null) {
+            return new XlsxSharedStrings();
+        }
+
+        try (sharedStringsStream) {
+            return new XlsxSharedStrings(sharedStringsStream);
+        }
+    }
+
+    private static int[] createProjection() {
+
+        int lastIndex = Arrays.stream(COLUMNS).mapToInt(XlsxColumnType::getIndex).max().orElse(0);
+
+        int[] projection = new int[lastIndex + 1];
+
+        Arrays.fill(projection, NOT_PROJECTED);
+
+        for (XlsxColumnType column : COLUMNS) {
+            projection[column.getIndex()] = column.ordinal();
+        }
+
+        return projection;
+    }
+
+    private static int ordinalOf(int columnIndex) {
+
+        return columnIndex < PROJECTION.length ? PROJECTION[columnIndex] : NOT_PROJECTED;
+    }
+
+    // "AB12" -> 27
+    private static int columnIndexOf(String cellReference) {
+
+        int columnIndex = 0;
+
+        for (int i = 0; i < cellReference.length(); i++) {
+
+            char character = cellReference.charAt(i);
+
+            if (character < 'A' || character > 'Z') {
+                break;
+            }
+
+            columnIndex = columnIndex * 26 + (character - 'A' + 1);
+        }
+
+        return columnIndex - 1;
+    }
+
+    // "A1:EE200" -> 200
+    private static long lastRowOf(String dimensionReference) {
+
+        String lastCell = dimensionReference.substring(dimensionReference.indexOf(':') + 1);
+
+        int rowStart = 0;
+
+        while (rowStart < lastCell.length() && !Character.isDigit(lastCell.charAt(rowStart))) {
+            rowStart++;
+        }
+
+        return rowStart < lastCell.length() ? Long.parseLong(lastCell.substring(rowStart)) : -1;
+    }
+
+    private class SheetHandler extends DefaultHandler {
+
+        private final XlsxSharedStrings sharedStrings;
+
+        private final RawRowHandler handler;
+
+        private final StringBuilder value = new StringBuilder();
+
+        private long rowNumber;
+
+        private boolean isHeader = hasHeader;
+
+        private RawRow row;
+
+        private int columnIndex;
+
+        private int ordinal = NOT_PROJECTED;
+
+        private String cellType;
+
+        private boolean isInValue;
+
+        private SheetHandler(XlsxSharedStrings sharedStrings, RawRowHandler handler) {
+
+            this.sharedStrings = sharedStrings;
+            this.handler = handler;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+
+            switch (localName) {
+
+                // Written before the rows, gives the number of rows up front
+                case DIMENSION_ELEMENT:
+                    String dimensionReference = attributes.getValue(DIMENSION_REFERENCE_ATTRIBUTE);
+
+                    if (dimensionReference != null) {
+                        estimatedTotalRows = lastRowOf(dimensionReference);
+                    }
+                    break;
+
+                case ROW_ELEMENT:
+                    row = new RawRow(rowNumber);
+                    columnIndex = -1;
+                    break;
+
+                case CELL_ELEMENT:
+                    String reference = attributes.getValue(REFERENCE_ATTRIBUTE);
+
+                    columnIndex = reference != null ? columnIndexOf(reference) : columnIndex + 1;
+                    ordinal = ordinalOf(columnIndex);
+                    cellType = attributes.getValue(TYPE_ATTRIBUTE);
+                    value.setLength(0);
+                    break;
+
+                case VALUE_ELEMENT:
+                case INLINE_TEXT_ELEMENT:
+                    isInValue = ordinal != NOT_PROJECTED;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) throws SAXException {
+
+            switch (localName) {
+
+                case ROW_ELEMENT:
+                    if (isHeader) {
+
+                        isHeader = false;
+
+                        break;
+                    }
+
+                    try {
+                        handler.handle(row);
+
+                    } catch (InterruptedException exception) {
+
+                        throw new SAXException(exception);
+                    }
+
+                    rowNumber++;
+                    break;
+
+                case CELL_ELEMENT:
+                    if (ordinal != NOT_PROJECTED && value.length() > 0) {
+                        setCellValue(COLUMNS[ordinal]);
+                    }
+                    ordinal = NOT_PROJECTED;
+                    break;
+
+                case VALUE_ELEMENT:
+                case INLINE_TEXT_ELEMENT:
+                    isInValue = false;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] characters, int start, int length) {
+
+            if (isInValue) {
+                value.append(characters, start, length);
+            }
+        }
+
+        private void setCellValue(XlsxColumnType column) {
+
+            if (cellType == null) {
+                row.set(column, Double.parseDouble(value.toString()));
+                return;
+            }
+
+            switch (cellType) {
+
+                case SHARED_STRING_TYPE:
+                    row.set(column, sharedStrings.get(Integer.parseInt(value.toString())));
+                    break;
+
+                case BOOLEAN_TYPE:
+                    row.set(column, "1".contentEquals(value) ? 1 : 0);
+                    break;
+
+                case INLINE_STRING_TYPE:
+                case FORMULA_STRING_TYPE:
+                case ERROR_TYPE:
+                    row.set(column, value.toString());
+                    break;
+
+                default:
+                    row.set(column, Double.parseDouble(value.toString()));
+                    break;
+            }
+        }
+    }
+}
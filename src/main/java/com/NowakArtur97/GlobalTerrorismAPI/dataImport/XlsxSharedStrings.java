@@ -0,0 +1,163 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import org.apache.poi.util.XMLHelper;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Shared strings table of a workbook kept as UTF-8 bytes in a direct buffer, with one offset per string. The GTD
+ * file holds hundreds of thousands of distinct summaries and motives, so storing them as Java strings would occupy
+ * a large part of the heap for the whole import. Strings are decoded again only when a projected cell is read.
+ */
+class XlsxSharedStrings {
+
+    private final static String STRING_ITEM_ELEMENT = "si";
+
+    private final static String TEXT_ELEMENT = "t";
+
+    private final static String PHONETIC_RUN_ELEMENT = "rPh";
+
+    private final static int INITIAL_BUFFER_CAPACITY = 1 << 20;
+
+    private ByteBuffer bytes = ByteBuffer.allocateDirect(INITIAL_BUFFER_CAPACITY);
+
+    // offsets[i] is where string i starts, offsets[count] where the last one ends
+    private int[] offsets = new int[1024];
+
+    private int count;
+
+    // A workbook without any text cells has no shared strings part
+    XlsxSharedStrings() {
+    }
+
+    XlsxSharedStrings(InputStream inputStream) throws IOException {
+
+        try {
+            XMLReader reader = XMLHelper.newXMLReader();
+
+            reader.setContentHandler(new SharedStringsHandler());
+            reader.parse(new InputSource(inputStream));
+
+        } catch (ParserConfigurationException | SAXException exception) {
+
+            throw new IOException("Unable to read shared strings", exception);
+        }
+    }
+
+    String get(int index) {
+
+        if (index < 0 || index >= count) {
+            return "";
+        }
+
+        ByteBuffer string = bytes.duplicate();
+
+        string.limit(offsets[index + 1]).position(offsets[index]);
+
+        return StandardCharsets.UTF_8.decode(string).toString();
+    }
+
+    private void add(CharSequence value) {
+
+        byte[] encoded = value.toString().getBytes(StandardCharsets.UTF_8);
+
+        if (bytes.remaining() < encoded.length) {
+            grow(encoded.length);
+        }
+
+        bytes.put(encoded);
+
+        if (count + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        offsets[++count] = bytes.position();
+    }
+
+    private void grow(int minimumFreeBytes) {
+
+        int capacity = bytes.capacity();
+
+        while (capacity - bytes.position() < minimumFreeBytes) {
+            capacity *= 2;
+        }
+
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+
+        bytes.flip();
+        grown.put(bytes);
+
+        bytes = grown;
+    }
+
+    private class SharedStringsHandler extends DefaultHandler {
+
+        private final StringBuilder value = new StringBuilder();
+
+        private boolean isInText;
+
+        private boolean isInPhoneticRun;
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+
+            switch (localName) {
+
+                case STRING_ITEM_ELEMENT:
+                    value.setLength(0);
+                    break;
+
+                case TEXT_ELEMENT:
+                    isInText = !isInPhoneticRun;
+                    break;
+
+                case PHONETIC_RUN_ELEMENT:
+                    isInPhoneticRun = true;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+
+            switch (localName) {
+
+                case STRING_ITEM_ELEMENT:
+                    add(value);
+                    break;
+
+                case TEXT_ELEMENT:
+                    isInText = false;
+                    break;
+
+                case PHONETIC_RUN_ELEMENT:
+                    isInPhoneticRun = false;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] characters, int start, int length) {
+
+            if (isInText) {
+                value.append(characters, start, length);
+            }
+        }
+    }
+}
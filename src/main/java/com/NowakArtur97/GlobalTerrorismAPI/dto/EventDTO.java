@@ -24,6 +24,9 @@ import java.util.Date;
 @ProvinceAndTargetAreInSameCountry(message = "{event.provinceAndTarget.sameCountry}")
 public class EventDTO implements DTONode, Event {
 
+	@ApiModelProperty(notes = "The event's id, only used to match the events of a group on update", example = "1")
+	private Long id;
+
 	@ApiModelProperty(notes = "The event's summary", required = true, example = "Summary")
 	@NotBlank(message = "{event.summary.notBlank}")
 	private String summary;
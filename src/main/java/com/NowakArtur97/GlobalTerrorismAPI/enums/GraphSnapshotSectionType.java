@@ -0,0 +1,18 @@
+package com.NowakArtur97.GlobalTerrorismAPI.enums;
+
+import lombok.Getter;
+
+// In the order of the sections in a snapshot, every section only references nodes of the sections before it
+public enum GraphSnapshotSectionType {
+
+    REGION("Region"), COUNTRY("Country"), PROVINCE("Province"), CITY("City"), TARGET("Target"), EVENT("Event"),
+    GROUP("Group");
+
+    @Getter
+    private final String label;
+
+    GraphSnapshotSectionType(String label) {
+
+        this.label = label;
+    }
+}
@@ -0,0 +1,28 @@
+package com.NowakArtur97.GlobalTerrorismAPI.enums;
+
+import lombok.Getter;
+
+public enum ImportFormatType {
+
+    XLSX(".xlsx"), CSV(".csv"), SNAPSHOT(".gtds");
+
+    @Getter
+    private final String extension;
+
+    ImportFormatType(String extension) {
+
+        this.extension = extension;
+    }
+
+    public static ImportFormatType fromFileName(String fileName) {
+
+        for (ImportFormatType format : values()) {
+
+            if (fileName.toLowerCase().endsWith(format.getExtension())) {
+                return format;
+            }
+        }
+
+        return XLSX;
+    }
+}
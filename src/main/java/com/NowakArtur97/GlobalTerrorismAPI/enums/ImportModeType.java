@@ -0,0 +1,10 @@
+package com.NowakArtur97.GlobalTerrorismAPI.enums;
+
+public enum ImportModeType {
+
+    // Imports the file only into an empty database
+    FULL,
+
+    // Imports every new file, inserting new events and updating changed ones by their GTD event id
+    INCREMENTAL
+}
@@ -0,0 +1,6 @@
+package com.NowakArtur97.GlobalTerrorismAPI.enums;
+
+public enum ImportStatusType {
+
+    IDLE, SCHEDULED, RUNNING, COMPLETED, FAILED
+}
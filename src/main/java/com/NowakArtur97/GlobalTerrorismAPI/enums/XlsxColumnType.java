@@ -4,7 +4,7 @@ import lombok.Getter;
 
 public enum XlsxColumnType {
 
-    YEAR_OF_EVENT(1), MONTH_OF_EVENT(2), DAY_OF_EVENT(3), COUNTRY_NAME(8),
+    EVENT_ID(0), YEAR_OF_EVENT(1), MONTH_OF_EVENT(2), DAY_OF_EVENT(3), COUNTRY_NAME(8),
     REGION_NAME(10), PROVINCE_NAME(11), CITY_NAME(12), CITY_LATITUDE(13), CITY_LONGITUDE(14),
     EVENT_SUMMARY(18), WAS_EVENT_PART_OF_MULTIPLE_INCIDENTS(25), WAS_EVENT_SUCCESS(26),
     WAS_EVENT_SUICIDE(27), TARGET_NAME(39), GROUP_NAME(58), EVENT_MOTIVE(64);
@@ -0,0 +1,9 @@
+package com.NowakArtur97.GlobalTerrorismAPI.exception;
+
+public class InvalidPageCursorException extends RuntimeException {
+
+    public InvalidPageCursorException(String cursor) {
+
+        super("Invalid page cursor: " + cursor + ".");
+    }
+}
@@ -0,0 +1,9 @@
+package com.NowakArtur97.GlobalTerrorismAPI.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String nodeType, Long id) {
+
+        super(nodeType + " with id: " + id + " does not match If-Match, it was changed or deleted in the meantime.");
+    }
+}
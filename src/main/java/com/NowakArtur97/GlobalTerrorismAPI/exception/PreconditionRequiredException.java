@@ -0,0 +1,9 @@
+package com.NowakArtur97.GlobalTerrorismAPI.exception;
+
+public class PreconditionRequiredException extends RuntimeException {
+
+    public PreconditionRequiredException(String nodeType, Long id) {
+
+        super("Updating " + nodeType + " with id: " + id + " requires If-Match with its ETag.");
+    }
+}
@@ -0,0 +1,67 @@
+package com.NowakArtur97.GlobalTerrorismAPI.filter;
+
+import com.NowakArtur97.GlobalTerrorismAPI.dataImport.ImportProgressTracker;
+import com.NowakArtur97.GlobalTerrorismAPI.model.response.ErrorResponse;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class ImportInProgressFilter extends OncePerRequestFilter {
+
+    private final static String API_PATH = "/api/";
+
+    private final static long DEFAULT_RETRY_AFTER_SECONDS = 30;
+
+    private final ImportConfigurationProperties importConfigurationProperties;
+
+    private final ImportProgressTracker importProgressTracker;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        boolean isRead = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+
+        return !importConfigurationProperties.isRejectRequestsDuringImport() || !isRead
+                || !request.getRequestURI().startsWith(request.getContextPath() + API_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        if (!importProgressTracker.isImporting()) {
+
+            filterChain.doFilter(request, response);
+
+            return;
+        }
+
+        long secondsRemaining = importProgressTracker.getProgress().getEstimatedSecondsRemaining();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType("application/json");
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(secondsRemaining > 0 ? secondsRemaining : DEFAULT_RETRY_AFTER_SECONDS));
+
+        ErrorResponse errorResponse = new ErrorResponse(LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        errorResponse.addError("Data is being imported");
+
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponse));
+    }
+}
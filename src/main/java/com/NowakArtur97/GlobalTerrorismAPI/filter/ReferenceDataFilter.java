@@ -0,0 +1,125 @@
+package com.NowakArtur97.GlobalTerrorismAPI.filter;
+
+import com.NowakArtur97.GlobalTerrorismAPI.dataImport.ImportProgressTracker;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ReferenceDataConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LabelVersions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves regions and countries, which are only read through the API and rarely change, from responses rendered once
+ * per version of their data. The first request for a URL and representation is rendered by the controller, the bytes
+ * are kept with a strong ETag, later requests get the bytes or 304 if the client already has them. Saving or deleting
+ * a region or a country replaces the whole snapshot of the resource with an empty one at once.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceDataFilter extends OncePerRequestFilter {
+
+    // Countries embed their regions
+    private final static Map<String, List<Class<?>>> NODE_TYPES_BY_RESOURCE_PATH = Map.of(
+            "/api/v1/regions", List.of(RegionNode.class),
+            "/api/v1/countries", List.of(CountryNode.class, RegionNode.class));
+
+    private final Map<String, Snapshot> snapshotsByResourcePath = new ConcurrentHashMap<>();
+
+    private final ReferenceDataConfigurationProperties referenceDataConfigurationProperties;
+
+    private final ImportProgressTracker importProgressTracker;
+
+    private final LabelVersions labelVersions;
+
+    // The import changes the data until it is done
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        return !referenceDataConfigurationProperties.isEnabled() || !HttpMethod.GET.matches(request.getMethod())
+                || resourcePathOf(request) == null || importProgressTracker.isImporting();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        Snapshot snapshot = currentSnapshot(resourcePathOf(request));
+
+        String key = RenderedResponse.keyOf(request);
+
+        RenderedResponse renderedResponse = snapshot.getResponses().get(key);
+
+        if (renderedResponse == null) {
+
+            ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+
+            filterChain.doFilter(request, responseWrapper);
+
+            if (responseWrapper.getStatus() != HttpStatus.OK.value() || responseWrapper.getContentType() == null) {
+
+                responseWrapper.copyBodyToResponse();
+
+                return;
+            }
+
+            renderedResponse = RenderedResponse.of(responseWrapper, false);
+
+            // Rendered from the data of the snapshot, which is only dropped if it was replaced in the meantime
+            if (snapshot.getResponses().size() < referenceDataConfigurationProperties.getMaxCachedResponses()) {
+                snapshot.getResponses().putIfAbsent(key, renderedResponse);
+            }
+        }
+
+        renderedResponse.writeTo(request, response);
+    }
+
+    private Snapshot currentSnapshot(String resourcePath) {
+
+        long version = NODE_TYPES_BY_RESOURCE_PATH.get(resourcePath).stream()
+                .mapToLong(labelVersions::getVersion)
+                .sum();
+
+        return snapshotsByResourcePath.compute(resourcePath, (path, snapshot) ->
+                snapshot != null && snapshot.getVersion() == version ? snapshot : new Snapshot(version));
+    }
+
+    private static String resourcePathOf(HttpServletRequest request) {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        for (String resourcePath : NODE_TYPES_BY_RESOURCE_PATH.keySet()) {
+
+            if (path.equals(resourcePath) || path.startsWith(resourcePath + "/")) {
+                return resourcePath;
+            }
+        }
+
+        return null;
+    }
+
+    @Getter
+    private static class Snapshot {
+
+        private final long version;
+
+        private final Map<String, RenderedResponse> responses = new ConcurrentHashMap<>();
+
+        Snapshot(long version) {
+
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.NowakArtur97.GlobalTerrorismAPI.filter;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response rendered by a controller, kept as the bytes it was written with, so that it can be written again without
+ * rendering it. The ETag and Last-Modified set by the controller are kept with it, so that a client gets the same
+ * validators whether the response was rendered or not. Without an ETag of the controller, the ETag is derived from
+ * the bytes and the gzipped variant has an ETag of its own.
+ */
+@Getter
+class RenderedResponse {
+
+    // Shared caches may keep the responses but have to revalidate them, which also checks the authentication
+    private final static String CACHE_CONTROL = "public, no-cache";
+
+    private final static String GZIP = "gzip";
+
+    // Smaller responses do not get shorter by compressing them
+    private final static int MIN_SIZE_TO_GZIP = 1024;
+
+    private final String contentType;
+
+    private final byte[] body;
+
+    private final String etag;
+
+    // -1 if the controller did not set it
+    private final long lastModified;
+
+    // Null if the body is not compressed
+    private final byte[] gzippedBody;
+
+    private final String gzippedEtag;
+
+    RenderedResponse(String contentType, byte[] body, boolean gzip) {
+
+        this(contentType, body, null, -1, gzip);
+    }
+
+    // The ETag of the controller tells the versions of the nodes, it is the same for both encodings of the body
+    RenderedResponse(String contentType, byte[] body, String etag, long lastModified, boolean gzip) {
+
+        this.contentType = contentType;
+        this.body = body;
+        this.etag = etag != null ? etag : "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        this.lastModified = lastModified;
+
+        boolean isGzipped = gzip && body.length >= MIN_SIZE_TO_GZIP;
+
+        this.gzippedBody = isGzipped ? gzip(body) : null;
+        this.gzippedEtag = !isGzipped ? null
+                : etag != null ? etag : "\"" + DigestUtils.md5DigestAsHex(body) + "-" + GZIP + "\"";
+    }
+
+    static RenderedResponse of(ContentCachingResponseWrapper responseWrapper, boolean gzip) {
+
+        HttpHeaders headers = new HttpHeaders();
+
+        for (String headerName : List.of(HttpHeaders.ETAG, HttpHeaders.LAST_MODIFIED)) {
+
+            String headerValue = responseWrapper.getHeader(headerName);
+
+            if (headerValue != null) {
+                headers.set(headerName, headerValue);
+            }
+        }
+
+        return new RenderedResponse(responseWrapper.getContentType(), responseWrapper.getContentAsByteArray(),
+                headers.getETag(), headers.getLastModified(), gzip);
+    }
+
+    // The links of the responses are absolute, so the host is a part of the key
+    static String keyOf(HttpServletRequest request) {
+
+        StringBuilder key = new StringBuilder(request.getRequestURL());
+
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+
+        return key.append(' ').append(accept != null ? accept : "").toString();
+    }
+
+    int getSize() {
+
+        return body.length + (gzippedBody != null ? gzippedBody.length : 0);
+    }
+
+    void writeTo(HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        boolean isGzipped = gzippedBody != null && acceptsGzip(request);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.VARY, gzippedBody != null
+                ? HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING
+                : HttpHeaders.ACCEPT);
+
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+
+        String currentEtag = isGzipped ? gzippedEtag : etag;
+
+        if (lastModified >= 0 ? webRequest.checkNotModified(currentEtag, lastModified)
+                : webRequest.checkNotModified(currentEtag)) {
+            return;
+        }
+
+        byte[] content = isGzipped ? gzippedBody : body;
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(contentType);
+
+        if (isGzipped) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        response.setContentLength(content.length);
+        response.getOutputStream().write(content);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String encoding : acceptEncoding.split(",")) {
+
+            String[] encodingParts = encoding.split(";");
+
+            if (GZIP.equalsIgnoreCase(encodingParts[0].trim())) {
+                return encodingParts.length < 2 || !encodingParts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) {
+
+        ByteArrayOutputStream gzippedBody = new ByteArrayOutputStream(body.length / 4);
+
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzippedBody)) {
+            gzipOutputStream.write(body);
+
+        } catch (IOException exception) {
+
+            throw new UncheckedIOException(exception);
+        }
+
+        return gzippedBody.toByteArray();
+    }
+}
@@ -0,0 +1,215 @@
+package com.NowakArtur97.GlobalTerrorismAPI.filter;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ResponseCacheConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LabelVersions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendered responses together with the ids of the nodes they show, bounded by the size of their bytes. Saving or
+ * deleting one of the nodes through the OGM evicts the responses showing it, both right away and once the
+ * transaction completes. Writes in plain Cypher, which only increment the version of all labels, outdate every
+ * response. A response rendered before an eviction is not cached, as it might show the nodes before the write.
+ * Writes of other instances and writes in plain Cypher which do not increment the versions are not noticed at all,
+ * responses therefore expire after a configured time.
+ */
+@Component
+class RenderedResponseCache extends EventListenerAdapter {
+
+    private final Map<String, CachedResponse> responsesByKey = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<Long, Set<String>> keysByNodeId = new HashMap<>();
+
+    private final ResponseCacheConfigurationProperties responseCacheConfigurationProperties;
+
+    private final LabelVersions labelVersions;
+
+    private final long timeToLiveNanos;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private long size;
+
+    private long evictions;
+
+    RenderedResponseCache(ResponseCacheConfigurationProperties responseCacheConfigurationProperties,
+                          LabelVersions labelVersions, SessionFactory sessionFactory, MeterRegistry meterRegistry) {
+
+        this.responseCacheConfigurationProperties = responseCacheConfigurationProperties;
+        this.labelVersions = labelVersions;
+        this.timeToLiveNanos = TimeUnit.SECONDS.toNanos(responseCacheConfigurationProperties.getTimeToLiveSeconds());
+
+        this.hits = Counter.builder("response.cache.lookups").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("response.cache.lookups").tag("result", "miss").register(meterRegistry);
+
+        Gauge.builder("response.cache.size", this, RenderedResponseCache::getSize).baseUnit("bytes")
+                .register(meterRegistry);
+
+        sessionFactory.register(this);
+    }
+
+    synchronized Optional<RenderedResponse> get(String key) {
+
+        CachedResponse cachedResponse = responsesByKey.get(key);
+
+        if (cachedResponse != null && (cachedResponse.getVersionOfAll() != labelVersions.getVersionOfAll()
+                || System.nanoTime() - cachedResponse.getCachedAt() >= timeToLiveNanos)) {
+
+            remove(key);
+
+            cachedResponse = null;
+        }
+
+        if (cachedResponse == null) {
+
+            misses.increment();
+
+            return Optional.empty();
+        }
+
+        hits.increment();
+
+        return Optional.of(cachedResponse.getResponse());
+    }
+
+    // Taken before rendering a response, the writes in plain Cypher are counted too
+    synchronized long getGeneration() {
+
+        return evictions + labelVersions.getVersionOfAll();
+    }
+
+    synchronized void put(String key, RenderedResponse response, Set<Long> nodeIds, long generationBefore) {
+
+        if (getGeneration() != generationBefore
+                || response.getSize() > responseCacheConfigurationProperties.getMaxSizeInBytes()) {
+            return;
+        }
+
+        remove(key);
+
+        responsesByKey.put(key, new CachedResponse(response, nodeIds, labelVersions.getVersionOfAll(),
+                System.nanoTime()));
+
+        nodeIds.forEach(nodeId -> keysByNodeId.computeIfAbsent(nodeId, id -> new HashSet<>()).add(key));
+
+        size += response.getSize();
+
+        Iterator<Map.Entry<String, CachedResponse>> leastRecentlyUsed = responsesByKey.entrySet().iterator();
+
+        while (size > responseCacheConfigurationProperties.getMaxSizeInBytes()) {
+
+            Map.Entry<String, CachedResponse> leastRecentlyUsedResponse = leastRecentlyUsed.next();
+
+            leastRecentlyUsed.remove();
+
+            forget(leastRecentlyUsedResponse.getKey(), leastRecentlyUsedResponse.getValue());
+        }
+    }
+
+    synchronized void evict(Long nodeId) {
+
+        evictions++;
+
+        Set<String> keys = keysByNodeId.remove(nodeId);
+
+        if (keys != null) {
+            new HashSet<>(keys).forEach(this::remove);
+        }
+    }
+
+    synchronized long getSize() {
+
+        return size;
+    }
+
+    @Override
+    public void onPostSave(Event event) {
+
+        evictAfterCompletion(event);
+    }
+
+    @Override
+    public void onPostDelete(Event event) {
+
+        evictAfterCompletion(event);
+    }
+
+    // A response rendered before the commit still shows the node before the write, it is evicted again after it
+    private void evictAfterCompletion(Event event) {
+
+        if (!(event.getObject() instanceof Node)) {
+            return;
+        }
+
+        Long nodeId = ((Node) event.getObject()).getId();
+
+        evict(nodeId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+
+                    evict(nodeId);
+                }
+            });
+        }
+    }
+
+    private void remove(String key) {
+
+        forget(key, responsesByKey.remove(key));
+    }
+
+    private void forget(String key, CachedResponse cachedResponse) {
+
+        if (cachedResponse == null) {
+            return;
+        }
+
+        size -= cachedResponse.getResponse().getSize();
+
+        for (Long nodeId : cachedResponse.getNodeIds()) {
+
+            Set<String> keys = keysByNodeId.get(nodeId);
+
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByNodeId.remove(nodeId);
+            }
+        }
+    }
+
+    @Value
+    private static class CachedResponse {
+
+        RenderedResponse response;
+
+        Set<Long> nodeIds;
+
+        long versionOfAll;
+
+        long cachedAt;
+    }
+}
@@ -0,0 +1,122 @@
+package com.NowakArtur97.GlobalTerrorismAPI.filter;
+
+import com.NowakArtur97.GlobalTerrorismAPI.dataImport.ImportProgressTracker;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ResponseCacheConfigurationProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Serves events and groups found by id from their rendered responses, so that a frequently read resource is not
+ * loaded, assembled and serialized for every request. The response is kept per URL and representation together with
+ * the ids of all nodes it shows, which are read from the "id" properties of the rendered models. A write to any of
+ * them evicts the response.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private final static Pattern CACHED_PATH = Pattern.compile("/api/v1/(events|groups)/\\d+");
+
+    private final static String ID_PROPERTY = "id";
+
+    private final ResponseCacheConfigurationProperties responseCacheConfigurationProperties;
+
+    private final ImportProgressTracker importProgressTracker;
+
+    private final RenderedResponseCache renderedResponseCache;
+
+    private final ObjectMapper objectMapper;
+
+    // The import changes the data until it is done
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+
+        return !responseCacheConfigurationProperties.isEnabled() || !HttpMethod.GET.matches(request.getMethod())
+                || !CACHED_PATH.matcher(path).matches() || importProgressTracker.isImporting();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+
+        String key = RenderedResponse.keyOf(request);
+
+        Optional<RenderedResponse> cachedResponse = renderedResponseCache.get(key);
+
+        if (cachedResponse.isPresent()) {
+
+            cachedResponse.get().writeTo(request, response);
+
+            return;
+        }
+
+        long generation = renderedResponseCache.getGeneration();
+
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+
+        filterChain.doFilter(request, responseWrapper);
+
+        Set<Long> nodeIds = responseWrapper.getStatus() == HttpStatus.OK.value()
+                && responseWrapper.getContentType() != null ? nodeIdsOf(responseWrapper.getContentAsByteArray()) : null;
+
+        if (nodeIds == null) {
+
+            responseWrapper.copyBodyToResponse();
+
+            return;
+        }
+
+        RenderedResponse renderedResponse = RenderedResponse.of(responseWrapper,
+                responseCacheConfigurationProperties.isGzip());
+
+        renderedResponseCache.put(key, renderedResponse, nodeIds, generation);
+
+        renderedResponse.writeTo(request, response);
+    }
+
+    // Null if the body is not JSON, its nodes are not known then
+    private Set<Long> nodeIdsOf(byte[] body) {
+
+        JsonNode model;
+
+        try {
+            model = objectMapper.readTree(body);
+
+        } catch (IOException exception) {
+
+            return null;
+        }
+
+        if (model == null || !model.isContainerNode()) {
+            return null;
+        }
+
+        Set<Long> nodeIds = new HashSet<>();
+
+        for (JsonNode id : model.findValues(ID_PROPERTY)) {
+
+            if (id.isIntegralNumber()) {
+                nodeIds.add(id.asLong());
+            }
+        }
+
+        return nodeIds;
+    }
+}
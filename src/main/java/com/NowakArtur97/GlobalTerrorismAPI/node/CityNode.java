@@ -4,10 +4,12 @@ import com.NowakArtur97.GlobalTerrorismAPI.baseModel.City;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.neo4j.ogm.annotation.CompositeIndex;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.Relationship;
 
 @NodeEntity(label = "City")
+@CompositeIndex({"name", "latitude", "longitude"})
 @Data
 @NoArgsConstructor
 public class CityNode extends Node implements City {
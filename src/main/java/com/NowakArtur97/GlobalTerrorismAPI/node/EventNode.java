@@ -4,6 +4,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.baseModel.Event;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.neo4j.ogm.annotation.Index;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.Relationship;
 
@@ -14,10 +15,18 @@ import java.util.Date;
 @NoArgsConstructor
 public class EventNode extends Node implements Event {
 
+    // Identity of the GTD row the event was imported from, not exposed through the API
+    @Index
+    private Long eventId;
+
+    private String sourceHash;
+
     private String summary;
 
     private String motive;
 
+    // Key of the pages sorted by date
+    @Index
     private Date date;
 
     private Boolean isPartOfMultipleIncidents;
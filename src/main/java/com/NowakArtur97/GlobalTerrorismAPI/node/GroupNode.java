@@ -4,6 +4,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.baseModel.Group;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.neo4j.ogm.annotation.Index;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.Relationship;
 
@@ -16,6 +17,7 @@ import java.util.List;
 @AllArgsConstructor
 public class GroupNode extends Node implements Group {
 
+    @Index
     private String name;
 
     @Relationship(type = "CARRIES_OUT", direction = Relationship.UNDIRECTED)
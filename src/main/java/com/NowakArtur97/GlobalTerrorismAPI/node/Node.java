@@ -1,6 +1,5 @@
 package com.NowakArtur97.GlobalTerrorismAPI.node;
 
-import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.neo4j.ogm.annotation.GeneratedValue;
@@ -9,7 +8,6 @@ import org.neo4j.ogm.annotation.NodeEntity;
 
 @NodeEntity
 @Data
-@AllArgsConstructor
 @NoArgsConstructor
 public abstract class Node {
 
@@ -17,4 +15,11 @@ public abstract class Node {
     @GeneratedValue
     protected Long id;
 
+    // Incremented by every save of the node through a repository, null for nodes which were only imported
+    protected Long version;
+
+    public Node(Long id) {
+
+        this.id = id;
+    }
 }
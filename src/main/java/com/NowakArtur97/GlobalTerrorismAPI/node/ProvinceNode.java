@@ -3,6 +3,7 @@ package com.NowakArtur97.GlobalTerrorismAPI.node;
 import com.NowakArtur97.GlobalTerrorismAPI.baseModel.Province;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.neo4j.ogm.annotation.Index;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.Relationship;
 
@@ -11,6 +12,7 @@ import org.neo4j.ogm.annotation.Relationship;
 @NoArgsConstructor
 public class ProvinceNode extends Node implements Province {
 
+    @Index
     private String name;
 
     @Relationship("PART_OF")
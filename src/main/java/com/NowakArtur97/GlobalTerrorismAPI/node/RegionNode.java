@@ -3,6 +3,7 @@ package com.NowakArtur97.GlobalTerrorismAPI.node;
 import com.NowakArtur97.GlobalTerrorismAPI.baseModel.Region;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.neo4j.ogm.annotation.Index;
 import org.neo4j.ogm.annotation.NodeEntity;
 
 @NodeEntity(label = "Region")
@@ -10,6 +11,7 @@ import org.neo4j.ogm.annotation.NodeEntity;
 @NoArgsConstructor
 public class RegionNode extends Node implements Region {
 
+    @Index
     private String name;
 
     public RegionNode(String name) {
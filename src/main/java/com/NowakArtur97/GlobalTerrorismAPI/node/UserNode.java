@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.neo4j.ogm.annotation.Index;
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.Relationship;
 
@@ -16,10 +17,12 @@ import java.util.Set;
 @AllArgsConstructor
 public class UserNode extends Node implements User {
 
+    @Index(unique = true)
     private String userName;
 
     private String password;
 
+    @Index(unique = true)
     private String email;
 
     @Relationship(type = "HAS_ROLE")
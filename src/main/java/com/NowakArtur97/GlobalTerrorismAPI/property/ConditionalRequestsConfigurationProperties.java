@@ -0,0 +1,23 @@
+package com.NowakArtur97.GlobalTerrorismAPI.property;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "conditional-requests")
+@ConstructorBinding
+@Getter
+@AllArgsConstructor
+public final class ConditionalRequestsConfigurationProperties {
+
+    // Answers reads with ETag and Last-Modified headers and 304 if the client already has the resource
+    private final boolean enabled;
+
+    // Versions are only counted by this instance, writes through others are seen at the latest after the period
+    private final int versionPeriodInSeconds;
+
+    // Rejects PUT and PATCH of an existing node without If-Match, with it a client can not overwrite changes it has
+    // not seen
+    private final boolean requireIfMatch;
+}
@@ -0,0 +1,53 @@
+package com.NowakArtur97.GlobalTerrorismAPI.property;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportFormatType;
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportModeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "import")
+@ConstructorBinding
+@Getter
+@AllArgsConstructor
+public final class ImportConfigurationProperties {
+
+    private final String pathToFile;
+
+    private final ImportModeType mode;
+
+    // Detected from the extension of the file when not set
+    private final ImportFormatType format;
+
+    private final String csvCharset;
+
+    private final boolean csvHeader;
+
+    private final boolean xlsxHeader;
+
+    private final int batchSize;
+
+    // 0 disables throttling
+    private final int targetRowsPerSecond;
+
+    private final int decodeThreads;
+
+    private final int writerThreads;
+
+    private final int queueCapacity;
+
+    // Imports on a background thread, so that the application is started while the data is being loaded
+    private final boolean runInBackground;
+
+    // Answers read requests with 503 until the background import is done instead of serving the rows committed so far
+    private final boolean rejectRequestsDuringImport;
+
+    // Snapshots exported through the actuator are written to this directory
+    private final String snapshotDirectory;
+
+    // An instance which stops renewing the import lock for this long loses it to a waiting instance
+    private final int lockTimeToLiveSeconds;
+
+    private final int lockPollSeconds;
+}
@@ -0,0 +1,19 @@
+package com.NowakArtur97.GlobalTerrorismAPI.property;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "location-cache")
+@ConstructorBinding
+@Getter
+@AllArgsConstructor
+public final class LocationCacheConfigurationProperties {
+
+    // Loads the locations into the cache on startup, otherwise each is cached by its first lookup
+    private final boolean warmUpOnStartup;
+
+    // Lets the application serve requests while the locations are loaded, the lookups meanwhile query for them
+    private final boolean warmUpInBackground;
+}
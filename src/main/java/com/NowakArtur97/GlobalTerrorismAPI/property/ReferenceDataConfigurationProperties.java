@@ -0,0 +1,19 @@
+package com.NowakArtur97.GlobalTerrorismAPI.property;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "reference-data")
+@ConstructorBinding
+@Getter
+@AllArgsConstructor
+public final class ReferenceDataConfigurationProperties {
+
+    // Serves regions and countries from rendered responses instead of reading them for every request
+    private final boolean enabled;
+
+    // Responses rendered for further pages, sorts or representations of one version are not kept
+    private final int maxCachedResponses;
+}
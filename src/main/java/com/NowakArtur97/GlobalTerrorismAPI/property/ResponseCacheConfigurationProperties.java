@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.property;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConstructorBinding;
+
+@ConfigurationProperties(prefix = "response-cache")
+@ConstructorBinding
+@Getter
+@AllArgsConstructor
+public final class ResponseCacheConfigurationProperties {
+
+    // Serves events and groups found by id from their rendered responses
+    private final boolean enabled;
+
+    // The least recently used responses are evicted once their bytes exceed the size
+    private final long maxSizeInBytes;
+
+    // Bounds how long a response outlives the writes the cache does not notice, of other instances or in plain Cypher
+    private final long timeToLiveSeconds;
+
+    // Keeps a gzipped variant of larger responses for the clients which accept it
+    private final boolean gzip;
+}
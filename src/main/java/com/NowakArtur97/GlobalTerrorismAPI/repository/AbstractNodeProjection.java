@@ -0,0 +1,294 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.typeconversion.DateStringConverter;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Base of the projections of the node types. Each node is read as one map projection, whose pattern comprehensions
+ * follow its relationships as far as its model shows them, for example Event -> City -> Province -> Country ->
+ * Region. The OGM would only reach the end of such a path by loading every relationship of each node up to the
+ * deepest of them. The projections of the related nodes are shared, so that a node has the same shape wherever it
+ * is read, on its own or as part of another one.
+ */
+abstract class AbstractNodeProjection<T extends Node> implements NodeProjection<T> {
+
+    private final static String FIND_BY_ID_QUERY =
+            "MATCH (%1$s:%2$s) WHERE id(%1$s) = $id " +
+                    "RETURN %3$s AS %1$s";
+
+    private final static String FIND_ALL_BY_ID_QUERY =
+            "MATCH (%1$s:%2$s) WHERE id(%1$s) IN $ids " +
+                    "RETURN %3$s AS %1$s";
+
+    private final static String FIND_ALL_QUERY =
+            "MATCH (%1$s:%2$s) " +
+                    "WITH %1$s " +
+                    "ORDER BY %4$s " +
+                    "SKIP $skip LIMIT $limit " +
+                    "RETURN %3$s AS %1$s";
+
+    private final static DateStringConverter DATE_STRING_CONVERTER = new DateStringConverter(DateString.ISO_8601);
+
+    private final Session session;
+
+    private final Class<T> nodeClass;
+
+    // Name of the node in the queries and of the column it is returned in
+    private final String variable;
+
+    private final String findByIdQuery;
+
+    private final String findAllByIdQuery;
+
+    private final String findAllQuery;
+
+    AbstractNodeProjection(Session session, Class<T> nodeClass, String variable, String projection) {
+
+        String label = nodeClass.getAnnotation(NodeEntity.class).label();
+
+        this.session = session;
+        this.nodeClass = nodeClass;
+        this.variable = variable;
+        this.findByIdQuery = String.format(FIND_BY_ID_QUERY, variable, label, projection);
+        this.findAllByIdQuery = String.format(FIND_ALL_BY_ID_QUERY, variable, label, projection);
+        this.findAllQuery = String.format(FIND_ALL_QUERY, variable, label, projection, "%s");
+    }
+
+    protected abstract T toNode(Map<String, Object> node);
+
+    @Override
+    public Class<T> getNodeClass() {
+
+        return nodeClass;
+    }
+
+    @Override
+    public Optional<T> findById(Long id) {
+
+        List<T> nodes = query(findByIdQuery, Map.of("id", id));
+
+        return nodes.isEmpty() ? Optional.empty() : Optional.of(nodes.get(0));
+    }
+
+    @Override
+    public List<T> findAllById(List<Long> ids) {
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, T> nodesById = new HashMap<>();
+
+        for (T node : query(findAllByIdQuery, Map.of("ids", ids))) {
+            nodesById.put(node.getId(), node);
+        }
+
+        List<T> nodes = new ArrayList<>(ids.size());
+
+        for (Long id : ids) {
+
+            T node = nodesById.get(id);
+
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+
+        return nodes;
+    }
+
+    @Override
+    public List<T> findAll(Sort sort, long skip, int limit) {
+
+        return query(String.format(findAllQuery, NodeOrder.toOrderBy(nodeClass, variable, sort)),
+                Map.of("skip", skip, "limit", limit));
+    }
+
+    private List<T> query(String query, Map<String, Object> parameters) {
+
+        List<T> nodes = new ArrayList<>();
+
+        for (Map<String, Object> row : session.query(query, parameters)) {
+            nodes.add(toNode(toMap(row.get(variable))));
+        }
+
+        return nodes;
+    }
+
+    protected static String regionProjection(String region) {
+
+        return region + " {.name, .version, id: id(" + region + ")}";
+    }
+
+    protected static String countryProjection(String country) {
+
+        return country + " {.name, .version, id: id(" + country + "), " +
+                "region: " + related(country, "PART_OF", "Region", AbstractNodeProjection::regionProjection) + "}";
+    }
+
+    protected static String provinceProjection(String province) {
+
+        return province + " {.name, .version, id: id(" + province + "), " +
+                "country: " + related(province, "PART_OF", "Country", AbstractNodeProjection::countryProjection) + "}";
+    }
+
+    protected static String cityProjection(String city) {
+
+        return city + " {.name, .latitude, .longitude, .version, id: id(" + city + "), " +
+                "province: " + related(city, "PART_OF", "Province", AbstractNodeProjection::provinceProjection) + "}";
+    }
+
+    protected static String targetProjection(String target) {
+
+        return target + " {.target, .version, id: id(" + target + "), " +
+                "countryOfOrigin: " + related(target, "IS_FROM", "Country",
+                AbstractNodeProjection::countryProjection) + "}";
+    }
+
+    protected static String eventProjection(String event) {
+
+        return event + " {.summary, .motive, .date, .isPartOfMultipleIncidents, .isSuccessful, .isSuicidal, " +
+                ".version, id: id(" + event + "), " +
+                "target: " + related(event, "TARGETS", "Target", AbstractNodeProjection::targetProjection) + ", " +
+                "city: " + related(event, "LOCATED_IN", "City", AbstractNodeProjection::cityProjection) + "}";
+    }
+
+    // Events are matched in both directions, as the relationship of the group is undirected
+    protected static String groupProjection(String group) {
+
+        return group + " {.name, .version, id: id(" + group + "), " +
+                "eventsCaused: [(" + group + ")-[:CARRIES_OUT]-(" + group + "Event:Event) | " +
+                eventProjection(group + "Event") + "]}";
+    }
+
+    // The name of the related node is prefixed with the name of the node it is reached from, so that the names of
+    // nested comprehensions do not clash
+    private static String related(String node, String type, String label, Function<String, String> projection) {
+
+        String relatedNode = node + label;
+
+        return "head([(" + node + ")-[:" + type + "]->(" + relatedNode + ":" + label + ") | " +
+                projection.apply(relatedNode) + "])";
+    }
+
+    protected static RegionNode toRegion(Map<String, Object> region) {
+
+        return region != null
+                ? withVersion(new RegionNode(toLong(region.get("id")), (String) region.get("name")), region)
+                : null;
+    }
+
+    protected static CountryNode toCountry(Map<String, Object> country) {
+
+        return country != null
+                ? withVersion(new CountryNode(toLong(country.get("id")), (String) country.get("name"),
+                toRegion(toMap(country.get("region")))), country)
+                : null;
+    }
+
+    protected static ProvinceNode toProvince(Map<String, Object> province) {
+
+        return province != null
+                ? withVersion(new ProvinceNode(toLong(province.get("id")), (String) province.get("name"),
+                toCountry(toMap(province.get("country")))), province)
+                : null;
+    }
+
+    protected static CityNode toCity(Map<String, Object> city) {
+
+        return city != null
+                ? withVersion(new CityNode(toLong(city.get("id")), (String) city.get("name"),
+                toDouble(city.get("latitude")), toDouble(city.get("longitude")),
+                toProvince(toMap(city.get("province")))), city)
+                : null;
+    }
+
+    protected static TargetNode toTarget(Map<String, Object> target) {
+
+        return target != null
+                ? withVersion(new TargetNode(toLong(target.get("id")), (String) target.get("target"),
+                toCountry(toMap(target.get("countryOfOrigin")))), target)
+                : null;
+    }
+
+    protected static EventNode toEvent(Map<String, Object> event) {
+
+        if (event == null) {
+            return null;
+        }
+
+        String date = (String) event.get("date");
+
+        EventNode eventNode = EventNode.builder()
+                .id(toLong(event.get("id")))
+                .summary((String) event.get("summary"))
+                .motive((String) event.get("motive"))
+                .date(date != null ? DATE_STRING_CONVERTER.toEntityAttribute(date) : null)
+                .isPartOfMultipleIncidents((Boolean) event.get("isPartOfMultipleIncidents"))
+                .isSuccessful((Boolean) event.get("isSuccessful"))
+                .isSuicidal((Boolean) event.get("isSuicidal"))
+                .target(toTarget(toMap(event.get("target"))))
+                .city(toCity(toMap(event.get("city"))))
+                .build();
+
+        return withVersion(eventNode, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected static GroupNode toGroup(Map<String, Object> group) {
+
+        if (group == null) {
+            return null;
+        }
+
+        List<EventNode> eventsCaused = new ArrayList<>();
+
+        for (Map<String, Object> event : (List<Map<String, Object>>) group.getOrDefault("eventsCaused", List.of())) {
+            eventsCaused.add(toEvent(event));
+        }
+
+        return withVersion(new GroupNode(toLong(group.get("id")), (String) group.get("name"), eventsCaused), group);
+    }
+
+    // The version of the node is part of its ETag
+    private static <N extends Node> N withVersion(N node, Map<String, Object> properties) {
+
+        node.setVersion(toLong(properties.get("version")));
+
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toMap(Object value) {
+
+        return (Map<String, Object>) value;
+    }
+
+    private static Long toLong(Object value) {
+
+        return value != null ? ((Number) value).longValue() : null;
+    }
+
+    private static Double toDouble(Object value) {
+
+        return value != null ? ((Number) value).doubleValue() : null;
+    }
+}
@@ -0,0 +1,483 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.CursorSlice;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageCursor;
+import org.neo4j.ogm.annotation.NodeEntity;
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.utils.RelationshipUtils;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.repository.support.SimpleNeo4jRepository;
+import org.springframework.data.neo4j.util.PagingAndSortingUtils;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Base of every repository, adds paging without counting to the methods of {@link SimpleNeo4jRepository}. Pages
+ * by cursor start right after the key of the previous one instead of skipping all preceding nodes, so the thousandth
+ * page costs as much as the first. Nodes are ordered by id, or by date and id when the node has a date and is sorted
+ * by it. Dates are compared as stored, ISO-8601 strings in UTC which sort chronologically, nodes without one come
+ * last. Totals of numbered pages are taken from the {@link NodeCountCache}. Pages of a type with a
+ * {@link NodeProjection} are read through it, so that they come with all the nodes their models link to. A node with
+ * its relationships is loaded only as deep as the relationships of its type go. Saving a node increments its version,
+ * the versions of the nodes saved along with it are written as they were loaded. A node whose version was changed
+ * since it was loaded is not saved. A node can also be saved on its own and linked to the nodes it holds by their ids,
+ * which leaves the related nodes as they are in the database, like the cached locations the services link to.
+ */
+public class BaseNeo4jRepository<T, ID extends Serializable> extends SimpleNeo4jRepository<T, ID> {
+
+    private final static String FIND_FIRST_BY_ID_QUERY =
+            "MATCH (node:`%s`) " +
+                    "RETURN id(node) AS id " +
+                    "ORDER BY id(node) " +
+                    "LIMIT $limit";
+
+    private final static String FIND_AFTER_ID_QUERY =
+            "MATCH (node:`%s`) WHERE id(node) > $afterId " +
+                    "RETURN id(node) AS id " +
+                    "ORDER BY id(node) " +
+                    "LIMIT $limit";
+
+    private final static String FIND_FIRST_BY_DATE_QUERY =
+            "MATCH (node:`%s`) " +
+                    "RETURN id(node) AS id, node.date AS date " +
+                    "ORDER BY node.date, id(node) " +
+                    "LIMIT $limit";
+
+    private final static String FIND_AFTER_DATE_QUERY =
+            "MATCH (node:`%s`) " +
+                    "WHERE node.date > $afterDate OR (node.date = $afterDate AND id(node) > $afterId) " +
+                    "OR node.date IS NULL " +
+                    "RETURN id(node) AS id, node.date AS date " +
+                    "ORDER BY node.date, id(node) " +
+                    "LIMIT $limit";
+
+    private final static String FIND_AFTER_MISSING_DATE_QUERY =
+            "MATCH (node:`%s`) WHERE node.date IS NULL AND id(node) > $afterId " +
+                    "RETURN id(node) AS id, node.date AS date " +
+                    "ORDER BY id(node) " +
+                    "LIMIT $limit";
+
+    // Setting a property locks the node, its version is read after the lock was taken
+    private final static String LOCK_VERSION_QUERY =
+            "MATCH (node:`%s`) WHERE id(node) = $id " +
+                    "SET node.versionLock = true " +
+                    "REMOVE node.versionLock " +
+                    "WITH node WHERE coalesce(node.version, 0) = $version " +
+                    "RETURN id(node) AS id";
+
+    // Replaces the relationship of one type, unless it already leads to the related node, which might be null
+    private final static String LINK_BY_ID_QUERY =
+            "MATCH (node) WHERE id(node) = $id " +
+                    "OPTIONAL MATCH (node)%1$s(linkedNode) WHERE $relatedId IS NULL OR id(linkedNode) <> $relatedId " +
+                    "DELETE relationship " +
+                    "WITH DISTINCT node " +
+                    "MATCH (relatedNode) WHERE id(relatedNode) = $relatedId " +
+                    "MERGE (node)%2$s(relatedNode)";
+
+    private final static int DEFAULT_DEPTH = 1;
+
+    private final Class<T> domainClass;
+
+    private final Session session;
+
+    private final String label;
+
+    private final boolean hasDate;
+
+    private final int depthOfRelationships;
+
+    // Queries linking the node by the fields holding a single related node
+    private final Map<Field, String> linkByIdQueries;
+
+    private final NodeCountCache nodeCountCache;
+
+    // Null for types which are loaded by the OGM
+    private final NodeProjection<T> nodeProjection;
+
+    public BaseNeo4jRepository(Class<T> domainClass, Session session, NodeCountCache nodeCountCache,
+                               NodeProjection<T> nodeProjection) {
+
+        super(domainClass, session);
+
+        this.domainClass = domainClass;
+        this.session = session;
+        this.nodeCountCache = nodeCountCache;
+        this.nodeProjection = nodeProjection;
+        this.label = labelOf(domainClass);
+        this.hasDate = ReflectionUtils.findField(domainClass, PageCursor.DATE_KEY) != null;
+        this.depthOfRelationships = depthOfRelationships(domainClass, new HashSet<>());
+        this.linkByIdQueries = linkByIdQueries(domainClass);
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> S save(S entity) {
+
+        incrementVersion(entity);
+
+        return super.save(entity);
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> S save(S entity, int depth) {
+
+        incrementVersion(entity);
+
+        return super.save(entity, depth);
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> Iterable<S> saveAll(Iterable<S> entities) {
+
+        entities.forEach(this::incrementVersion);
+
+        return super.saveAll(entities);
+    }
+
+    @Override
+    @Transactional
+    public <S extends T> Iterable<S> save(Iterable<S> entities, int depth) {
+
+        entities.forEach(this::incrementVersion);
+
+        return super.save(entities, depth);
+    }
+
+    // The related nodes have to be saved before, the relationships to them are written in plain Cypher
+    @Transactional
+    public <S extends T> S saveLinkingById(S entity) {
+
+        S savedEntity = save(entity, 0);
+
+        Long id = session.resolveGraphIdFor(savedEntity);
+
+        linkByIdQueries.forEach((field, query) -> {
+
+            Object relatedNode = ReflectionUtils.getField(field, savedEntity);
+
+            Long relatedId = relatedNode != null ? session.resolveGraphIdFor(relatedNode) : null;
+
+            if (relatedNode != null && relatedId == null) {
+                throw new IllegalStateException("Could not link " + label + " with id: " + id + " by "
+                        + field.getName() + ", the related node was not saved.");
+            }
+
+            Map<String, Object> parameters = new HashMap<>();
+
+            parameters.put("id", id);
+            parameters.put("relatedId", relatedId);
+
+            session.query(query, parameters);
+        });
+
+        return savedEntity;
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+
+        if (pageable.isUnpaged()) {
+            return super.findAll(pageable);
+        }
+
+        Slice<T> nodes = findAllWithoutCount(pageable);
+
+        return PageableExecutionUtils.getPage(nodes.getContent(), pageable,
+                () -> nodeCountCache.count(domainClass, () -> session.countEntitiesOfType(domainClass)));
+    }
+
+    public Optional<T> findProjectedById(Long id) {
+
+        if (nodeProjection == null) {
+            return Optional.ofNullable(session.load(domainClass, id, DEFAULT_DEPTH));
+        }
+
+        return nodeProjection.findById(id);
+    }
+
+    public Optional<T> findWithRelationshipsById(Long id) {
+
+        return Optional.ofNullable(session.load(domainClass, id, depthOfRelationships));
+    }
+
+    public List<T> findAllProjectedById(List<Long> ids) {
+
+        return loadInOrder(ids);
+    }
+
+    public Slice<T> findAllWithoutCount(Pageable pageable) {
+
+        // One more than requested tells if there is a next page without counting
+        int limit = pageable.getPageSize() + 1;
+
+        List<T> nodes;
+
+        if (nodeProjection != null) {
+
+            nodes = nodeProjection.findAll(pageable.getSort(), pageable.getOffset(), limit);
+
+        } else {
+
+            Pagination pagination = new Pagination(0, limit);
+
+            pagination.setOffset((int) pageable.getOffset());
+
+            nodes = new ArrayList<>(session.loadAll(domainClass, PagingAndSortingUtils.convert(pageable.getSort()),
+                    pagination, DEFAULT_DEPTH));
+        }
+
+        boolean hasNext = nodes.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? nodes.subList(0, pageable.getPageSize()) : nodes, pageable, hasNext);
+    }
+
+    public CursorSlice<T> findAllAfter(PageCursor after, Pageable pageable) {
+
+        Sort.Order dateOrder = pageable.getSort().getOrderFor(PageCursor.DATE_KEY);
+
+        boolean isKeyedOnDate = hasDate && (after != null ? after.isKeyedOnDate() : dateOrder != null);
+
+        String query;
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put("limit", pageable.getPageSize() + 1);
+
+        if (after == null) {
+
+            query = isKeyedOnDate ? FIND_FIRST_BY_DATE_QUERY : FIND_FIRST_BY_ID_QUERY;
+
+        } else {
+
+            parameters.put("afterId", after.getId());
+
+            if (!isKeyedOnDate) {
+
+                query = FIND_AFTER_ID_QUERY;
+
+            } else if (after.getDate() != null) {
+
+                query = FIND_AFTER_DATE_QUERY;
+                parameters.put("afterDate", after.getDate());
+
+            } else {
+
+                query = FIND_AFTER_MISSING_DATE_QUERY;
+            }
+        }
+
+        List<Long> ids = new ArrayList<>();
+        PageCursor lastCursor = null;
+        boolean hasNext = false;
+
+        for (Map<String, Object> row : session.query(String.format(query, label), parameters)) {
+
+            if (ids.size() == pageable.getPageSize()) {
+
+                hasNext = true;
+
+                break;
+            }
+
+            Long id = ((Number) row.get("id")).longValue();
+
+            ids.add(id);
+
+            lastCursor = isKeyedOnDate ? PageCursor.afterDate((String) row.get("date"), id) : PageCursor.afterId(id);
+        }
+
+        return new CursorSlice<>(loadInOrder(ids), pageable, hasNext ? lastCursor : null);
+    }
+
+    private List<T> loadInOrder(List<Long> ids) {
+
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        if (nodeProjection != null) {
+            return nodeProjection.findAllById(ids);
+        }
+
+        Collection<T> loadedNodes = session.loadAll(domainClass, ids, DEFAULT_DEPTH);
+
+        Map<Long, T> nodesById = new HashMap<>();
+
+        for (T node : loadedNodes) {
+            nodesById.put(session.resolveGraphIdFor(node), node);
+        }
+
+        List<T> nodes = new ArrayList<>(ids.size());
+
+        for (Long id : ids) {
+
+            T node = nodesById.get(id);
+
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+
+        return nodes;
+    }
+
+    // The node keeps the version it was loaded with until it is saved, a node which was changed in the meantime is
+    // not written. The node stays locked until the transaction completes, so that the check holds for the save. The
+    // next version is written with the node, but it is only kept in memory if the transaction commits.
+    private void incrementVersion(Object entity) {
+
+        if (!(entity instanceof Node)) {
+            return;
+        }
+
+        Node node = (Node) entity;
+
+        long version = node.getVersion() != null ? node.getVersion() : 0;
+
+        if (node.getId() != null && !session.query(String.format(LOCK_VERSION_QUERY, label),
+                Map.of("id", node.getId(), "version", version)).iterator().hasNext()) {
+
+            throw new OptimisticLockingFailureException("Could not save " + label + " with id: " + node.getId()
+                    + ", it was changed or deleted in the meantime.");
+        }
+
+        resetVersionOnRollback(node);
+
+        node.setVersion(version + 1);
+    }
+
+    // The first version of a node in the transaction is restored, however often the node was saved in it
+    private void resetVersionOnRollback(Node node) {
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Node, Long> versionsBefore = (Map<Node, Long>) TransactionSynchronizationManager.getResource(this);
+
+        if (versionsBefore == null) {
+
+            Map<Node, Long> versions = new IdentityHashMap<>();
+
+            TransactionSynchronizationManager.bindResource(this, versions);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+
+                    TransactionSynchronizationManager.unbindResourceIfPossible(BaseNeo4jRepository.this);
+
+                    if (status != STATUS_COMMITTED) {
+                        versions.forEach(Node::setVersion);
+                    }
+                }
+            });
+
+            versionsBefore = versions;
+        }
+
+        versionsBefore.putIfAbsent(node, node.getVersion());
+    }
+
+    // Number of relationships on the longest path starting at the type, a type met again on the path ends it
+    private static int depthOfRelationships(Class<?> type, Set<Class<?>> typesOnPath) {
+
+        if (!typesOnPath.add(type)) {
+            return 0;
+        }
+
+        int[] depth = {0};
+
+        ReflectionUtils.doWithFields(type, field -> {
+
+            ResolvableType fieldType = ResolvableType.forField(field);
+
+            Class<?> relatedType = fieldType.asCollection() != ResolvableType.NONE
+                    ? fieldType.asCollection().resolveGeneric(0) : fieldType.resolve();
+
+            if (relatedType != null) {
+                depth[0] = Math.max(depth[0], 1 + depthOfRelationships(relatedType, typesOnPath));
+            }
+
+        }, field -> field.isAnnotationPresent(Relationship.class));
+
+        typesOnPath.remove(type);
+
+        return depth[0];
+    }
+
+    // Relationships to many nodes are not linked by id, none of the types saved that way has one
+    private static Map<Field, String> linkByIdQueries(Class<?> domainClass) {
+
+        Map<Field, String> queries = new LinkedHashMap<>();
+
+        ReflectionUtils.doWithFields(domainClass, field -> {
+
+            Relationship relationship = field.getAnnotation(Relationship.class);
+
+            String type = StringUtils.hasText(relationship.value()) ? relationship.value()
+                    : StringUtils.hasText(relationship.type()) ? relationship.type()
+                    : RelationshipUtils.inferRelationshipType(field.getName());
+
+            String existingRelationship;
+            String newRelationship;
+
+            if (Relationship.INCOMING.equals(relationship.direction())) {
+
+                existingRelationship = "<-[relationship:`" + type + "`]-";
+                newRelationship = "<-[:`" + type + "`]-";
+
+            } else {
+
+                existingRelationship = Relationship.UNDIRECTED.equals(relationship.direction())
+                        ? "-[relationship:`" + type + "`]-" : "-[relationship:`" + type + "`]->";
+                newRelationship = "-[:`" + type + "`]->";
+            }
+
+            ReflectionUtils.makeAccessible(field);
+
+            queries.put(field, String.format(LINK_BY_ID_QUERY, existingRelationship, newRelationship));
+
+        }, field -> field.isAnnotationPresent(Relationship.class)
+                && ResolvableType.forField(field).asCollection() == ResolvableType.NONE
+                && !field.getType().isArray());
+
+        return queries;
+    }
+
+    private static String labelOf(Class<?> domainClass) {
+
+        NodeEntity nodeEntity = domainClass.getAnnotation(NodeEntity.class);
+
+        return nodeEntity != null && StringUtils.hasText(nodeEntity.label()) ? nodeEntity.label()
+                : domainClass.getSimpleName();
+    }
+}
@@ -0,0 +1,89 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import org.neo4j.ogm.session.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.neo4j.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.repository.support.Neo4jRepositoryFactory;
+import org.springframework.data.neo4j.repository.support.Neo4jRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Creates the repositories like {@link Neo4jRepositoryFactoryBean}, but hands the {@link NodeCountCache} and the
+ * {@link NodeProjection} of the domain type to the {@link BaseNeo4jRepository} behind them, which the default factory
+ * only gives the domain class and the session.
+ */
+public class BaseNeo4jRepositoryFactoryBean<T extends Repository<S, ID>, S, ID extends Serializable>
+        extends Neo4jRepositoryFactoryBean<T, S, ID> {
+
+    private Session session;
+
+    private Neo4jMappingContext mappingContext;
+
+    private NodeCountCache nodeCountCache;
+
+    private List<NodeProjection<?>> nodeProjections = List.of();
+
+    public BaseNeo4jRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+
+        super(repositoryInterface);
+    }
+
+    @Autowired
+    public void setNodeCountCache(NodeCountCache nodeCountCache) {
+
+        this.nodeCountCache = nodeCountCache;
+    }
+
+    @Autowired(required = false)
+    public void setNodeProjections(List<NodeProjection<?>> nodeProjections) {
+
+        this.nodeProjections = nodeProjections;
+    }
+
+    @Override
+    @Autowired
+    public void setSession(Session session) {
+
+        super.setSession(session);
+
+        this.session = session;
+    }
+
+    @Override
+    public void setMappingContext(MappingContext<?, ?> mappingContext) {
+
+        super.setMappingContext(mappingContext);
+
+        if (mappingContext instanceof Neo4jMappingContext) {
+            this.mappingContext = (Neo4jMappingContext) mappingContext;
+        }
+    }
+
+    @Override
+    protected RepositoryFactorySupport doCreateRepositoryFactory() {
+
+        return new Neo4jRepositoryFactory(session, mappingContext) {
+
+            @Override
+            protected Object getTargetRepository(RepositoryInformation information) {
+
+                return getTargetRepositoryViaReflection(information, information.getDomainType(), session,
+                        nodeCountCache, findNodeProjection(information.getDomainType()));
+            }
+        };
+    }
+
+    private NodeProjection<?> findNodeProjection(Class<?> domainType) {
+
+        return nodeProjections.stream()
+                .filter(nodeProjection -> nodeProjection.getNodeClass().equals(domainType))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -1,10 +1,35 @@
 package com.NowakArtur97.GlobalTerrorismAPI.repository;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.CursorSlice;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageCursor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.List;
+import java.util.Optional;
+
 @NoRepositoryBean
 public interface BaseRepository<T extends Node> extends Neo4jRepository<T, Long> {
 
+    // Implemented by BaseNeo4jRepository, writes only the node and links it to the nodes it holds by their ids, which
+    // have to be saved before
+    <S extends T> S saveLinkingById(S entity);
+
+    // Implemented by BaseNeo4jRepository, the node is only meant to be read
+    Optional<T> findProjectedById(Long id);
+
+    // Implemented by BaseNeo4jRepository, loads the nodes at the end of the longest path of relationships as well
+    Optional<T> findWithRelationshipsById(Long id);
+
+    // Implemented by BaseNeo4jRepository, the nodes are only meant to be read and come in the order of the ids
+    List<T> findAllProjectedById(List<Long> ids);
+
+    // Implemented by BaseNeo4jRepository
+    Slice<T> findAllWithoutCount(Pageable pageable);
+
+    // Implemented by BaseNeo4jRepository, starts from the first node when the cursor is null
+    CursorSlice<T> findAllAfter(PageCursor after, Pageable pageable);
 }
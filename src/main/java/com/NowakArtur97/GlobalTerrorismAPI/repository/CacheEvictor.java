@@ -0,0 +1,7 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+public interface CacheEvictor {
+
+    // Called after nodes were written in plain Cypher, whatever the outcome of the write
+    void evictAfterCypherWrite();
+}
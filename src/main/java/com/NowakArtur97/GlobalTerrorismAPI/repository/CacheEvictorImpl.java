@@ -0,0 +1,30 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * The caches learn about the writes through the OGM from its events, which a write in plain Cypher does not raise.
+ * Such a write might have changed nodes of any type, so all node counts are evicted and all label versions
+ * incremented, which outdates the ETags and the rendered responses derived from them as well. Locations are cached
+ * only once they were found and writes in Cypher only ever add them, so the location cache is left as it is.
+ */
+@Component
+class CacheEvictorImpl implements CacheEvictor {
+
+    private final NodeCountCache nodeCountCache;
+
+    private final LabelVersions labelVersions;
+
+    CacheEvictorImpl(NodeCountCache nodeCountCache, LabelVersions labelVersions) {
+
+        this.nodeCountCache = nodeCountCache;
+        this.labelVersions = labelVersions;
+    }
+
+    @Override
+    public void evictAfterCypherWrite() {
+
+        nodeCountCache.evictAll();
+        labelVersions.incrementAll();
+    }
+}
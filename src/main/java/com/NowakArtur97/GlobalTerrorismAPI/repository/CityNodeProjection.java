@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads cities with their province, its country and region.
+ */
+@Component
+class CityNodeProjection extends AbstractNodeProjection<CityNode> {
+
+    CityNodeProjection(Session session) {
+
+        super(session, CityNode.class, "city", cityProjection("city"));
+    }
+
+    @Override
+    protected CityNode toNode(Map<String, Object> city) {
+
+        return toCity(city);
+    }
+}
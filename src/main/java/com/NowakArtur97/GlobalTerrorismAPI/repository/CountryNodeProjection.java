@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads countries with their region.
+ */
+@Component
+class CountryNodeProjection extends AbstractNodeProjection<CountryNode> {
+
+    CountryNodeProjection(Session session) {
+
+        super(session, CountryNode.class, "country", countryProjection("country"));
+    }
+
+    @Override
+    protected CountryNode toNode(Map<String, Object> country) {
+
+        return toCountry(country);
+    }
+}
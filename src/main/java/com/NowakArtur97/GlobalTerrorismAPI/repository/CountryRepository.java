@@ -2,11 +2,15 @@ package com.NowakArtur97.GlobalTerrorismAPI.repository;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CountryRepository extends BaseRepository<CountryNode> {
 
     Optional<CountryNode> findByName(String name);
 
+    List<CountryNode> findAllByNameIn(Collection<String> names);
+
     boolean existsByName(String name);
 }
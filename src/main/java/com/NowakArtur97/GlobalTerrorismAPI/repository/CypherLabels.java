@@ -0,0 +1,31 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+
+/**
+ * Labels of the nodes as the OGM writes them, the label of the node class followed by the label of {@link Node},
+ * which every node class inherits. Queries creating nodes in plain Cypher use them, so that those nodes cannot be
+ * told apart from the ones saved through the OGM. A MERGE matches on the label of the class alone, which is the one
+ * indexed, and sets {@link #NODE} only on create.
+ */
+public final class CypherLabels {
+
+    public final static String NODE = "Node";
+
+    public final static String REGION = "Region:" + NODE;
+
+    public final static String COUNTRY = "Country:" + NODE;
+
+    public final static String PROVINCE = "Province:" + NODE;
+
+    public final static String CITY = "City:" + NODE;
+
+    public final static String TARGET = "Target:" + NODE;
+
+    public final static String EVENT = "Event:" + NODE;
+
+    public final static String GROUP = "Group:" + NODE;
+
+    private CypherLabels() {
+    }
+}
@@ -0,0 +1,11 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import lombok.Value;
+
+@Value
+public class DeletedEvents {
+
+    private final long events;
+
+    private final long targets;
+}
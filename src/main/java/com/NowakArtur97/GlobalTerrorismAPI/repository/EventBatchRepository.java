@@ -0,0 +1,13 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+
+import java.util.List;
+
+public interface EventBatchRepository {
+
+    // Countries of targets and provinces have to exist, returns the ids of the events in the given order
+    List<Long> createAll(List<EventNode> events);
+
+    DeletedEvents deleteAllWithTargets(List<Long> eventIds);
+}
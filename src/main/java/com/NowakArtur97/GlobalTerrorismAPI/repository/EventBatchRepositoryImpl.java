@@ -0,0 +1,143 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
+import org.neo4j.ogm.annotation.typeconversion.DateString;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.typeconversion.DateStringConverter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates and deletes events with their targets in a single statement. Cities are matched by name and coordinates
+ * like {@link CityRepository} does, only a city which does not exist yet is merged together with its province. Events
+ * are linked to countries by id, so they have to be looked up beforehand.
+ */
+class EventBatchRepositoryImpl implements EventBatchRepository {
+
+    private final static String CREATE_EVENTS_QUERY =
+            "UNWIND $events AS row " +
+                    "MATCH (targetCountry) WHERE id(targetCountry) = row.targetCountryId " +
+                    "MATCH (provinceCountry) WHERE id(provinceCountry) = row.provinceCountryId " +
+                    "OPTIONAL MATCH (existingCity:City {name: row.cityName, latitude: row.cityLatitude, " +
+                    "longitude: row.cityLongitude}) " +
+                    "WITH row, targetCountry, provinceCountry, count(existingCity) AS existingCities " +
+                    "FOREACH (ignored IN CASE WHEN existingCities = 0 THEN [1] ELSE [] END | " +
+                    "MERGE (province:Province {name: row.provinceName})-[:PART_OF]->(provinceCountry) " +
+                    "ON CREATE SET province:" + CypherLabels.NODE + " " +
+                    "MERGE (city:City {name: row.cityName, latitude: row.cityLatitude, longitude: row.cityLongitude})" +
+                    "-[:PART_OF]->(province) " +
+                    "ON CREATE SET city:" + CypherLabels.NODE + ") " +
+                    "WITH row, targetCountry " +
+                    "MATCH (city:City {name: row.cityName, latitude: row.cityLatitude, longitude: row.cityLongitude}) " +
+                    "WITH row, targetCountry, head(collect(city)) AS city " +
+                    "CREATE (event:" + CypherLabels.EVENT + " {summary: row.summary, motive: row.motive, date: row.date, " +
+                    "isPartOfMultipleIncidents: row.isPartOfMultipleIncidents, isSuccessful: row.isSuccessful, " +
+                    "isSuicidal: row.isSuicidal}) " +
+                    "CREATE (target:" + CypherLabels.TARGET + " {target: row.targetName})-[:IS_FROM]->(targetCountry) " +
+                    "CREATE (event)-[:TARGETS]->(target) " +
+                    "CREATE (event)-[:LOCATED_IN]->(city) " +
+                    "RETURN row.index AS index, id(event) AS id";
+
+    private final static String DELETE_EVENTS_QUERY =
+            "UNWIND $eventIds AS eventId " +
+                    "MATCH (event:Event) WHERE id(event) = eventId " +
+                    "OPTIONAL MATCH (event)-[:TARGETS]->(target:Target) " +
+                    "WITH event, collect(target) AS targets " +
+                    "FOREACH (target IN targets | DETACH DELETE target) " +
+                    "DETACH DELETE event " +
+                    "RETURN count(event) AS events, sum(size(targets)) AS targets";
+
+    private final DateStringConverter dateStringConverter = new DateStringConverter(DateString.ISO_8601);
+
+    private final Session session;
+
+    private final CacheEvictor cacheEvictor;
+
+    EventBatchRepositoryImpl(Session session, CacheEvictor cacheEvictor) {
+
+        this.session = session;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    @Override
+    public List<Long> createAll(List<EventNode> events) {
+
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<Map<String, Object>> rows = new ArrayList<>(events.size());
+
+        for (int index = 0; index < events.size(); index++) {
+            rows.add(toParameters(index, events.get(index)));
+        }
+
+        Long[] eventIds = new Long[events.size()];
+
+        try {
+            for (Map<String, Object> event : session.query(CREATE_EVENTS_QUERY, Map.of("events", rows))) {
+                eventIds[((Number) event.get("index")).intValue()] = ((Number) event.get("id")).longValue();
+            }
+
+        } finally {
+
+            cacheEvictor.evictAfterCypherWrite();
+        }
+
+        return Arrays.asList(eventIds);
+    }
+
+    @Override
+    public DeletedEvents deleteAllWithTargets(List<Long> eventIds) {
+
+        if (eventIds.isEmpty()) {
+            return new DeletedEvents(0, 0);
+        }
+
+        Map<String, Object> result;
+
+        try {
+            result = session.query(DELETE_EVENTS_QUERY, Map.of("eventIds", eventIds)).iterator().next();
+
+        } finally {
+
+            cacheEvictor.evictAfterCypherWrite();
+        }
+
+        return new DeletedEvents(((Number) result.get("events")).longValue(),
+                ((Number) result.get("targets")).longValue());
+    }
+
+    private Map<String, Object> toParameters(int index, EventNode event) {
+
+        TargetNode target = event.getTarget();
+        CityNode city = event.getCity();
+        ProvinceNode province = city.getProvince();
+
+        Map<String, Object> parameters = new HashMap<>();
+
+        parameters.put("index", index);
+        parameters.put("summary", event.getSummary());
+        parameters.put("motive", event.getMotive());
+        parameters.put("date", event.getDate() != null ? dateStringConverter.toGraphProperty(event.getDate()) : null);
+        parameters.put("isPartOfMultipleIncidents", event.getIsPartOfMultipleIncidents());
+        parameters.put("isSuccessful", event.getIsSuccessful());
+        parameters.put("isSuicidal", event.getIsSuicidal());
+        parameters.put("targetName", target.getTarget());
+        parameters.put("targetCountryId", target.getCountryOfOrigin().getId());
+        parameters.put("cityName", city.getName());
+        parameters.put("cityLatitude", city.getLatitude());
+        parameters.put("cityLongitude", city.getLongitude());
+        parameters.put("provinceName", province.getName());
+        parameters.put("provinceCountryId", province.getCountry().getId());
+
+        return parameters;
+    }
+}
@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads events with their target and city, both up to the region.
+ */
+@Component
+class EventNodeProjection extends AbstractNodeProjection<EventNode> {
+
+    EventNodeProjection(Session session) {
+
+        super(session, EventNode.class, "event", eventProjection("event"));
+    }
+
+    @Override
+    protected EventNode toNode(Map<String, Object> event) {
+
+        return toEvent(event);
+    }
+}
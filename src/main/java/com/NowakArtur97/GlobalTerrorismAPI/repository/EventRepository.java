@@ -2,6 +2,6 @@ package com.NowakArtur97.GlobalTerrorismAPI.repository;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
 
-public interface EventRepository extends BaseRepository<EventNode> {
+public interface EventRepository extends BaseRepository<EventNode>, GroupEventRepository, EventBatchRepository {
 
 }
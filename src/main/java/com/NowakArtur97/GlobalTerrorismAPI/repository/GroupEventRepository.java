@@ -0,0 +1,18 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface GroupEventRepository {
+
+    Page<EventNode> findAllByGroupId(Long groupId, Pageable pageable);
+
+    // Links existing events to the group, without writing the group or the events themselves
+    void addAllToGroup(Long groupId, List<Long> eventIds);
+
+    // Deletes the events of the group with their targets, the group itself is kept
+    DeletedEvents deleteAllByGroupId(Long groupId);
+}
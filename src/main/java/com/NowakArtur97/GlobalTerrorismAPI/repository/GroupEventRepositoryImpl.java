@@ -0,0 +1,147 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pages the events of a group in the database instead of loading the group with all of its events. Only the ids of
+ * the requested page are matched, sorted and sliced in Cypher, the events are then read by id through the projection
+ * of events, in the same shape as on their own.
+ * The count query runs only when the total can not be told from the page itself. Events created in a batch are added
+ * to their group in one statement as well, so that saving the group does not have to write them again.
+ * <p>
+ * Events of a group are deleted together with their targets in chunks, so that no single query grows with the size
+ * of the group. Called from a transaction, the chunks join it and are rolled back with it, so that deleting a group
+ * stays atomic. Called without one, every chunk commits on its own.
+ */
+class GroupEventRepositoryImpl implements GroupEventRepository {
+
+    private final static String FIND_EVENT_IDS_QUERY =
+            "MATCH (group:Group)-[:CARRIES_OUT]-(event:Event) WHERE id(group) = $groupId " +
+                    "RETURN id(event) AS id " +
+                    "ORDER BY %s " +
+                    "SKIP $skip LIMIT $limit";
+
+    private final static String COUNT_EVENTS_QUERY =
+            "MATCH (group:Group)-[:CARRIES_OUT]-(event:Event) WHERE id(group) = $groupId " +
+                    "RETURN count(event) AS events";
+
+    // Written in the direction the OGM writes the undirected relationship of the group
+    private final static String ADD_EVENTS_QUERY =
+            "MATCH (group:Group) WHERE id(group) = $groupId " +
+                    "UNWIND $eventIds AS eventId " +
+                    "MATCH (event:Event) WHERE id(event) = eventId " +
+                    "MERGE (group)-[:CARRIES_OUT]->(event)";
+
+    private final static String DELETE_EVENTS_CHUNK_QUERY =
+            "MATCH (group:Group)-[:CARRIES_OUT]-(event:Event) WHERE id(group) = $groupId " +
+                    "WITH DISTINCT event LIMIT $chunkSize " +
+                    "OPTIONAL MATCH (event)-[:TARGETS]->(target:Target) " +
+                    "WITH event, collect(target) AS targets " +
+                    "FOREACH (target IN targets | DETACH DELETE target) " +
+                    "DETACH DELETE event " +
+                    "RETURN count(event) AS events, sum(size(targets)) AS targets";
+
+    private final static int DELETE_CHUNK_SIZE = 1000;
+
+    private final Session session;
+
+    private final NodeProjection<EventNode> eventNodeProjection;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final CacheEvictor cacheEvictor;
+
+    GroupEventRepositoryImpl(Session session, NodeProjection<EventNode> eventNodeProjection,
+                             PlatformTransactionManager transactionManager, CacheEvictor cacheEvictor) {
+
+        this.session = session;
+        this.eventNodeProjection = eventNodeProjection;
+        this.cacheEvictor = cacheEvictor;
+
+        // Chunks take part in the transaction of the caller, if there is one
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+    }
+
+    @Override
+    public Page<EventNode> findAllByGroupId(Long groupId, Pageable pageable) {
+
+        List<Long> eventIds = new ArrayList<>();
+
+        Map<String, Object> parameters = Map.of("groupId", groupId, "skip", pageable.getOffset(),
+                "limit", pageable.getPageSize());
+
+        for (Map<String, Object> event : session.query(String.format(FIND_EVENT_IDS_QUERY,
+                NodeOrder.toOrderBy(EventNode.class, "event", pageable.getSort())), parameters)) {
+            eventIds.add(((Number) event.get("id")).longValue());
+        }
+
+        return PageableExecutionUtils.getPage(eventNodeProjection.findAllById(eventIds), pageable,
+                () -> countEvents(groupId));
+    }
+
+    @Override
+    public void addAllToGroup(Long groupId, List<Long> eventIds) {
+
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            session.query(ADD_EVENTS_QUERY, Map.of("groupId", groupId, "eventIds", eventIds));
+
+        } finally {
+
+            cacheEvictor.evictAfterCypherWrite();
+        }
+    }
+
+    @Override
+    public DeletedEvents deleteAllByGroupId(Long groupId) {
+
+        Map<String, Object> parameters = Map.of("groupId", groupId, "chunkSize", DELETE_CHUNK_SIZE);
+
+        long deletedEvents = 0;
+        long deletedTargets = 0;
+        long deletedEventsInChunk;
+
+        try {
+            do {
+                Map<String, Object> chunk = transactionTemplate.execute(status ->
+                        session.query(DELETE_EVENTS_CHUNK_QUERY, parameters).iterator().next());
+
+                deletedEventsInChunk = ((Number) chunk.get("events")).longValue();
+
+                deletedEvents += deletedEventsInChunk;
+                deletedTargets += ((Number) chunk.get("targets")).longValue();
+
+            } while (deletedEventsInChunk == DELETE_CHUNK_SIZE);
+
+        } finally {
+
+            if (deletedEvents > 0) {
+                cacheEvictor.evictAfterCypherWrite();
+            }
+        }
+
+        return new DeletedEvents(deletedEvents, deletedTargets);
+    }
+
+    private long countEvents(Long groupId) {
+
+        Map<String, Object> result = session.query(COUNT_EVENTS_QUERY, Map.of("groupId", groupId)).iterator().next();
+
+        return ((Number) result.get("events")).longValue();
+    }
+}
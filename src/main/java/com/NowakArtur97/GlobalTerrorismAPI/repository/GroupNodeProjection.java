@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads groups with all of their events, each in the shape the projection of events reads it.
+ */
+@Component
+class GroupNodeProjection extends AbstractNodeProjection<GroupNode> {
+
+    GroupNodeProjection(Session session) {
+
+        super(session, GroupNode.class, "group", groupProjection("group"));
+    }
+
+    @Override
+    protected GroupNode toNode(Map<String, Object> group) {
+
+        return toGroup(group);
+    }
+}
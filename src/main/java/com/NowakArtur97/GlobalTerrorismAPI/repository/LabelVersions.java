@@ -0,0 +1,14 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+public interface LabelVersions {
+
+    long getVersion(Class<?> nodeType);
+
+    // Only incremented by writes in plain Cypher, which might have changed nodes of any type
+    long getVersionOfAll();
+
+    // Millis of the last write to the nodes of the type, or of the start of the application if there was none since
+    long getLastModified(Class<?> nodeType);
+
+    void incrementAll();
+}
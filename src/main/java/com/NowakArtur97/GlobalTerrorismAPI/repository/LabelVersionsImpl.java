@@ -0,0 +1,103 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the writes to the nodes of every type, so that anything derived from them can tell whether it is outdated
+ * by comparing versions. Saving or deleting a node through the OGM increments the version of its type, both right
+ * away and once the transaction completes, so that anything read in between is outdated as well. Writes in plain
+ * Cypher increment all versions themselves. Versions only ever grow while the application runs. Along with them the
+ * time of the last write to every type is kept.
+ */
+@Component
+class LabelVersionsImpl extends EventListenerAdapter implements LabelVersions {
+
+    private final Map<Class<?>, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final AtomicLong allVersions = new AtomicLong();
+
+    private final Map<Class<?>, AtomicLong> lastModifications = new ConcurrentHashMap<>();
+
+    private final AtomicLong lastModificationOfAll = new AtomicLong(System.currentTimeMillis());
+
+    LabelVersionsImpl(SessionFactory sessionFactory) {
+
+        sessionFactory.register(this);
+    }
+
+    @Override
+    public long getVersion(Class<?> nodeType) {
+
+        AtomicLong version = versions.get(nodeType);
+
+        return allVersions.get() + (version != null ? version.get() : 0);
+    }
+
+    @Override
+    public long getVersionOfAll() {
+
+        return allVersions.get();
+    }
+
+    @Override
+    public long getLastModified(Class<?> nodeType) {
+
+        AtomicLong lastModification = lastModifications.get(nodeType);
+
+        return Math.max(lastModificationOfAll.get(), lastModification != null ? lastModification.get() : 0);
+    }
+
+    @Override
+    public void incrementAll() {
+
+        allVersions.incrementAndGet();
+
+        lastModificationOfAll.accumulateAndGet(System.currentTimeMillis(), Math::max);
+    }
+
+    @Override
+    public void onPostSave(Event event) {
+
+        incrementAfterCompletion(event.getObject().getClass());
+    }
+
+    @Override
+    public void onPostDelete(Event event) {
+
+        incrementAfterCompletion(event.getObject().getClass());
+    }
+
+    private void incrementAfterCompletion(Class<?> nodeType) {
+
+        increment(nodeType);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+
+                    increment(nodeType);
+                }
+            });
+        }
+    }
+
+    private void increment(Class<?> nodeType) {
+
+        versions.computeIfAbsent(nodeType, type -> new AtomicLong()).incrementAndGet();
+
+        lastModifications.computeIfAbsent(nodeType, type -> new AtomicLong())
+                .accumulateAndGet(System.currentTimeMillis(), Math::max);
+    }
+}
@@ -0,0 +1,44 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public interface LocationCache {
+
+    // Depths the locations are loaded at, on a lookup missing the cache and on a warm up alike, each up to its region
+    int REGION_DEPTH = 0;
+
+    int COUNTRY_DEPTH = 1;
+
+    int PROVINCE_DEPTH = 2;
+
+    int CITY_DEPTH = 3;
+
+    Optional<RegionNode> findRegion(String name, Supplier<Optional<RegionNode>> loader);
+
+    boolean containsRegion(String name);
+
+    Optional<CountryNode> findCountry(String name, Supplier<Optional<CountryNode>> loader);
+
+    // Only the countries missing from the cache are loaded, all at once
+    List<CountryNode> findAllCountries(Collection<String> names,
+                                       Function<Collection<String>, List<CountryNode>> loader);
+
+    boolean containsCountry(String name);
+
+    Optional<ProvinceNode> findProvince(String name, String countryName, Supplier<Optional<ProvinceNode>> loader);
+
+    Optional<CityNode> findCity(String name, Double latitude, Double longitude, Supplier<Optional<CityNode>> loader);
+
+    void warmUp();
+
+    void evictAll();
+}
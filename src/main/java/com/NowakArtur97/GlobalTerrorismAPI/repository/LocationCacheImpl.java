@@ -0,0 +1,568 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Keeps regions, countries, provinces and cities by the natural keys they are looked up by, so that resolving the
+ * location of a write does not query for nodes which rarely change. Saving a location through the OGM puts it into
+ * the cache once the transaction commits, deleting it evicts it. Only found nodes are kept, a node created in plain
+ * Cypher is therefore found on its first lookup. Every type keeps a bounded number of the most recently used nodes,
+ * which expire after a while to bound how long the writes of other instances go unnoticed. Callers get copies, so the
+ * cached nodes are never changed by them. The services link the copies to the nodes they save by id instead of saving
+ * them along, so a copy never overwrites a location which was changed since it was cached.
+ */
+@Component
+@Slf4j
+class LocationCacheImpl extends EventListenerAdapter implements LocationCache {
+
+    private final static long TIME_TO_LIVE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final static int MAX_NODES_PER_TYPE = 50_000;
+
+    private final SessionFactory sessionFactory;
+
+    private final NodeCache<RegionNode> regions;
+
+    private final NodeCache<CountryNode> countries;
+
+    private final NodeCache<ProvinceNode> provinces;
+
+    private final NodeCache<CityNode> cities;
+
+    private final Map<Class<?>, NodeCache<?>> cachesByType = new HashMap<>();
+
+    LocationCacheImpl(SessionFactory sessionFactory, MeterRegistry meterRegistry) {
+
+        this.sessionFactory = sessionFactory;
+
+        this.regions = new NodeCache<>("region", LocationCacheImpl::keyOf, LocationCacheImpl::copyOf, meterRegistry);
+        this.countries = new NodeCache<>("country", LocationCacheImpl::keyOf, LocationCacheImpl::copyOf,
+                meterRegistry);
+        this.provinces = new NodeCache<>("province", LocationCacheImpl::keyOf, LocationCacheImpl::copyOf,
+                meterRegistry);
+        this.cities = new NodeCache<>("city", LocationCacheImpl::keyOf, LocationCacheImpl::copyOf, meterRegistry);
+
+        cachesByType.put(RegionNode.class, regions);
+        cachesByType.put(CountryNode.class, countries);
+        cachesByType.put(ProvinceNode.class, provinces);
+        cachesByType.put(CityNode.class, cities);
+
+        sessionFactory.register(this);
+    }
+
+    @Override
+    public Optional<RegionNode> findRegion(String name, Supplier<Optional<RegionNode>> loader) {
+
+        return regions.find(Arrays.asList(name), loader);
+    }
+
+    @Override
+    public boolean containsRegion(String name) {
+
+        return regions.contains(Arrays.asList(name));
+    }
+
+    @Override
+    public Optional<CountryNode> findCountry(String name, Supplier<Optional<CountryNode>> loader) {
+
+        return countries.find(Arrays.asList(name), loader);
+    }
+
+    @Override
+    public List<CountryNode> findAllCountries(Collection<String> names,
+                                              Function<Collection<String>, List<CountryNode>> loader) {
+
+        List<CountryNode> foundCountries = new ArrayList<>(names.size());
+        List<String> missingNames = new ArrayList<>();
+
+        for (String name : names) {
+
+            Optional<CountryNode> countryNode = countries.get(Arrays.asList(name));
+
+            if (countryNode.isPresent()) {
+                foundCountries.add(countryNode.get());
+            } else {
+                missingNames.add(name);
+            }
+        }
+
+        if (!missingNames.isEmpty()) {
+
+            long generation = countries.getGeneration();
+
+            for (CountryNode countryNode : loader.apply(missingNames)) {
+
+                countries.put(countryNode, generation);
+
+                foundCountries.add(countryNode);
+            }
+        }
+
+        return foundCountries;
+    }
+
+    @Override
+    public boolean containsCountry(String name) {
+
+        return countries.contains(Arrays.asList(name));
+    }
+
+    @Override
+    public Optional<ProvinceNode> findProvince(String name, String countryName,
+                                               Supplier<Optional<ProvinceNode>> loader) {
+
+        return provinces.find(Arrays.asList(name, countryName), loader);
+    }
+
+    @Override
+    public Optional<CityNode> findCity(String name, Double latitude, Double longitude,
+                                       Supplier<Optional<CityNode>> loader) {
+
+        return cities.find(Arrays.asList(name, latitude, longitude), loader);
+    }
+
+    // Loads as deep as a lookup missing the cache, cities only up to the bound of the cache
+    @Override
+    public void warmUp() {
+
+        Session session = sessionFactory.openSession();
+
+        long regionsGeneration = regions.getGeneration();
+        session.loadAll(RegionNode.class, REGION_DEPTH)
+                .forEach(regionNode -> regions.put(regionNode, regionsGeneration));
+
+        long countriesGeneration = countries.getGeneration();
+        session.loadAll(CountryNode.class, COUNTRY_DEPTH)
+                .forEach(countryNode -> countries.put(countryNode, countriesGeneration));
+
+        long provincesGeneration = provinces.getGeneration();
+        session.loadAll(ProvinceNode.class, PROVINCE_DEPTH)
+                .forEach(provinceNode -> provinces.put(provinceNode, provincesGeneration));
+
+        long citiesGeneration = cities.getGeneration();
+        session.loadAll(CityNode.class, new Pagination(0, MAX_NODES_PER_TYPE), CITY_DEPTH)
+                .forEach(cityNode -> cities.put(cityNode, citiesGeneration));
+
+        log.info("##################### Location cache warmed up with: " + regions.size() + " regions, "
+                + countries.size() + " countries, " + provinces.size() + " provinces and " + cities.size()
+                + " cities #####################");
+    }
+
+    @Override
+    public void evictAll() {
+
+        cachesByType.values().forEach(NodeCache::evictAll);
+    }
+
+    @Override
+    public void onPostSave(Event event) {
+
+        Object node = event.getObject();
+
+        if (node instanceof RegionNode) {
+            save(regions, (RegionNode) node);
+        } else if (node instanceof CountryNode) {
+            save(countries, (CountryNode) node);
+        } else if (node instanceof ProvinceNode) {
+            save(provinces, (ProvinceNode) node);
+        } else if (node instanceof CityNode) {
+            save(cities, (CityNode) node);
+        }
+    }
+
+    @Override
+    public void onPostDelete(Event event) {
+
+        NodeCache<?> nodeCache = cachesByType.get(event.getObject().getClass());
+
+        if (nodeCache != null) {
+
+            Node node = (Node) event.getObject();
+
+            evictNodesHolding(node);
+            evictAfterCompletion(nodeCache, node.getId());
+        }
+    }
+
+    // The key holds every property of a location, so a node saved as it is cached changes nothing
+    private <T extends Node> void save(NodeCache<T> nodeCache, T node) {
+
+        if (!nodeCache.isChanged(node)) {
+            return;
+        }
+
+        evictNodesHolding(node);
+        putAfterCommit(nodeCache, node);
+    }
+
+    // Nodes further down the hierarchy hold copies of the node, which are outdated once it changed
+    private void evictNodesHolding(Node node) {
+
+        Long id = node.getId();
+
+        if (node instanceof RegionNode) {
+
+            countries.evictIf(countryNode -> id.equals(regionIdOf(countryNode)));
+            provinces.evictIf(provinceNode -> id.equals(regionIdOf(provinceNode.getCountry())));
+            cities.evictIf(cityNode -> id.equals(regionIdOf(countryOf(cityNode))));
+
+        } else if (node instanceof CountryNode) {
+
+            provinces.evictIf(provinceNode -> id.equals(idOf(provinceNode.getCountry())));
+            cities.evictIf(cityNode -> id.equals(idOf(countryOf(cityNode))));
+
+        } else if (node instanceof ProvinceNode) {
+
+            cities.evictIf(cityNode -> id.equals(idOf(cityNode.getProvince())));
+        }
+    }
+
+    // The node is evicted right away and only put back once it is committed, a rolled back save leaves it evicted
+    private <T extends Node> void putAfterCommit(NodeCache<T> nodeCache, T node) {
+
+        T savedNode = nodeCache.copy(node);
+
+        nodeCache.evict(savedNode.getId());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            nodeCache.put(savedNode, nodeCache.getGeneration());
+
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            @Override
+            public void afterCompletion(int status) {
+
+                if (status == STATUS_COMMITTED) {
+                    nodeCache.put(savedNode, nodeCache.getGeneration());
+                } else {
+                    nodeCache.evict(savedNode.getId());
+                }
+            }
+        });
+    }
+
+    // A lookup in the transaction still finds the deleted node, it is evicted again once the transaction completes
+    private void evictAfterCompletion(NodeCache<?> nodeCache, Long id) {
+
+        nodeCache.evict(id);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+
+                    nodeCache.evict(id);
+                }
+            });
+        }
+    }
+
+    private static Long idOf(Node node) {
+
+        return node != null ? node.getId() : null;
+    }
+
+    private static Long regionIdOf(CountryNode countryNode) {
+
+        return countryNode != null ? idOf(countryNode.getRegion()) : null;
+    }
+
+    private static CountryNode countryOf(CityNode cityNode) {
+
+        return cityNode.getProvince() != null ? cityNode.getProvince().getCountry() : null;
+    }
+
+    private static List<Object> keyOf(RegionNode regionNode) {
+
+        return Arrays.asList(regionNode.getName());
+    }
+
+    private static List<Object> keyOf(CountryNode countryNode) {
+
+        return Arrays.asList(countryNode.getName());
+    }
+
+    // Null for a province without a country, which cannot be looked up
+    private static List<Object> keyOf(ProvinceNode provinceNode) {
+
+        return provinceNode.getCountry() != null
+                ? Arrays.asList(provinceNode.getName(), provinceNode.getCountry().getName())
+                : null;
+    }
+
+    private static List<Object> keyOf(CityNode cityNode) {
+
+        return Arrays.asList(cityNode.getName(), cityNode.getLatitude(), cityNode.getLongitude());
+    }
+
+    private static RegionNode copyOf(RegionNode regionNode) {
+
+        return regionNode != null
+                ? withVersionOf(regionNode, new RegionNode(regionNode.getId(), regionNode.getName()))
+                : null;
+    }
+
+    private static CountryNode copyOf(CountryNode countryNode) {
+
+        return countryNode != null
+                ? withVersionOf(countryNode, new CountryNode(countryNode.getId(), countryNode.getName(),
+                copyOf(countryNode.getRegion())))
+                : null;
+    }
+
+    private static ProvinceNode copyOf(ProvinceNode provinceNode) {
+
+        return provinceNode != null
+                ? withVersionOf(provinceNode, new ProvinceNode(provinceNode.getId(), provinceNode.getName(),
+                copyOf(provinceNode.getCountry())))
+                : null;
+    }
+
+    private static CityNode copyOf(CityNode cityNode) {
+
+        return cityNode != null
+                ? withVersionOf(cityNode, new CityNode(cityNode.getId(), cityNode.getName(), cityNode.getLatitude(),
+                cityNode.getLongitude(), copyOf(cityNode.getProvince())))
+                : null;
+    }
+
+    // Copies carry the version of the cached node, which is part of the ETag of the nodes read with them
+    private static <T extends Node> T withVersionOf(T node, T copy) {
+
+        copy.setVersion(node.getVersion());
+
+        return copy;
+    }
+
+    /**
+     * Nodes of one type in the order they were used. A node loaded before an eviction of its type is not cached,
+     * as it might have been loaded before the write which caused the eviction.
+     */
+    private static class NodeCache<T extends Node> {
+
+        private final Function<T, List<Object>> keyOf;
+
+        private final UnaryOperator<T> copyOf;
+
+        private final Map<List<Object>, CachedNode<T>> nodesByKey = new LinkedHashMap<>(16, 0.75f, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, CachedNode<T>> eldest) {
+
+                if (size() <= MAX_NODES_PER_TYPE) {
+                    return false;
+                }
+
+                keysById.remove(eldest.getValue().getNode().getId());
+
+                return true;
+            }
+        };
+
+        private final Map<Long, List<Object>> keysById = new HashMap<>();
+
+        private final Counter hits;
+
+        private final Counter misses;
+
+        private long generation;
+
+        NodeCache(String type, Function<T, List<Object>> keyOf, UnaryOperator<T> copyOf,
+                  MeterRegistry meterRegistry) {
+
+            this.keyOf = keyOf;
+            this.copyOf = copyOf;
+
+            this.hits = Counter.builder("location.cache.lookups").tag("type", type).tag("result", "hit")
+                    .register(meterRegistry);
+            this.misses = Counter.builder("location.cache.lookups").tag("type", type).tag("result", "miss")
+                    .register(meterRegistry);
+
+            Gauge.builder("location.cache.size", this, NodeCache::size).tag("type", type).register(meterRegistry);
+        }
+
+        Optional<T> find(List<Object> key, Supplier<Optional<T>> loader) {
+
+            Optional<T> cachedNode = get(key);
+
+            if (cachedNode.isPresent()) {
+                return cachedNode;
+            }
+
+            long generationBefore = getGeneration();
+
+            Optional<T> loadedNode = loader.get();
+
+            loadedNode.ifPresent(node -> put(node, generationBefore));
+
+            return loadedNode;
+        }
+
+        boolean contains(List<Object> key) {
+
+            return get(key).isPresent();
+        }
+
+        synchronized Optional<T> get(List<Object> key) {
+
+            CachedNode<T> cachedNode = nodesByKey.get(key);
+
+            if (cachedNode != null && System.nanoTime() - cachedNode.getCachedAt() >= TIME_TO_LIVE_NANOS) {
+
+                remove(key);
+
+                cachedNode = null;
+            }
+
+            if (cachedNode == null) {
+
+                misses.increment();
+
+                return Optional.empty();
+            }
+
+            hits.increment();
+
+            return Optional.of(copyOf.apply(cachedNode.getNode()));
+        }
+
+        synchronized void put(T node, long generationBefore) {
+
+            if (generation != generationBefore || node.getId() == null) {
+                return;
+            }
+
+            List<Object> key = keyOf.apply(node);
+
+            if (key == null) {
+                return;
+            }
+
+            List<Object> previousKey = keysById.get(node.getId());
+
+            if (previousKey != null && !previousKey.equals(key)) {
+                nodesByKey.remove(previousKey);
+            }
+
+            CachedNode<T> previousNode = nodesByKey.put(key, new CachedNode<>(copyOf.apply(node), System.nanoTime()));
+
+            if (previousNode != null && !node.getId().equals(previousNode.getNode().getId())) {
+                keysById.remove(previousNode.getNode().getId());
+            }
+
+            keysById.put(node.getId(), key);
+        }
+
+        synchronized void evict(Long id) {
+
+            generation++;
+
+            List<Object> key = keysById.remove(id);
+
+            if (key != null) {
+                nodesByKey.remove(key);
+            }
+        }
+
+        synchronized void evictAll() {
+
+            generation++;
+
+            nodesByKey.clear();
+            keysById.clear();
+        }
+
+        synchronized long getGeneration() {
+
+            return generation;
+        }
+
+        synchronized int size() {
+
+            return nodesByKey.size();
+        }
+
+        synchronized void evictIf(Predicate<T> isOutdated) {
+
+            generation++;
+
+            nodesByKey.values().removeIf(cachedNode -> {
+
+                if (!isOutdated.test(cachedNode.getNode())) {
+                    return false;
+                }
+
+                keysById.remove(cachedNode.getNode().getId());
+
+                return true;
+            });
+        }
+
+        // A node which is not cached yet might still be held by the nodes further down the hierarchy
+        synchronized boolean isChanged(T node) {
+
+            List<Object> key = keyOf.apply(node);
+
+            return key == null || !key.equals(keysById.get(node.getId()));
+        }
+
+        T copy(T node) {
+
+            return copyOf.apply(node);
+        }
+
+        private void remove(List<Object> key) {
+
+            CachedNode<T> cachedNode = nodesByKey.remove(key);
+
+            if (cachedNode != null) {
+                keysById.remove(cachedNode.getNode().getId());
+            }
+        }
+    }
+
+    @Value
+    private static class CachedNode<T> {
+
+        T node;
+
+        long cachedAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import java.util.function.LongSupplier;
+
+public interface NodeCountCache {
+
+    long count(Class<?> nodeType, LongSupplier counter);
+
+    void evictAll();
+}
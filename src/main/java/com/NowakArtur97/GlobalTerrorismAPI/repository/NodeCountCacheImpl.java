@@ -0,0 +1,108 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import lombok.Value;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.EventListenerAdapter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the number of nodes of every type, so that a page of a collection does not count the whole label again.
+ * Saving or deleting a node through the OGM evicts its type, both right away and once the transaction commits, and a
+ * count started before an eviction is not cached. Writes in plain Cypher evict all counts themselves. Counts expire
+ * after a while, which bounds how long the writes of other instances go unnoticed.
+ */
+@Component
+class NodeCountCacheImpl extends EventListenerAdapter implements NodeCountCache {
+
+    private final static long TIME_TO_LIVE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<Class<?>, CachedCount> counts = new ConcurrentHashMap<>();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    NodeCountCacheImpl(SessionFactory sessionFactory) {
+
+        sessionFactory.register(this);
+    }
+
+    @Override
+    public long count(Class<?> nodeType, LongSupplier counter) {
+
+        CachedCount cachedCount = counts.get(nodeType);
+
+        if (cachedCount != null && System.nanoTime() - cachedCount.getCountedAt() < TIME_TO_LIVE_NANOS) {
+            return cachedCount.getCount();
+        }
+
+        long evictionsBefore = evictions.get();
+        long countedAt = System.nanoTime();
+
+        long count = counter.getAsLong();
+
+        if (evictions.get() == evictionsBefore) {
+            counts.put(nodeType, new CachedCount(count, countedAt));
+        }
+
+        return count;
+    }
+
+    @Override
+    public void evictAll() {
+
+        evictions.incrementAndGet();
+        counts.clear();
+    }
+
+    @Override
+    public void onPostSave(Event event) {
+
+        evictAfterCommit(event.getObject().getClass());
+    }
+
+    @Override
+    public void onPostDelete(Event event) {
+
+        evictAfterCommit(event.getObject().getClass());
+    }
+
+    // A count read before the commit still sees the old nodes, it is evicted again after the commit
+    private void evictAfterCommit(Class<?> nodeType) {
+
+        evict(nodeType);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCompletion(int status) {
+
+                    evict(nodeType);
+                }
+            });
+        }
+    }
+
+    private void evict(Class<?> nodeType) {
+
+        evictions.incrementAndGet();
+        counts.remove(nodeType);
+    }
+
+    @Value
+    private static class CachedCount {
+
+        long count;
+
+        long countedAt;
+    }
+}
@@ -0,0 +1,62 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import org.neo4j.ogm.annotation.Relationship;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Turns a sort into the ORDER BY of a Cypher query over nodes of one type. The properties which can be sorted by are
+ * the fields of the node class which are not relationships, others are ignored like the OGM ignores unknown ones.
+ * The id of the node always comes last, so that pages are stable for nodes with equal sort properties.
+ */
+final class NodeOrder {
+
+    private final static String ID_PROPERTY = "id";
+
+    private final static Map<Class<?>, Set<String>> SORTABLE_PROPERTIES = new ConcurrentHashMap<>();
+
+    private NodeOrder() {
+    }
+
+    static String toOrderBy(Class<?> nodeClass, String variable, Sort sort) {
+
+        Set<String> sortableProperties = SORTABLE_PROPERTIES.computeIfAbsent(nodeClass,
+                NodeOrder::sortablePropertiesOf);
+
+        StringJoiner orderBy = new StringJoiner(", ");
+
+        for (Sort.Order order : sort) {
+
+            String property = order.getProperty();
+            String direction = order.isAscending() ? "ASC" : "DESC";
+
+            if (ID_PROPERTY.equals(property)) {
+                orderBy.add("id(" + variable + ") " + direction);
+            } else if (sortableProperties.contains(property)) {
+                orderBy.add(variable + "." + property + " " + direction);
+            }
+        }
+
+        orderBy.add("id(" + variable + ")");
+
+        return orderBy.toString();
+    }
+
+    private static Set<String> sortablePropertiesOf(Class<?> nodeClass) {
+
+        Set<String> properties = new HashSet<>();
+
+        ReflectionUtils.doWithFields(nodeClass, field -> properties.add(field.getName()),
+                field -> !Modifier.isStatic(field.getModifiers()) && !field.isAnnotationPresent(Relationship.class)
+                        && !ID_PROPERTY.equals(field.getName()));
+
+        return properties;
+    }
+}
@@ -0,0 +1,23 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads the nodes of one type together with the related nodes their models link to in a single query, instead of the
+ * OGM loading them at a fixed depth. The nodes are built from map projections and are not tracked by the session,
+ * so they are only meant to be read, never saved.
+ */
+public interface NodeProjection<T> {
+
+    Class<T> getNodeClass();
+
+    Optional<T> findById(Long id);
+
+    // In the order of the ids, ids without a node are skipped
+    List<T> findAllById(List<Long> ids);
+
+    List<T> findAll(Sort sort, long skip, int limit);
+}
@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads provinces with their country and its region.
+ */
+@Component
+class ProvinceNodeProjection extends AbstractNodeProjection<ProvinceNode> {
+
+    ProvinceNodeProjection(Session session) {
+
+        super(session, ProvinceNode.class, "province", provinceProjection("province"));
+    }
+
+    @Override
+    protected ProvinceNode toNode(Map<String, Object> province) {
+
+        return toProvince(province);
+    }
+}
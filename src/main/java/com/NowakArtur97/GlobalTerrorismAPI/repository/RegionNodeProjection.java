@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads regions, which have no relationships to follow, so that every node type is read through a projection.
+ */
+@Component
+class RegionNodeProjection extends AbstractNodeProjection<RegionNode> {
+
+    RegionNodeProjection(Session session) {
+
+        super(session, RegionNode.class, "region", regionProjection("region"));
+    }
+
+    @Override
+    protected RegionNode toNode(Map<String, Object> region) {
+
+        return toRegion(region);
+    }
+}
@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
+import org.neo4j.ogm.session.Session;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads targets with their country of origin and its region.
+ */
+@Component
+class TargetNodeProjection extends AbstractNodeProjection<TargetNode> {
+
+    TargetNodeProjection(Session session) {
+
+        super(session, TargetNode.class, "target", targetProjection("target"));
+    }
+
+    @Override
+    protected TargetNode toNode(Map<String, Object> target) {
+
+        return toTarget(target);
+    }
+}
@@ -0,0 +1,13 @@
+package com.NowakArtur97.GlobalTerrorismAPI.schema;
+
+import java.util.List;
+
+public interface SchemaBootstrapper {
+
+    void createMissingIndexes();
+
+    List<String> findMissingIndexes();
+
+    // Returns whether the constraint is in place afterwards
+    boolean createUniqueConstraint(String label, String property);
+}
@@ -0,0 +1,257 @@
+package com.NowakArtur97.GlobalTerrorismAPI.schema;
+
+import lombok.extern.slf4j.Slf4j;
+import org.neo4j.ogm.annotation.CompositeIndex;
+import org.neo4j.ogm.annotation.Index;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the indexes and uniqueness constraints declared with {@link Index} and {@link CompositeIndex} on the node
+ * classes, together with those of the import bookkeeping, which is not mapped by the OGM. Existing indexes are read
+ * with SHOW INDEXES, or db.indexes() on servers older than 4.2, and only the missing ones are created. Constraints
+ * are created with the syntax of Neo4j 4.4 first and with the older one if that is rejected.
+ */
+@Component
+@Slf4j
+class SchemaBootstrapperImpl implements SchemaBootstrapper {
+
+    private final static String SHOW_INDEXES_QUERY = "SHOW INDEXES";
+
+    private final static String LEGACY_SHOW_INDEXES_QUERY = "CALL db.indexes()";
+
+    private final static String CREATE_INDEX_QUERY = "CREATE INDEX FOR (node:`%s`) ON (%s)";
+
+    private final static String CREATE_CONSTRAINT_QUERY = "CREATE CONSTRAINT FOR (node:`%s`) REQUIRE %s IS UNIQUE";
+
+    private final static String LEGACY_CREATE_CONSTRAINT_QUERY = "CREATE CONSTRAINT ON (node:`%s`) ASSERT %s IS UNIQUE";
+
+    private final static String AWAIT_INDEXES_QUERY = "CALL db.awaitIndexes($timeoutSeconds)";
+
+    private final static long AWAIT_INDEXES_TIMEOUT_SECONDS = 300;
+
+    private final static String UNIQUE_INDEX = "UNIQUE";
+
+    private final static String FAILED_INDEX = "FAILED";
+
+    private final static List<SchemaIndex> IMPORT_INDEXES = List.of(
+            new SchemaIndex("ImportCheckpoint", List.of("fileHash"), true),
+            new SchemaIndex("ImportBatchCheckpoint", List.of("fileHash"), false),
+            new SchemaIndex("ImportLock", List.of("name"), true));
+
+    private final Session session;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final List<SchemaIndex> declaredIndexes;
+
+    SchemaBootstrapperImpl(Session session, SessionFactory sessionFactory,
+                           PlatformTransactionManager transactionManager) {
+
+        this.session = session;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.declaredIndexes = findDeclaredIndexes(sessionFactory.metaData().persistentEntities());
+    }
+
+    @Override
+    public void createMissingIndexes() {
+
+        List<SchemaIndex> existingIndexes = findExistingIndexes();
+
+        int createdIndexes = 0;
+
+        for (SchemaIndex index : declaredIndexes) {
+
+            if (isCovered(index, existingIndexes)) {
+                continue;
+            }
+
+            try {
+                create(index);
+
+                createdIndexes++;
+
+                log.info("##################### Created index: " + index.describe() + " #####################");
+
+            } catch (RuntimeException exception) {
+
+                // Another instance may have created it meanwhile, the health indicator reports it if it is missing
+                log.warn("##################### Couldn't create index: " + index.describe()
+                        + " #####################", exception);
+            }
+        }
+
+        if (createdIndexes > 0) {
+
+            transactionTemplate.execute(status -> session.query(AWAIT_INDEXES_QUERY,
+                    Map.of("timeoutSeconds", AWAIT_INDEXES_TIMEOUT_SECONDS)));
+        }
+    }
+
+    @Override
+    public List<String> findMissingIndexes() {
+
+        List<SchemaIndex> existingIndexes = findExistingIndexes();
+
+        return declaredIndexes.stream()
+                .filter(index -> !isCovered(index, existingIndexes))
+                .map(SchemaIndex::describe)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean createUniqueConstraint(String label, String property) {
+
+        SchemaIndex constraint = new SchemaIndex(label, List.of(property), true);
+
+        if (isCovered(constraint, findExistingIndexes())) {
+            return true;
+        }
+
+        try {
+            create(constraint);
+
+            log.info("##################### Created index: " + constraint.describe() + " #####################");
+
+        } catch (RuntimeException exception) {
+
+            log.warn("##################### Couldn't create index: " + constraint.describe()
+                    + " #####################", exception);
+        }
+
+        // Another instance may have created it meanwhile
+        return isCovered(constraint, findExistingIndexes());
+    }
+
+    // A uniqueness constraint is backed by an index, which serves the lookups of a plain one as well
+    private static boolean isCovered(SchemaIndex index, List<SchemaIndex> existingIndexes) {
+
+        return existingIndexes.stream().anyMatch(existingIndex -> existingIndex.getLabel().equals(index.getLabel())
+                && existingIndex.getProperties().equals(index.getProperties())
+                && (existingIndex.isUnique() || !index.isUnique()));
+    }
+
+    private void create(SchemaIndex index) {
+
+        String properties = index.getProperties().stream()
+                .map(property -> "node.`" + property + "`")
+                .collect(Collectors.joining(", "));
+
+        if (!index.isUnique()) {
+
+            execute(String.format(CREATE_INDEX_QUERY, index.getLabel(), properties));
+
+            return;
+        }
+
+        try {
+            execute(String.format(CREATE_CONSTRAINT_QUERY, index.getLabel(), properties));
+
+        } catch (RuntimeException exception) {
+
+            execute(String.format(LEGACY_CREATE_CONSTRAINT_QUERY, index.getLabel(), properties));
+        }
+    }
+
+    // Failed indexes are left out, as they do not serve any lookup
+    private List<SchemaIndex> findExistingIndexes() {
+
+        Iterable<Map<String, Object>> rows;
+
+        try {
+            rows = query(SHOW_INDEXES_QUERY);
+
+        } catch (RuntimeException exception) {
+
+            rows = query(LEGACY_SHOW_INDEXES_QUERY);
+        }
+
+        List<SchemaIndex> existingIndexes = new ArrayList<>();
+
+        for (Map<String, Object> row : rows) {
+
+            List<String> labels = toStrings(row.get("labelsOrTypes"));
+
+            if (labels.size() != 1 || FAILED_INDEX.equals(row.get("state"))) {
+                continue;
+            }
+
+            // Servers since 5.0 name the backing constraint instead of the uniqueness
+            boolean isUnique = UNIQUE_INDEX.equals(row.get("uniqueness")) || row.get("owningConstraint") != null;
+
+            existingIndexes.add(new SchemaIndex(labels.get(0), toStrings(row.get("properties")), isUnique));
+        }
+
+        return existingIndexes;
+    }
+
+    private Iterable<Map<String, Object>> query(String query) {
+
+        return transactionTemplate.execute(status -> session.query(query, Map.of()).queryResults());
+    }
+
+    private void execute(String query) {
+
+        transactionTemplate.execute(status -> session.query(query, Map.of()));
+    }
+
+    private static List<SchemaIndex> findDeclaredIndexes(Collection<ClassInfo> entities) {
+
+        List<SchemaIndex> declaredIndexes = new ArrayList<>(IMPORT_INDEXES);
+
+        for (ClassInfo entity : entities) {
+
+            if (entity.isRelationshipEntity() || entity.isInterface()) {
+                continue;
+            }
+
+            Class<?> entityClass = entity.getUnderlyingClass();
+            String label = entity.neo4jName();
+
+            for (Field field : entityClass.getDeclaredFields()) {
+
+                Index index = field.getAnnotation(Index.class);
+
+                if (index != null) {
+                    declaredIndexes.add(new SchemaIndex(label, List.of(field.getName()), index.unique()));
+                }
+            }
+
+            for (CompositeIndex compositeIndex : entityClass.getAnnotationsByType(CompositeIndex.class)) {
+
+                String[] properties = compositeIndex.value().length > 0 ? compositeIndex.value()
+                        : compositeIndex.properties();
+
+                // A unique composite index is a node key, which only the enterprise edition supports
+                declaredIndexes.add(new SchemaIndex(label, Arrays.asList(properties), compositeIndex.unique()));
+            }
+        }
+
+        return declaredIndexes;
+    }
+
+    private static List<String> toStrings(Object values) {
+
+        if (values instanceof Object[]) {
+            return Arrays.stream((Object[]) values).map(String::valueOf).collect(Collectors.toList());
+        }
+
+        if (values instanceof Collection) {
+            return ((Collection<?>) values).stream().map(String::valueOf).collect(Collectors.toList());
+        }
+
+        return List.of();
+    }
+}
@@ -0,0 +1,32 @@
+package com.NowakArtur97.GlobalTerrorismAPI.schema;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reports WARNING when any declared index is missing. Lookups still work without them, only slower, so the status
+ * is ordered above UP but keeps the instance serving.
+ */
+@Component
+@RequiredArgsConstructor
+class SchemaHealthIndicator implements HealthIndicator {
+
+    private final static Status WARNING = new Status("WARNING", "Declared indexes are missing");
+
+    private final SchemaBootstrapper schemaBootstrapper;
+
+    @Override
+    public Health health() {
+
+        List<String> missingIndexes = schemaBootstrapper.findMissingIndexes();
+
+        Health.Builder builder = missingIndexes.isEmpty() ? Health.up() : Health.status(WARNING);
+
+        return builder.withDetail("missingIndexes", missingIndexes).build();
+    }
+}
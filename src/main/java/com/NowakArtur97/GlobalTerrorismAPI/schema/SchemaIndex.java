@@ -0,0 +1,21 @@
+package com.NowakArtur97.GlobalTerrorismAPI.schema;
+
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+class SchemaIndex {
+
+    private final String label;
+
+    private final List<String> properties;
+
+    private final boolean isUnique;
+
+    // ":Label(first, second)", prefixed with "UNIQUE " for constraints
+    String describe() {
+
+        return (isUnique ? "UNIQUE " : "") + ":" + label + "(" + String.join(", ", properties) + ")";
+    }
+}
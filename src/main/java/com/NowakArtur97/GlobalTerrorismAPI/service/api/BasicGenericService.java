@@ -1,8 +1,11 @@
 package com.NowakArtur97.GlobalTerrorismAPI.service.api;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.CursorSlice;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 
@@ -10,7 +13,13 @@ public interface BasicGenericService<T extends Node> {
 
     Optional<T> findById(Long id);
 
+    Optional<T> findProjectedById(Long id);
+
     Page<T> findAll(Pageable pageable);
 
+    Slice<T> findAllWithoutCount(Pageable pageable);
+
+    CursorSlice<T> findAllAfter(PageCursor after, Pageable pageable);
+
     T save(T node);
 }
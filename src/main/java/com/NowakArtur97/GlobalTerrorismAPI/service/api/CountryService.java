@@ -2,11 +2,15 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.api;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CountryService extends BasicGenericService<CountryNode> {
 
     Optional<CountryNode> findByName(String name);
 
+    List<CountryNode> findAllByNameIn(Collection<String> names);
+
     boolean existsByName(String name);
 }
@@ -3,15 +3,23 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.api;
 import com.NowakArtur97.GlobalTerrorismAPI.dto.DTONode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface GenericService<T extends Node, D extends DTONode> extends BasicGenericService<T> {
 
     Optional<T> findById(Long id, int depth);
 
+    Optional<T> findWithRelationshipsById(Long id);
+
     T saveNew(D dto);
 
+    List<T> saveAllNew(List<D> dtos);
+
     T update(T node, D dto);
 
+    // Writes only the properties of the node, its relationships are left as they are
+    T saveProperties(T node);
+
     Optional<T> delete(Long id);
 }
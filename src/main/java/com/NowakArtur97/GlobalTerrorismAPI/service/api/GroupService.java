@@ -2,12 +2,17 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.api;
 
 import com.NowakArtur97.GlobalTerrorismAPI.dto.EventDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.dto.GroupDTO;
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Optional;
 
 public interface GroupService extends GenericService<GroupNode, GroupDTO> {
 
+    Optional<Page<EventNode>> findAllEventsByGroupId(Long id, Pageable pageable);
+
     Optional<GroupNode> addEventToGroup(Long id, EventDTO eventDTO);
 
     Optional<GroupNode> deleteAllGroupEvents(Long id);
@@ -3,8 +3,11 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.BaseRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.BasicGenericService;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.CursorSlice;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageCursor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +29,13 @@ abstract class BasicGenericServiceImpl<T extends Node> implements BasicGenericSe
         return id != null ? repository.findById(id) : Optional.empty();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<T> findProjectedById(Long id) {
+
+        return id != null ? repository.findProjectedById(id) : Optional.empty();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<T> findAll(Pageable pageable) {
@@ -34,6 +44,21 @@ abstract class BasicGenericServiceImpl<T extends Node> implements BasicGenericSe
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Slice<T> findAllWithoutCount(Pageable pageable) {
+
+        return repository.findAllWithoutCount(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorSlice<T> findAllAfter(PageCursor after, Pageable pageable) {
+
+        return repository.findAllAfter(after, pageable);
+    }
+
+    @Override
+    @Transactional
     public T save(T node) {
 
         return repository.save(node);
@@ -6,28 +6,35 @@ import com.NowakArtur97.GlobalTerrorismAPI.mapper.ObjectMapper;
 import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.CityRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CityService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.ProvinceService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Service
 class CityServiceImpl extends GenericServiceImpl<CityNode, CityDTO> implements CityService {
 
-    private final int DEFAULT_DEPTH_FOR_CITY_NODE = 2;
+    private final int DEFAULT_DEPTH_FOR_CITY_NODE = LocationCache.CITY_DEPTH;
 
     private final CityRepository repository;
 
     private final ProvinceService provinceService;
 
-    CityServiceImpl(CityRepository repository, ObjectMapper objectMapper, ProvinceService provinceService) {
+    private final LocationCache locationCache;
+
+    CityServiceImpl(CityRepository repository, ObjectMapper objectMapper, ProvinceService provinceService,
+                    LocationCache locationCache) {
         super(repository, objectMapper);
         this.repository = repository;
         this.provinceService = provinceService;
+        this.locationCache = locationCache;
     }
 
     @Override
+    @Transactional
     public CityNode save(CityNode cityNode) {
 
         ProvinceNode provinceNode = cityNode.getProvince();
@@ -41,10 +48,11 @@ class CityServiceImpl extends GenericServiceImpl<CityNode, CityDTO> implements C
             cityNode.setProvince(provinceService.save(cityNode.getProvince()));
         }
 
-        return repository.save(cityNode);
+        return repository.saveLinkingById(cityNode);
     }
 
     @Override
+    @Transactional
     public CityNode saveNew(CityDTO cityDTO) {
 
         CityNode cityNode = objectMapper.map(cityDTO, CityNode.class);
@@ -60,13 +68,15 @@ class CityServiceImpl extends GenericServiceImpl<CityNode, CityDTO> implements C
             cityNode.setProvince(provinceService.saveNew(cityDTO.getProvince()));
         }
 
-        return repository.save(cityNode);
+        return repository.saveLinkingById(cityNode);
     }
 
     @Override
+    @Transactional
     public CityNode update(CityNode cityNode, CityDTO cityDTO) {
 
         Long id = cityNode.getId();
+        Long version = cityNode.getVersion();
 
         ProvinceDTO provinceDTO = cityDTO.getProvince();
 
@@ -84,14 +94,16 @@ class CityServiceImpl extends GenericServiceImpl<CityNode, CityDTO> implements C
         cityNode = objectMapper.map(cityDTO, CityNode.class);
 
         cityNode.setId(id);
+        cityNode.setVersion(version);
         cityNode.setProvince(updatedProvince);
 
-        return repository.save(cityNode);
+        return repository.saveLinkingById(cityNode);
     }
 
     @Override
     public Optional<CityNode> findByNameAndLatitudeAndLongitude(String name, Double latitude, Double longitude) {
 
-        return repository.findByNameAndLatitudeAndLongitude(name, latitude, longitude, DEFAULT_DEPTH_FOR_CITY_NODE);
+        return locationCache.findCity(name, latitude, longitude, () -> repository
+                .findByNameAndLatitudeAndLongitude(name, latitude, longitude, DEFAULT_DEPTH_FOR_CITY_NODE));
     }
 }
@@ -2,9 +2,12 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.CountryRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CountryService;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -12,20 +15,29 @@ class CountryServiceImpl extends BasicGenericServiceImpl<CountryNode> implements
 
     private final CountryRepository repository;
 
-    CountryServiceImpl(CountryRepository repository) {
+    private final LocationCache locationCache;
+
+    CountryServiceImpl(CountryRepository repository, LocationCache locationCache) {
         super(repository);
         this.repository = repository;
+        this.locationCache = locationCache;
     }
 
     @Override
     public Optional<CountryNode> findByName(String name) {
 
-        return repository.findByName(name);
+        return locationCache.findCountry(name, () -> repository.findByName(name));
+    }
+
+    @Override
+    public List<CountryNode> findAllByNameIn(Collection<String> names) {
+
+        return locationCache.findAllCountries(names, repository::findAllByNameIn);
     }
 
     @Override
     public boolean existsByName(String name) {
 
-        return repository.existsByName(name);
+        return locationCache.containsCountry(name) || repository.existsByName(name);
     }
 }
@@ -2,35 +2,54 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 
 import com.NowakArtur97.GlobalTerrorismAPI.dto.CityDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.dto.EventDTO;
+import com.NowakArtur97.GlobalTerrorismAPI.dto.ProvinceDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.dto.TargetDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.exception.ResourceNotFoundException;
 import com.NowakArtur97.GlobalTerrorismAPI.mapper.ObjectMapper;
 import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
-import com.NowakArtur97.GlobalTerrorismAPI.repository.BaseRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.EventRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CityService;
+import com.NowakArtur97.GlobalTerrorismAPI.service.api.CountryService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.EventService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 class EventServiceImpl extends GenericServiceImpl<EventNode, EventDTO> implements EventService {
 
+    private final EventRepository repository;
+
     private final GenericService<TargetNode, TargetDTO> targetService;
 
     private final CityService cityService;
 
-    EventServiceImpl(BaseRepository<EventNode> repository, ObjectMapper objectMapper,
-                     GenericService<TargetNode, TargetDTO> targetService, CityService cityService) {
+    private final CountryService countryService;
+
+    EventServiceImpl(EventRepository repository, ObjectMapper objectMapper,
+                     GenericService<TargetNode, TargetDTO> targetService, CityService cityService,
+                     CountryService countryService) {
         super(repository, objectMapper);
+        this.repository = repository;
         this.targetService = targetService;
         this.cityService = cityService;
+        this.countryService = countryService;
     }
 
     @Override
+    @Transactional
     public EventNode save(EventNode eventNode) {
 
         eventNode.setTarget(targetService.save(eventNode.getTarget()));
@@ -46,10 +65,11 @@ class EventServiceImpl extends GenericServiceImpl<EventNode, EventDTO> implement
             eventNode.setCity(cityService.save(cityNode));
         }
 
-        return repository.save(eventNode);
+        return repository.saveLinkingById(eventNode);
     }
 
     @Override
+    @Transactional
     public EventNode saveNew(EventDTO eventDTO) {
 
         EventNode eventNode = objectMapper.map(eventDTO, EventNode.class);
@@ -67,13 +87,67 @@ class EventServiceImpl extends GenericServiceImpl<EventNode, EventDTO> implement
             eventNode.setCity(cityService.saveNew(cityDTO));
         }
 
-        return repository.save(eventNode);
+        return repository.saveLinkingById(eventNode);
+    }
+
+    // All events are created in one statement, instead of looking up and saving the nodes of each event separately
+    @Override
+    @Transactional
+    public List<EventNode> saveAllNew(List<EventDTO> eventDTOs) {
+
+        if (eventDTOs.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<String> countryNames = new HashSet<>();
+
+        for (EventDTO eventDTO : eventDTOs) {
+
+            countryNames.add(eventDTO.getTarget().getCountryOfOrigin().getName());
+            countryNames.add(eventDTO.getCity().getProvince().getCountry().getName());
+        }
+
+        Map<String, CountryNode> countriesByName = new HashMap<>();
+
+        for (CountryNode countryNode : countryService.findAllByNameIn(countryNames)) {
+            countriesByName.putIfAbsent(countryNode.getName(), countryNode);
+        }
+
+        if (!countriesByName.keySet().containsAll(countryNames)) {
+            throw new ResourceNotFoundException("CountryModel");
+        }
+
+        List<EventNode> eventNodes = new ArrayList<>(eventDTOs.size());
+
+        for (EventDTO eventDTO : eventDTOs) {
+
+            EventNode eventNode = objectMapper.map(eventDTO, EventNode.class);
+
+            TargetDTO targetDTO = eventDTO.getTarget();
+            CityDTO cityDTO = eventDTO.getCity();
+            ProvinceDTO provinceDTO = cityDTO.getProvince();
+
+            eventNode.setTarget(new TargetNode(targetDTO.getTarget(),
+                    countriesByName.get(targetDTO.getCountryOfOrigin().getName())));
+            eventNode.setCity(new CityNode(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude(),
+                    new ProvinceNode(provinceDTO.getName(), countriesByName.get(provinceDTO.getCountry().getName()))));
+
+            eventNodes.add(eventNode);
+        }
+
+        List<Long> eventIds = repository.createAll(eventNodes);
+
+        return new ArrayList<>(repository.findAllProjectedById(eventIds));
     }
 
     @Override
+    @Transactional
     public EventNode update(EventNode eventNode, EventDTO eventDTO) {
 
         Long id = eventNode.getId();
+        Long version = eventNode.getVersion();
+        Long eventId = eventNode.getEventId();
+        String sourceHash = eventNode.getSourceHash();
 
         TargetNode updatedTarget = targetService.update(eventNode.getTarget(), eventDTO.getTarget());
 
@@ -82,12 +156,17 @@ class EventServiceImpl extends GenericServiceImpl<EventNode, EventDTO> implement
         setEventCityForUpdate(eventNode, eventDTO);
 
         eventNode.setId(id);
+        eventNode.setVersion(version);
+        // Keeps the link to the imported row, otherwise the next incremental import would add the event again
+        eventNode.setEventId(eventId);
+        eventNode.setSourceHash(sourceHash);
         eventNode.setTarget(updatedTarget);
 
-        return repository.save(eventNode);
+        return repository.saveLinkingById(eventNode);
     }
 
     @Override
+    @Transactional
     public Optional<EventNode> delete(Long id) {
 
         Optional<EventNode> eventNodeOptional = findById(id);
@@ -107,6 +186,7 @@ class EventServiceImpl extends GenericServiceImpl<EventNode, EventDTO> implement
     }
 
     @Override
+    @Transactional
     public Optional<EventNode> deleteEventTarget(Long id) {
 
         Optional<EventNode> eventNodeOptional = findById(id);
@@ -123,6 +203,7 @@ class EventServiceImpl extends GenericServiceImpl<EventNode, EventDTO> implement
     }
 
     @Override
+    @Transactional
     public EventNode addOrUpdateEventTarget(EventNode eventNode, TargetDTO targetDTO) {
 
         TargetNode targetNode;
@@ -138,7 +219,7 @@ class EventServiceImpl extends GenericServiceImpl<EventNode, EventDTO> implement
 
         eventNode.setTarget(targetNode);
 
-        return repository.save(eventNode);
+        return repository.saveLinkingById(eventNode);
     }
 
     private void setEventCityForUpdate(EventNode eventNode, EventDTO eventDTO) {
@@ -9,7 +9,9 @@ import org.springframework.core.GenericTypeResolver;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 abstract class GenericServiceImpl<T extends Node, D extends DTONode> extends BasicGenericServiceImpl<T>
@@ -33,6 +35,14 @@ abstract class GenericServiceImpl<T extends Node, D extends DTONode> extends Bas
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<T> findWithRelationshipsById(Long id) {
+
+        return id != null ? repository.findWithRelationshipsById(id) : Optional.empty();
+    }
+
+    @Override
+    @Transactional
     public T saveNew(D dto) {
 
         T node = objectMapper.map(dto, typeParameterClass);
@@ -41,18 +51,36 @@ abstract class GenericServiceImpl<T extends Node, D extends DTONode> extends Bas
     }
 
     @Override
+    @Transactional
+    public List<T> saveAllNew(List<D> dtos) {
+
+        return dtos.stream().map(this::saveNew).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
     public T update(T node, D dto) {
 
         Long id = node.getId();
+        Long version = node.getVersion();
 
         node = objectMapper.map(dto, typeParameterClass);
 
         node.setId(id);
+        node.setVersion(version);
 
         return repository.save(node);
     }
 
     @Override
+    @Transactional
+    public T saveProperties(T node) {
+
+        return repository.save(node, 0);
+    }
+
+    @Override
+    @Transactional
     public Optional<T> delete(Long id) {
 
         Optional<T> nodeOptional = findById(id);
@@ -1,31 +1,58 @@
 package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 
+import com.NowakArtur97.GlobalTerrorismAPI.dto.CityDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.dto.EventDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.dto.GroupDTO;
+import com.NowakArtur97.GlobalTerrorismAPI.dto.ProvinceDTO;
+import com.NowakArtur97.GlobalTerrorismAPI.dto.TargetDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.mapper.ObjectMapper;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.BaseRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.EventRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GroupService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 class GroupServiceImpl extends GenericServiceImpl<GroupNode, GroupDTO> implements GroupService {
 
+    // Events are created, linked and deleted in Cypher, so the group is loaded and saved without them
+    private final static int DEPTH_WITHOUT_EVENTS = 0;
+
     private final GenericService<EventNode, EventDTO> eventService;
 
+    private final EventRepository eventRepository;
+
     GroupServiceImpl(BaseRepository<GroupNode> repository, ObjectMapper objectMapper,
-                     GenericService<EventNode, EventDTO> eventService) {
+                     GenericService<EventNode, EventDTO> eventService, EventRepository eventRepository) {
         super(repository, objectMapper);
         this.eventService = eventService;
+        this.eventRepository = eventRepository;
     }
 
     @Override
+    @Transactional
     public GroupNode save(GroupNode groupNode) {
 
         groupNode.getEventsCaused().forEach(eventService::save);
@@ -34,38 +61,107 @@ class GroupServiceImpl extends GenericServiceImpl<GroupNode, GroupDTO> implement
     }
 
     @Override
+    @Transactional
     public GroupNode saveNew(GroupDTO groupDTO) {
 
-        GroupNode groupNode = objectMapper.map(groupDTO, GroupNode.class);
+        GroupNode groupNode = repository.save(objectMapper.map(groupDTO, GroupNode.class), DEPTH_WITHOUT_EVENTS);
 
-        List<EventNode> eventsCaused = saveNewEvents(groupDTO);
+        List<EventNode> eventsCaused = eventService.saveAllNew(groupDTO.getEventsCaused());
 
+        eventRepository.addAllToGroup(groupNode.getId(), idsOf(eventsCaused));
+
+        // The events are read back only to be returned, the group is never saved with them
         groupNode.setEventsCaused(eventsCaused);
 
-        return repository.save(groupNode);
+        return groupNode;
     }
 
     @Override
+    @Transactional
     public GroupNode update(GroupNode groupNode, GroupDTO groupDTO) {
 
-        Long id = groupNode.getId();
+        Map<Long, EventNode> existingEventsById = new LinkedHashMap<>();
+
+        for (EventNode eventNode : groupNode.getEventsCaused()) {
+            existingEventsById.put(eventNode.getId(), eventNode);
+        }
+
+        // Events with the id of an existing one are updated in place if they changed, null marks unmatched positions
+        List<EventNode> eventsCaused = new ArrayList<>(groupDTO.getEventsCaused().size());
+
+        for (EventDTO eventDTO : groupDTO.getEventsCaused()) {
+
+            EventNode existingEvent = eventDTO.getId() != null ? existingEventsById.remove(eventDTO.getId()) : null;
+
+            if (existingEvent == null) {
+                eventsCaused.add(null);
+            } else if (contentOf(existingEvent).equals(contentOf(eventDTO))) {
+                eventsCaused.add(existingEvent);
+            } else {
+                eventsCaused.add(eventService.update(existingEvent, eventDTO));
+            }
+        }
+
+        Map<List<Object>, Deque<EventNode>> existingEventsByContent = new HashMap<>();
+
+        for (EventNode eventNode : existingEventsById.values()) {
+            existingEventsByContent.computeIfAbsent(contentOf(eventNode), content -> new ArrayDeque<>()).add(eventNode);
+        }
+
+        // Remaining events equal to an existing one are kept as they are, the others are new
+        List<EventDTO> newEvents = new ArrayList<>();
+
+        for (int index = 0; index < eventsCaused.size(); index++) {
+
+            if (eventsCaused.get(index) != null) {
+                continue;
+            }
 
-        deleteEvents(groupNode);
+            EventDTO eventDTO = groupDTO.getEventsCaused().get(index);
 
-        List<EventNode> eventsCaused = saveNewEvents(groupDTO);
+            Deque<EventNode> equalEvents = existingEventsByContent.get(contentOf(eventDTO));
+
+            if (equalEvents != null && !equalEvents.isEmpty()) {
+                eventsCaused.set(index, equalEvents.poll());
+            } else {
+                newEvents.add(eventDTO);
+            }
+        }
+
+        List<Long> removedEventIds = existingEventsByContent.values().stream()
+                .flatMap(Collection::stream)
+                .map(EventNode::getId)
+                .collect(Collectors.toList());
+
+        if (!removedEventIds.isEmpty()) {
+            eventRepository.deleteAllWithTargets(removedEventIds);
+        }
 
-        groupNode = objectMapper.map(groupDTO, GroupNode.class);
+        groupNode.setName(groupDTO.getName());
+
+        groupNode = repository.save(groupNode, DEPTH_WITHOUT_EVENTS);
+
+        if (!newEvents.isEmpty()) {
+
+            List<EventNode> savedEvents = eventService.saveAllNew(newEvents);
+
+            eventRepository.addAllToGroup(groupNode.getId(), idsOf(savedEvents));
+
+            Iterator<EventNode> savedEventsInOrder = savedEvents.iterator();
+
+            eventsCaused.replaceAll(eventNode -> eventNode != null ? eventNode : savedEventsInOrder.next());
+        }
 
-        groupNode.setId(id);
         groupNode.setEventsCaused(eventsCaused);
 
-        return repository.save(groupNode);
+        return groupNode;
     }
 
     @Override
+    @Transactional
     public Optional<GroupNode> delete(Long id) {
 
-        Optional<GroupNode> groupNodeOptional = findById(id);
+        Optional<GroupNode> groupNodeOptional = findById(id, DEPTH_WITHOUT_EVENTS);
 
         if (groupNodeOptional.isPresent()) {
 
@@ -80,6 +176,18 @@ class GroupServiceImpl extends GenericServiceImpl<GroupNode, GroupDTO> implement
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Optional<Page<EventNode>> findAllEventsByGroupId(Long id, Pageable pageable) {
+
+        if (id == null || !repository.existsById(id)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(eventRepository.findAllByGroupId(id, pageable));
+    }
+
+    @Override
+    @Transactional
     public Optional<GroupNode> addEventToGroup(Long id, EventDTO eventDTO) {
 
         Optional<GroupNode> groupNodeOptional = findById(id);
@@ -99,24 +207,57 @@ class GroupServiceImpl extends GenericServiceImpl<GroupNode, GroupDTO> implement
     }
 
     @Override
+    @Transactional
     public Optional<GroupNode> deleteAllGroupEvents(Long id) {
 
-        Optional<GroupNode> groupNodeOptional = findById(id);
+        Optional<GroupNode> groupNodeOptional = findById(id, DEPTH_WITHOUT_EVENTS);
 
         groupNodeOptional.ifPresent(this::deleteEvents);
 
         return groupNodeOptional;
     }
 
-    private List<EventNode> saveNewEvents(GroupDTO groupDTO) {
+    // Events without the id of an existing one in the request are matched by everything they consist of
+    private static List<Object> contentOf(EventNode eventNode) {
+
+        TargetNode targetNode = eventNode.getTarget();
+        CountryNode targetCountryNode = targetNode != null ? targetNode.getCountryOfOrigin() : null;
+        CityNode cityNode = eventNode.getCity();
+        ProvinceNode provinceNode = cityNode != null ? cityNode.getProvince() : null;
+        CountryNode provinceCountryNode = provinceNode != null ? provinceNode.getCountry() : null;
+
+        return Arrays.asList(eventNode.getSummary(), eventNode.getMotive(),
+                eventNode.getDate() != null ? eventNode.getDate().getTime() : null,
+                eventNode.getIsPartOfMultipleIncidents(), eventNode.getIsSuccessful(), eventNode.getIsSuicidal(),
+                targetNode != null ? targetNode.getTarget() : null,
+                targetCountryNode != null ? targetCountryNode.getName() : null,
+                cityNode != null ? cityNode.getName() : null, cityNode != null ? cityNode.getLatitude() : null,
+                cityNode != null ? cityNode.getLongitude() : null,
+                provinceNode != null ? provinceNode.getName() : null,
+                provinceCountryNode != null ? provinceCountryNode.getName() : null);
+    }
 
-        return groupDTO.getEventsCaused().stream()
-                .map(eventService::saveNew)
-                .collect(Collectors.toList());
+    private static List<Object> contentOf(EventDTO eventDTO) {
+
+        TargetDTO targetDTO = eventDTO.getTarget();
+        CityDTO cityDTO = eventDTO.getCity();
+        ProvinceDTO provinceDTO = cityDTO.getProvince();
+
+        return Arrays.asList(eventDTO.getSummary(), eventDTO.getMotive(),
+                eventDTO.getDate() != null ? eventDTO.getDate().getTime() : null,
+                eventDTO.getIsPartOfMultipleIncidents(), eventDTO.getIsSuccessful(), eventDTO.getIsSuicidal(),
+                targetDTO.getTarget(), targetDTO.getCountryOfOrigin().getName(),
+                cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude(),
+                provinceDTO.getName(), provinceDTO.getCountry().getName());
+    }
+
+    private static List<Long> idsOf(List<EventNode> eventNodes) {
+
+        return eventNodes.stream().map(EventNode::getId).collect(Collectors.toList());
     }
 
     private void deleteEvents(GroupNode groupNode) {
 
-        groupNode.getEventsCaused().forEach(event -> eventService.delete(event.getId()));
+        eventRepository.deleteAllByGroupId(groupNode.getId());
     }
 }
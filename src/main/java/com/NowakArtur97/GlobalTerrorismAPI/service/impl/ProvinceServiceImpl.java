@@ -4,38 +4,46 @@ import com.NowakArtur97.GlobalTerrorismAPI.dto.ProvinceDTO;
 import com.NowakArtur97.GlobalTerrorismAPI.exception.ResourceNotFoundException;
 import com.NowakArtur97.GlobalTerrorismAPI.mapper.ObjectMapper;
 import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.ProvinceRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CountryService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.ProvinceService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Service
 class ProvinceServiceImpl extends GenericServiceImpl<ProvinceNode, ProvinceDTO> implements ProvinceService {
 
-    private final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = 2;
+    private final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = LocationCache.PROVINCE_DEPTH;
 
     private final ProvinceRepository provinceRepository;
 
     private final CountryService countryService;
 
-    ProvinceServiceImpl(ProvinceRepository provinceRepository, ObjectMapper objectMapper, CountryService countryService) {
+    private final LocationCache locationCache;
+
+    ProvinceServiceImpl(ProvinceRepository provinceRepository, ObjectMapper objectMapper, CountryService countryService,
+                        LocationCache locationCache) {
         super(provinceRepository, objectMapper);
         this.countryService = countryService;
         this.provinceRepository = provinceRepository;
+        this.locationCache = locationCache;
     }
 
     @Override
+    @Transactional
     public ProvinceNode save(ProvinceNode provinceNode) {
 
         provinceNode.setCountry(countryService.findByName(provinceNode.getCountry().getName())
                 .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
 
-        return provinceRepository.save(provinceNode);
+        return provinceRepository.saveLinkingById(provinceNode);
     }
 
     @Override
+    @Transactional
     public ProvinceNode saveNew(ProvinceDTO provinceDTO) {
 
         ProvinceNode provinceNode = objectMapper.map(provinceDTO, ProvinceNode.class);
@@ -43,27 +51,31 @@ class ProvinceServiceImpl extends GenericServiceImpl<ProvinceNode, ProvinceDTO>
         provinceNode.setCountry(countryService.findByName(provinceDTO.getCountry().getName())
                 .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
 
-        return provinceRepository.save(provinceNode);
+        return provinceRepository.saveLinkingById(provinceNode);
     }
 
     @Override
+    @Transactional
     public ProvinceNode update(ProvinceNode provinceNode, ProvinceDTO provinceDTO) {
 
         Long id = provinceNode.getId();
+        Long version = provinceNode.getVersion();
 
         provinceNode = objectMapper.map(provinceDTO, ProvinceNode.class);
 
         provinceNode.setId(id);
+        provinceNode.setVersion(version);
 
         provinceNode.setCountry(countryService.findByName(provinceDTO.getCountry().getName())
                 .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
 
-        return provinceRepository.save(provinceNode);
+        return provinceRepository.saveLinkingById(provinceNode);
     }
 
     @Override
     public Optional<ProvinceNode> findByNameAndCountryName(String provinceName, String countryName) {
 
-        return provinceRepository.findByNameAndCountry_Name(provinceName, countryName, DEFAULT_DEPTH_FOR_PROVINCE_NODE);
+        return locationCache.findProvince(provinceName, countryName, () -> provinceRepository
+                .findByNameAndCountry_Name(provinceName, countryName, DEFAULT_DEPTH_FOR_PROVINCE_NODE));
     }
 }
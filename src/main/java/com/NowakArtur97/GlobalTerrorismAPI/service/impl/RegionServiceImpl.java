@@ -1,6 +1,7 @@
 package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.RegionRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.RegionService;
 import org.springframework.stereotype.Service;
@@ -12,20 +13,23 @@ class RegionServiceImpl extends BasicGenericServiceImpl<RegionNode> implements R
 
     private final RegionRepository repository;
 
-    RegionServiceImpl(RegionRepository repository) {
+    private final LocationCache locationCache;
+
+    RegionServiceImpl(RegionRepository repository, LocationCache locationCache) {
         super(repository);
         this.repository = repository;
+        this.locationCache = locationCache;
     }
 
     @Override
     public Optional<RegionNode> findByName(String name) {
 
-        return repository.findByName(name);
+        return locationCache.findRegion(name, () -> repository.findByName(name));
     }
 
     @Override
     public boolean existsByName(String name) {
 
-        return repository.existsByName(name);
+        return locationCache.containsRegion(name) || repository.existsByName(name);
     }
 }
@@ -8,6 +8,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.repository.BaseRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CountryService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.TargetService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 class TargetServiceImpl extends GenericServiceImpl<TargetNode, TargetDTO> implements TargetService {
@@ -20,15 +21,17 @@ class TargetServiceImpl extends GenericServiceImpl<TargetNode, TargetDTO> implem
     }
 
     @Override
+    @Transactional
     public TargetNode save(TargetNode targetNode) {
 
         targetNode.setCountryOfOrigin(countryService.findByName(targetNode.getCountryOfOrigin().getName())
                         .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
 
-        return repository.save(targetNode);
+        return repository.saveLinkingById(targetNode);
     }
 
     @Override
+    @Transactional
     public TargetNode saveNew(TargetDTO targetDTO) {
 
         TargetNode targetNode = objectMapper.map(targetDTO, TargetNode.class);
@@ -36,22 +39,25 @@ class TargetServiceImpl extends GenericServiceImpl<TargetNode, TargetDTO> implem
         targetNode.setCountryOfOrigin(countryService.findByName(targetDTO.getCountryOfOrigin().getName())
                 .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
 
-        return repository.save(targetNode);
+        return repository.saveLinkingById(targetNode);
     }
 
     @Override
+    @Transactional
     public TargetNode update(TargetNode targetNode, TargetDTO targetDTO) {
 
         Long id = targetNode.getId();
+        Long version = targetNode.getVersion();
 
         targetNode = objectMapper.map(targetDTO, TargetNode.class);
 
         targetNode.setId(id);
+        targetNode.setVersion(version);
 
         targetNode.setCountryOfOrigin(countryService.findByName(targetDTO.getCountryOfOrigin().getName())
                 .orElseThrow(() -> new ResourceNotFoundException("CountryModel")));
 
-        return repository.save(targetNode);
+        return repository.saveLinkingById(targetNode);
     }
 
     @Override
@@ -0,0 +1,175 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.collection;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map with primitive long keys and values. Avoids the boxed entries of a HashMap<Long, Long>,
+ * which matters when hundreds of thousands of ids are kept in memory for the duration of an import.
+ */
+public final class LongLongHashMap {
+
+    private final static long EMPTY_KEY = 0L;
+
+    private final static int MIN_CAPACITY = 16;
+
+    private long[] keys;
+
+    private long[] values;
+
+    private int mask;
+
+    private int size;
+
+    private boolean hasEmptyKey;
+
+    private long emptyKeyValue;
+
+    public LongLongHashMap() {
+
+        this(MIN_CAPACITY);
+    }
+
+    public LongLongHashMap(int expectedSize) {
+
+        allocate(capacityFor(expectedSize));
+    }
+
+    public long get(long key, long missingValue) {
+
+        if (key == EMPTY_KEY) {
+            return hasEmptyKey ? emptyKeyValue : missingValue;
+        }
+
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+
+            long slotKey = keys[slot];
+
+            if (slotKey == key) {
+                return values[slot];
+            }
+
+            if (slotKey == EMPTY_KEY) {
+                return missingValue;
+            }
+        }
+    }
+
+    public boolean containsKey(long key) {
+
+        if (key == EMPTY_KEY) {
+            return hasEmptyKey;
+        }
+
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+
+            long slotKey = keys[slot];
+
+            if (slotKey == key) {
+                return true;
+            }
+
+            if (slotKey == EMPTY_KEY) {
+                return false;
+            }
+        }
+    }
+
+    public void put(long key, long value) {
+
+        if (key == EMPTY_KEY) {
+
+            if (!hasEmptyKey) {
+                size++;
+            }
+
+            hasEmptyKey = true;
+            emptyKeyValue = value;
+
+            return;
+        }
+
+        for (int slot = slotOf(key); ; slot = (slot + 1) & mask) {
+
+            long slotKey = keys[slot];
+
+            if (slotKey == key) {
+
+                values[slot] = value;
+
+                return;
+            }
+
+            if (slotKey == EMPTY_KEY) {
+
+                keys[slot] = key;
+                values[slot] = value;
+
+                if (++size > keys.length / 2) {
+                    rehash(keys.length * 2);
+                }
+
+                return;
+            }
+        }
+    }
+
+    public int size() {
+
+        return size;
+    }
+
+    public void clear() {
+
+        Arrays.fill(keys, EMPTY_KEY);
+
+        size = 0;
+        hasEmptyKey = false;
+    }
+
+    private void rehash(int newCapacity) {
+
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+
+        allocate(newCapacity);
+
+        size = hasEmptyKey ? 1 : 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+
+            if (oldKeys[i] != EMPTY_KEY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int slotOf(long key) {
+
+        // Murmur3 finalizer, spreads sequential ids and hashes alike over the table
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+
+        return (int) key & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+
+        int capacity = MIN_CAPACITY;
+
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+}
@@ -0,0 +1,23 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.page;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    // Null on the last slice
+    private final PageCursor nextCursor;
+
+    public CursorSlice(List<T> content, Pageable pageable, PageCursor nextCursor) {
+
+        super(content, pageable, nextCursor != null);
+
+        this.nextCursor = nextCursor;
+    }
+}
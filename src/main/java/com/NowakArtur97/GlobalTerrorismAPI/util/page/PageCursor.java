@@ -0,0 +1,84 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.page;
+
+import com.NowakArtur97.GlobalTerrorismAPI.exception.InvalidPageCursorException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position after the last element of a page, handed to clients as an opaque string. Keyed either on the id of the
+ * node alone or on the date of the event and its id, which breaks ties between events of the same day. The date is
+ * kept as stored in the graph, so that it compares exactly like the property it continues from.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PageCursor {
+
+    public final static String DATE_KEY = "date";
+
+    private final static String ID_KEY = "id";
+
+    private final static String SEPARATOR = ":";
+
+    private final static Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final static Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final String key;
+
+    private final Long id;
+
+    // Null when keyed on id or when the event has no date
+    private final String date;
+
+    public static PageCursor afterId(Long id) {
+
+        return new PageCursor(ID_KEY, id, null);
+    }
+
+    public static PageCursor afterDate(String date, Long id) {
+
+        return new PageCursor(DATE_KEY, id, date);
+    }
+
+    public boolean isKeyedOnDate() {
+
+        return DATE_KEY.equals(key);
+    }
+
+    public String encode() {
+
+        String cursor = isKeyedOnDate()
+                ? DATE_KEY + SEPARATOR + id + SEPARATOR + (date != null ? date : "")
+                : ID_KEY + SEPARATOR + id;
+
+        return ENCODER.encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The date is the last part, as its time and offset contain separators themselves
+    public static PageCursor decode(String cursor) {
+
+        String[] parts;
+
+        try {
+            parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+
+            if (ID_KEY.equals(parts[0]) && parts.length == 2) {
+                return afterId(Long.parseLong(parts[1]));
+            }
+
+            if (DATE_KEY.equals(parts[0]) && parts.length == 3) {
+                return afterDate(parts[2].isEmpty() ? null : parts[2], Long.parseLong(parts[1]));
+            }
+
+        } catch (IllegalArgumentException exception) {
+
+            throw new InvalidPageCursorException(cursor);
+        }
+
+        throw new InvalidPageCursorException(cursor);
+    }
+}
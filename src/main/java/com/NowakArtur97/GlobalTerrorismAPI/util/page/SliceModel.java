@@ -0,0 +1,65 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.page;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedModel;
+
+import java.util.Collection;
+
+/**
+ * Paged model of a page whose total is not known. Its "page" metadata holds only what is known about the returned
+ * page instead of the totals of {@link PagedModel}, which would have to be made up: the size and either the number
+ * of the page or, for a page after a cursor, the cursor of the next one.
+ */
+@EqualsAndHashCode(callSuper = true)
+public class SliceModel<T> extends PagedModel<T> {
+
+    private final SliceMetadata slice;
+
+    public SliceModel(Collection<T> content, SliceMetadata slice, Iterable<Link> links) {
+
+        super(content, null, links);
+
+        this.slice = slice;
+    }
+
+    @Override
+    @JsonIgnore
+    public PageMetadata getMetadata() {
+
+        return null;
+    }
+
+    @JsonProperty("page")
+    public SliceMetadata getSlice() {
+
+        return slice;
+    }
+
+    @Value
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SliceMetadata {
+
+        private final long size;
+
+        // Null for a page after a cursor
+        private final Long number;
+
+        // Encoded cursor of the next page, null for a numbered page and for the last page after a cursor
+        private final String next;
+
+        public static SliceMetadata ofNumber(long size, long number) {
+
+            return new SliceMetadata(size, number, null);
+        }
+
+        public static SliceMetadata ofCursor(long size, PageCursor nextCursor) {
+
+            return new SliceMetadata(size, null, nextCursor != null ? nextCursor.encode() : null);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.patch;
+
+import lombok.Value;
+
+import java.util.Set;
+
+@Value
+public class PatchChanges {
+
+    // Names of the changed fields holding a value of the bean itself
+    private final Set<String> properties;
+
+    // Names of the changed fields holding other beans
+    private final Set<String> relationships;
+
+    public boolean isEmpty() {
+
+        return properties.isEmpty() && relationships.isEmpty();
+    }
+
+    public boolean hasRelationshipChanges() {
+
+        return !relationships.isEmpty();
+    }
+}
@@ -8,4 +8,6 @@ public interface PatchHelper {
 	<T> T patch(JsonPatch jsonPatch, T targetBean, Class<T> beanClass);
 
 	<T> T mergePatch(JsonMergePatch jsonMergePatch, T targetBean, Class<T> beanClass);
+
+	<T> PatchChanges getChanges(T targetBean, T patchedBean);
 }
@@ -4,10 +4,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import javax.json.Json;
 import javax.json.JsonMergePatch;
+import javax.json.JsonObject;
 import javax.json.JsonPatch;
 import javax.json.JsonStructure;
 import javax.json.JsonValue;
+import java.util.HashSet;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
@@ -38,4 +42,54 @@ class PatchHelperImpl implements PatchHelper {
 
         return targetBean;
     }
+
+    // Compares the beans after the patch was applied, so that every kind of patch is reduced to the same changes
+    @Override
+    public <T> PatchChanges getChanges(T targetBean, T patchedBean) {
+
+        JsonStructure target = objectMapper.convertValue(targetBean, JsonStructure.class);
+        JsonStructure patched = objectMapper.convertValue(patchedBean, JsonStructure.class);
+
+        Set<String> properties = new HashSet<>();
+        Set<String> relationships = new HashSet<>();
+
+        for (JsonValue operation : Json.createDiff(target, patched).toJsonArray()) {
+
+            String field = getField(operation.asJsonObject().getString("path"));
+
+            if (field == null || isBean(target, field) || isBean(patched, field)) {
+                relationships.add(field != null ? field : "");
+            } else {
+                properties.add(field);
+            }
+        }
+
+        return new PatchChanges(properties, relationships);
+    }
+
+    // First token of the pointer, null when the whole bean was replaced
+    private static String getField(String path) {
+
+        if (path.isEmpty()) {
+            return null;
+        }
+
+        int end = path.indexOf('/', 1);
+
+        String token = end > 0 ? path.substring(1, end) : path.substring(1);
+
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    private static boolean isBean(JsonStructure bean, String field) {
+
+        if (bean.getValueType() != JsonValue.ValueType.OBJECT) {
+            return true;
+        }
+
+        JsonValue value = ((JsonObject) bean).get(field);
+
+        return value != null && (value.getValueType() == JsonValue.ValueType.OBJECT
+                || value.getValueType() == JsonValue.ValueType.ARRAY);
+    }
 }
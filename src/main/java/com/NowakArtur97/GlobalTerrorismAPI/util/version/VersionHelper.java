@@ -0,0 +1,19 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.version;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import org.springframework.http.HttpHeaders;
+
+public interface VersionHelper {
+
+    // Null if conditional requests are disabled
+    VersionTag getTag(Class<? extends Node> nodeType);
+
+    // Headers of the 304 response if the client already has the resource, null otherwise, id is null for collections
+    HttpHeaders checkNotModified(VersionTag tag, Long id);
+
+    // Node is null for collections
+    HttpHeaders getHeaders(VersionTag tag, Node node);
+
+    // Throws if If-Match is missing but required or does not match the node, node is null if it does not exist
+    void checkMatch(String nodeType, Long id, Node node);
+}
@@ -0,0 +1,246 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.version;
+
+import com.NowakArtur97.GlobalTerrorismAPI.exception.PreconditionFailedException;
+import com.NowakArtur97.GlobalTerrorismAPI.exception.PreconditionRequiredException;
+import com.NowakArtur97.GlobalTerrorismAPI.node.Node;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ConditionalRequestsConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LabelVersions;
+import org.neo4j.ogm.annotation.Relationship;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tells from the versions of the labels alone whether the client already has a resource, so that it does not have to
+ * be read. The tag of a collection is "epoch-period-version": the start of this instance, the number of the current
+ * versionPeriodInSeconds and the sum of the versions of its type and of all types it has relationships with. A single
+ * node is tagged the same way followed by its id and its version.
+ * <p>
+ * A node found by id is answered with 304 when the client has a tag of the same type and id, before the node is read.
+ * Its version is left out when comparing, as it has not changed if none of the label versions did, so neither is it
+ * checked that the node still exists. This only holds for the writes this instance sees: the versions are counted in
+ * memory by the instance since it started, and writes through other instances or in Cypher without the cache evictor
+ * are only seen once the period changes the tag. A period of 0 never changes it. A restart or another instance
+ * behind the load balancer changes the epoch, which costs a full response but is never wrong. Any write to one of
+ * the types changes the tags of all of their nodes.
+ * <p>
+ * If-Match of an update only compares the id and the version of the node, which is read before, so it does not
+ * depend on the instance.
+ */
+@Component
+class VersionHelperImpl implements VersionHelper {
+
+    private final static String WEAK_PREFIX = "W/";
+
+    private final static String ANY_ETAG = "*";
+
+    private final long epoch = System.currentTimeMillis();
+
+    private final Map<Class<?>, Set<Class<?>>> relatedTypesByNodeType = new ConcurrentHashMap<>();
+
+    private final ConditionalRequestsConfigurationProperties conditionalRequestsConfigurationProperties;
+
+    private final LabelVersions labelVersions;
+
+    VersionHelperImpl(ConditionalRequestsConfigurationProperties conditionalRequestsConfigurationProperties,
+                      LabelVersions labelVersions) {
+
+        this.conditionalRequestsConfigurationProperties = conditionalRequestsConfigurationProperties;
+        this.labelVersions = labelVersions;
+    }
+
+    @Override
+    public VersionTag getTag(Class<? extends Node> nodeType) {
+
+        if (!conditionalRequestsConfigurationProperties.isEnabled()) {
+            return null;
+        }
+
+        long periodInMillis = conditionalRequestsConfigurationProperties.getVersionPeriodInSeconds() * 1000L;
+
+        long now = System.currentTimeMillis();
+        long period = periodInMillis > 0 ? now / periodInMillis : 0;
+
+        long version = 0;
+        long lastModified = Math.max(epoch, period * periodInMillis);
+
+        for (Class<?> type : relatedTypesByNodeType.computeIfAbsent(nodeType, VersionHelperImpl::relatedTypesOf)) {
+
+            version += labelVersions.getVersion(type);
+            lastModified = Math.max(lastModified, labelVersions.getLastModified(type));
+        }
+
+        String value = Long.toString(epoch, Character.MAX_RADIX) + "-" + Long.toString(period, Character.MAX_RADIX)
+                + "-" + Long.toString(version, Character.MAX_RADIX);
+
+        return new VersionTag(value, Math.min(lastModified, now));
+    }
+
+    @Override
+    public HttpHeaders checkNotModified(VersionTag tag, Long id) {
+
+        if (tag == null) {
+            return null;
+        }
+
+        HttpServletRequest request = currentRequest();
+
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        String matchingETag = ifNoneMatch != null ? findMatchingETag(ifNoneMatch, tag, id) : null;
+
+        boolean notModified = matchingETag != null || ifNoneMatch == null && isNotModifiedSince(request, tag);
+
+        if (!notModified) {
+            return null;
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+
+        if (matchingETag != null) {
+            headers.setETag(matchingETag);
+        }
+
+        headers.setLastModified(tag.getLastModified());
+
+        return headers;
+    }
+
+    @Override
+    public HttpHeaders getHeaders(VersionTag tag, Node node) {
+
+        HttpHeaders headers = new HttpHeaders();
+
+        if (tag == null) {
+            return headers;
+        }
+
+        headers.setETag(node != null ? eTagOf(tag, node) : "\"" + tag.getValue() + "\"");
+        headers.setLastModified(tag.getLastModified());
+
+        return headers;
+    }
+
+    @Override
+    public void checkMatch(String nodeType, Long id, Node node) {
+
+        String ifMatch = currentRequest().getHeader(HttpHeaders.IF_MATCH);
+
+        // Without a node there is nothing to overwrite
+        if (ifMatch == null) {
+
+            if (node != null && conditionalRequestsConfigurationProperties.isRequireIfMatch()) {
+                throw new PreconditionRequiredException(nodeType, id);
+            }
+
+            return;
+        }
+
+        if (node == null || !ifMatch.trim().equals(ANY_ETAG) && !matchesVersion(ifMatch, node)) {
+            throw new PreconditionFailedException(nodeType, id);
+        }
+    }
+
+    private static String eTagOf(VersionTag tag, Node node) {
+
+        return "\"" + tag.getValue() + "." + node.getId() + "." + (node.getVersion() != null ? node.getVersion() : 0)
+                + "\"";
+    }
+
+    // The version of the node is not known without reading it, any version of it matches, even of a deleted node
+    private static String findMatchingETag(String ifNoneMatch, VersionTag tag, Long id) {
+
+        for (String eTag : ifNoneMatch.split(",")) {
+
+            eTag = eTag.trim();
+
+            String opaqueTag = eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+
+            boolean matches = id == null ? opaqueTag.equals("\"" + tag.getValue() + "\"")
+                    : opaqueTag.startsWith("\"" + tag.getValue() + "." + id + ".");
+
+            if (matches) {
+                return opaqueTag;
+            }
+        }
+
+        return null;
+    }
+
+    // The tag before the id is left out, weak ETags never match If-Match
+    private static boolean matchesVersion(String ifMatch, Node node) {
+
+        String idAndVersion = "." + node.getId() + "." + (node.getVersion() != null ? node.getVersion() : 0) + "\"";
+
+        for (String eTag : ifMatch.split(",")) {
+
+            eTag = eTag.trim();
+
+            if (eTag.startsWith("\"") && eTag.endsWith(idAndVersion)
+                    && eTag.indexOf('.') == eTag.length() - idAndVersion.length()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // Last-Modified only has the precision of seconds
+    private static boolean isNotModifiedSince(HttpServletRequest request, VersionTag tag) {
+
+        long ifModifiedSince;
+
+        try {
+            ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+
+        } catch (IllegalArgumentException exception) {
+
+            return false;
+        }
+
+        return ifModifiedSince != -1 && tag.getLastModified() / 1000 <= ifModifiedSince / 1000;
+    }
+
+    private static HttpServletRequest currentRequest() {
+
+        return ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+    }
+
+    private static Set<Class<?>> relatedTypesOf(Class<?> nodeType) {
+
+        Set<Class<?>> relatedTypes = new HashSet<>();
+
+        addRelatedTypes(nodeType, relatedTypes);
+
+        return relatedTypes;
+    }
+
+    private static void addRelatedTypes(Class<?> type, Set<Class<?>> relatedTypes) {
+
+        if (!relatedTypes.add(type)) {
+            return;
+        }
+
+        ReflectionUtils.doWithFields(type, field -> {
+
+            ResolvableType fieldType = ResolvableType.forField(field);
+
+            Class<?> relatedType = fieldType.asCollection() != ResolvableType.NONE
+                    ? fieldType.asCollection().resolveGeneric(0) : fieldType.resolve();
+
+            if (relatedType != null) {
+                addRelatedTypes(relatedType, relatedTypes);
+            }
+
+        }, field -> field.isAnnotationPresent(Relationship.class));
+    }
+}
@@ -0,0 +1,12 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.version;
+
+import lombok.Value;
+
+@Value
+public class VersionTag {
+
+    // Changes with every write to the nodes of the type or of the types it has relationships with
+    String value;
+
+    long lastModified;
+}
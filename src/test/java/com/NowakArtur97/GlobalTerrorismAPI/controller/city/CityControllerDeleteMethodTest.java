@@ -14,6 +14,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.ProvinceBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,6 +61,9 @@ class CityControllerDeleteMethodTest {
     @Mock
     private ViolationHelper<CityNode, CityDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static ProvinceBuilder provinceBuilder;
     private static CityBuilder cityBuilder;
 
@@ -74,7 +78,7 @@ class CityControllerDeleteMethodTest {
     private void setUp() {
 
         cityController = new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(cityController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -16,6 +16,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.ProvinceBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -75,6 +76,9 @@ class CityControllerGetMethodTest {
     @Mock
     private ViolationHelper<CityNode, CityDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static ProvinceBuilder provinceBuilder;
     private static CityBuilder cityBuilder;
 
@@ -89,7 +93,7 @@ class CityControllerGetMethodTest {
     private void setUp() {
 
         cityController = new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(cityController)
                 .setControllerAdvice(new GenericRestControllerAdvice())
@@ -377,7 +381,7 @@ class CityControllerGetMethodTest {
 
         String linkWithParameter = CITY_BASE_PATH + "/" + "{id}";
 
-        when(cityService.findById(cityId)).thenReturn(Optional.of(cityNode));
+        when(cityService.findProjectedById(cityId)).thenReturn(Optional.of(cityNode));
         when(modelAssembler.toModel(cityNode)).thenReturn(cityModel);
 
         assertAll(
@@ -394,7 +398,7 @@ class CityControllerGetMethodTest {
                         .andExpect(jsonPath("province.links[0].href", is(pathToProvinceLink)))
                         .andExpect(jsonPath("province.id", is(cityModel.getProvince().getId().intValue())))
                         .andExpect(jsonPath("province.name", is(cityModel.getProvince().getName()))),
-                () -> verify(cityService, times(1)).findById(cityId),
+                () -> verify(cityService, times(1)).findProjectedById(cityId),
                 () -> verifyNoMoreInteractions(cityService),
                 () -> verify(modelAssembler, times(1)).toModel(cityNode),
                 () -> verifyNoMoreInteractions(modelAssembler),
@@ -410,7 +414,7 @@ class CityControllerGetMethodTest {
 
         String linkWithParameter = CITY_BASE_PATH + "/" + "{id}";
 
-        when(cityService.findById(cityId)).thenReturn(Optional.empty());
+        when(cityService.findProjectedById(cityId)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, cityId)
@@ -421,7 +425,7 @@ class CityControllerGetMethodTest {
                         .andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find CityModel with id: " + cityId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(cityService, times(1)).findById(cityId),
+                () -> verify(cityService, times(1)).findProjectedById(cityId),
                 () -> verifyNoMoreInteractions(cityService),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchHelper),
@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,11 +54,14 @@ class CityControllerOptionsMethodTest {
     @Mock
     private ViolationHelper<CityNode, CityDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     @BeforeEach
     private void setUp() {
 
         cityController = new CityController(cityService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(cityController).build();
     }
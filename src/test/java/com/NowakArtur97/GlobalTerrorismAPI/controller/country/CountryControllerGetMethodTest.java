@@ -14,6 +14,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.CountryBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.RegionBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -65,6 +66,9 @@ class CountryControllerGetMethodTest {
     @Mock
     private PagedResourcesAssembler<CountryNode> pagedResourcesAssembler;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
 
@@ -78,7 +82,7 @@ class CountryControllerGetMethodTest {
     @BeforeEach
     private void setUp() {
 
-        countryController = new CountryController(countryService, modelAssembler, pagedResourcesAssembler);
+        countryController = new CountryController(countryService, modelAssembler, pagedResourcesAssembler, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(countryController)
                 .setControllerAdvice(new GenericRestControllerAdvice())
@@ -339,7 +343,7 @@ class CountryControllerGetMethodTest {
 
         String linkWithParameter = COUNTRY_BASE_PATH + "/" + "{id}";
 
-        when(countryService.findById(countryId)).thenReturn(Optional.of(countryNode));
+        when(countryService.findProjectedById(countryId)).thenReturn(Optional.of(countryNode));
         when(modelAssembler.toModel(countryNode)).thenReturn(countryModel);
 
         assertAll(
@@ -354,7 +358,7 @@ class CountryControllerGetMethodTest {
                         .andExpect(jsonPath("region.id", is(regionModel.getId().intValue())))
                         .andExpect(jsonPath("region.name", is(regionModel.getName())))
                         .andExpect(jsonPath("region.links").isEmpty()),
-                () -> verify(countryService, times(1)).findById(countryId),
+                () -> verify(countryService, times(1)).findProjectedById(countryId),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verify(modelAssembler, times(1)).toModel(countryNode),
                 () -> verifyNoMoreInteractions(modelAssembler));
@@ -367,7 +371,7 @@ class CountryControllerGetMethodTest {
 
         String linkWithParameter = COUNTRY_BASE_PATH + "/" + "{id}";
 
-        when(countryService.findById(countryId)).thenReturn(Optional.empty());
+        when(countryService.findProjectedById(countryId)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, countryId)
@@ -378,7 +382,7 @@ class CountryControllerGetMethodTest {
                         .andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find CountryModel with id: " + countryId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(countryService, times(1)).findById(countryId),
+                () -> verify(countryService, times(1)).findProjectedById(countryId),
                 () -> verifyNoMoreInteractions(countryService),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler));
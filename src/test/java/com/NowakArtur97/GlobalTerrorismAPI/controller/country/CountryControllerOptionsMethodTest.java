@@ -7,6 +7,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.model.response.CountryModel;
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.BasicGenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -44,10 +45,13 @@ class CountryControllerOptionsMethodTest {
     @Mock
     private PagedResourcesAssembler<CountryNode> pagedResourcesAssembler;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     @BeforeEach
     private void setUp() {
 
-        countryController = new CountryController(countryService, modelAssembler, pagedResourcesAssembler);
+        countryController = new CountryController(countryService, modelAssembler, pagedResourcesAssembler, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(countryController).build();
     }
@@ -14,6 +14,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.TargetBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -60,6 +61,9 @@ class EventControllerDeleteMethodTest {
     @Mock
     private ViolationHelper<EventNode, EventDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static TargetBuilder targetBuilder;
     private static EventBuilder eventBuilder;
 
@@ -74,7 +78,7 @@ class EventControllerDeleteMethodTest {
     private void setUp() {
 
         eventController = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(eventController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -18,7 +18,10 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.EventBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.TargetBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.CursorSlice;
+import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageCursor;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +31,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
@@ -81,6 +86,9 @@ class EventControllerGetMethodTest {
     @Mock
     private ViolationHelper<EventNode, EventDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static CityBuilder cityBuilder;
     private static TargetBuilder targetBuilder;
     private static EventBuilder eventBuilder;
@@ -97,7 +105,7 @@ class EventControllerGetMethodTest {
     private void setUp() {
 
         eventController = new EventController(eventService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(eventController)
                 .setControllerAdvice(new GenericRestControllerAdvice())
@@ -471,6 +479,131 @@ class EventControllerGetMethodTest {
                 () -> verifyNoInteractions(violationHelper));
     }
 
+    @Test
+    void when_find_all_events_without_count_and_more_events_exist_should_return_page_with_next_link_but_without_last_link_and_totals() {
+
+        EventNode eventNode1 = (EventNode) createEvent(ObjectType.NODE);
+        EventNode eventNode2 = (EventNode) createEvent(ObjectType.NODE);
+
+        EventModel eventModel1 = (EventModel) createEvent(ObjectType.MODEL);
+        EventModel eventModel2 = (EventModel) createEvent(ObjectType.MODEL);
+
+        int sizeExpected = 2;
+        int pageExpected = 1;
+
+        Pageable pageable = PageRequest.of(pageExpected, sizeExpected);
+
+        Slice<EventNode> eventsExpected = new SliceImpl<>(List.of(eventNode1, eventNode2), pageable, true);
+
+        String urlParameters = "?page=" + pageExpected + "&size=" + sizeExpected + "&count=false";
+        String selfLink = EVENT_BASE_PATH + urlParameters;
+        String nextLink = EVENT_BASE_PATH + "?page=" + (pageExpected + 1) + "&size=" + sizeExpected + "&count=false";
+        String lastLink = EVENT_BASE_PATH + "?page=" + (pageExpected + 1) + "&size=" + sizeExpected + "&count=false";
+
+        PageMetadata metadata = new PagedModel.PageMetadata(sizeExpected, pageExpected, 5);
+        PagedModel<EventModel> resources = new PagedModel<>(List.of(eventModel1, eventModel2), metadata,
+                new Link(selfLink, "self"), new Link(nextLink, "next"), new Link(lastLink, "last"));
+
+        when(eventService.findAllWithoutCount(pageable)).thenReturn(eventsExpected);
+        when(pagedResourcesAssembler.toModel(any(Page.class), eq(modelAssembler))).thenReturn(resources);
+
+        assertAll(
+                () -> mockMvc.perform(get(selfLink).contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("links", hasSize(2)))
+                        .andExpect(jsonPath("links[0].href", is(selfLink)))
+                        .andExpect(jsonPath("links[1].rel", is("next")))
+                        .andExpect(jsonPath("links[1].href", is(nextLink)))
+                        .andExpect(jsonPath("content[0].id", is(eventModel1.getId().intValue())))
+                        .andExpect(jsonPath("content[1].id", is(eventModel2.getId().intValue())))
+                        .andExpect(jsonPath("page.size", is(sizeExpected)))
+                        .andExpect(jsonPath("page.number", is(pageExpected)))
+                        .andExpect(jsonPath("page.totalElements").doesNotExist())
+                        .andExpect(jsonPath("page.totalPages").doesNotExist()),
+                () -> verify(eventService, times(1)).findAllWithoutCount(pageable),
+                () -> verifyNoMoreInteractions(eventService),
+                () -> verify(pagedResourcesAssembler, times(1)).toModel(any(Page.class), eq(modelAssembler)),
+                () -> verifyNoMoreInteractions(pagedResourcesAssembler),
+                () -> verifyNoInteractions(patchHelper),
+                () -> verifyNoInteractions(violationHelper));
+    }
+
+    @Test
+    void when_find_all_events_after_cursor_and_more_events_exist_should_return_page_with_next_link_and_next_cursor() {
+
+        EventNode eventNode1 = (EventNode) createEvent(ObjectType.NODE);
+        EventNode eventNode2 = (EventNode) createEvent(ObjectType.NODE);
+
+        EventModel eventModel1 = (EventModel) createEvent(ObjectType.MODEL);
+        EventModel eventModel2 = (EventModel) createEvent(ObjectType.MODEL);
+
+        int sizeExpected = 2;
+
+        Pageable pageable = PageRequest.of(0, sizeExpected);
+
+        PageCursor cursor = PageCursor.afterId(10L);
+        PageCursor nextCursor = PageCursor.afterId(eventNode2.getId());
+
+        CursorSlice<EventNode> eventsExpected = new CursorSlice<>(List.of(eventNode1, eventNode2), pageable,
+                nextCursor);
+
+        String selfLink = EVENT_BASE_PATH + "?size=" + sizeExpected + "&after=" + cursor.encode();
+        String nextLink = EVENT_BASE_PATH + "?size=" + sizeExpected + "&after=" + nextCursor.encode();
+
+        PageMetadata metadata = new PagedModel.PageMetadata(sizeExpected, 0, sizeExpected);
+        PagedModel<EventModel> resources = new PagedModel<>(List.of(eventModel1, eventModel2), metadata,
+                new Link(selfLink));
+
+        when(eventService.findAllAfter(cursor, pageable)).thenReturn(eventsExpected);
+        when(pagedResourcesAssembler.toModel(any(Page.class), eq(modelAssembler), any(Link.class))).thenReturn(resources);
+
+        assertAll(
+                () -> mockMvc.perform(get(selfLink).contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("links[0].href", is(selfLink)))
+                        .andExpect(jsonPath("links[1].rel", is("next")))
+                        .andExpect(jsonPath("links[1].href", is(nextLink)))
+                        .andExpect(jsonPath("content[0].id", is(eventModel1.getId().intValue())))
+                        .andExpect(jsonPath("content[1].id", is(eventModel2.getId().intValue())))
+                        .andExpect(jsonPath("page.size", is(sizeExpected)))
+                        .andExpect(jsonPath("page.next", is(nextCursor.encode())))
+                        .andExpect(jsonPath("page.number").doesNotExist())
+                        .andExpect(jsonPath("page.totalElements").doesNotExist())
+                        .andExpect(jsonPath("page.totalPages").doesNotExist()),
+                () -> verify(eventService, times(1)).findAllAfter(cursor, pageable),
+                () -> verifyNoMoreInteractions(eventService),
+                () -> verify(pagedResourcesAssembler, times(1)).toModel(any(Page.class), eq(modelAssembler),
+                        any(Link.class)),
+                () -> verifyNoMoreInteractions(pagedResourcesAssembler),
+                () -> verifyNoInteractions(patchHelper),
+                () -> verifyNoInteractions(violationHelper));
+    }
+
+    @Test
+    void when_find_all_events_after_invalid_cursor_should_return_error_response() {
+
+        String invalidCursor = "invalid";
+
+        assertAll(
+                () -> mockMvc.perform(get(EVENT_BASE_PATH + "?after=" + invalidCursor)
+                        .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                        .andExpect(jsonPath("timestamp").isNotEmpty())
+                        .andExpect(content().json("{'status': 400}"))
+                        .andExpect(jsonPath("errors[0]", is("Invalid page cursor: " + invalidCursor + ".")))
+                        .andExpect(jsonPath("errors", hasSize(1))),
+                () -> verifyNoInteractions(eventService),
+                () -> verifyNoInteractions(modelAssembler),
+                () -> verifyNoInteractions(pagedResourcesAssembler),
+                () -> verifyNoInteractions(patchHelper),
+                () -> verifyNoInteractions(violationHelper));
+    }
+
     @Test
     void when_find_existing_event_should_return_event() {
 
@@ -494,7 +627,7 @@ class EventControllerGetMethodTest {
 
         String linkWithParameter = EVENT_BASE_PATH + "/" + "{id}";
 
-        when(eventService.findById(eventId)).thenReturn(Optional.of(eventNode));
+        when(eventService.findProjectedById(eventId)).thenReturn(Optional.of(eventNode));
         when(modelAssembler.toModel(eventNode)).thenReturn(eventModel);
 
         assertAll(
@@ -522,7 +655,7 @@ class EventControllerGetMethodTest {
                         .andExpect(jsonPath("city.latitude", is(cityModel.getLatitude())))
                         .andExpect(jsonPath("city.longitude", is(cityModel.getLongitude())))
                         .andExpect(jsonPath("city.links[0].href", is(pathToCityLink))),
-                () -> verify(eventService, times(1)).findById(eventId),
+                () -> verify(eventService, times(1)).findProjectedById(eventId),
                 () -> verifyNoMoreInteractions(eventService),
                 () -> verify(modelAssembler, times(1)).toModel(eventNode),
                 () -> verifyNoMoreInteractions(modelAssembler),
@@ -538,7 +671,7 @@ class EventControllerGetMethodTest {
 
         String linkWithParameter = EVENT_BASE_PATH + "/" + "{id}";
 
-        when(eventService.findById(eventId)).thenReturn(Optional.empty());
+        when(eventService.findProjectedById(eventId)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, eventId)
@@ -549,7 +682,7 @@ class EventControllerGetMethodTest {
                         .andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find EventModel with id: " + eventId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(eventService, times(1)).findById(eventId),
+                () -> verify(eventService, times(1)).findProjectedById(eventId),
                 () -> verifyNoMoreInteractions(eventService),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchHelper),
@@ -22,6 +22,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -29,16 +30,25 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -90,6 +100,11 @@ class EventControllerPutMethodTest {
     private final static EventNode eventNode = new EventNode("event summary", "event motive", new Date(),
             true, true, true, targetNode, cityNode);
 
+    private final static TargetNode concurrentlyUpdatedTargetNode = new TargetNode("target name", countryNode);
+
+    private final static EventNode concurrentlyUpdatedEventNode = new EventNode("event summary", "event motive",
+            new Date(), true, true, true, concurrentlyUpdatedTargetNode, cityNode);
+
     @BeforeAll
     private static void setUpBuilders() {
 
@@ -109,6 +124,8 @@ class EventControllerPutMethodTest {
         cityRepository.save(anotherCityNode);
 
         eventRepository.save(eventNode);
+
+        eventRepository.save(concurrentlyUpdatedEventNode);
     }
 
     @AfterAll
@@ -972,4 +989,61 @@ class EventControllerPutMethodTest {
                         .andExpect(jsonPath("errors", hasItem("Province and target should be located in the same country.")))
                         .andExpect(jsonPath("errors", hasSize(2))));
     }
+
+    @Test
+    void when_update_event_concurrently_with_the_same_etag_should_update_it_once() throws Exception {
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.withName(countryNode.getName()).build(ObjectType.DTO);
+        TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        CityDTO cityDTO = (CityDTO) cityBuilder.withProvince(provinceDTO).build(ObjectType.DTO);
+        EventDTO eventDTO = (EventDTO) eventBuilder.withSummary("summary updated concurrently").withTarget(targetDTO)
+                .withCity(cityDTO).build(ObjectType.DTO);
+
+        String token = jwtUtil.generateToken(new User(userNode.getUserName(), userNode.getPassword(),
+                List.of(new SimpleGrantedAuthority("user"))));
+
+        String eTag = mockMvc.perform(get(LINK_WITH_PARAMETER, concurrentlyUpdatedEventNode.getId())
+                .header("Authorization", "Bearer " + token).accept(MediaType.APPLICATION_JSON))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> updates = new ArrayList<>();
+
+        try {
+            for (int update = 0; update < 2; update++) {
+
+                updates.add(executorService.submit(() -> {
+
+                    start.await();
+
+                    return mockMvc.perform(put(LINK_WITH_PARAMETER, concurrentlyUpdatedEventNode.getId())
+                            .header("Authorization", "Bearer " + token)
+                            .header(HttpHeaders.IF_MATCH, eTag)
+                            .content(ObjectTestMapper.asJsonString(eventDTO))
+                            .contentType(MediaType.APPLICATION_JSON).accept(MediaType.APPLICATION_JSON))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+
+            start.countDown();
+
+        } finally {
+
+            executorService.shutdown();
+        }
+
+        List<Integer> statuses = new ArrayList<>();
+
+        for (Future<Integer> update : updates) {
+            statuses.add(update.get());
+        }
+
+        Collections.sort(statuses);
+
+        assertAll(() -> assertNotNull(eTag, () -> "should return ETag"),
+                () -> assertEquals(List.of(200, 412), statuses,
+                        () -> "should return statuses: [200, 412], but was: " + statuses));
+    }
 }
@@ -11,6 +11,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.GroupBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,6 +58,9 @@ class GroupControllerDeleteMethodTest {
     @Mock
     private ViolationHelper<GroupNode, GroupDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static GroupBuilder groupBuilder;
 
     @BeforeAll
@@ -69,7 +73,7 @@ class GroupControllerDeleteMethodTest {
     private void setUp() {
 
         groupController = new GroupController(groupService, modelAssembler, pagedResourcesAssembler,
-                patchHelper, violationHelper);
+                patchHelper, violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -15,6 +15,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.GroupBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.hamcrest.collection.IsCollectionWithSize;
 import org.junit.jupiter.api.*;
@@ -78,6 +79,9 @@ class GroupControllerGetMethodTest {
     @Mock
     private ViolationHelper<GroupNode, GroupDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static EventBuilder eventBuilder;
     private static GroupBuilder groupBuilder;
 
@@ -92,7 +96,7 @@ class GroupControllerGetMethodTest {
     private void setUp() {
 
         groupController = new GroupController(groupService, groupModelAssembler, pagedResourcesAssembler,
-                patchHelper, violationHelper);
+                patchHelper, violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).setControllerAdvice(new GenericRestControllerAdvice())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver()).build();
@@ -346,7 +350,7 @@ class GroupControllerGetMethodTest {
 
         String linkWithParameter = GROUP_BASE_PATH + "/" + "{id}";
 
-        when(groupService.findById(groupModel.getId())).thenReturn(Optional.of(groupNode));
+        when(groupService.findProjectedById(groupModel.getId())).thenReturn(Optional.of(groupNode));
         when(groupModelAssembler.toModel(groupNode)).thenReturn(groupModel);
 
         assertAll(() -> mockMvc.perform(get(linkWithParameter, groupModel.getId()))
@@ -386,7 +390,7 @@ class GroupControllerGetMethodTest {
                                 jsonPath("eventsCaused[1].links[0].href", is(groupModel.getEventsCaused().get(1).getLink("self").get().getHref())))
                         .andExpect(
                                 jsonPath("eventsCaused[1].links[1].href", is(groupModel.getEventsCaused().get(1).getLink("target").get().getHref()))),
-                () -> verify(groupService, times(1)).findById(groupModel.getId()), () -> verifyNoMoreInteractions(groupService),
+                () -> verify(groupService, times(1)).findProjectedById(groupModel.getId()), () -> verifyNoMoreInteractions(groupService),
                 () -> verify(groupModelAssembler, times(1)).toModel(groupNode),
                 () -> verifyNoMoreInteractions(groupModelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler),
@@ -401,7 +405,7 @@ class GroupControllerGetMethodTest {
 
         String linkWithParameter = GROUP_BASE_PATH + "/" + "{id}";
 
-        when(groupService.findById(groupId)).thenReturn(Optional.empty());
+        when(groupService.findProjectedById(groupId)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, groupId))
@@ -411,7 +415,7 @@ class GroupControllerGetMethodTest {
                         .andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find GroupModel with id: " + groupId + ".")))
                         .andExpect(jsonPath("errors", IsCollectionWithSize.hasSize(1))),
-                () -> verify(groupService, times(1)).findById(groupId), () -> verifyNoMoreInteractions(groupService),
+                () -> verify(groupService, times(1)).findProjectedById(groupId), () -> verifyNoMoreInteractions(groupService),
                 () -> verifyNoInteractions(groupModelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler),
                 () -> verifyNoInteractions(patchHelper),
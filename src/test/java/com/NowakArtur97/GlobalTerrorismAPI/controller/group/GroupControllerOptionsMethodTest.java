@@ -8,6 +8,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,11 +54,14 @@ class GroupControllerOptionsMethodTest {
     @Mock
     private ViolationHelper<GroupNode, GroupDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     @BeforeEach
     private void setUp() {
 
         groupController = new GroupController(groupService, modelAssembler, pagedResourcesAssembler,
-                patchHelper, violationHelper);
+                patchHelper, violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupController).build();
     }
@@ -10,7 +10,6 @@ import com.NowakArtur97.GlobalTerrorismAPI.service.api.GroupService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.GroupBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
-import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -54,9 +53,6 @@ class GroupEventsControllerDeleteMethodTest {
     @Mock
     private PagedResourcesAssembler<EventNode> eventsPagedResourcesAssembler;
 
-    @Mock
-    private PageHelper pageHelper;
-
     private static GroupBuilder groupBuilder;
 
     @BeforeAll
@@ -68,7 +64,7 @@ class GroupEventsControllerDeleteMethodTest {
     @BeforeEach
     private void setUp() {
 
-        groupEventsController = new GroupEventsController(groupService, groupModelAssembler, eventModelAssembler, eventsPagedResourcesAssembler, pageHelper);
+        groupEventsController = new GroupEventsController(groupService, groupModelAssembler, eventModelAssembler, eventsPagedResourcesAssembler);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupEventsController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -90,7 +86,6 @@ class GroupEventsControllerDeleteMethodTest {
                 () -> verify(groupService, times(1)).deleteAllGroupEvents(groupId),
                 () -> verifyNoMoreInteractions(groupService),
                 () -> verifyNoInteractions(groupModelAssembler),
-                () -> verifyNoInteractions(pageHelper),
                 () -> verifyNoInteractions(eventModelAssembler),
                 () -> verifyNoInteractions(eventsPagedResourcesAssembler));
     }
@@ -112,7 +107,6 @@ class GroupEventsControllerDeleteMethodTest {
                 () -> verify(groupService, times(1)).deleteAllGroupEvents(groupId),
                 () -> verifyNoMoreInteractions(groupService),
                 () -> verifyNoInteractions(groupModelAssembler),
-                () -> verifyNoInteractions(pageHelper),
                 () -> verifyNoInteractions(eventModelAssembler),
                 () -> verifyNoInteractions(eventsPagedResourcesAssembler));
     }
@@ -9,10 +9,8 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GroupService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.EventBuilder;
-import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.GroupBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
-import com.NowakArtur97.GlobalTerrorismAPI.util.page.PageHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -69,23 +67,18 @@ class GroupEventsControllerGetMethodTest {
     @Mock
     private PagedResourcesAssembler<EventNode> eventsPagedResourcesAssembler;
 
-    @Mock
-    private PageHelper pageHelper;
-
     private static EventBuilder eventBuilder;
-    private static GroupBuilder groupBuilder;
 
     @BeforeAll
     private static void setUpBuilders() {
 
         eventBuilder = new EventBuilder();
-        groupBuilder = new GroupBuilder();
     }
 
     @BeforeEach
     private void setUp() {
 
-        groupEventsController = new GroupEventsController(groupService, groupModelAssembler, eventModelAssembler, eventsPagedResourcesAssembler, pageHelper);
+        groupEventsController = new GroupEventsController(groupService, groupModelAssembler, eventModelAssembler, eventsPagedResourcesAssembler);
 
         mockMvc = MockMvcBuilders.standaloneSetup(groupEventsController).setControllerAdvice(new GenericRestControllerAdvice())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver()).build();
@@ -110,7 +103,6 @@ class GroupEventsControllerGetMethodTest {
         List<EventModel> groupEventModelsListExpected = List.of(eventModel1, eventModel2, eventModel3, eventModel4);
         List<EventNode> subListOfEvents = List.of(eventNode1, eventNode2, eventNode3, eventNode4);
 
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withEventsCaused(List.of(eventNode1, eventNode2, eventNode3, eventNode4)).build(ObjectType.NODE);
 
         int sizeExpected = 20;
         int totalElementsExpected = 4;
@@ -136,8 +128,7 @@ class GroupEventsControllerGetMethodTest {
         PagedModel<EventModel> resources = new PagedModel<>(groupEventModelsListExpected, metadata, pageLink1, pageLink2,
                 pageLink3, pageLink4);
 
-        when(groupService.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(pageHelper.convertListToPage(pageable, groupEventNodesListExpected)).thenReturn(pageImpl);
+        when(groupService.findAllEventsByGroupId(groupId, pageable)).thenReturn(Optional.of(pageImpl));
         when(eventsPagedResourcesAssembler.toModel(pageImpl, eventModelAssembler)).thenReturn(resources);
 
         assertAll(
@@ -210,10 +201,8 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(jsonPath("page.totalElements", is(totalElementsExpected)))
                         .andExpect(jsonPath("page.totalPages", is(totalPagesExpected)))
                         .andExpect(jsonPath("page.number", is(numberExpected))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findAllEventsByGroupId(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verify(pageHelper, times(1)).convertListToPage(pageable, groupEventNodesListExpected),
-                () -> verifyNoMoreInteractions(pageHelper),
                 () -> verify(eventsPagedResourcesAssembler, times(1)).toModel(pageImpl, eventModelAssembler),
                 () -> verifyNoMoreInteractions(eventsPagedResourcesAssembler),
                 () -> verifyNoInteractions(eventModelAssembler),
@@ -238,7 +227,6 @@ class GroupEventsControllerGetMethodTest {
         List<EventModel> groupEventModelsListExpected = List.of(eventModel1, eventModel2, eventModel3);
         List<EventNode> subListOfEvents = List.of(eventNode1, eventNode2, eventNode3);
 
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.withEventsCaused(List.of(eventNode1, eventNode2, eventNode3, eventNode4)).build(ObjectType.NODE);
 
         int sizeExpected = 3;
         int totalElementsExpected = 4;
@@ -264,8 +252,7 @@ class GroupEventsControllerGetMethodTest {
         PagedModel<EventModel> resources = new PagedModel<>(groupEventModelsListExpected, metadata, pageLink1, pageLink2,
                 pageLink3, pageLink4);
 
-        when(groupService.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(pageHelper.convertListToPage(pageable, groupEventNodesListExpected)).thenReturn(pageImpl);
+        when(groupService.findAllEventsByGroupId(groupId, pageable)).thenReturn(Optional.of(pageImpl));
         when(eventsPagedResourcesAssembler.toModel(pageImpl, eventModelAssembler)).thenReturn(resources);
 
         assertAll(
@@ -326,10 +313,8 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(jsonPath("page.totalElements", is(totalElementsExpected)))
                         .andExpect(jsonPath("page.totalPages", is(totalPagesExpected)))
                         .andExpect(jsonPath("page.number", is(numberExpected))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findAllEventsByGroupId(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verify(pageHelper, times(1)).convertListToPage(pageable, groupEventNodesListExpected),
-                () -> verifyNoMoreInteractions(pageHelper),
                 () -> verify(eventsPagedResourcesAssembler, times(1)).toModel(pageImpl, eventModelAssembler),
                 () -> verifyNoMoreInteractions(eventsPagedResourcesAssembler),
                 () -> verifyNoInteractions(eventModelAssembler),
@@ -345,7 +330,6 @@ class GroupEventsControllerGetMethodTest {
         List<EventModel> groupEventModelsListExpected = new ArrayList<>();
         List<EventNode> subListOfEvents = new ArrayList<>();
 
-        GroupNode groupNodeExpected = (GroupNode) groupBuilder.build(ObjectType.NODE);
 
         int sizeExpected = 20;
         int totalElementsExpected = 0;
@@ -371,8 +355,7 @@ class GroupEventsControllerGetMethodTest {
         PagedModel<EventModel> resources = new PagedModel<>(groupEventModelsListExpected, metadata, pageLink1, pageLink2,
                 pageLink3, pageLink4);
 
-        when(groupService.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(pageHelper.convertListToPage(pageable, groupEventNodesListExpected)).thenReturn(pageImpl);
+        when(groupService.findAllEventsByGroupId(groupId, pageable)).thenReturn(Optional.of(pageImpl));
         when(eventsPagedResourcesAssembler.toModel(pageImpl, eventModelAssembler)).thenReturn(resources);
 
         assertAll(
@@ -387,10 +370,8 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(jsonPath("page.totalElements", is(totalElementsExpected)))
                         .andExpect(jsonPath("page.totalPages", is(totalPagesExpected)))
                         .andExpect(jsonPath("page.number", is(numberExpected))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findAllEventsByGroupId(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
-                () -> verify(pageHelper, times(1)).convertListToPage(pageable, groupEventNodesListExpected),
-                () -> verifyNoMoreInteractions(pageHelper),
                 () -> verify(eventsPagedResourcesAssembler, times(1)).toModel(pageImpl, eventModelAssembler),
                 () -> verifyNoMoreInteractions(eventsPagedResourcesAssembler),
                 () -> verifyNoInteractions(eventModelAssembler),
@@ -402,8 +383,9 @@ class GroupEventsControllerGetMethodTest {
 
         Long groupId = 1L;
         String linkWithParameter = GROUP_BASE_PATH + "/{id}/events";
+        Pageable pageable = PageRequest.of(0, 20);
 
-        when(groupService.findById(groupId)).thenReturn(Optional.empty());
+        when(groupService.findAllEventsByGroupId(groupId, pageable)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, groupId))
@@ -413,10 +395,9 @@ class GroupEventsControllerGetMethodTest {
                         .andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find GroupModel with id: " + groupId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(groupService, times(1)).findById(groupId),
+                () -> verify(groupService, times(1)).findAllEventsByGroupId(groupId, pageable),
                 () -> verifyNoMoreInteractions(groupService),
                 () -> verifyNoInteractions(groupModelAssembler),
-                () -> verifyNoInteractions(pageHelper),
                 () -> verifyNoInteractions(eventModelAssembler),
                 () -> verifyNoInteractions(eventsPagedResourcesAssembler));
     }
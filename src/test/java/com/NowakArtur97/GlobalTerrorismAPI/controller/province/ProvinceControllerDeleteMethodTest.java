@@ -12,6 +12,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.ProvinceBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -58,6 +59,9 @@ class ProvinceControllerDeleteMethodTest {
     @Mock
     private ViolationHelper<ProvinceNode, ProvinceDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static ProvinceBuilder provinceBuilder;
 
     @BeforeAll
@@ -70,7 +74,7 @@ class ProvinceControllerDeleteMethodTest {
     private void setUp() {
 
         provinceController = new ProvinceController(provinceService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(provinceController).setControllerAdvice(new GenericRestControllerAdvice())
                 .build();
@@ -16,6 +16,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.ProvinceBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -74,6 +75,9 @@ class ProvinceControllerGetMethodTest {
     @Mock
     private ViolationHelper<ProvinceNode, ProvinceDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static CountryBuilder countryBuilder;
     private static ProvinceBuilder provinceBuilder;
 
@@ -88,7 +92,7 @@ class ProvinceControllerGetMethodTest {
     private void setUp() {
 
         provinceController = new ProvinceController(provinceService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(provinceController)
                 .setControllerAdvice(new GenericRestControllerAdvice())
@@ -348,7 +352,7 @@ class ProvinceControllerGetMethodTest {
 
         String linkWithParameter = PROVINCE_BASE_PATH + "/" + "{id}";
 
-        when(provinceService.findById(provinceId)).thenReturn(Optional.of(provinceNode));
+        when(provinceService.findProjectedById(provinceId)).thenReturn(Optional.of(provinceNode));
         when(modelAssembler.toModel(provinceNode)).thenReturn(provinceModel);
 
         assertAll(
@@ -362,7 +366,7 @@ class ProvinceControllerGetMethodTest {
                         .andExpect(jsonPath("name", is(provinceModel.getName())))
                         .andExpect(jsonPath("country.id", is(countryModel.getId().intValue())))
                         .andExpect(jsonPath("country.name", is(countryModel.getName()))),
-                () -> verify(provinceService, times(1)).findById(provinceId),
+                () -> verify(provinceService, times(1)).findProjectedById(provinceId),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verify(modelAssembler, times(1)).toModel(provinceNode),
                 () -> verifyNoMoreInteractions(modelAssembler),
@@ -378,7 +382,7 @@ class ProvinceControllerGetMethodTest {
 
         String linkWithParameter = PROVINCE_BASE_PATH + "/" + "{id}";
 
-        when(provinceService.findById(provinceId)).thenReturn(Optional.empty());
+        when(provinceService.findProjectedById(provinceId)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, provinceId)
@@ -389,7 +393,7 @@ class ProvinceControllerGetMethodTest {
                         .andExpect(content().json("{'status': 404}"))
                         .andExpect(jsonPath("errors[0]", is("Could not find ProvinceModel with id: " + provinceId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(provinceService, times(1)).findById(provinceId),
+                () -> verify(provinceService, times(1)).findProjectedById(provinceId),
                 () -> verifyNoMoreInteractions(provinceService),
                 () -> verifyNoInteractions(modelAssembler),
                 () -> verifyNoInteractions(patchHelper),
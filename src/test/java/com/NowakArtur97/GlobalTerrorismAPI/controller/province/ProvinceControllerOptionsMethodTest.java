@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.BeforeEach;
@@ -53,11 +54,14 @@ class ProvinceControllerOptionsMethodTest {
     @Mock
     private ViolationHelper<ProvinceNode, ProvinceDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     @BeforeEach
     private void setUp() {
 
         provinceController = new ProvinceController(provinceService, modelAssembler, pagedResourcesAssembler, patchHelper,
-                violationHelper);
+                violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(provinceController).build();
     }
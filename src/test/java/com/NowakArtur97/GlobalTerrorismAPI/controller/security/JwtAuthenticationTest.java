@@ -11,6 +11,7 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +31,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.DEFINED_PORT)
@@ -42,6 +44,9 @@ class JwtAuthenticationTest {
     private final String TARGET_BASE_PATH = "http://localhost:8080/api/v1/targets";
     private final String EVENT_BASE_PATH = "http://localhost:8080/api/v1/events";
     private final String GROUP_BASE_PATH = "http://localhost:8080/api/v1/groups";
+    private final String LIVENESS_PATH = "http://localhost:8080/actuator/health/liveness";
+    private final String READINESS_PATH = "http://localhost:8080/actuator/health/readiness";
+    private final String SNAPSHOT_PATH = "http://localhost:8080/actuator/snapshot";
 
     @Autowired
     private MockMvc mockMvc;
@@ -177,4 +182,30 @@ class JwtAuthenticationTest {
                         .andExpect(jsonPath("errors[0]", containsString("JWT expired")))
                         .andExpect(jsonPath("errors", hasSize(1))));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest(name = "{index}: For URL: {0} without JWT  token should return health")
+    @ValueSource(strings = {LIVENESS_PATH, READINESS_PATH})
+    void when_jwt_token_is_missing_in_request_headers_of_health_probe_should_return_health(String url) {
+
+        assertAll(
+                () -> mockMvc
+                        .perform(get(url).accept(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("status", is("UP")))
+                        .andExpect(jsonPath("errors").doesNotExist()));
+    }
+
+    @Test
+    void when_user_without_admin_role_exports_snapshot_should_return_forbidden() {
+
+        String token = jwtUtil.generateToken(new User(userNode.getUserName(), userNode.getPassword(),
+                List.of(new SimpleGrantedAuthority("user"))));
+
+        assertAll(
+                () -> mockMvc
+                        .perform(post(SNAPSHOT_PATH).header("Authorization", "Bearer " + token)
+                                .content("{\"fileName\": \"snapshot\"}")
+                                .contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(status().isForbidden()));
+    }
+}
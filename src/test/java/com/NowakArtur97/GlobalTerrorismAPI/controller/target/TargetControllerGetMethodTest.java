@@ -19,6 +19,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.TargetBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
 import com.NowakArtur97.GlobalTerrorismAPI.util.patch.PatchHelper;
+import com.NowakArtur97.GlobalTerrorismAPI.util.version.VersionHelper;
 import com.NowakArtur97.GlobalTerrorismAPI.util.violation.ViolationHelper;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -77,6 +78,9 @@ class TargetControllerGetMethodTest {
     @Mock
     private ViolationHelper<TargetNode, TargetDTO> violationHelper;
 
+    @Mock
+    private VersionHelper versionHelper;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
     private static TargetBuilder targetBuilder;
@@ -93,7 +97,7 @@ class TargetControllerGetMethodTest {
     private void setUp() {
 
         targetController = new TargetController(targetService, targetModelAssembler, pagedResourcesAssembler,
-                patchHelper, violationHelper);
+                patchHelper, violationHelper, versionHelper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(targetController).setControllerAdvice(new GenericRestControllerAdvice())
                 .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver()).build();
@@ -398,7 +402,7 @@ class TargetControllerGetMethodTest {
 
         String linkWithParameter = TARGET_BASE_PATH + "/" + "{id}";
 
-        when(targetService.findById(targetId)).thenReturn(Optional.of(targetNode));
+        when(targetService.findProjectedById(targetId)).thenReturn(Optional.of(targetNode));
         when(targetModelAssembler.toModel(targetNode)).thenReturn(targetModel);
 
         assertAll(() -> mockMvc.perform(get(linkWithParameter, targetId))
@@ -413,7 +417,7 @@ class TargetControllerGetMethodTest {
                         .andExpect(jsonPath("countryOfOrigin.region.id", is(regionNode.getId().intValue())))
                         .andExpect(jsonPath("countryOfOrigin.region.name", is(regionNode.getName())))
                         .andExpect(jsonPath("countryOfOrigin.region.links").isEmpty()),
-                () -> verify(targetService, times(1)).findById(targetId),
+                () -> verify(targetService, times(1)).findProjectedById(targetId),
                 () -> verifyNoMoreInteractions(targetService),
                 () -> verify(targetModelAssembler, times(1)).toModel(targetNode),
                 () -> verifyNoMoreInteractions(targetModelAssembler),
@@ -429,7 +433,7 @@ class TargetControllerGetMethodTest {
 
         String linkWithParameter = TARGET_BASE_PATH + "/" + "{id}";
 
-        when(targetService.findById(targetId)).thenReturn(Optional.empty());
+        when(targetService.findProjectedById(targetId)).thenReturn(Optional.empty());
 
         assertAll(
                 () -> mockMvc.perform(get(linkWithParameter, targetId))
@@ -440,7 +444,7 @@ class TargetControllerGetMethodTest {
                         .andExpect(jsonPath("errors[0]",
                                 is("Could not find TargetModel with id: " + targetId + ".")))
                         .andExpect(jsonPath("errors", hasSize(1))),
-                () -> verify(targetService, times(1)).findById(targetId),
+                () -> verify(targetService, times(1)).findProjectedById(targetId),
                 () -> verifyNoMoreInteractions(targetService),
                 () -> verifyNoInteractions(targetModelAssembler),
                 () -> verifyNoInteractions(pagedResourcesAssembler),
@@ -0,0 +1,87 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.XlsxColumnType;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("CsvImportSource_Tests")
+class CsvImportSourceTest {
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    void when_read_file_with_header_should_skip_header_and_read_projected_columns() throws Exception {
+
+        String header = "eventid,iyear,imonth,iday,a,b,c,d,country_txt\n";
+        String record = "197000000001,1970,7,2,x,x,x,x,Dominican Republic\n";
+
+        List<RawRow> rowsActual = read(header + record, true);
+
+        RawRow rowActual = rowsActual.get(0);
+
+        assertAll(() -> assertEquals(1, rowsActual.size(), () -> "should read one row, but was: " + rowsActual.size()),
+                () -> assertEquals(1970, rowActual.getNumber(XlsxColumnType.YEAR_OF_EVENT, 0),
+                        () -> "should read year: 1970, but was: " + rowActual.get(XlsxColumnType.YEAR_OF_EVENT)),
+                () -> assertEquals("Dominican Republic", rowActual.get(XlsxColumnType.COUNTRY_NAME),
+                        () -> "should read country: Dominican Republic, but was: " + rowActual.get(XlsxColumnType.COUNTRY_NAME)));
+    }
+
+    @Test
+    void when_read_quoted_field_with_separators_and_line_breaks_should_read_whole_value() throws Exception {
+
+        String record = "1,1970,7,2,x,x,x,x,\"Dominican\r\nRepublic, \"\"DR\"\"\",x\r\n2,1971,1,1\r\n";
+
+        List<RawRow> rowsActual = read(record, false);
+
+        String countryActual = rowsActual.get(0).get(XlsxColumnType.COUNTRY_NAME);
+
+        assertAll(() -> assertEquals(2, rowsActual.size(), () -> "should read two rows, but was: " + rowsActual.size()),
+                () -> assertEquals("Dominican\r\nRepublic, \"DR\"", countryActual,
+                        () -> "should read quoted country, but was: " + countryActual),
+                () -> assertEquals(1971, rowsActual.get(1).getNumber(XlsxColumnType.YEAR_OF_EVENT, 0),
+                        () -> "should read year of the second row: 1971, but was: "
+                                + rowsActual.get(1).get(XlsxColumnType.YEAR_OF_EVENT)));
+    }
+
+    @Test
+    void when_read_file_with_blank_lines_and_without_trailing_line_break_should_skip_blank_lines() throws Exception {
+
+        String records = "1,1970\n\n2,1971";
+
+        List<RawRow> rowsActual = read(records, false);
+
+        assertAll(() -> assertEquals(2, rowsActual.size(), () -> "should read two rows, but was: " + rowsActual.size()),
+                () -> assertEquals(1971, rowsActual.get(1).getNumber(XlsxColumnType.YEAR_OF_EVENT, 0),
+                        () -> "should read year of the last row: 1971, but was: "
+                                + rowsActual.get(1).get(XlsxColumnType.YEAR_OF_EVENT)));
+    }
+
+    private List<RawRow> read(String content, boolean hasHeader) throws IOException, InterruptedException {
+
+        Path file = temporaryDirectory.resolve("import.csv");
+
+        Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+
+        List<RawRow> rows = new ArrayList<>();
+
+        try (ImportSource importSource = new CsvImportSource(file, StandardCharsets.ISO_8859_1, hasHeader)) {
+            importSource.read(rows::add);
+        }
+
+        return rows;
+    }
+}
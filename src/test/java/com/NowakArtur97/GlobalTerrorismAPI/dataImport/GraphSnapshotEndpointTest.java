@@ -0,0 +1,89 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportFormatType;
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportModeType;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("GraphSnapshotEndpoint_Tests")
+class GraphSnapshotEndpointTest {
+
+    private GraphSnapshotEndpoint graphSnapshotEndpoint;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    @Mock
+    private GraphSnapshotWriter graphSnapshotWriter;
+
+    @BeforeEach
+    private void setUp() {
+
+        ImportConfigurationProperties importConfigurationProperties = new ImportConfigurationProperties("file.xlsx",
+                ImportModeType.FULL, ImportFormatType.XLSX, "UTF-8", true, true, 1000, 0, 1, 1, 10, false, false,
+                snapshotDirectory.toString(), 60, 5);
+
+        graphSnapshotEndpoint = new GraphSnapshotEndpoint(importConfigurationProperties, graphSnapshotWriter);
+    }
+
+    @Test
+    void when_export_snapshot_should_write_it_into_snapshot_directory() throws Exception {
+
+        Path snapshotFileExpected = snapshotDirectory.toAbsolutePath().normalize().resolve("snapshot.gtds");
+        GraphSnapshotSummary summaryExpected = GraphSnapshotSummary.builder().file(snapshotFileExpected.toString())
+                .build();
+
+        when(graphSnapshotWriter.write(snapshotFileExpected)).thenReturn(summaryExpected);
+
+        GraphSnapshotSummary summaryActual = graphSnapshotEndpoint.export("snapshot");
+
+        assertAll(() -> assertEquals(summaryExpected, summaryActual,
+                () -> "should return summary: " + summaryExpected + ", but was: " + summaryActual),
+                () -> verify(graphSnapshotWriter, times(1)).write(snapshotFileExpected),
+                () -> verifyNoMoreInteractions(graphSnapshotWriter));
+    }
+
+    @ParameterizedTest(name = "{index}: For file name: {0} should not write snapshot")
+    @ValueSource(strings = {"../snapshot", "..\\snapshot", "/tmp/snapshot", ".snapshot", " "})
+    void when_export_snapshot_outside_of_snapshot_directory_should_throw_exception(String fileName) {
+
+        assertAll(() -> assertThrows(InvalidEndpointRequestException.class,
+                () -> graphSnapshotEndpoint.export(fileName), () -> "should throw InvalidEndpointRequestException"),
+                () -> verifyNoInteractions(graphSnapshotWriter));
+    }
+
+    @Test
+    void when_export_snapshot_which_already_exists_should_throw_exception() throws Exception {
+
+        Path snapshotFile = snapshotDirectory.toAbsolutePath().normalize().resolve("snapshot.gtds");
+
+        when(graphSnapshotWriter.write(snapshotFile)).thenThrow(new FileAlreadyExistsException(snapshotFile.toString()));
+
+        InvalidEndpointRequestException exception = assertThrows(InvalidEndpointRequestException.class,
+                () -> graphSnapshotEndpoint.export("snapshot.gtds"),
+                () -> "should throw InvalidEndpointRequestException");
+
+        assertAll(() -> assertEquals("Snapshot already exists", exception.getReason(),
+                () -> "should throw exception with reason: Snapshot already exists, but was: " + exception.getReason()),
+                () -> verify(graphSnapshotWriter, times(1)).write(snapshotFile));
+    }
+}
@@ -0,0 +1,119 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.GraphSnapshotSectionType;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("GraphSnapshotInput_Tests")
+class GraphSnapshotInputTest {
+
+    @Test
+    void when_read_written_section_should_return_same_values() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GraphSnapshotOutput output = new GraphSnapshotOutput(bytes)) {
+
+            output.writeHeader(181691);
+            output.startSection(GraphSnapshotSectionType.EVENT);
+            output.startChunk(1);
+            output.writeNullableLong(197000000001L);
+            output.writeNullableLong(null);
+            output.writeNullableDouble(18.456792);
+            output.writeNullableDouble(null);
+            output.writeBooleans(true, null, false);
+            output.writeReference(300_000);
+            output.writeReference(-1);
+            output.endSection();
+            output.finish();
+        }
+
+        GraphSnapshotInput input = new GraphSnapshotInput(new ByteArrayInputStream(bytes.toByteArray()));
+
+        long estimatedEventsActual = input.readHeader();
+        GraphSnapshotSectionType sectionActual = input.readSection();
+        int chunkSizeActual = input.readChunkSize();
+        Long eventIdActual = input.readNullableLong();
+        Long missingLongActual = input.readNullableLong();
+        Double latitudeActual = input.readNullableDouble();
+        Double missingDoubleActual = input.readNullableDouble();
+        Boolean[] flagsActual = input.readBooleans(3);
+        long referenceActual = input.readReference();
+        long missingReferenceActual = input.readReference();
+        int endOfSectionActual = input.readChunkSize();
+        GraphSnapshotSectionType endOfSnapshotActual = input.readSection();
+
+        assertAll(() -> assertEquals(181691, estimatedEventsActual,
+                () -> "should return estimated events: 181691, but was: " + estimatedEventsActual),
+                () -> assertEquals(GraphSnapshotSectionType.EVENT, sectionActual,
+                        () -> "should return section: " + GraphSnapshotSectionType.EVENT + ", but was: " + sectionActual),
+                () -> assertEquals(1, chunkSizeActual, () -> "should return chunk size: 1, but was: " + chunkSizeActual),
+                () -> assertEquals(197000000001L, eventIdActual,
+                        () -> "should return event id: 197000000001, but was: " + eventIdActual),
+                () -> assertNull(missingLongActual, () -> "should return null, but was: " + missingLongActual),
+                () -> assertEquals(18.456792, latitudeActual,
+                        () -> "should return latitude: 18.456792, but was: " + latitudeActual),
+                () -> assertNull(missingDoubleActual, () -> "should return null, but was: " + missingDoubleActual),
+                () -> assertArrayEquals(new Boolean[]{true, null, false}, flagsActual,
+                        () -> "should return flags: [true, null, false]"),
+                () -> assertEquals(300_000, referenceActual,
+                        () -> "should return reference: 300000, but was: " + referenceActual),
+                () -> assertEquals(-1, missingReferenceActual,
+                        () -> "should return missing reference, but was: " + missingReferenceActual),
+                () -> assertEquals(0, endOfSectionActual,
+                        () -> "should return end of section, but was: " + endOfSectionActual),
+                () -> assertNull(endOfSnapshotActual, () -> "should return end of snapshot, but was: " + endOfSnapshotActual));
+    }
+
+    @Test
+    void when_read_repeated_strings_should_return_them_from_string_table() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (GraphSnapshotOutput output = new GraphSnapshotOutput(bytes)) {
+
+            output.writeString("Unknown");
+            output.writeString(null);
+            output.writeString("Zaporizhzhia Oblast");
+            output.writeString("Unknown");
+        }
+
+        int sizeWithRepeatedString = bytes.size();
+
+        GraphSnapshotInput input = new GraphSnapshotInput(new ByteArrayInputStream(bytes.toByteArray()));
+
+        String firstActual = input.readString();
+        String nullActual = input.readString();
+        String secondActual = input.readString();
+        String repeatedActual = input.readString();
+
+        assertAll(() -> assertEquals("Unknown", firstActual, () -> "should return: Unknown, but was: " + firstActual),
+                () -> assertNull(nullActual, () -> "should return null, but was: " + nullActual),
+                () -> assertEquals("Zaporizhzhia Oblast", secondActual,
+                        () -> "should return: Zaporizhzhia Oblast, but was: " + secondActual),
+                () -> assertEquals("Unknown", repeatedActual, () -> "should return: Unknown, but was: " + repeatedActual),
+                () -> assertEquals(1 + 1 + 7 + 1 + 1 + 1 + 19 + 1, sizeWithRepeatedString,
+                        () -> "should write repeated string as a single byte index, but size was: " + sizeWithRepeatedString));
+    }
+
+    @Test
+    void when_read_file_which_is_not_snapshot_should_throw_exception() {
+
+        GraphSnapshotInput input = new GraphSnapshotInput(new ByteArrayInputStream(new byte[]{'P', 'K', 3, 4, 0}));
+
+        IOException exception = assertThrows(IOException.class, input::readHeader,
+                () -> "should throw IOException, but nothing was thrown");
+
+        assertEquals("Not a graph snapshot", exception.getMessage(),
+                () -> "should throw exception with message: Not a graph snapshot, but was: " + exception.getMessage());
+    }
+}
@@ -0,0 +1,265 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportFormatType;
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportModeType;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ImportBatchWriterImpl_Tests")
+class ImportBatchWriterImplTest {
+
+    private final static int WRITER_THREADS = 4;
+
+    private final static int BATCHES = 40;
+
+    private final static int BATCH_SIZE = 50;
+
+    private ImportBatchWriter importBatchWriter;
+
+    // Graph ids of the merged nodes by their natural key, as MERGE would return them
+    private final Map<String, Long> nodeIds = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextNodeId = new AtomicLong();
+
+    private final Collection<Map<String, Object>> createdEvents = new ConcurrentLinkedQueue<>();
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    private void setUp() {
+
+        ImportConfigurationProperties importConfigurationProperties = new ImportConfigurationProperties("file.csv",
+                ImportModeType.FULL, ImportFormatType.CSV, "UTF-8", true, true, BATCH_SIZE, 0, 1, WRITER_THREADS, 10,
+                false, false, "snapshots", 60, 5);
+
+        importBatchWriter = new ImportBatchWriterImpl(session, transactionManager, new ImportEntityRegistryImpl(),
+                importConfigurationProperties);
+    }
+
+    @Test
+    void when_several_writers_share_reference_data_should_create_every_row_with_ids_of_its_nodes() throws Exception {
+
+        when(session.query(anyString(), anyMap())).thenAnswer(invocation ->
+                answer(invocation.getArgument(0), invocation.getArgument(1)));
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITER_THREADS);
+
+        List<Future<?>> writes = new ArrayList<>();
+
+        try {
+            for (int sequence = 0; sequence < BATCHES; sequence++) {
+
+                ImportBatch<ImportRow> batch = batchOf(sequence);
+
+                writes.add(writers.submit(() -> importBatchWriter.write(batch,
+                        new ImportCheckpoint("hash", BATCH_SIZE, Set.of(), 0))));
+            }
+
+            for (Future<?> write : writes) {
+                write.get();
+            }
+
+        } finally {
+
+            writers.shutdown();
+        }
+
+        List<String> wrongIds = new ArrayList<>();
+
+        for (Map<String, Object> event : createdEvents) {
+
+            long eventId = (Long) event.get("eventId");
+
+            if (!event.get("countryId").equals(nodeIds.get("country:" + countryNameOf(eventId)))
+                    || !event.get("cityId").equals(nodeIds.get("city:" + cityNameOf(eventId)))
+                    || !event.get("groupId").equals(nodeIds.get("group:" + groupNameOf(eventId)))) {
+                wrongIds.add("event " + eventId + ": " + event);
+            }
+        }
+
+        assertAll(() -> assertEquals(BATCHES * BATCH_SIZE, createdEvents.size(),
+                () -> "should create: " + BATCHES * BATCH_SIZE + " events, but was: " + createdEvents.size()),
+                () -> assertTrue(wrongIds.isEmpty(), () -> "should link every event to its nodes, but was: " + wrongIds));
+    }
+
+    @Test
+    void when_incremental_import_gets_rows_without_event_id_should_skip_them() {
+
+        ImportConfigurationProperties importConfigurationProperties = new ImportConfigurationProperties("file.xlsx",
+                ImportModeType.INCREMENTAL, ImportFormatType.XLSX, "UTF-8", true, true, BATCH_SIZE, 0, 1, 1, 10,
+                false, false, "snapshots", 60, 5);
+
+        ImportBatchWriter incrementalImportBatchWriter = new ImportBatchWriterImpl(session, transactionManager,
+                new ImportEntityRegistryImpl(), importConfigurationProperties);
+
+        when(session.query(anyString(), anyMap())).thenAnswer(invocation ->
+                answer(invocation.getArgument(0), invocation.getArgument(1)));
+
+        List<ImportRow> rows = new ArrayList<>(batchOf(0).getRows());
+
+        rows.set(0, ImportRow.builder().sourceHash("header").countryName("country").cityName("city").build());
+
+        incrementalImportBatchWriter.write(new ImportBatch<>(0, rows),
+                new ImportCheckpoint("hash", BATCH_SIZE, Set.of(), 0));
+
+        assertAll(() -> assertEquals(BATCH_SIZE - 1, createdEvents.size(),
+                () -> "should create: " + (BATCH_SIZE - 1) + " events, but was: " + createdEvents.size()),
+                () -> assertTrue(createdEvents.stream().allMatch(event -> event.get("eventId") != null),
+                        () -> "should not create events without event id, but was: " + createdEvents));
+    }
+
+    private ImportBatch<ImportRow> batchOf(int sequence) {
+
+        List<ImportRow> rows = new ArrayList<>(BATCH_SIZE);
+
+        for (int index = 0; index < BATCH_SIZE; index++) {
+
+            long eventId = (long) sequence * BATCH_SIZE + index;
+
+            rows.add(ImportRow.builder()
+                    .eventId(eventId)
+                    .sourceHash("hash" + eventId)
+                    .regionName("region")
+                    .countryName(countryNameOf(eventId))
+                    .provinceName("province of " + countryNameOf(eventId))
+                    .cityName(cityNameOf(eventId))
+                    .cityLatitude(10.0)
+                    .cityLongitude(20.0)
+                    .targetName("target" + eventId)
+                    .summary("summary")
+                    .motive("motive")
+                    .date(new Date())
+                    .groupName(groupNameOf(eventId))
+                    .build());
+        }
+
+        return new ImportBatch<>(sequence, rows);
+    }
+
+    // Every batch brings new nodes and reuses the ones of the batches before it
+    private static String countryNameOf(long eventId) {
+
+        return "country" + eventId / 7 % 40;
+    }
+
+    private static String cityNameOf(long eventId) {
+
+        return "city" + eventId / 3 % 300;
+    }
+
+    private static String groupNameOf(long eventId) {
+
+        return "group" + eventId / 11 % 100;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result answer(String query, Map<String, Object> parameters) {
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        if (query.contains("MERGE (region:Region")) {
+
+            for (Map<String, Object> location : (List<Map<String, Object>>) parameters.get("locations")) {
+
+                String countryName = (String) location.get("countryName");
+
+                Map<String, Object> row = new HashMap<>();
+
+                row.put("index", location.get("index"));
+                row.put("countryId", merge("country:" + countryName));
+                row.put("provinceId", merge("province:" + location.get("provinceName") + ":" + countryName));
+                row.put("cityId", merge("city:" + location.get("cityName")));
+
+                rows.add(row);
+            }
+
+        } else if (query.contains("MATCH (province) WHERE id(province)")) {
+
+            for (Map<String, Object> location : (List<Map<String, Object>>) parameters.get("locations")) {
+                rows.add(Map.of("index", location.get("index"), "cityId", merge("city:" + location.get("cityName"))));
+            }
+
+        } else if (query.contains("MERGE (group:Group")) {
+
+            for (String groupName : (Set<String>) parameters.get("groupNames")) {
+                rows.add(Map.of("groupName", groupName, "groupId", merge("group:" + groupName)));
+            }
+
+        } else if (query.contains("CREATE (event:Event")) {
+
+            createdEvents.addAll((List<Map<String, Object>>) parameters.get("rows"));
+        }
+
+        return new RowsResult(rows);
+    }
+
+    private long merge(String key) {
+
+        return nodeIds.computeIfAbsent(key, ignored -> nextNodeId.incrementAndGet());
+    }
+
+    private static class RowsResult implements Result {
+
+        private final List<Map<String, Object>> rows;
+
+        private RowsResult(List<Map<String, Object>> rows) {
+
+            this.rows = rows;
+        }
+
+        @Override
+        public Iterable<Map<String, Object>> queryResults() {
+
+            return rows;
+        }
+
+        @Override
+        public QueryStatistics queryStatistics() {
+
+            return null;
+        }
+
+        @Override
+        public Iterator<Map<String, Object>> iterator() {
+
+            return rows.iterator();
+        }
+    }
+}
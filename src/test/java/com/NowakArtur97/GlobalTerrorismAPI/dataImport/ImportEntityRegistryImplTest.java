@@ -0,0 +1,75 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ImportEntityRegistryImpl_Tests")
+class ImportEntityRegistryImplTest {
+
+    private ImportEntityRegistry importEntityRegistry;
+
+    @BeforeEach
+    private void setUp() {
+
+        importEntityRegistry = new ImportEntityRegistryImpl();
+    }
+
+    @Test
+    void when_find_provinces_with_keys_sharing_their_characters_should_return_id_of_each_province() {
+
+        importEntityRegistry.registerProvince("ab", "c", 1L);
+        importEntityRegistry.registerProvince("a", "bc", 2L);
+
+        long firstProvinceIdActual = importEntityRegistry.findProvinceId("ab", "c");
+        long secondProvinceIdActual = importEntityRegistry.findProvinceId("a", "bc");
+        long missingProvinceIdActual = importEntityRegistry.findProvinceId("abc", null);
+
+        assertAll(() -> assertEquals(1L, firstProvinceIdActual,
+                () -> "should return province with id: 1, but was: " + firstProvinceIdActual),
+                () -> assertEquals(2L, secondProvinceIdActual,
+                        () -> "should return province with id: 2, but was: " + secondProvinceIdActual),
+                () -> assertEquals(ImportEntityRegistry.MISSING_ID, missingProvinceIdActual,
+                        () -> "should not find province, but was: " + missingProvinceIdActual));
+    }
+
+    @Test
+    void when_find_cities_with_same_name_should_return_id_of_city_at_coordinates() {
+
+        importEntityRegistry.registerCity("city", 10.0, 20.0, 1L);
+        importEntityRegistry.registerCity("city", 20.0, 10.0, 2L);
+
+        long firstCityIdActual = importEntityRegistry.findCityId("city", 10.0, 20.0);
+        long secondCityIdActual = importEntityRegistry.findCityId("city", 20.0, 10.0);
+        long missingCityIdActual = importEntityRegistry.findCityId("city", 10.0, 10.0);
+
+        assertAll(() -> assertEquals(1L, firstCityIdActual,
+                () -> "should return city with id: 1, but was: " + firstCityIdActual),
+                () -> assertEquals(2L, secondCityIdActual,
+                        () -> "should return city with id: 2, but was: " + secondCityIdActual),
+                () -> assertEquals(ImportEntityRegistry.MISSING_ID, missingCityIdActual,
+                        () -> "should not find city, but was: " + missingCityIdActual));
+    }
+
+    @Test
+    void when_clear_registry_should_not_find_registered_nodes() {
+
+        importEntityRegistry.registerCountry("country", 1L);
+        importEntityRegistry.registerGroup("group", 2L);
+
+        importEntityRegistry.clear();
+
+        long countryIdActual = importEntityRegistry.findCountryId("country");
+        long groupIdActual = importEntityRegistry.findGroupId("group");
+
+        assertAll(() -> assertEquals(ImportEntityRegistry.MISSING_ID, countryIdActual,
+                () -> "should not find country, but was: " + countryIdActual),
+                () -> assertEquals(ImportEntityRegistry.MISSING_ID, groupIdActual,
+                        () -> "should not find group, but was: " + groupIdActual));
+    }
+}
@@ -0,0 +1,189 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportFormatType;
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportModeType;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ImportConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.schema.SchemaBootstrapper;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.model.QueryStatistics;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ImportLockImpl_Tests")
+class ImportLockImplTest {
+
+    // Renewed every third of the time to live
+    private final static int LOCK_TIME_TO_LIVE_SECONDS = 1;
+
+    private final static long RENEWAL_TIMEOUT_MILLIS = 5000;
+
+    private final static String ACQUIRE_QUERY_START = "MERGE (lock:ImportLock";
+
+    private final static String RENEW_QUERY_START = "MATCH (lock:ImportLock {name: $name, owner: $owner}) SET lock.expiresAt";
+
+    private final static String RELEASE_QUERY_START = "MATCH (lock:ImportLock {name: $name, owner: $owner}) SET lock.owner";
+
+    private ImportLockImpl importLock;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SchemaBootstrapper schemaBootstrapper;
+
+    @BeforeEach
+    private void setUp() {
+
+        ImportConfigurationProperties importConfigurationProperties = new ImportConfigurationProperties("file.xlsx",
+                ImportModeType.FULL, ImportFormatType.XLSX, "UTF-8", true, true, 1000, 0, 1, 1, 10, false, false,
+                "snapshots", LOCK_TIME_TO_LIVE_SECONDS, 0);
+
+        importLock = new ImportLockImpl(session, transactionManager, importConfigurationProperties,
+                new TaskSchedulerBuilder(), schemaBootstrapper);
+    }
+
+    @AfterEach
+    private void tearDown() {
+
+        importLock.destroy();
+    }
+
+    @Test
+    void when_lock_is_free_should_acquire_it_and_renew_lease_until_released() throws Exception {
+
+        when(schemaBootstrapper.createUniqueConstraint("ImportLock", "name")).thenReturn(true);
+        when(session.query(startsWith(ACQUIRE_QUERY_START), anyMap())).thenReturn(resultOf(lease(true, false)));
+        when(session.query(startsWith(RENEW_QUERY_START),
+                anyMap())).thenAnswer(invocation -> resultOf(Map.of("renewed", 1L)));
+        when(session.query(startsWith(RELEASE_QUERY_START), anyMap())).thenReturn(resultOf(Map.of()));
+
+        boolean acquired = importLock.acquire();
+
+        verify(session, timeout(RENEWAL_TIMEOUT_MILLIS).atLeast(2))
+                .query(startsWith(RENEW_QUERY_START), anyMap());
+
+        importLock.release(true);
+
+        assertAll(() -> assertTrue(acquired, () -> "should acquire lock"),
+                () -> assertFalse(Thread.interrupted(), () -> "should not interrupt holder of renewed lease"),
+                () -> verify(session, times(1)).query(startsWith(RELEASE_QUERY_START),
+                        argThat(parameters -> Boolean.TRUE.equals(parameters.get("isCompleted")))));
+    }
+
+    @Test
+    void when_lock_is_held_by_another_instance_should_wait_until_its_lease_expires() throws Exception {
+
+        when(schemaBootstrapper.createUniqueConstraint("ImportLock", "name")).thenReturn(true);
+        when(session.query(startsWith(ACQUIRE_QUERY_START), anyMap()))
+                .thenReturn(resultOf(lease(false, false)), resultOf(lease(false, false)), resultOf(lease(true, false)));
+        when(session.query(startsWith(RELEASE_QUERY_START), anyMap())).thenReturn(resultOf(Map.of()));
+
+        boolean acquired = importLock.acquire();
+
+        importLock.release(true);
+
+        assertAll(() -> assertTrue(acquired, () -> "should acquire lock"),
+                () -> verify(session, times(3)).query(startsWith(ACQUIRE_QUERY_START), anyMap()));
+    }
+
+    @Test
+    void when_another_instance_completed_import_while_waiting_should_not_acquire_lock() throws Exception {
+
+        when(schemaBootstrapper.createUniqueConstraint("ImportLock", "name")).thenReturn(true);
+        when(session.query(startsWith(ACQUIRE_QUERY_START), anyMap()))
+                .thenReturn(resultOf(lease(false, false)), resultOf(lease(false, true)));
+
+        boolean acquired = importLock.acquire();
+
+        assertAll(() -> assertFalse(acquired, () -> "should not acquire lock"),
+                () -> verify(session, times(2)).query(startsWith(ACQUIRE_QUERY_START), anyMap()),
+                () -> verifyNoMoreInteractions(session));
+    }
+
+    @Test
+    void when_lease_expired_and_was_taken_over_should_interrupt_holder() throws Exception {
+
+        when(schemaBootstrapper.createUniqueConstraint("ImportLock", "name")).thenReturn(true);
+        when(session.query(startsWith(ACQUIRE_QUERY_START), anyMap())).thenReturn(resultOf(lease(true, false)));
+        when(session.query(startsWith(RENEW_QUERY_START),
+                anyMap())).thenAnswer(invocation -> resultOf(Map.of("renewed", 0L)));
+
+        importLock.acquire();
+
+        assertThrows(InterruptedException.class, () -> Thread.sleep(RENEWAL_TIMEOUT_MILLIS),
+                () -> "should interrupt holder of lost lease");
+    }
+
+    @Test
+    void when_lock_name_is_not_unique_should_not_acquire_lock() {
+
+        when(schemaBootstrapper.createUniqueConstraint("ImportLock", "name")).thenReturn(false);
+
+        assertAll(() -> assertThrows(IllegalStateException.class, () -> importLock.acquire(),
+                () -> "should throw IllegalStateException"),
+                () -> verifyNoInteractions(session));
+    }
+
+    private static Map<String, Object> lease(boolean acquired, boolean isDataReady) {
+
+        return Map.of("since", 1L, "acquired", acquired, "isDataReady", isDataReady);
+    }
+
+    private static Result resultOf(Map<String, Object> row) {
+
+        return new RowResult(row);
+    }
+
+    private static class RowResult implements Result {
+
+        private final Map<String, Object> row;
+
+        private RowResult(Map<String, Object> row) {
+
+            this.row = row;
+        }
+
+        @Override
+        public Iterable<Map<String, Object>> queryResults() {
+
+            return List.of(row);
+        }
+
+        @Override
+        public QueryStatistics queryStatistics() {
+
+            return null;
+        }
+
+        @Override
+        public Iterator<Map<String, Object>> iterator() {
+
+            return queryResults().iterator();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.ImportStatusType;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ImportProgressTracker_Tests")
+class ImportProgressTrackerTest {
+
+    private ImportProgressTracker importProgressTracker;
+
+    @BeforeEach
+    private void setUp() {
+
+        importProgressTracker = new ImportProgressTracker();
+    }
+
+    @Test
+    void when_import_was_not_started_should_return_idle_progress() {
+
+        ImportProgress progressActual = importProgressTracker.getProgress();
+
+        assertAll(() -> assertEquals(ImportStatusType.IDLE, progressActual.getStatus(),
+                () -> "should return status: " + ImportStatusType.IDLE + ", but was: " + progressActual.getStatus()),
+                () -> assertEquals(0, progressActual.getRowsImported(),
+                        () -> "should return 0 imported rows, but was: " + progressActual.getRowsImported()));
+    }
+
+    @Test
+    void when_resumed_import_is_running_should_return_imported_and_resumed_rows() {
+
+        ImportCheckpoint checkpoint = new ImportCheckpoint("hash", 100, Set.of(0L, 1L), 200);
+
+        importProgressTracker.start(checkpoint, () -> 1000);
+        importProgressTracker.rowsImported(100);
+        importProgressTracker.rowsImported(50);
+
+        ImportProgress progressActual = importProgressTracker.getProgress();
+
+        assertAll(() -> assertEquals(ImportStatusType.RUNNING, progressActual.getStatus(),
+                () -> "should return status: " + ImportStatusType.RUNNING + ", but was: " + progressActual.getStatus()),
+                () -> assertEquals("hash", progressActual.getFileHash(),
+                        () -> "should return file hash: hash, but was: " + progressActual.getFileHash()),
+                () -> assertEquals(150, progressActual.getRowsImported(),
+                        () -> "should return 150 imported rows, but was: " + progressActual.getRowsImported()),
+                () -> assertEquals(200, progressActual.getRowsResumed(),
+                        () -> "should return 200 resumed rows, but was: " + progressActual.getRowsResumed()),
+                () -> assertEquals(1000, progressActual.getEstimatedTotalRows(),
+                        () -> "should return 1000 estimated rows, but was: " + progressActual.getEstimatedTotalRows()));
+    }
+
+    @Test
+    void when_import_fails_should_return_failed_progress_with_error() {
+
+        importProgressTracker.start(new ImportCheckpoint("hash", 100, Set.of(), 0), () -> -1);
+        importProgressTracker.fail(new IOException("Unable to read workbook"));
+
+        ImportProgress progressActual = importProgressTracker.getProgress();
+
+        assertAll(() -> assertEquals(ImportStatusType.FAILED, progressActual.getStatus(),
+                () -> "should return status: " + ImportStatusType.FAILED + ", but was: " + progressActual.getStatus()),
+                () -> assertEquals("Unable to read workbook", progressActual.getError(),
+                        () -> "should return error: Unable to read workbook, but was: " + progressActual.getError()),
+                () -> assertEquals(-1, progressActual.getEstimatedSecondsRemaining(),
+                        () -> "should return unknown remaining time, but was: " + progressActual.getEstimatedSecondsRemaining()));
+    }
+
+    @Test
+    void when_import_is_scheduled_should_be_importing_before_the_pipeline_starts() {
+
+        importProgressTracker.schedule();
+
+        ImportProgress progressActual = importProgressTracker.getProgress();
+
+        assertAll(() -> assertEquals(ImportStatusType.SCHEDULED, progressActual.getStatus(),
+                () -> "should return status: " + ImportStatusType.SCHEDULED + ", but was: " + progressActual.getStatus()),
+                () -> assertTrue(importProgressTracker.isImporting(), () -> "should be importing, but was not"));
+    }
+
+    @Test
+    void when_scheduled_import_is_skipped_should_return_idle_progress() {
+
+        importProgressTracker.schedule();
+        importProgressTracker.skip();
+
+        ImportProgress progressActual = importProgressTracker.getProgress();
+
+        assertAll(() -> assertEquals(ImportStatusType.IDLE, progressActual.getStatus(),
+                () -> "should return status: " + ImportStatusType.IDLE + ", but was: " + progressActual.getStatus()),
+                () -> assertFalse(importProgressTracker.isImporting(), () -> "should not be importing, but was"));
+    }
+
+    @Test
+    void when_failed_import_fails_again_should_keep_first_error() {
+
+        importProgressTracker.schedule();
+        importProgressTracker.start(new ImportCheckpoint("hash", 100, Set.of(), 0), () -> -1);
+        importProgressTracker.fail(new IOException("Unable to read workbook"));
+        importProgressTracker.fail(new IllegalStateException("Import interrupted"));
+        importProgressTracker.skip();
+
+        ImportProgress progressActual = importProgressTracker.getProgress();
+
+        assertAll(() -> assertEquals(ImportStatusType.FAILED, progressActual.getStatus(),
+                () -> "should return status: " + ImportStatusType.FAILED + ", but was: " + progressActual.getStatus()),
+                () -> assertEquals("Unable to read workbook", progressActual.getError(),
+                        () -> "should return error: Unable to read workbook, but was: " + progressActual.getError()),
+                () -> assertFalse(importProgressTracker.isImporting(), () -> "should not be importing, but was"));
+    }
+}
@@ -0,0 +1,185 @@
+package com.NowakArtur97.GlobalTerrorismAPI.dataImport;
+
+import com.NowakArtur97.GlobalTerrorismAPI.enums.XlsxColumnType;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ImportRowDecoderImpl_Tests")
+class ImportRowDecoderImplTest {
+
+    private ImportRowDecoder importRowDecoder;
+
+    @BeforeEach
+    private void setUp() {
+
+        importRowDecoder = new ImportRowDecoderImpl();
+    }
+
+    @Test
+    void when_decode_full_row_should_return_import_row() {
+
+        RawRow row = new RawRow(0);
+
+        row.set(XlsxColumnType.EVENT_ID, 197000000001L);
+        row.set(XlsxColumnType.YEAR_OF_EVENT, 1970);
+        row.set(XlsxColumnType.MONTH_OF_EVENT, 7);
+        row.set(XlsxColumnType.DAY_OF_EVENT, 2);
+        row.set(XlsxColumnType.COUNTRY_NAME, "country");
+        row.set(XlsxColumnType.REGION_NAME, "region");
+        row.set(XlsxColumnType.PROVINCE_NAME, "province");
+        row.set(XlsxColumnType.CITY_NAME, "city");
+        row.set(XlsxColumnType.CITY_LATITUDE, 18.45);
+        row.set(XlsxColumnType.CITY_LONGITUDE, -69.95);
+        row.set(XlsxColumnType.EVENT_SUMMARY, "summary");
+        row.set(XlsxColumnType.WAS_EVENT_PART_OF_MULTIPLE_INCIDENTS, 1);
+        row.set(XlsxColumnType.WAS_EVENT_SUCCESS, 0);
+        row.set(XlsxColumnType.WAS_EVENT_SUICIDE, "1.0");
+        row.set(XlsxColumnType.TARGET_NAME, "target");
+        row.set(XlsxColumnType.GROUP_NAME, "group");
+        row.set(XlsxColumnType.EVENT_MOTIVE, "motive");
+
+        ImportRow importRowActual = importRowDecoder.decode(row);
+
+        Calendar dateActual = Calendar.getInstance();
+        dateActual.setTime(importRowActual.getDate());
+
+        assertAll(() -> assertEquals(197000000001L, importRowActual.getEventId(),
+                () -> "should return row with event id: 197000000001, but was: " + importRowActual.getEventId()),
+                () -> assertEquals("region", importRowActual.getRegionName(),
+                () -> "should return row with region name: region, but was: " + importRowActual.getRegionName()),
+                () -> assertEquals("country", importRowActual.getCountryName(),
+                        () -> "should return row with country name: country, but was: " + importRowActual.getCountryName()),
+                () -> assertEquals("province", importRowActual.getProvinceName(),
+                        () -> "should return row with province name: province, but was: " + importRowActual.getProvinceName()),
+                () -> assertEquals("city", importRowActual.getCityName(),
+                        () -> "should return row with city name: city, but was: " + importRowActual.getCityName()),
+                () -> assertEquals(18.45, importRowActual.getCityLatitude(),
+                        () -> "should return row with city latitude: 18.45, but was: " + importRowActual.getCityLatitude()),
+                () -> assertEquals(-69.95, importRowActual.getCityLongitude(),
+                        () -> "should return row with city longitude: -69.95, but was: " + importRowActual.getCityLongitude()),
+                () -> assertEquals("target", importRowActual.getTargetName(),
+                        () -> "should return row with target name: target, but was: " + importRowActual.getTargetName()),
+                () -> assertEquals("summary", importRowActual.getSummary(),
+                        () -> "should return row with summary: summary, but was: " + importRowActual.getSummary()),
+                () -> assertEquals("motive", importRowActual.getMotive(),
+                        () -> "should return row with motive: motive, but was: " + importRowActual.getMotive()),
+                () -> assertEquals(1970, dateActual.get(Calendar.YEAR),
+                        () -> "should return row with year: 1970, but was: " + dateActual.get(Calendar.YEAR)),
+                () -> assertEquals(Calendar.JULY, dateActual.get(Calendar.MONTH),
+                        () -> "should return row with month: " + Calendar.JULY + ", but was: " + dateActual.get(Calendar.MONTH)),
+                () -> assertEquals(2, dateActual.get(Calendar.DAY_OF_MONTH),
+                        () -> "should return row with day: 2, but was: " + dateActual.get(Calendar.DAY_OF_MONTH)),
+                () -> assertTrue(importRowActual.isPartOfMultipleIncidents(),
+                        () -> "should return row which was part of multiple incidents"),
+                () -> assertFalse(importRowActual.isSuccessful(), () -> "should return row which was not successful"),
+                () -> assertTrue(importRowActual.isSuicidal(), () -> "should return row which was suicidal"),
+                () -> assertEquals("group", importRowActual.getGroupName(),
+                        () -> "should return row with group name: group, but was: " + importRowActual.getGroupName()));
+    }
+
+    @Test
+    void when_decode_row_with_numbers_stored_as_text_should_parse_them() {
+
+        RawRow row = new RawRow(0);
+
+        row.set(XlsxColumnType.YEAR_OF_EVENT, "1970.0");
+        row.set(XlsxColumnType.MONTH_OF_EVENT, "7");
+        row.set(XlsxColumnType.CITY_LATITUDE, "18.45");
+        row.set(XlsxColumnType.WAS_EVENT_SUCCESS, "1.0");
+        row.set(XlsxColumnType.WAS_EVENT_SUICIDE, "yes");
+
+        ImportRow importRowActual = importRowDecoder.decode(row);
+
+        Calendar dateActual = Calendar.getInstance();
+        dateActual.setTime(importRowActual.getDate());
+
+        assertAll(() -> assertEquals(1970, dateActual.get(Calendar.YEAR),
+                () -> "should return row with year: 1970, but was: " + dateActual.get(Calendar.YEAR)),
+                () -> assertEquals(Calendar.JULY, dateActual.get(Calendar.MONTH),
+                        () -> "should return row with month: " + Calendar.JULY + ", but was: " + dateActual.get(Calendar.MONTH)),
+                () -> assertEquals(18.45, importRowActual.getCityLatitude(),
+                        () -> "should return row with city latitude: 18.45, but was: " + importRowActual.getCityLatitude()),
+                () -> assertTrue(importRowActual.isSuccessful(), () -> "should return row which was successful"),
+                () -> assertFalse(importRowActual.isSuicidal(), () -> "should return row which was not suicidal"));
+    }
+
+    @Test
+    void when_decode_same_values_stored_as_numbers_and_text_should_return_same_source_hash() {
+
+        RawRow rowWithNumbers = new RawRow(0);
+        rowWithNumbers.set(XlsxColumnType.YEAR_OF_EVENT, 1970);
+        rowWithNumbers.set(XlsxColumnType.CITY_LATITUDE, 18.45);
+        rowWithNumbers.set(XlsxColumnType.EVENT_SUMMARY, "summary");
+
+        RawRow rowWithText = new RawRow(1);
+        rowWithText.set(XlsxColumnType.YEAR_OF_EVENT, "1970");
+        rowWithText.set(XlsxColumnType.CITY_LATITUDE, "18.45");
+        rowWithText.set(XlsxColumnType.EVENT_SUMMARY, "summary");
+
+        RawRow changedRow = new RawRow(2);
+        changedRow.set(XlsxColumnType.YEAR_OF_EVENT, 1970);
+        changedRow.set(XlsxColumnType.CITY_LATITUDE, 18.45);
+        changedRow.set(XlsxColumnType.EVENT_SUMMARY, "changed summary");
+
+        String hashWithNumbersActual = importRowDecoder.decode(rowWithNumbers).getSourceHash();
+        String hashWithTextActual = importRowDecoder.decode(rowWithText).getSourceHash();
+        String changedHashActual = importRowDecoder.decode(changedRow).getSourceHash();
+
+        assertAll(() -> assertEquals(hashWithNumbersActual, hashWithTextActual,
+                () -> "should return same source hash: " + hashWithNumbersActual + ", but was: " + hashWithTextActual),
+                () -> assertNotEquals(hashWithNumbersActual, changedHashActual,
+                        () -> "should return different source hash for changed row, but was: " + changedHashActual));
+    }
+
+    @Test
+    void when_decode_whole_number_in_text_column_stored_as_number_should_write_and_hash_it_as_in_csv() {
+
+        RawRow rowWithNumber = new RawRow(0);
+        rowWithNumber.set(XlsxColumnType.CITY_NAME, 1);
+
+        RawRow rowWithText = new RawRow(1);
+        rowWithText.set(XlsxColumnType.CITY_NAME, "1");
+
+        ImportRow importRowWithNumberActual = importRowDecoder.decode(rowWithNumber);
+        ImportRow importRowWithTextActual = importRowDecoder.decode(rowWithText);
+
+        assertAll(() -> assertEquals("1", importRowWithNumberActual.getCityName(),
+                () -> "should return row with city name: 1, but was: " + importRowWithNumberActual.getCityName()),
+                () -> assertEquals(importRowWithTextActual.getSourceHash(), importRowWithNumberActual.getSourceHash(),
+                        () -> "should return same source hash: " + importRowWithTextActual.getSourceHash()
+                                + ", but was: " + importRowWithNumberActual.getSourceHash()));
+    }
+
+    @Test
+    void when_decode_empty_row_should_return_import_row_with_default_values() {
+
+        RawRow row = new RawRow(0);
+
+        ImportRow importRowActual = importRowDecoder.decode(row);
+
+        Calendar dateActual = Calendar.getInstance();
+        dateActual.setTime(importRowActual.getDate());
+
+        assertAll(() -> assertNull(importRowActual.getEventId(),
+                () -> "should return row without event id, but was: " + importRowActual.getEventId()),
+                () -> assertEquals("", importRowActual.getCityName(),
+                () -> "should return row with empty city name, but was: " + importRowActual.getCityName()),
+                () -> assertEquals(0, importRowActual.getCityLatitude(),
+                        () -> "should return row with city latitude: 0, but was: " + importRowActual.getCityLatitude()),
+                () -> assertEquals(1900, dateActual.get(Calendar.YEAR),
+                        () -> "should return row with year: 1900, but was: " + dateActual.get(Calendar.YEAR)),
+                () -> assertEquals(Calendar.JANUARY, dateActual.get(Calendar.MONTH),
+                        () -> "should return row with month: " + Calendar.JANUARY + ", but was: " + dateActual.get(Calendar.MONTH)),
+                () -> assertEquals(1, dateActual.get(Calendar.DAY_OF_MONTH),
+                        () -> "should return row with day: 1, but was: " + dateActual.get(Calendar.DAY_OF_MONTH)),
+                () -> assertFalse(importRowActual.isSuccessful(), () -> "should return row which was not successful"));
+    }
+}
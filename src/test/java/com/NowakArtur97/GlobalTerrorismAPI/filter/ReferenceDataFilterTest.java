@@ -0,0 +1,154 @@
+package com.NowakArtur97.GlobalTerrorismAPI.filter;
+
+import com.NowakArtur97.GlobalTerrorismAPI.dataImport.ImportProgressTracker;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ReferenceDataConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LabelVersions;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("ReferenceDataFilter_Tests")
+class ReferenceDataFilterTest {
+
+    private final static String COUNTRIES_PATH = "/api/v1/countries";
+
+    private ReferenceDataFilter referenceDataFilter;
+
+    @Mock
+    private ImportProgressTracker importProgressTracker;
+
+    @Mock
+    private LabelVersions labelVersions;
+
+    private AtomicInteger renders;
+
+    private FilterChain filterChain;
+
+    @BeforeEach
+    private void setUp() {
+
+        referenceDataFilter = new ReferenceDataFilter(new ReferenceDataConfigurationProperties(true, 10),
+                importProgressTracker, labelVersions);
+
+        renders = new AtomicInteger();
+
+        filterChain = (request, response) -> {
+
+            renders.incrementAndGet();
+
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write("{\"content\":[]}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    @Test
+    void when_request_countries_twice_should_render_once_and_return_same_bytes_with_etag() throws Exception {
+
+        MockHttpServletResponse firstResponse = get(COUNTRIES_PATH, null);
+        MockHttpServletResponse secondResponse = get(COUNTRIES_PATH, null);
+
+        assertAll(() -> assertEquals(1, renders.get(), () -> "should render once, but rendered: " + renders.get()),
+                () -> assertEquals(HttpServletResponse.SC_OK, secondResponse.getStatus(),
+                        () -> "should return status: 200, but was: " + secondResponse.getStatus()),
+                () -> assertEquals(firstResponse.getContentAsString(), secondResponse.getContentAsString(),
+                        () -> "should return same body: " + firstResponse.getContentAsString() + ", but was: "
+                                + secondResponse.getContentAsString()),
+                () -> assertNotNull(secondResponse.getHeader(HttpHeaders.ETAG), () -> "should return ETag"),
+                () -> assertEquals(firstResponse.getHeader(HttpHeaders.ETAG), secondResponse.getHeader(HttpHeaders.ETAG),
+                        () -> "should return same ETag: " + firstResponse.getHeader(HttpHeaders.ETAG) + ", but was: "
+                                + secondResponse.getHeader(HttpHeaders.ETAG)),
+                () -> assertEquals("public, no-cache", secondResponse.getHeader(HttpHeaders.CACHE_CONTROL),
+                        () -> "should return Cache-Control: public, no-cache, but was: "
+                                + secondResponse.getHeader(HttpHeaders.CACHE_CONTROL)));
+    }
+
+    @Test
+    void when_request_countries_with_current_etag_should_return_not_modified() throws Exception {
+
+        String etag = get(COUNTRIES_PATH, null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse responseActual = get(COUNTRIES_PATH, etag);
+
+        assertAll(() -> assertEquals(HttpServletResponse.SC_NOT_MODIFIED, responseActual.getStatus(),
+                () -> "should return status: 304, but was: " + responseActual.getStatus()),
+                () -> assertEquals(0, responseActual.getContentLength(),
+                        () -> "should return empty body, but was: " + responseActual.getContentAsString()),
+                () -> assertEquals(1, renders.get(), () -> "should render once, but rendered: " + renders.get()));
+    }
+
+    @Test
+    void when_controller_sets_etag_should_return_it_for_rendered_and_stored_response() throws Exception {
+
+        String controllerEtag = "\"abc-1-2\"";
+
+        filterChain = (request, response) -> {
+
+            renders.incrementAndGet();
+
+            ((HttpServletResponse) response).setHeader(HttpHeaders.ETAG, controllerEtag);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write("{\"content\":[]}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        MockHttpServletResponse firstResponse = get(COUNTRIES_PATH, null);
+        MockHttpServletResponse secondResponse = get(COUNTRIES_PATH, null);
+        MockHttpServletResponse thirdResponse = get(COUNTRIES_PATH, controllerEtag);
+
+        assertAll(() -> assertEquals(controllerEtag, firstResponse.getHeader(HttpHeaders.ETAG),
+                () -> "should return ETag: " + controllerEtag + ", but was: " + firstResponse.getHeader(HttpHeaders.ETAG)),
+                () -> assertEquals(controllerEtag, secondResponse.getHeader(HttpHeaders.ETAG),
+                        () -> "should return ETag: " + controllerEtag + ", but was: "
+                                + secondResponse.getHeader(HttpHeaders.ETAG)),
+                () -> assertEquals(HttpServletResponse.SC_NOT_MODIFIED, thirdResponse.getStatus(),
+                        () -> "should return status: 304, but was: " + thirdResponse.getStatus()),
+                () -> assertEquals(1, renders.get(), () -> "should render once, but rendered: " + renders.get()));
+    }
+
+    @Test
+    void when_region_changes_should_render_countries_again() throws Exception {
+
+        when(labelVersions.getVersion(CountryNode.class)).thenReturn(1L);
+        when(labelVersions.getVersion(RegionNode.class)).thenReturn(1L, 2L);
+
+        get(COUNTRIES_PATH, null);
+        get(COUNTRIES_PATH, null);
+
+        assertEquals(2, renders.get(), () -> "should render twice, but rendered: " + renders.get());
+    }
+
+    private MockHttpServletResponse get(String path, String ifNoneMatch) throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        referenceDataFilter.doFilter(request, response, filterChain);
+
+        return response;
+    }
+}
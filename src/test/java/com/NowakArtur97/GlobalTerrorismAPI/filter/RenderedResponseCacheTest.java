@@ -0,0 +1,121 @@
+package com.NowakArtur97.GlobalTerrorismAPI.filter;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ResponseCacheConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LabelVersions;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("RenderedResponseCache_Tests")
+class RenderedResponseCacheTest {
+
+    private RenderedResponseCache renderedResponseCache;
+
+    @Mock
+    private LabelVersions labelVersions;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Event event;
+
+    @BeforeEach
+    private void setUp() {
+
+        renderedResponseCache = new RenderedResponseCache(new ResponseCacheConfigurationProperties(true, 100, 60, false),
+                labelVersions, sessionFactory, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void when_embedded_node_is_saved_should_evict_responses_showing_it() {
+
+        RenderedResponse eventResponse = new RenderedResponse("application/json", new byte[10], false);
+        RenderedResponse groupResponse = new RenderedResponse("application/json", new byte[10], false);
+
+        renderedResponseCache.put("event", eventResponse, Set.of(1L, 2L), renderedResponseCache.getGeneration());
+        renderedResponseCache.put("group", groupResponse, Set.of(3L), renderedResponseCache.getGeneration());
+
+        when(event.getObject()).thenReturn(new TargetNode(2L, "target", null));
+
+        renderedResponseCache.onPostSave(event);
+
+        assertAll(() -> assertTrue(renderedResponseCache.get("event").isEmpty(),
+                () -> "should evict response showing saved target"),
+                () -> assertEquals(groupResponse, renderedResponseCache.get("group").orElseThrow(),
+                        () -> "should keep response not showing saved target"),
+                () -> assertEquals(10, renderedResponseCache.getSize(),
+                        () -> "should keep: 10 bytes, but was: " + renderedResponseCache.getSize()),
+                () -> verify(sessionFactory, times(1)).register(renderedResponseCache));
+    }
+
+    @Test
+    void when_response_outlived_time_to_live_should_not_return_it() {
+
+        RenderedResponseCache expiringResponseCache = new RenderedResponseCache(
+                new ResponseCacheConfigurationProperties(true, 100, 0, false), labelVersions, sessionFactory,
+                new SimpleMeterRegistry());
+
+        RenderedResponse response = new RenderedResponse("application/json", new byte[10], false);
+
+        expiringResponseCache.put("event", response, Set.of(1L), expiringResponseCache.getGeneration());
+
+        assertAll(() -> assertTrue(expiringResponseCache.get("event").isEmpty(),
+                () -> "should not return expired response"),
+                () -> assertEquals(0, expiringResponseCache.getSize(),
+                        () -> "should keep: 0 bytes, but was: " + expiringResponseCache.getSize()));
+    }
+
+    @Test
+    void when_size_is_exceeded_should_evict_least_recently_used_responses() {
+
+        RenderedResponse firstResponse = new RenderedResponse("application/json", new byte[40], false);
+        RenderedResponse secondResponse = new RenderedResponse("application/json", new byte[40], false);
+        RenderedResponse thirdResponse = new RenderedResponse("application/json", new byte[40], false);
+
+        renderedResponseCache.put("first", firstResponse, Set.of(1L), renderedResponseCache.getGeneration());
+        renderedResponseCache.put("second", secondResponse, Set.of(2L), renderedResponseCache.getGeneration());
+        renderedResponseCache.get("first");
+        renderedResponseCache.put("third", thirdResponse, Set.of(3L), renderedResponseCache.getGeneration());
+
+        assertAll(() -> assertTrue(renderedResponseCache.get("first").isPresent(),
+                () -> "should keep recently used response"),
+                () -> assertTrue(renderedResponseCache.get("second").isEmpty(),
+                        () -> "should evict least recently used response"),
+                () -> assertTrue(renderedResponseCache.get("third").isPresent(), () -> "should keep new response"),
+                () -> assertEquals(80, renderedResponseCache.getSize(),
+                        () -> "should keep: 80 bytes, but was: " + renderedResponseCache.getSize()));
+    }
+
+    @Test
+    void when_nodes_are_written_in_plain_cypher_while_rendering_should_not_cache_response() {
+
+        when(labelVersions.getVersionOfAll()).thenReturn(1L, 2L);
+
+        long generation = renderedResponseCache.getGeneration();
+
+        renderedResponseCache.put("event", new RenderedResponse("application/json", new byte[10], false),
+                Set.of(1L), generation);
+
+        assertAll(() -> assertTrue(renderedResponseCache.get("event").isEmpty(),
+                () -> "should not cache response rendered before the write"),
+                () -> assertEquals(0, renderedResponseCache.getSize(),
+                        () -> "should keep: 0 bytes, but was: " + renderedResponseCache.getSize()));
+    }
+}
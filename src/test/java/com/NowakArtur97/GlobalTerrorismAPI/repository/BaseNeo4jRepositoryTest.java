@@ -0,0 +1,81 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("BaseNeo4jRepository_Tests")
+class BaseNeo4jRepositoryTest {
+
+    private BaseNeo4jRepository<TargetNode, Long> targetRepository;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Result result;
+
+    @Mock
+    private NodeCountCache nodeCountCache;
+
+    @BeforeEach
+    private void setUp() {
+
+        targetRepository = new BaseNeo4jRepository<>(TargetNode.class, session, nodeCountCache, null);
+    }
+
+    @Test
+    void when_save_target_linking_by_id_should_save_only_target_and_link_country_by_its_id() {
+
+        CountryNode countryNode = new CountryNode(2L, "country", null);
+        TargetNode targetNode = new TargetNode(1L, "target", countryNode);
+        targetNode.setVersion(0L);
+
+        when(session.query(contains("versionLock"), eq(Map.of("id", 1L, "version", 0L)))).thenReturn(result);
+        when(result.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("id", 1L)).iterator());
+        when(session.resolveGraphIdFor(targetNode)).thenReturn(1L);
+        when(session.resolveGraphIdFor(countryNode)).thenReturn(2L);
+
+        TargetNode targetNodeActual = targetRepository.saveLinkingById(targetNode);
+
+        assertAll(() -> assertEquals(targetNode, targetNodeActual,
+                () -> "should return saved target: " + targetNode + ", but was: " + targetNodeActual),
+                () -> assertEquals(1L, targetNodeActual.getVersion(),
+                        () -> "should increment version to: 1, but was: " + targetNodeActual.getVersion()),
+                () -> verify(session, times(1)).save(targetNode, 0),
+                () -> verify(session, never()).save(eq(countryNode), anyInt()),
+                () -> verify(session, times(1)).query(contains("MERGE (node)-[:`IS_FROM`]->(relatedNode)"),
+                        eq(Map.of("id", 1L, "relatedId", 2L))));
+    }
+
+    @Test
+    void when_save_target_linking_by_id_to_not_saved_country_should_throw_exception() {
+
+        CountryNode countryNode = new CountryNode("country", null);
+        TargetNode targetNode = new TargetNode("target", countryNode);
+
+        when(session.resolveGraphIdFor(targetNode)).thenReturn(1L);
+        when(session.resolveGraphIdFor(countryNode)).thenReturn(null);
+
+        assertAll(() -> assertThrows(IllegalStateException.class,
+                () -> targetRepository.saveLinkingById(targetNode), () -> "should throw IllegalStateException"),
+                () -> verify(session, never()).query(contains("MERGE"), anyMap()));
+    }
+}
@@ -0,0 +1,153 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.*;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.configuration.Neo4jTestConfiguration;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.database.Neo4jDatabaseUtil;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.neo4j.ogm.cypher.query.Pagination;
+import org.neo4j.ogm.session.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Not picked up by the default test run, started with: mvn test -Dtest=EventNodeProjectionBenchmark
+@SpringBootTest
+@Import(Neo4jTestConfiguration.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("EventNodeProjection_Benchmarks")
+@Slf4j
+class EventNodeProjectionBenchmark {
+
+    private final static int NUMBER_OF_EVENTS = 500;
+
+    private final static int PAGE_SIZE = 100;
+
+    private final static int WARM_UP_ITERATIONS = 20;
+
+    private final static int MEASURED_ITERATIONS = 100;
+
+    // Depth at which the OGM reaches the region of the city, as the update of an event loads it
+    private final static int DEPTH_OF_WHOLE_EVENT = 5;
+
+    private static final List<Long> eventIds = new ArrayList<>();
+
+    @Autowired
+    private Session session;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeAll
+    private static void setUp(@Autowired EventRepository eventRepository) {
+
+        RegionNode regionNode = new RegionNode("region");
+        CountryNode countryNode = new CountryNode("country", regionNode);
+        ProvinceNode provinceNode = new ProvinceNode("province", countryNode);
+
+        for (int i = 0; i < NUMBER_OF_EVENTS; i++) {
+
+            TargetNode targetNode = new TargetNode("target " + i, countryNode);
+            CityNode cityNode = new CityNode("city " + i, 10.0 + i % 80, 20.0 + i % 160, provinceNode);
+
+            EventNode eventNode = new EventNode("summary " + i, "motive " + i, new Date(), false, true, false,
+                    targetNode, cityNode);
+
+            eventIds.add(eventRepository.save(eventNode).getId());
+        }
+    }
+
+    @AfterAll
+    private static void tearDown(@Autowired Neo4jDatabaseUtil neo4jDatabaseUtil) {
+
+        neo4jDatabaseUtil.cleanDatabase();
+    }
+
+    @Test
+    void when_reading_page_of_events_should_compare_projection_with_loading_at_default_depth() {
+
+        double loadingTime = measure(() -> {
+
+            session.clear();
+
+            return session.loadAll(EventNode.class, new Pagination(0, PAGE_SIZE), 1);
+        });
+
+        double projectionTime = measure(() -> eventRepository.findAllWithoutCount(PageRequest.of(0, PAGE_SIZE)));
+
+        report("page of " + PAGE_SIZE + " events", loadingTime, projectionTime);
+
+        Slice<EventNode> eventsActual = eventRepository.findAllWithoutCount(PageRequest.of(0, PAGE_SIZE));
+
+        assertAll(() -> assertEquals(PAGE_SIZE, eventsActual.getNumberOfElements(),
+                () -> "should return: " + PAGE_SIZE + " events, but was: " + eventsActual.getNumberOfElements()),
+                () -> assertNotNull(eventsActual.getContent().get(0).getCity().getProvince().getCountry().getRegion(),
+                        () -> "should return events with city up to the region, but was: "
+                                + eventsActual.getContent().get(0).getCity()));
+    }
+
+    @Test
+    void when_reading_event_should_compare_projection_with_loading_whole_event_by_depth() {
+
+        Long eventId = eventIds.get(0);
+
+        double loadingTime = measure(() -> {
+
+            session.clear();
+
+            return eventRepository.findById(eventId, DEPTH_OF_WHOLE_EVENT).orElseThrow();
+        });
+
+        double projectionTime = measure(() -> eventRepository.findProjectedById(eventId).orElseThrow());
+
+        report("single event", loadingTime, projectionTime);
+
+        EventNode eventActual = eventRepository.findProjectedById(eventId).orElseThrow();
+
+        assertAll(() -> assertEquals(eventId, eventActual.getId(),
+                () -> "should return event with id: " + eventId + ", but was: " + eventActual.getId()),
+                () -> assertNotNull(eventActual.getTarget().getCountryOfOrigin().getRegion(),
+                        () -> "should return event with target up to the region, but was: " + eventActual.getTarget()));
+    }
+
+    // Average milliseconds of one read
+    private static double measure(Supplier<Object> read) {
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            consume(read.get());
+        }
+
+        long start = System.nanoTime();
+
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            consume(read.get());
+        }
+
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURED_ITERATIONS;
+    }
+
+    private static void consume(Object result) {
+
+        if (result instanceof Collection && ((Collection<?>) result).isEmpty()
+                || result instanceof Slice && !((Slice<?>) result).hasContent()) {
+            fail("should read events");
+        }
+    }
+
+    private static void report(String read, double loadingTime, double projectionTime) {
+
+        log.info("##################### " + String.format("%s: OGM loading %.2f ms, projection %.2f ms", read,
+                loadingTime, projectionTime) + " #####################");
+    }
+}
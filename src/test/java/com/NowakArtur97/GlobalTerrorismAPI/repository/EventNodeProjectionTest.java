@@ -0,0 +1,123 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("EventNodeProjection_Tests")
+class EventNodeProjectionTest {
+
+    private NodeProjection<EventNode> eventNodeProjection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Result result;
+
+    @BeforeEach
+    private void setUp() {
+
+        eventNodeProjection = new EventNodeProjection(session);
+    }
+
+    @Test
+    void when_find_existing_event_by_id_should_return_event_with_target_and_city_up_to_regions() {
+
+        Long eventId = 1L;
+
+        Map<String, Object> region = Map.of("id", 6L, "name", "region");
+        Map<String, Object> country = Map.of("id", 5L, "name", "country", "region", region);
+        Map<String, Object> target = Map.of("id", 2L, "target", "target", "countryOfOrigin", country);
+        Map<String, Object> province = Map.of("id", 4L, "name", "province", "country", country);
+        Map<String, Object> city = Map.of("id", 3L, "name", "city", "latitude", 20.0, "longitude", 10L,
+                "province", province);
+        Map<String, Object> event = Map.of("id", eventId, "summary", "summary", "motive", "motive",
+                "date", "2020-04-01T10:00:00.000Z", "isPartOfMultipleIncidents", true, "isSuccessful", false,
+                "isSuicidal", true, "target", target, "city", city);
+
+        when(session.query(contains("WHERE id(event) = $id"), eq(Map.of("id", eventId)))).thenReturn(result);
+        when(result.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("event", event)).iterator());
+
+        Optional<EventNode> eventActualOptional = eventNodeProjection.findById(eventId);
+
+        EventNode eventActual = eventActualOptional.orElseThrow();
+
+        assertAll(() -> assertEquals(eventId, eventActual.getId(),
+                () -> "should return event with id: " + eventId + ", but was: " + eventActual.getId()),
+                () -> assertEquals(Date.from(Instant.parse("2020-04-01T10:00:00.000Z")), eventActual.getDate(),
+                        () -> "should return event with date: 2020-04-01T10:00:00.000Z, but was: "
+                                + eventActual.getDate()),
+                () -> assertFalse(eventActual.getIsSuccessful(),
+                        () -> "should return event which was not successful, but was: " + eventActual.getIsSuccessful()),
+                () -> assertEquals("region", eventActual.getTarget().getCountryOfOrigin().getRegion().getName(),
+                        () -> "should return target with region: region, but was: "
+                                + eventActual.getTarget().getCountryOfOrigin().getRegion()),
+                () -> assertEquals(10.0, eventActual.getCity().getLongitude(),
+                        () -> "should return city with longitude: 10.0, but was: "
+                                + eventActual.getCity().getLongitude()),
+                () -> assertEquals(6L, eventActual.getCity().getProvince().getCountry().getRegion().getId(),
+                        () -> "should return city with region: 6, but was: "
+                                + eventActual.getCity().getProvince().getCountry().getRegion()));
+    }
+
+    @Test
+    void when_find_events_by_ids_should_return_events_in_order_of_ids_without_missing_ones() {
+
+        List<Long> eventIds = List.of(3L, 1L, 2L);
+
+        Map<String, Object> firstEvent = Map.of("id", 1L, "summary", "summary 1");
+        Map<String, Object> thirdEvent = Map.of("id", 3L, "summary", "summary 3");
+
+        when(session.query(contains("WHERE id(event) IN $ids"), eq(Map.of("ids", eventIds)))).thenReturn(result);
+        when(result.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("event", firstEvent),
+                Map.of("event", thirdEvent)).iterator());
+
+        List<EventNode> eventsActual = eventNodeProjection.findAllById(eventIds);
+
+        assertAll(() -> assertEquals(2, eventsActual.size(),
+                () -> "should return 2 events, but was: " + eventsActual.size()),
+                () -> assertEquals(3L, eventsActual.get(0).getId(),
+                        () -> "should return event with id: 3 first, but was: " + eventsActual.get(0).getId()),
+                () -> assertNull(eventsActual.get(0).getTarget(),
+                        () -> "should return event without target, but was: " + eventsActual.get(0).getTarget()),
+                () -> assertEquals(1L, eventsActual.get(1).getId(),
+                        () -> "should return event with id: 1 second, but was: " + eventsActual.get(1).getId()));
+    }
+
+    @Test
+    void when_find_page_of_events_should_order_by_known_properties_and_id() {
+
+        Sort sort = Sort.by(Sort.Order.desc("date"), Sort.Order.asc("unknown"), Sort.Order.asc("summary"));
+
+        when(session.query(contains("ORDER BY event.date DESC, event.summary ASC, id(event) SKIP $skip LIMIT $limit"),
+                eq(Map.of("skip", 20L, "limit", 11)))).thenReturn(result);
+        when(result.iterator()).thenReturn(List.<Map<String, Object>>of().iterator());
+
+        List<EventNode> eventsActual = eventNodeProjection.findAll(sort, 20L, 11);
+
+        assertAll(() -> assertTrue(eventsActual.isEmpty(), () -> "should return empty list, but was: " + eventsActual),
+                () -> verify(session, times(1)).query(anyString(), anyMap()),
+                () -> verifyNoMoreInteractions(session));
+    }
+}
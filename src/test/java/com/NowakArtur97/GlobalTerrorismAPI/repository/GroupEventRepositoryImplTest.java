@@ -0,0 +1,150 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("GroupEventRepositoryImpl_Tests")
+class GroupEventRepositoryImplTest {
+
+    private GroupEventRepository groupEventRepository;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private NodeProjection<EventNode> eventNodeProjection;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheEvictor cacheEvictor;
+
+    @Mock
+    private Result fullChunk;
+
+    @Mock
+    private Result lastChunk;
+
+    @Mock
+    private Result eventIds;
+
+    @BeforeEach
+    private void setUp() {
+
+        groupEventRepository = new GroupEventRepositoryImpl(session, eventNodeProjection, transactionManager,
+                cacheEvictor);
+    }
+
+    @Test
+    void when_delete_events_of_large_group_should_delete_in_chunks_until_chunk_is_not_full() {
+
+        Long groupId = 1L;
+
+        when(session.query(anyString(), eq(Map.of("groupId", groupId, "chunkSize", 1000))))
+                .thenReturn(fullChunk, lastChunk);
+        when(fullChunk.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("events", 1000L, "targets", 1000L))
+                .iterator());
+        when(lastChunk.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("events", 5L, "targets", 4L))
+                .iterator());
+
+        DeletedEvents deletedEventsActual = groupEventRepository.deleteAllByGroupId(groupId);
+
+        assertAll(() -> assertEquals(1005, deletedEventsActual.getEvents(),
+                () -> "should delete 1005 events, but was: " + deletedEventsActual.getEvents()),
+                () -> assertEquals(1004, deletedEventsActual.getTargets(),
+                        () -> "should delete 1004 targets, but was: " + deletedEventsActual.getTargets()),
+                () -> verify(session, times(2)).query(anyString(), anyMap()),
+                () -> verify(transactionManager, times(2)).getTransaction(argThat(definition ->
+                        definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRED)),
+                () -> verify(transactionManager, times(2)).commit(any()),
+                () -> verify(cacheEvictor, times(1)).evictAfterCypherWrite());
+    }
+
+    @Test
+    void when_delete_events_of_group_without_events_should_not_evict_counts() {
+
+        Long groupId = 1L;
+
+        when(session.query(anyString(), eq(Map.of("groupId", groupId, "chunkSize", 1000)))).thenReturn(lastChunk);
+        when(lastChunk.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("events", 0L, "targets", 0L))
+                .iterator());
+
+        DeletedEvents deletedEventsActual = groupEventRepository.deleteAllByGroupId(groupId);
+
+        assertAll(() -> assertEquals(new DeletedEvents(0, 0), deletedEventsActual,
+                () -> "should not delete any events, but was: " + deletedEventsActual),
+                () -> verify(session, times(1)).query(anyString(), anyMap()),
+                () -> verifyNoInteractions(cacheEvictor));
+    }
+
+    @Test
+    void when_find_page_of_group_events_should_read_them_through_projection_in_order_of_page() {
+
+        Long groupId = 1L;
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("date"));
+
+        List<EventNode> eventsExpected = List.of(EventNode.builder().id(3L).build(), EventNode.builder().id(2L).build());
+
+        when(session.query(contains("ORDER BY event.date ASC, id(event) SKIP $skip LIMIT $limit"),
+                eq(Map.of("groupId", groupId, "skip", 0L, "limit", 10)))).thenReturn(eventIds);
+        when(eventIds.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("id", 3L), Map.of("id", 2L))
+                .iterator());
+        when(eventNodeProjection.findAllById(List.of(3L, 2L))).thenReturn(eventsExpected);
+
+        Page<EventNode> eventsActual = groupEventRepository.findAllByGroupId(groupId, pageable);
+
+        assertAll(() -> assertEquals(eventsExpected, eventsActual.getContent(),
+                () -> "should return events: " + eventsExpected + ", but was: " + eventsActual.getContent()),
+                () -> assertEquals(2, eventsActual.getTotalElements(),
+                        () -> "should return total of 2 events, but was: " + eventsActual.getTotalElements()),
+                () -> verify(session, times(1)).query(anyString(), anyMap()),
+                () -> verifyNoMoreInteractions(session));
+    }
+
+    @Test
+    void when_add_events_to_group_should_link_them_in_one_query_and_evict_caches() {
+
+        Long groupId = 1L;
+        List<Long> eventIds = List.of(2L, 3L);
+
+        groupEventRepository.addAllToGroup(groupId, eventIds);
+
+        assertAll(() -> verify(session, times(1)).query(startsWith("MATCH (group:Group)"),
+                eq(Map.of("groupId", groupId, "eventIds", eventIds))),
+                () -> verifyNoMoreInteractions(session),
+                () -> verify(cacheEvictor, times(1)).evictAfterCypherWrite());
+    }
+
+    @Test
+    void when_add_no_events_to_group_should_not_query() {
+
+        groupEventRepository.addAllToGroup(1L, List.of());
+
+        assertAll(() -> verifyNoInteractions(session),
+                () -> verifyNoInteractions(cacheEvictor));
+    }
+}
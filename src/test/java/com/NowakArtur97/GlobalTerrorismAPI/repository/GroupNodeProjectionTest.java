@@ -0,0 +1,73 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("GroupNodeProjection_Tests")
+class GroupNodeProjectionTest {
+
+    private NodeProjection<GroupNode> groupNodeProjection;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private Result result;
+
+    @BeforeEach
+    private void setUp() {
+
+        groupNodeProjection = new GroupNodeProjection(session);
+    }
+
+    @Test
+    void when_find_existing_group_by_id_should_return_group_with_events_in_shape_of_event_projection() {
+
+        Long groupId = 1L;
+
+        Map<String, Object> region = Map.of("id", 6L, "name", "region");
+        Map<String, Object> country = Map.of("id", 5L, "name", "country", "region", region);
+        Map<String, Object> province = Map.of("id", 4L, "name", "province", "country", country);
+        Map<String, Object> city = Map.of("id", 3L, "name", "city", "latitude", 20.0, "longitude", 10.0,
+                "province", province);
+        Map<String, Object> event = Map.of("id", 2L, "summary", "summary", "version", 7L, "city", city);
+        Map<String, Object> group = Map.of("id", groupId, "name", "group", "version", 3L,
+                "eventsCaused", List.of(event));
+
+        when(session.query(contains("WHERE id(group) = $id"), eq(Map.of("id", groupId)))).thenReturn(result);
+        when(result.iterator()).thenReturn(List.<Map<String, Object>>of(Map.of("group", group)).iterator());
+
+        GroupNode groupActual = groupNodeProjection.findById(groupId).orElseThrow();
+
+        assertAll(() -> assertEquals(groupId, groupActual.getId(),
+                () -> "should return group with id: " + groupId + ", but was: " + groupActual.getId()),
+                () -> assertEquals(3L, groupActual.getVersion(),
+                        () -> "should return group with version: 3, but was: " + groupActual.getVersion()),
+                () -> assertEquals(1, groupActual.getEventsCaused().size(),
+                        () -> "should return group with 1 event, but was: " + groupActual.getEventsCaused().size()),
+                () -> assertEquals(7L, groupActual.getEventsCaused().get(0).getVersion(),
+                        () -> "should return event with version: 7, but was: "
+                                + groupActual.getEventsCaused().get(0).getVersion()),
+                () -> assertEquals(6L, groupActual.getEventsCaused().get(0).getCity().getProvince().getCountry()
+                                .getRegion().getId(),
+                        () -> "should return event with city up to region: 6, but was: "
+                                + groupActual.getEventsCaused().get(0).getCity()));
+    }
+}
@@ -0,0 +1,81 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("LabelVersionsImpl_Tests")
+class LabelVersionsImplTest {
+
+    private LabelVersionsImpl labelVersions;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Event event;
+
+    @BeforeEach
+    private void setUp() {
+
+        labelVersions = new LabelVersionsImpl(sessionFactory);
+    }
+
+    @Test
+    void when_node_is_saved_should_increment_version_of_its_type_only() {
+
+        long regionVersionBefore = labelVersions.getVersion(RegionNode.class);
+        long countryVersionBefore = labelVersions.getVersion(CountryNode.class);
+
+        when(event.getObject()).thenReturn(new RegionNode("region"));
+
+        labelVersions.onPostSave(event);
+
+        long regionVersionActual = labelVersions.getVersion(RegionNode.class);
+        long countryVersionActual = labelVersions.getVersion(CountryNode.class);
+
+        assertAll(
+                () -> assertEquals(regionVersionBefore + 1, regionVersionActual,
+                        () -> "should increment region version to: " + (regionVersionBefore + 1) + ", but was: "
+                                + regionVersionActual),
+                () -> assertEquals(countryVersionBefore, countryVersionActual,
+                        () -> "should not increment country version: " + countryVersionBefore + ", but was: "
+                                + countryVersionActual),
+                () -> verify(sessionFactory, times(1)).register(labelVersions));
+    }
+
+    @Test
+    void when_increment_all_should_increment_version_of_every_type() {
+
+        long regionVersionBefore = labelVersions.getVersion(RegionNode.class);
+        long countryVersionBefore = labelVersions.getVersion(CountryNode.class);
+
+        labelVersions.incrementAll();
+
+        long regionVersionActual = labelVersions.getVersion(RegionNode.class);
+        long countryVersionActual = labelVersions.getVersion(CountryNode.class);
+
+        assertAll(
+                () -> assertEquals(regionVersionBefore + 1, regionVersionActual,
+                        () -> "should increment region version to: " + (regionVersionBefore + 1) + ", but was: "
+                                + regionVersionActual),
+                () -> assertEquals(countryVersionBefore + 1, countryVersionActual,
+                        () -> "should increment country version to: " + (countryVersionBefore + 1) + ", but was: "
+                                + countryVersionActual));
+    }
+}
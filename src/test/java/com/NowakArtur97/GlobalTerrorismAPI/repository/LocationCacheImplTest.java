@@ -0,0 +1,115 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.CityNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("LocationCacheImpl_Tests")
+class LocationCacheImplTest {
+
+    private LocationCacheImpl locationCache;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Event event;
+
+    @BeforeEach
+    private void setUp() {
+
+        locationCache = new LocationCacheImpl(sessionFactory, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void when_find_country_twice_should_load_country_once_and_return_copies() {
+
+        AtomicInteger loads = new AtomicInteger();
+
+        CountryNode countryNode = new CountryNode(1L, "country", new RegionNode(2L, "region"));
+
+        Optional<CountryNode> firstCountryActual = locationCache.findCountry("country", () -> {
+            loads.incrementAndGet();
+            return Optional.of(countryNode);
+        });
+        Optional<CountryNode> secondCountryActual = locationCache.findCountry("country", () -> {
+            loads.incrementAndGet();
+            return Optional.of(countryNode);
+        });
+
+        assertAll(() -> assertEquals(countryNode, firstCountryActual.orElseThrow(),
+                () -> "should return country: " + countryNode + ", but was: " + firstCountryActual),
+                () -> assertEquals(countryNode, secondCountryActual.orElseThrow(),
+                        () -> "should return cached country: " + countryNode + ", but was: " + secondCountryActual),
+                () -> assertNotSame(countryNode, secondCountryActual.orElseThrow(),
+                        () -> "should return copy of cached country, but was the loaded one"),
+                () -> assertEquals(1, loads.get(), () -> "should load once, but loaded: " + loads.get() + " times"),
+                () -> assertTrue(locationCache.containsCountry("country"), () -> "should contain cached country"),
+                () -> verify(sessionFactory, times(1)).register(locationCache));
+    }
+
+    @Test
+    void when_province_is_saved_with_new_name_should_evict_cities_holding_it() {
+
+        AtomicInteger loads = new AtomicInteger();
+
+        CountryNode countryNode = new CountryNode(1L, "country", new RegionNode(2L, "region"));
+        CityNode cityNode = new CityNode(4L, "city", 10.0, 20.0, new ProvinceNode(3L, "province", countryNode));
+
+        locationCache.findCity("city", 10.0, 20.0, () -> {
+            loads.incrementAndGet();
+            return Optional.of(cityNode);
+        });
+
+        when(event.getObject()).thenReturn(new ProvinceNode(3L, "renamed province", countryNode));
+
+        locationCache.onPostSave(event);
+
+        Optional<CityNode> cityActual = locationCache.findCity("city", 10.0, 20.0, () -> {
+            loads.incrementAndGet();
+            return Optional.of(cityNode);
+        });
+        Optional<ProvinceNode> provinceActual = locationCache.findProvince("renamed province", "country",
+                Optional::empty);
+
+        assertAll(() -> assertEquals(2, loads.get(),
+                () -> "should load city again, but loaded: " + loads.get() + " times"),
+                () -> assertEquals(cityNode, cityActual.orElseThrow(),
+                        () -> "should return city: " + cityNode + ", but was: " + cityActual),
+                () -> assertEquals("renamed province", provinceActual.map(ProvinceNode::getName).orElse(null),
+                        () -> "should cache saved province, but was: " + provinceActual));
+    }
+
+    @Test
+    void when_evicted_while_loading_should_not_cache_region() {
+
+        Optional<RegionNode> regionActual = locationCache.findRegion("region", () -> {
+            locationCache.evictAll();
+            return Optional.of(new RegionNode(1L, "region"));
+        });
+
+        assertAll(() -> assertTrue(regionActual.isPresent(), () -> "should return loaded region"),
+                () -> assertFalse(locationCache.containsRegion("region"),
+                        () -> "should not cache region loaded before eviction"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.NowakArtur97.GlobalTerrorismAPI.repository;
+
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.Event;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("NodeCountCacheImpl_Tests")
+class NodeCountCacheImplTest {
+
+    private NodeCountCacheImpl nodeCountCache;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Event event;
+
+    @BeforeEach
+    private void setUp() {
+
+        nodeCountCache = new NodeCountCacheImpl(sessionFactory);
+    }
+
+    @Test
+    void when_count_twice_should_count_nodes_once() {
+
+        AtomicInteger counts = new AtomicInteger();
+
+        long firstCountActual = nodeCountCache.count(EventNode.class, () -> 10 + counts.getAndIncrement());
+        long secondCountActual = nodeCountCache.count(EventNode.class, () -> 10 + counts.getAndIncrement());
+
+        assertAll(
+                () -> assertEquals(10, firstCountActual, () -> "should return: " + 10 + ", but was: " + firstCountActual),
+                () -> assertEquals(10, secondCountActual, () -> "should return cached: " + 10 + ", but was: " + secondCountActual),
+                () -> assertEquals(1, counts.get(), () -> "should count once, but counted: " + counts.get() + " times"),
+                () -> verify(sessionFactory, times(1)).register(nodeCountCache));
+    }
+
+    @Test
+    void when_node_is_saved_should_count_nodes_of_its_type_again() {
+
+        AtomicInteger counts = new AtomicInteger();
+
+        nodeCountCache.count(EventNode.class, () -> 10 + counts.getAndIncrement());
+        nodeCountCache.count(TargetNode.class, () -> 20);
+
+        when(event.getObject()).thenReturn(new EventNode());
+
+        nodeCountCache.onPostSave(event);
+
+        long eventCountActual = nodeCountCache.count(EventNode.class, () -> 10 + counts.getAndIncrement());
+        long targetCountActual = nodeCountCache.count(TargetNode.class, () -> 0);
+
+        assertAll(
+                () -> assertEquals(11, eventCountActual, () -> "should return recounted: " + 11 + ", but was: " + eventCountActual),
+                () -> assertEquals(20, targetCountActual, () -> "should return cached: " + 20 + ", but was: " + targetCountActual),
+                () -> assertEquals(2, counts.get(), () -> "should count twice, but counted: " + counts.get() + " times"));
+    }
+
+    @Test
+    void when_evicted_while_counting_should_not_cache_count() {
+
+        long countActual = nodeCountCache.count(EventNode.class, () -> {
+            nodeCountCache.evictAll();
+            return 10;
+        });
+
+        long recountActual = nodeCountCache.count(EventNode.class, () -> 11);
+
+        assertAll(
+                () -> assertEquals(10, countActual, () -> "should return: " + 10 + ", but was: " + countActual),
+                () -> assertEquals(11, recountActual, () -> "should return recounted: " + 11 + ", but was: " + recountActual));
+    }
+}
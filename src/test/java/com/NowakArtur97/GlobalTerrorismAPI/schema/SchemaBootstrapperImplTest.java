@@ -0,0 +1,142 @@
+package com.NowakArtur97.GlobalTerrorismAPI.schema;
+
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.neo4j.ogm.metadata.MetaData;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("SchemaBootstrapperImpl_Tests")
+class SchemaBootstrapperImplTest {
+
+    private SchemaBootstrapper schemaBootstrapper;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private Result result;
+
+    @BeforeEach
+    private void setUp() {
+
+        when(sessionFactory.metaData()).thenReturn(new MetaData("com.NowakArtur97.GlobalTerrorismAPI.node"));
+
+        schemaBootstrapper = new SchemaBootstrapperImpl(session, sessionFactory, transactionManager);
+    }
+
+    @Test
+    void when_no_index_exists_should_report_indexes_declared_on_nodes_and_import_labels_as_missing() {
+
+        when(session.query("SHOW INDEXES", Map.of())).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of());
+
+        List<String> missingIndexesActual = schemaBootstrapper.findMissingIndexes();
+
+        assertAll(
+                () -> assertTrue(missingIndexesActual.contains(":Country(name)"),
+                        () -> "should contain: :Country(name), but was: " + missingIndexesActual),
+                () -> assertTrue(missingIndexesActual.contains(":City(name, latitude, longitude)"),
+                        () -> "should contain: :City(name, latitude, longitude), but was: " + missingIndexesActual),
+                () -> assertTrue(missingIndexesActual.contains("UNIQUE :User(userName)"),
+                        () -> "should contain: UNIQUE :User(userName), but was: " + missingIndexesActual),
+                () -> assertTrue(missingIndexesActual.contains("UNIQUE :ImportLock(name)"),
+                        () -> "should contain: UNIQUE :ImportLock(name), but was: " + missingIndexesActual));
+    }
+
+    @Test
+    void when_unique_index_exists_should_not_report_plain_index_on_same_property_as_missing() {
+
+        Map<String, Object> countryIndex = Map.of("labelsOrTypes", List.of("Country"), "properties", List.of("name"),
+                "uniqueness", "UNIQUE", "state", "ONLINE");
+        Map<String, Object> failedUserIndex = Map.of("labelsOrTypes", List.of("User"), "properties",
+                List.of("userName"), "uniqueness", "UNIQUE", "state", "FAILED");
+
+        when(session.query("SHOW INDEXES", Map.of())).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of(countryIndex, failedUserIndex));
+
+        List<String> missingIndexesActual = schemaBootstrapper.findMissingIndexes();
+
+        assertAll(
+                () -> assertFalse(missingIndexesActual.contains(":Country(name)"),
+                        () -> "should not contain: :Country(name), but was: " + missingIndexesActual),
+                () -> assertTrue(missingIndexesActual.contains("UNIQUE :User(userName)"),
+                        () -> "should contain failed: UNIQUE :User(userName), but was: " + missingIndexesActual));
+    }
+
+    @Test
+    void when_create_missing_indexes_should_create_only_missing_ones_and_wait_for_them() {
+
+        Map<String, Object> countryIndex = Map.of("labelsOrTypes", List.of("Country"), "properties", List.of("name"),
+                "uniqueness", "NONUNIQUE", "state", "ONLINE");
+
+        when(session.query(anyString(), anyMap())).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of(countryIndex));
+
+        schemaBootstrapper.createMissingIndexes();
+
+        assertAll(
+                () -> verify(session, never()).query("CREATE INDEX FOR (node:`Country`) ON (node.`name`)", Map.of()),
+                () -> verify(session, times(1)).query("CREATE INDEX FOR (node:`Region`) ON (node.`name`)", Map.of()),
+                () -> verify(session, times(1)).query(
+                        "CREATE INDEX FOR (node:`City`) ON (node.`name`, node.`latitude`, node.`longitude`)",
+                        Map.of()),
+                () -> verify(session, times(1)).query(
+                        "CREATE CONSTRAINT FOR (node:`User`) REQUIRE node.`email` IS UNIQUE", Map.of()),
+                () -> verify(session, times(1)).query(eq("CALL db.awaitIndexes($timeoutSeconds)"), anyMap()));
+    }
+
+    @Test
+    void when_create_unique_constraint_should_create_it_only_if_missing_and_report_whether_it_exists() {
+
+        Map<String, Object> lockConstraint = Map.of("labelsOrTypes", List.of("ImportLock"), "properties",
+                List.of("name"), "uniqueness", "UNIQUE", "state", "ONLINE");
+
+        when(session.query(anyString(), anyMap())).thenReturn(result);
+        when(result.queryResults()).thenReturn(List.of(), List.of(lockConstraint));
+
+        boolean isCreated = schemaBootstrapper.createUniqueConstraint("ImportLock", "name");
+        boolean isCreatedAgain = schemaBootstrapper.createUniqueConstraint("ImportLock", "name");
+
+        assertAll(() -> assertTrue(isCreated, () -> "should create constraint"),
+                () -> assertTrue(isCreatedAgain, () -> "should report existing constraint"),
+                () -> verify(session, times(1)).query(
+                        "CREATE CONSTRAINT FOR (node:`ImportLock`) REQUIRE node.`name` IS UNIQUE", Map.of()));
+    }
+
+    @Test
+    void when_unique_constraint_cannot_be_created_should_report_it_as_missing() {
+
+        when(session.query(anyString(), anyMap())).thenReturn(result);
+        when(session.query(startsWith("CREATE CONSTRAINT"), anyMap())).thenThrow(new RuntimeException());
+        when(result.queryResults()).thenReturn(List.of());
+
+        boolean isCreated = schemaBootstrapper.createUniqueConstraint("ImportLock", "name");
+
+        assertFalse(isCreated, () -> "should report missing constraint");
+    }
+}
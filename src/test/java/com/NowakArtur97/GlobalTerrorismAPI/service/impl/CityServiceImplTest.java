@@ -9,6 +9,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.CityRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CityService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.ProvinceService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.CityBuilder;
@@ -29,6 +30,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -38,7 +40,7 @@ import static org.mockito.Mockito.*;
 @Tag("CityServiceImpl_Tests")
 class CityServiceImplTest {
 
-    private final int DEFAULT_DEPTH_FOR_CITY_NODE = 2;
+    private final int DEFAULT_DEPTH_FOR_CITY_NODE = LocationCache.CITY_DEPTH;
 
     private CityService cityService;
 
@@ -51,6 +53,9 @@ class CityServiceImplTest {
     @Mock
     private ProvinceService provinceService;
 
+    @Mock
+    private LocationCache locationCache;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
     private static ProvinceBuilder provinceBuilder;
@@ -68,7 +73,11 @@ class CityServiceImplTest {
     @BeforeEach
     private void setUp() {
 
-        cityService = new CityServiceImpl(cityRepository, objectMapper, provinceService);
+        // Passes every lookup through to the repository, as if nothing was cached
+        lenient().when(locationCache.findCity(any(), any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
+
+        cityService = new CityServiceImpl(cityRepository, objectMapper, provinceService, locationCache);
     }
 
     @Test
@@ -389,7 +398,7 @@ class CityServiceImplTest {
         when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.empty());
         when(provinceService.save(provinceNodeBeforeSave)).thenReturn(provinceNodeExpected);
-        when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
+        when(cityRepository.saveLinkingById(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.save(cityNodeExpected);
 
@@ -440,7 +449,7 @@ class CityServiceImplTest {
                         .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verify(provinceService, times(1)).save(provinceNodeBeforeSave),
                 () -> verifyNoMoreInteractions(provinceService),
-                () -> verify(cityRepository, times(1)).save(cityNodeExpectedBeforeSave),
+                () -> verify(cityRepository, times(1)).saveLinkingById(cityNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verifyNoInteractions(objectMapper));
     }
@@ -459,7 +468,7 @@ class CityServiceImplTest {
 
         when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.of(provinceNodeExpected));
-        when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
+        when(cityRepository.saveLinkingById(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.save(cityNodeExpected);
 
@@ -509,7 +518,7 @@ class CityServiceImplTest {
                 () -> verify(provinceService, times(1))
                         .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(provinceService),
-                () -> verify(cityRepository, times(1)).save(cityNodeExpectedBeforeSave),
+                () -> verify(cityRepository, times(1)).saveLinkingById(cityNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verifyNoInteractions(objectMapper));
     }
@@ -534,7 +543,7 @@ class CityServiceImplTest {
         when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.empty());
         when(provinceService.saveNew(provinceDTO)).thenReturn(provinceNodeExpected);
-        when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
+        when(cityRepository.saveLinkingById(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.saveNew(cityDTO);
 
@@ -585,7 +594,7 @@ class CityServiceImplTest {
                         .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verify(provinceService, times(1)).saveNew(provinceDTO),
                 () -> verifyNoMoreInteractions(provinceService),
-                () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).saveLinkingById(cityNodeExpected),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(objectMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(objectMapper));
@@ -610,7 +619,7 @@ class CityServiceImplTest {
         when(objectMapper.map(cityDTO, CityNode.class)).thenReturn(cityNodeExpectedBeforeSave);
         when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.of(provinceNodeExpected));
-        when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
+        when(cityRepository.saveLinkingById(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.saveNew(cityDTO);
 
@@ -660,7 +669,7 @@ class CityServiceImplTest {
                 () -> verify(provinceService, times(1))
                         .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(provinceService),
-                () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).saveLinkingById(cityNodeExpected),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(objectMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(objectMapper));
@@ -696,7 +705,7 @@ class CityServiceImplTest {
         when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.empty());
         when(provinceService.update(provinceNodeExpected, provinceDTO)).thenReturn(provinceNodeExpected);
-        when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
+        when(cityRepository.saveLinkingById(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.update(cityNodeToUpdate, cityDTO);
 
@@ -747,7 +756,7 @@ class CityServiceImplTest {
                         .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verify(provinceService, times(1)).update(provinceNodeExpected, provinceDTO),
                 () -> verifyNoMoreInteractions(provinceService),
-                () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).saveLinkingById(cityNodeExpected),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(objectMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(objectMapper));
@@ -782,7 +791,7 @@ class CityServiceImplTest {
         when(objectMapper.map(cityDTO, CityNode.class)).thenReturn(cityNodeExpectedBeforeSave);
         when(provinceService.findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()))
                 .thenReturn(Optional.of(provinceNodeExpected));
-        when(cityRepository.save(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
+        when(cityRepository.saveLinkingById(cityNodeExpectedBeforeSave)).thenReturn(cityNodeExpected);
 
         CityNode cityNodeActual = cityService.update(cityNodeToUpdate, cityDTO);
 
@@ -832,7 +841,7 @@ class CityServiceImplTest {
                 () -> verify(provinceService, times(1))
                         .findByNameAndCountryName(provinceNodeExpected.getName(), countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(provinceService),
-                () -> verify(cityRepository, times(1)).save(cityNodeExpected),
+                () -> verify(cityRepository, times(1)).saveLinkingById(cityNodeExpected),
                 () -> verifyNoMoreInteractions(cityRepository),
                 () -> verify(objectMapper, times(1)).map(cityDTO, CityNode.class),
                 () -> verifyNoMoreInteractions(objectMapper));
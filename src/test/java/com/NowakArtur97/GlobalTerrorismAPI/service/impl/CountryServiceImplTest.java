@@ -3,6 +3,7 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.CountryRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CountryService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.CountryBuilder;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.RegionBuilder;
@@ -20,6 +21,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -34,6 +36,9 @@ class CountryServiceImplTest {
     @Mock
     private CountryRepository countryRepository;
 
+    @Mock
+    private LocationCache locationCache;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
 
@@ -47,7 +52,11 @@ class CountryServiceImplTest {
     @BeforeEach
     private void setUp() {
 
-        countryService = new CountryServiceImpl(countryRepository);
+        // Passes every lookup through to the repository, as if nothing was cached
+        lenient().when(locationCache.findCountry(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+
+        countryService = new CountryServiceImpl(countryRepository, locationCache);
     }
 
     @Test
@@ -138,6 +147,35 @@ class CountryServiceImplTest {
                 () -> verifyNoMoreInteractions(countryRepository));
     }
 
+    @Test
+    void when_find_cached_country_by_name_should_return_country_without_querying_repository() {
+
+        String countryName = "country";
+
+        CountryNode countryNodeExpected = (CountryNode) countryBuilder.withName(countryName).build(ObjectType.NODE);
+
+        when(locationCache.findCountry(eq(countryName), any())).thenReturn(Optional.of(countryNodeExpected));
+
+        Optional<CountryNode> countryNodeActualOptional = countryService.findByName(countryName);
+
+        assertAll(() -> assertEquals(Optional.of(countryNodeExpected), countryNodeActualOptional,
+                () -> "should return country node: " + countryNodeExpected + ", but was: " + countryNodeActualOptional),
+                () -> verifyNoInteractions(countryRepository));
+    }
+
+    @Test
+    void when_check_by_name_if_cached_country_exists_should_return_true_without_querying_repository() {
+
+        String countryName = "country";
+
+        when(locationCache.containsCountry(countryName)).thenReturn(true);
+
+        boolean isCountryExisting = countryService.existsByName(countryName);
+
+        assertAll(() -> assertTrue(isCountryExisting, () -> "should return true, but was: false"),
+                () -> verifyNoInteractions(countryRepository));
+    }
+
     @Test
     void when_country_not_exists_and_return_one_country_should_return_empty_optional() {
 
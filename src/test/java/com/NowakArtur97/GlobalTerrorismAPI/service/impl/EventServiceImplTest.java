@@ -6,6 +6,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.mapper.ObjectMapper;
 import com.NowakArtur97.GlobalTerrorismAPI.node.*;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.EventRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CityService;
+import com.NowakArtur97.GlobalTerrorismAPI.service.api.CountryService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.EventService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.TargetService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.*;
@@ -26,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -51,6 +53,9 @@ class EventServiceImplTest {
     @Mock
     private CityService cityService;
 
+    @Mock
+    private CountryService countryService;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
     private static ProvinceBuilder provinceBuilder;
@@ -72,7 +77,7 @@ class EventServiceImplTest {
     @BeforeEach
     private void setUp() {
 
-        eventService = new EventServiceImpl(eventRepository, objectMapper, targetService, cityService);
+        eventService = new EventServiceImpl(eventRepository, objectMapper, targetService, cityService, countryService);
     }
 
     @Test
@@ -384,7 +389,7 @@ class EventServiceImplTest {
         when(cityService.findByNameAndLatitudeAndLongitude(eventNodeExpectedBeforeSave.getCity().getName(),
                 cityNodeExpected.getLatitude(), eventNodeExpectedBeforeSave.getCity().getLongitude()))
                 .thenReturn(Optional.of(cityNodeExpected));
-        when(eventRepository.save(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
+        when(eventRepository.saveLinkingById(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
 
         EventNode eventNodeActual = eventService.save(eventNodeExpectedBeforeSave);
 
@@ -492,7 +497,7 @@ class EventServiceImplTest {
                 () -> verify(cityService, times(1))
                         .findByNameAndLatitudeAndLongitude(cityNodeExpected.getName(), cityNodeExpected.getLatitude(), cityNodeExpected.getLongitude()),
                 () -> verifyNoMoreInteractions(cityService),
-                () -> verify(eventRepository, times(1)).save(eventNodeExpectedBeforeSave),
+                () -> verify(eventRepository, times(1)).saveLinkingById(eventNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(eventRepository),
                 () -> verifyNoInteractions(objectMapper));
     }
@@ -521,7 +526,7 @@ class EventServiceImplTest {
         when(targetService.saveNew(targetDTO)).thenReturn(targetNodeExpected);
         when(cityService.findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()))
                 .thenReturn(Optional.of(cityNodeExpected));
-        when(eventRepository.save(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
+        when(eventRepository.saveLinkingById(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
 
         EventNode eventNodeActual = eventService.saveNew(eventDTOExpected);
 
@@ -631,10 +636,75 @@ class EventServiceImplTest {
                 () -> verifyNoMoreInteractions(objectMapper),
                 () -> verify(cityService, times(1)).findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()),
                 () -> verifyNoMoreInteractions(cityService),
-                () -> verify(eventRepository, times(1)).save(eventNodeExpectedBeforeSave),
+                () -> verify(eventRepository, times(1)).saveLinkingById(eventNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(eventRepository));
     }
 
+    @Test
+    void when_save_all_new_events_should_create_events_at_once_and_return_them() {
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.build(ObjectType.DTO);
+        TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        CityDTO cityDTO = (CityDTO) cityBuilder.withProvince(provinceDTO).build(ObjectType.DTO);
+        EventDTO eventDTO = (EventDTO) eventBuilder.withTarget(targetDTO).withCity(cityDTO).build(ObjectType.DTO);
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+        CountryNode countryNode = (CountryNode) countryBuilder.withRegion(regionNode).build(ObjectType.NODE);
+        TargetNode targetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        ProvinceNode provinceNodeExpected = (ProvinceNode) provinceBuilder.withCountry(countryNode)
+                .build(ObjectType.NODE);
+        CityNode cityNodeExpected = (CityNode) cityBuilder.withProvince(provinceNodeExpected).build(ObjectType.NODE);
+        EventNode eventNodeBeforeSave = (EventNode) eventBuilder.withId(null).build(ObjectType.NODE);
+        EventNode eventNodeExpected = (EventNode) eventBuilder.withTarget(targetNodeExpected).withCity(cityNodeExpected)
+                .build(ObjectType.NODE);
+
+        when(countryService.findAllByNameIn(Set.of(countryDTO.getName()))).thenReturn(List.of(countryNode));
+        when(objectMapper.map(eventDTO, EventNode.class)).thenReturn(eventNodeBeforeSave);
+        when(eventRepository.createAll(List.of(eventNodeBeforeSave))).thenReturn(List.of(eventNodeExpected.getId()));
+        when(eventRepository.findAllProjectedById(List.of(eventNodeExpected.getId())))
+                .thenReturn(List.of(eventNodeExpected));
+
+        List<EventNode> eventNodesActual = eventService.saveAllNew(List.of(eventDTO));
+
+        assertAll(() -> assertEquals(List.of(eventNodeExpected), eventNodesActual,
+                () -> "should return events: " + List.of(eventNodeExpected) + ", but was: " + eventNodesActual),
+                () -> assertEquals(countryNode, eventNodeBeforeSave.getTarget().getCountryOfOrigin(),
+                        () -> "should create target from country: " + countryNode + ", but was: "
+                                + eventNodeBeforeSave.getTarget().getCountryOfOrigin()),
+                () -> assertEquals(cityDTO.getName(), eventNodeBeforeSave.getCity().getName(),
+                        () -> "should create event in city: " + cityDTO.getName() + ", but was: "
+                                + eventNodeBeforeSave.getCity().getName()),
+                () -> assertEquals(countryNode, eventNodeBeforeSave.getCity().getProvince().getCountry(),
+                        () -> "should create province in country: " + countryNode + ", but was: "
+                                + eventNodeBeforeSave.getCity().getProvince().getCountry()),
+                () -> verify(countryService, times(1)).findAllByNameIn(Set.of(countryDTO.getName())),
+                () -> verifyNoMoreInteractions(countryService),
+                () -> verify(eventRepository, times(1)).createAll(List.of(eventNodeBeforeSave)),
+                () -> verify(eventRepository, times(1)).findAllProjectedById(List.of(eventNodeExpected.getId())),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verifyNoInteractions(targetService),
+                () -> verifyNoInteractions(cityService));
+    }
+
+    @Test
+    void when_save_all_new_events_with_not_existing_country_should_throw_exception() {
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.withName("not existing country").build(ObjectType.DTO);
+        TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        CityDTO cityDTO = (CityDTO) cityBuilder.withProvince(provinceDTO).build(ObjectType.DTO);
+        EventDTO eventDTO = (EventDTO) eventBuilder.withTarget(targetDTO).withCity(cityDTO).build(ObjectType.DTO);
+
+        when(countryService.findAllByNameIn(Set.of(countryDTO.getName()))).thenReturn(List.of());
+
+        assertAll(() -> assertThrows(ResourceNotFoundException.class, () -> eventService.saveAllNew(List.of(eventDTO)),
+                () -> "should throw ResourceNotFoundException, but wasn't"),
+                () -> verify(countryService, times(1)).findAllByNameIn(Set.of(countryDTO.getName())),
+                () -> verifyNoMoreInteractions(countryService),
+                () -> verifyNoInteractions(eventRepository),
+                () -> verifyNoInteractions(objectMapper));
+    }
+
     @Test
     void when_save_new_event_with_new_city_should_save_and_return_new_event_with_new_city() {
 
@@ -661,7 +731,7 @@ class EventServiceImplTest {
         when(cityService.findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()))
                 .thenReturn(Optional.empty());
         when(cityService.saveNew(cityDTO)).thenReturn(cityNodeExpected);
-        when(eventRepository.save(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
+        when(eventRepository.saveLinkingById(eventNodeExpectedBeforeSave)).thenReturn(eventNodeExpected);
 
         EventNode eventNodeActual = eventService.saveNew(eventDTOExpected);
 
@@ -771,7 +841,7 @@ class EventServiceImplTest {
                 () -> verify(cityService, times(1)).findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()),
                 () -> verify(cityService, times(1)).saveNew(cityDTO),
                 () -> verifyNoMoreInteractions(cityService),
-                () -> verify(eventRepository, times(1)).save(eventNodeExpectedBeforeSave),
+                () -> verify(eventRepository, times(1)).saveLinkingById(eventNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(eventRepository));
     }
 
@@ -832,7 +902,7 @@ class EventServiceImplTest {
         when(cityService.findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()))
                 .thenReturn(Optional.empty());
         when(cityService.saveNew(cityDTO)).thenReturn(updatedCityNode);
-        when(eventRepository.save(eventNodeExpectedBeforeSetIdAndTarget)).thenReturn(eventNodeExpected);
+        when(eventRepository.saveLinkingById(eventNodeExpectedBeforeSetIdAndTarget)).thenReturn(eventNodeExpected);
 
         EventNode eventNodeActual = eventService.update(eventNodeExpectedBeforeMethod, eventDTOExpected);
 
@@ -942,7 +1012,7 @@ class EventServiceImplTest {
                 () -> verify(cityService, times(1)).findByNameAndLatitudeAndLongitude(cityDTO.getName(), cityDTO.getLatitude(), cityDTO.getLongitude()),
                 () -> verify(cityService, times(1)).saveNew(cityDTO),
                 () -> verifyNoMoreInteractions(cityService),
-                () -> verify(eventRepository, times(1)).save(eventNodeExpectedBeforeSetIdAndTarget),
+                () -> verify(eventRepository, times(1)).saveLinkingById(eventNodeExpectedBeforeSetIdAndTarget),
                 () -> verifyNoMoreInteractions(eventRepository));
     }
 
@@ -963,7 +1033,7 @@ class EventServiceImplTest {
                 .build(ObjectType.NODE);
 
         when(targetService.saveNew(targetDTOExpected)).thenReturn(newTargetNode);
-        when(eventRepository.save(eventNodeExpectedBeforeSetTarget)).thenReturn(eventNodeExpected);
+        when(eventRepository.saveLinkingById(eventNodeExpectedBeforeSetTarget)).thenReturn(eventNodeExpected);
 
         EventNode eventNodeActual = eventService.addOrUpdateEventTarget(eventNodeExpectedBeforeSetTarget, targetDTOExpected);
 
@@ -1068,7 +1138,7 @@ class EventServiceImplTest {
                                 + eventNodeActual.getCity().getProvince().getCountry().getRegion().getName()),
                 () -> verify(targetService, times(1)).saveNew(targetDTOExpected),
                 () -> verifyNoMoreInteractions(targetService),
-                () -> verify(eventRepository, times(1)).save(eventNodeExpected),
+                () -> verify(eventRepository, times(1)).saveLinkingById(eventNodeExpected),
                 () -> verifyNoMoreInteractions(eventRepository),
                 () -> verifyNoInteractions(objectMapper),
                 () -> verifyNoInteractions(cityService));
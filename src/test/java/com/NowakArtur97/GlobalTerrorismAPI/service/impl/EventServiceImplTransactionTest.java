@@ -0,0 +1,97 @@
+package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
+
+import com.NowakArtur97.GlobalTerrorismAPI.dto.*;
+import com.NowakArtur97.GlobalTerrorismAPI.exception.ResourceNotFoundException;
+import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.TargetNode;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.CountryRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.TargetRepository;
+import com.NowakArtur97.GlobalTerrorismAPI.service.api.EventService;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.*;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.enums.ObjectType;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.configuration.Neo4jTestConfiguration;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.database.Neo4jDatabaseUtil;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@Import(Neo4jTestConfiguration.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("EventServiceImplTransaction_Tests")
+class EventServiceImplTransactionTest {
+
+    private final static String TARGET_NAME = "target of rolled back event";
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TargetRepository targetRepository;
+
+    private static CountryBuilder countryBuilder;
+    private static TargetBuilder targetBuilder;
+    private static ProvinceBuilder provinceBuilder;
+    private static CityBuilder cityBuilder;
+    private static EventBuilder eventBuilder;
+
+    private final static CountryNode countryNode = new CountryNode("country name", new RegionNode("region name"));
+
+    @BeforeAll
+    private static void setUpBuilders() {
+
+        countryBuilder = new CountryBuilder();
+        targetBuilder = new TargetBuilder();
+        provinceBuilder = new ProvinceBuilder();
+        cityBuilder = new CityBuilder();
+        eventBuilder = new EventBuilder();
+    }
+
+    @BeforeAll
+    private static void setUp(@Autowired CountryRepository countryRepository) {
+
+        countryRepository.save(countryNode);
+    }
+
+    @AfterAll
+    private static void tearDown(@Autowired Neo4jDatabaseUtil neo4jDatabaseUtil) {
+
+        neo4jDatabaseUtil.cleanDatabase();
+    }
+
+    @Test
+    void when_save_new_event_fails_after_saving_its_target_should_roll_back_target() {
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.withName(countryNode.getName()).build(ObjectType.DTO);
+        CountryDTO notExistingCountryDTO = (CountryDTO) countryBuilder.withName("not existing country")
+                .build(ObjectType.DTO);
+        TargetDTO targetDTO = (TargetDTO) targetBuilder.withTarget(TARGET_NAME).withCountry(countryDTO)
+                .build(ObjectType.DTO);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withName("province of rolled back event")
+                .withCountry(notExistingCountryDTO).build(ObjectType.DTO);
+        CityDTO cityDTO = (CityDTO) cityBuilder.withName("city of rolled back event").withProvince(provinceDTO)
+                .build(ObjectType.DTO);
+        EventDTO eventDTO = (EventDTO) eventBuilder.withTarget(targetDTO).withCity(cityDTO).build(ObjectType.DTO);
+
+        assertThrows(ResourceNotFoundException.class, () -> eventService.saveNew(eventDTO),
+                () -> "should throw ResourceNotFoundException");
+
+        List<String> targetsActual = new ArrayList<>();
+
+        for (TargetNode targetNode : targetRepository.findAll()) {
+            if (TARGET_NAME.equals(targetNode.getTarget())) {
+                targetsActual.add(targetNode.getTarget());
+            }
+        }
+
+        assertTrue(targetsActual.isEmpty(), () -> "should not save target, but was: " + targetsActual);
+    }
+}
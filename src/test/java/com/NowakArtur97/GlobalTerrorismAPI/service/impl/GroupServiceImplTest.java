@@ -3,6 +3,8 @@ package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 import com.NowakArtur97.GlobalTerrorismAPI.dto.*;
 import com.NowakArtur97.GlobalTerrorismAPI.mapper.ObjectMapper;
 import com.NowakArtur97.GlobalTerrorismAPI.node.*;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.DeletedEvents;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.EventRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.GroupRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GenericService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.GroupService;
@@ -43,6 +45,9 @@ class GroupServiceImplTest {
     @Mock
     private GenericService<EventNode, EventDTO> eventService;
 
+    @Mock
+    private EventRepository eventRepository;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
     private static TargetBuilder targetBuilder;
@@ -66,7 +71,7 @@ class GroupServiceImplTest {
     @BeforeEach
     private void setUp() {
 
-        groupService = new GroupServiceImpl(groupRepository, objectMapper, eventService);
+        groupService = new GroupServiceImpl(groupRepository, objectMapper, eventService, eventRepository);
     }
 
     @Test
@@ -182,6 +187,54 @@ class GroupServiceImplTest {
                 () -> verifyNoInteractions(eventService));
     }
 
+    @Test
+    void when_group_exists_and_return_page_of_its_events_should_return_page_from_event_repository() {
+
+        Long groupId = 1L;
+
+        EventNode eventNode1 = (EventNode) eventBuilder.build(ObjectType.NODE);
+        EventNode eventNode2 = (EventNode) eventBuilder.build(ObjectType.NODE);
+
+        Pageable pageable = PageRequest.of(1, 2);
+
+        Page<EventNode> eventsExpected = new PageImpl<>(List.of(eventNode1, eventNode2), pageable, 10);
+
+        when(groupRepository.existsById(groupId)).thenReturn(true);
+        when(eventRepository.findAllByGroupId(groupId, pageable)).thenReturn(eventsExpected);
+
+        Optional<Page<EventNode>> eventsActualOptional = groupService.findAllEventsByGroupId(groupId, pageable);
+
+        assertAll(() -> assertTrue(eventsActualOptional.isPresent(), () -> "should return page of events, but was empty"),
+                () -> assertEquals(eventsExpected, eventsActualOptional.get(),
+                        () -> "should return: " + eventsExpected + ", but was: " + eventsActualOptional.get()),
+                () -> verify(groupRepository, times(1)).existsById(groupId),
+                () -> verifyNoMoreInteractions(groupRepository),
+                () -> verify(eventRepository, times(1)).findAllByGroupId(groupId, pageable),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verifyNoInteractions(objectMapper),
+                () -> verifyNoInteractions(eventService));
+    }
+
+    @Test
+    void when_group_does_not_exist_and_return_page_of_its_events_should_return_empty_optional() {
+
+        Long groupId = 1L;
+
+        Pageable pageable = PageRequest.of(0, 20);
+
+        when(groupRepository.existsById(groupId)).thenReturn(false);
+
+        Optional<Page<EventNode>> eventsActualOptional = groupService.findAllEventsByGroupId(groupId, pageable);
+
+        assertAll(() -> assertTrue(eventsActualOptional.isEmpty(),
+                () -> "should return empty optional, but was: " + eventsActualOptional.get()),
+                () -> verify(groupRepository, times(1)).existsById(groupId),
+                () -> verifyNoMoreInteractions(groupRepository),
+                () -> verifyNoInteractions(eventRepository),
+                () -> verifyNoInteractions(objectMapper),
+                () -> verifyNoInteractions(eventService));
+    }
+
     @Test
     void when_group_exists_and_return_one_group_with_depth_should_return_one_group_with_events() {
 
@@ -460,8 +513,8 @@ class GroupServiceImplTest {
                 .build(ObjectType.NODE);
 
         when(objectMapper.map(groupDTOExpected, GroupNode.class)).thenReturn(groupNodeExpectedBeforeSave);
-        when(eventService.saveNew(eventDTO)).thenReturn(eventNodeExpected);
-        when(groupRepository.save(groupNodeExpectedBeforeSave)).thenReturn(groupNodeExpected);
+        when(eventService.saveAllNew(List.of(eventDTO))).thenReturn(List.of(eventNodeExpected));
+        when(groupRepository.save(groupNodeExpectedBeforeSave, 0)).thenReturn(groupNodeExpected);
 
         GroupNode groupNodeActual = groupService.saveNew(groupDTOExpected);
 
@@ -565,9 +618,12 @@ class GroupServiceImplTest {
                                 + groupNodeActual.getEventsCaused().get(0).getCity().getProvince().getCountry().getRegion().getName()),
                 () -> verify(objectMapper, times(1)).map(groupDTOExpected, GroupNode.class),
                 () -> verifyNoMoreInteractions(objectMapper),
-                () -> verify(eventService, times(1)).saveNew(eventDTO),
+                () -> verify(eventService, times(1)).saveAllNew(List.of(eventDTO)),
                 () -> verifyNoMoreInteractions(eventService),
-                () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeSave),
+                () -> verify(eventRepository, times(1)).addAllToGroup(groupNodeExpected.getId(),
+                        List.of(eventNodeExpected.getId())),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeSave, 0),
                 () -> verifyNoMoreInteractions(groupRepository));
     }
 
@@ -613,9 +669,6 @@ class GroupServiceImplTest {
         String updatedCityName2 = "city2";
         double updatedCityLatitude2 = 23.0;
         double updatedCityLongitude2 = -21.0;
-        RegionNode regionNode2 = (RegionNode) regionBuilder.build(ObjectType.NODE);
-        CountryNode countryNode2 = (CountryNode) countryBuilder.withRegion(regionNode2).build(ObjectType.NODE);
-        TargetNode targetNode2 = (TargetNode) targetBuilder.withCountry(countryNode2).build(ObjectType.NODE);
         RegionNode updatedRegionNode2 = (RegionNode) regionBuilder.build(ObjectType.NODE);
         CountryNode updatedCountryNode2 = (CountryNode) countryBuilder.withName(updatedCountryName2)
                 .withRegion(updatedRegionNode2).build(ObjectType.NODE);
@@ -628,8 +681,6 @@ class GroupServiceImplTest {
         CityDTO cityDTO2 = (CityDTO) cityBuilder.withName(updatedCityName2).withLatitude(updatedCityLatitude2)
                 .withLongitude(updatedCityLongitude2).withProvince(provinceDTO2).build(ObjectType.DTO);
         EventDTO eventDTO2 = (EventDTO) eventBuilder.withTarget(targetDTO2).withCity(cityDTO2).build(ObjectType.DTO);
-        CityNode cityNode2 = (CityNode) cityBuilder.build(ObjectType.NODE);
-        EventNode eventNode2 = (EventNode) eventBuilder.withTarget(targetNode2).withCity(cityNode2).build(ObjectType.NODE);
         ProvinceNode updatedProvinceNode2 = (ProvinceNode) provinceBuilder.withName(updatedProvinceName2)
                 .withCountry(updatedCountryNode2).build(ObjectType.NODE);
         CityNode updatedCityNode2 = (CityNode) cityBuilder.withName(updatedCityName2).withLatitude(updatedCityLatitude2)
@@ -641,15 +692,12 @@ class GroupServiceImplTest {
                 .withEventsCaused(List.of(eventDTO, eventDTO2)).build(ObjectType.DTO);
         GroupNode groupNodeExpectedBeforeMethod = (GroupNode) groupBuilder
                 .withEventsCaused(List.of(eventNode)).build(ObjectType.NODE);
-        GroupNode groupNodeExpectedBeforeSetId = (GroupNode) groupBuilder.withId(null).withName(updatedGroupName)
-                .withEventsCaused(List.of(eventNode, eventNode2)).build(ObjectType.NODE);
         GroupNode groupNodeExpected = (GroupNode) groupBuilder.withName(updatedGroupName)
                 .withEventsCaused(List.of(updatedEventNode, updatedEventNode2)).build(ObjectType.NODE);
 
-        when(eventService.saveNew(eventDTO)).thenReturn(updatedEventNode);
-        when(eventService.saveNew(eventDTO2)).thenReturn(updatedEventNode2);
-        when(objectMapper.map(groupDTOExpected, GroupNode.class)).thenReturn(groupNodeExpectedBeforeSetId);
-        when(groupRepository.save(groupNodeExpectedBeforeSetId)).thenReturn(groupNodeExpected);
+        when(eventRepository.deleteAllWithTargets(List.of(eventNode.getId()))).thenReturn(new DeletedEvents(1, 1));
+        when(eventService.saveAllNew(List.of(eventDTO, eventDTO2))).thenReturn(List.of(updatedEventNode, updatedEventNode2));
+        when(groupRepository.save(groupNodeExpectedBeforeMethod, 0)).thenReturn(groupNodeExpected);
 
         GroupNode groupNodeActual = groupService.update(groupNodeExpectedBeforeMethod, groupDTOExpected);
 
@@ -839,13 +887,102 @@ class GroupServiceImplTest {
                 () -> assertEquals(updatedRegionNode2.getName(), groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getName(),
                         () -> "should return group node with region name: " + updatedRegionNode2.getName() + ", but was: "
                                 + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getName()),
-                () -> verify(eventService, times(1)).delete(eventNode.getId()),
-                () -> verify(eventService, times(1)).saveNew(eventDTO),
-                () -> verify(eventService, times(1)).saveNew(eventDTO2),
+                () -> verify(eventRepository, times(1)).deleteAllWithTargets(List.of(eventNode.getId())),
+                () -> verify(eventRepository, times(1)).addAllToGroup(groupNodeExpected.getId(),
+                        List.of(updatedEventNode.getId(), updatedEventNode2.getId())),
+                () -> verifyNoMoreInteractions(eventRepository),
+                () -> verify(eventService, times(1)).saveAllNew(List.of(eventDTO, eventDTO2)),
                 () -> verifyNoMoreInteractions(eventService),
-                () -> verify(objectMapper, times(1)).map(groupDTOExpected, GroupNode.class),
-                () -> verifyNoMoreInteractions(objectMapper),
-                () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeSetId),
+                () -> verifyNoInteractions(objectMapper),
+                () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeMethod, 0),
+                () -> verifyNoMoreInteractions(groupRepository));
+    }
+
+    @Test
+    void when_update_group_without_changing_its_events_should_keep_events() {
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+        CountryNode countryNode = (CountryNode) countryBuilder.withRegion(regionNode).build(ObjectType.NODE);
+        TargetNode targetNode = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        ProvinceNode provinceNode = (ProvinceNode) provinceBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        CityNode cityNode = (CityNode) cityBuilder.withProvince(provinceNode).build(ObjectType.NODE);
+        EventNode eventNode = (EventNode) eventBuilder.withTarget(targetNode).withCity(cityNode).build(ObjectType.NODE);
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.build(ObjectType.DTO);
+        TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        CityDTO cityDTO = (CityDTO) cityBuilder.withProvince(provinceDTO).build(ObjectType.DTO);
+        EventDTO eventDTO = (EventDTO) eventBuilder.withTarget(targetDTO).withCity(cityDTO).build(ObjectType.DTO);
+
+        String updatedGroupName = "new group name";
+        GroupDTO groupDTOExpected = (GroupDTO) groupBuilder.withName(updatedGroupName)
+                .withEventsCaused(List.of(eventDTO)).build(ObjectType.DTO);
+        GroupNode groupNodeExpectedBeforeMethod = (GroupNode) groupBuilder
+                .withEventsCaused(List.of(eventNode)).build(ObjectType.NODE);
+
+        when(groupRepository.save(groupNodeExpectedBeforeMethod, 0)).thenReturn(groupNodeExpectedBeforeMethod);
+
+        GroupNode groupNodeActual = groupService.update(groupNodeExpectedBeforeMethod, groupDTOExpected);
+
+        assertAll(() -> assertEquals(updatedGroupName, groupNodeActual.getName(),
+                () -> "should return group node with name: " + updatedGroupName + ", but was"
+                        + groupNodeActual.getName()),
+                () -> assertEquals(List.of(eventNode), groupNodeActual.getEventsCaused(),
+                        () -> "should return group node with the same events: " + List.of(eventNode) + ", but was: "
+                                + groupNodeActual.getEventsCaused()),
+                () -> verifyNoInteractions(eventRepository),
+                () -> verifyNoInteractions(eventService),
+                () -> verifyNoInteractions(objectMapper),
+                () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeMethod, 0),
+                () -> verifyNoMoreInteractions(groupRepository));
+    }
+
+    @Test
+    void when_update_group_with_changed_event_should_update_event_in_place_and_keep_its_id() {
+
+        Long eventId = 3L;
+        String updatedSummary = "updated summary";
+
+        RegionNode regionNode = (RegionNode) regionBuilder.build(ObjectType.NODE);
+        CountryNode countryNode = (CountryNode) countryBuilder.withRegion(regionNode).build(ObjectType.NODE);
+        TargetNode targetNode = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        ProvinceNode provinceNode = (ProvinceNode) provinceBuilder.withCountry(countryNode).build(ObjectType.NODE);
+        CityNode cityNode = (CityNode) cityBuilder.withProvince(provinceNode).build(ObjectType.NODE);
+        EventNode eventNode = (EventNode) eventBuilder.withId(eventId).withTarget(targetNode).withCity(cityNode)
+                .build(ObjectType.NODE);
+        EventNode updatedEventNode = (EventNode) eventBuilder.withId(eventId).withSummary(updatedSummary)
+                .withTarget(targetNode).withCity(cityNode).build(ObjectType.NODE);
+
+        CountryDTO countryDTO = (CountryDTO) countryBuilder.build(ObjectType.DTO);
+        TargetDTO targetDTO = (TargetDTO) targetBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        ProvinceDTO provinceDTO = (ProvinceDTO) provinceBuilder.withCountry(countryDTO).build(ObjectType.DTO);
+        CityDTO cityDTO = (CityDTO) cityBuilder.withProvince(provinceDTO).build(ObjectType.DTO);
+        EventDTO eventDTO = (EventDTO) eventBuilder.withSummary(updatedSummary).withTarget(targetDTO).withCity(cityDTO)
+                .build(ObjectType.DTO);
+        eventDTO.setId(eventId);
+
+        GroupDTO groupDTOExpected = (GroupDTO) groupBuilder.withEventsCaused(List.of(eventDTO)).build(ObjectType.DTO);
+        GroupNode groupNodeExpectedBeforeMethod = (GroupNode) groupBuilder
+                .withEventsCaused(List.of(eventNode)).build(ObjectType.NODE);
+
+        when(eventService.update(eventNode, eventDTO)).thenReturn(updatedEventNode);
+        when(groupRepository.save(groupNodeExpectedBeforeMethod, 0)).thenReturn(groupNodeExpectedBeforeMethod);
+
+        GroupNode groupNodeActual = groupService.update(groupNodeExpectedBeforeMethod, groupDTOExpected);
+
+        assertAll(() -> assertEquals(1, groupNodeActual.getEventsCaused().size(),
+                () -> "should return group node with one event, but was: " + groupNodeActual.getEventsCaused()),
+                () -> assertEquals(eventId, groupNodeActual.getEventsCaused().get(0).getId(),
+                        () -> "should return group node with event id: " + eventId + ", but was: "
+                                + groupNodeActual.getEventsCaused().get(0).getId()),
+                () -> assertEquals(updatedSummary, groupNodeActual.getEventsCaused().get(0).getSummary(),
+                        () -> "should return group node with event summary: " + updatedSummary + ", but was: "
+                                + groupNodeActual.getEventsCaused().get(0).getSummary()),
+                () -> verify(eventService, times(1)).update(eventNode, eventDTO),
+                () -> verifyNoMoreInteractions(eventService),
+                () -> verifyNoInteractions(eventRepository),
+                () -> verifyNoInteractions(objectMapper),
+                () -> verify(groupRepository, times(1)).save(groupNodeExpectedBeforeMethod, 0),
                 () -> verifyNoMoreInteractions(groupRepository));
     }
 
@@ -875,9 +1012,8 @@ class GroupServiceImplTest {
         GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId)
                 .withEventsCaused(List.of(eventNodeExpected, eventNodeExpected2)).build(ObjectType.NODE);
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(eventService.delete(eventId)).thenReturn(Optional.of(eventNodeExpected));
-        when(eventService.delete(eventId2)).thenReturn(Optional.of(eventNodeExpected2));
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNodeExpected));
+        when(eventRepository.deleteAllByGroupId(groupId)).thenReturn(new DeletedEvents(2, 2));
 
         Optional<GroupNode> groupNodeOptionalActual = groupService.delete(eventId);
 
@@ -1072,11 +1208,11 @@ class GroupServiceImplTest {
                 () -> assertEquals(regionNodeExpected2.getName(), groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getName(),
                         () -> "should return group node with region name: " + regionNodeExpected2.getName() + ", but was: "
                                 + groupNodeActual.getEventsCaused().get(1).getCity().getProvince().getCountry().getRegion().getName()),
-                () -> verify(groupRepository, times(1)).findById(eventId),
+                () -> verify(groupRepository, times(1)).findById(eventId, 0),
                 () -> verify(groupRepository, times(1)).delete(groupNodeExpected),
                 () -> verifyNoMoreInteractions(groupRepository),
-                () -> verify(eventService, times(1)).delete(eventId),
-                () -> verify(eventService, times(1)).delete(eventId2),
+                () -> verify(eventRepository, times(1)).deleteAllByGroupId(groupId),
+                () -> verifyNoMoreInteractions(eventRepository),
                 () -> verifyNoMoreInteractions(eventService),
                 () -> verifyNoInteractions(objectMapper));
     }
@@ -1086,14 +1222,14 @@ class GroupServiceImplTest {
 
         Long groupId = 1L;
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.empty());
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.empty());
 
         Optional<GroupNode> groupNodeOptional = groupService.delete(groupId);
 
         assertAll(
                 () -> assertTrue(groupNodeOptional.isEmpty(),
                         () -> "should return empty group node optional, but was: " + groupNodeOptional.get()),
-                () -> verify(groupRepository, times(1)).findById(groupId),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
                 () -> verifyNoMoreInteractions(groupRepository),
                 () -> verifyNoInteractions(objectMapper),
                 () -> verifyNoInteractions(eventService));
@@ -1372,9 +1508,8 @@ class GroupServiceImplTest {
         GroupNode groupNodeExpected = (GroupNode) groupBuilder.withId(groupId)
                 .withEventsCaused(List.of(eventNodeExpected, eventNodeExpected2)).build(ObjectType.NODE);
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.of(groupNodeExpected));
-        when(eventService.delete(eventId)).thenReturn(Optional.of(eventNodeExpected));
-        when(eventService.delete(eventId2)).thenReturn(Optional.of(eventNodeExpected2));
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.of(groupNodeExpected));
+        when(eventRepository.deleteAllByGroupId(groupId)).thenReturn(new DeletedEvents(2, 2));
 
         Optional<GroupNode> groupNodeOptionalActual = groupService.deleteAllGroupEvents(eventId);
 
@@ -1495,10 +1630,10 @@ class GroupServiceImplTest {
                 () -> assertNull(groupNodeActual.getEventsCaused().get(1).getCity().getProvince(),
                         () -> "should return group node with null province, but was: " +
                                 groupNodeActual.getEventsCaused().get(1).getCity().getProvince()),
-                () -> verify(groupRepository, times(1)).findById(eventId),
+                () -> verify(groupRepository, times(1)).findById(eventId, 0),
                 () -> verifyNoMoreInteractions(groupRepository),
-                () -> verify(eventService, times(1)).delete(eventId),
-                () -> verify(eventService, times(1)).delete(eventId2),
+                () -> verify(eventRepository, times(1)).deleteAllByGroupId(groupId),
+                () -> verifyNoMoreInteractions(eventRepository),
                 () -> verifyNoMoreInteractions(eventService),
                 () -> verifyNoInteractions(objectMapper));
     }
@@ -1508,14 +1643,14 @@ class GroupServiceImplTest {
 
         Long groupId = 1L;
 
-        when(groupRepository.findById(groupId)).thenReturn(Optional.empty());
+        when(groupRepository.findById(groupId, 0)).thenReturn(Optional.empty());
 
         Optional<GroupNode> groupNodeOptional = groupService.deleteAllGroupEvents(groupId);
 
         assertAll(
                 () -> assertTrue(groupNodeOptional.isEmpty(),
                         () -> "should return empty group node optional, but was: " + groupNodeOptional.get()),
-                () -> verify(groupRepository, times(1)).findById(groupId),
+                () -> verify(groupRepository, times(1)).findById(groupId, 0),
                 () -> verifyNoMoreInteractions(groupRepository),
                 () -> verifyNoInteractions(objectMapper),
                 () -> verifyNoInteractions(eventService));
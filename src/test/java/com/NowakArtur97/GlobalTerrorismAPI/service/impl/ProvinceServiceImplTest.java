@@ -7,6 +7,7 @@ import com.NowakArtur97.GlobalTerrorismAPI.mapper.ObjectMapper;
 import com.NowakArtur97.GlobalTerrorismAPI.node.CountryNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.ProvinceNode;
 import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.ProvinceRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.CountryService;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.ProvinceService;
@@ -27,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -36,7 +38,7 @@ import static org.mockito.Mockito.*;
 @Tag("ProvinceServiceImpl_Tests")
 class ProvinceServiceImplTest {
 
-    private final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = 2;
+    private final int DEFAULT_DEPTH_FOR_PROVINCE_NODE = LocationCache.PROVINCE_DEPTH;
 
     private ProvinceService provinceService;
 
@@ -49,6 +51,9 @@ class ProvinceServiceImplTest {
     @Mock
     private CountryService countryService;
 
+    @Mock
+    private LocationCache locationCache;
+
     private static RegionBuilder regionBuilder;
     private static CountryBuilder countryBuilder;
     private static ProvinceBuilder provinceBuilder;
@@ -64,7 +69,11 @@ class ProvinceServiceImplTest {
     @BeforeEach
     private void setUp() {
 
-        provinceService = new ProvinceServiceImpl(provinceRepository, objectMapper, countryService);
+        // Passes every lookup through to the repository, as if nothing was cached
+        lenient().when(locationCache.findProvince(any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+
+        provinceService = new ProvinceServiceImpl(provinceRepository, objectMapper, countryService, locationCache);
     }
 
     @Test
@@ -339,7 +348,7 @@ class ProvinceServiceImplTest {
                 .build(ObjectType.NODE);
 
         when(countryService.findByName(countryNodeExpected.getName())).thenReturn(Optional.of(countryNodeExpected));
-        when(provinceRepository.save(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
+        when(provinceRepository.saveLinkingById(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
 
         ProvinceNode provinceNodeActual = provinceService.save(provinceNodeExpectedBeforeSave);
 
@@ -374,7 +383,7 @@ class ProvinceServiceImplTest {
                                 + provinceNodeActual.getCountry().getRegion().getName()),
                 () -> verify(countryService, times(1)).findByName(countryNodeExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
-                () -> verify(provinceRepository, times(1)).save(provinceNodeExpectedBeforeSave),
+                () -> verify(provinceRepository, times(1)).saveLinkingById(provinceNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(provinceRepository),
                 () -> verifyNoInteractions(objectMapper));
     }
@@ -416,7 +425,7 @@ class ProvinceServiceImplTest {
 
         when(objectMapper.map(provinceDTO, ProvinceNode.class)).thenReturn(provinceNodeExpectedBeforeSave);
         when(countryService.findByName(countryDTO.getName())).thenReturn(Optional.of(countryNodeExpected));
-        when(provinceRepository.save(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
+        when(provinceRepository.saveLinkingById(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
 
         ProvinceNode provinceNodeActual = provinceService.saveNew(provinceDTO);
 
@@ -449,7 +458,7 @@ class ProvinceServiceImplTest {
                 () -> verifyNoMoreInteractions(objectMapper),
                 () -> verify(countryService, times(1)).findByName(countryDTO.getName()),
                 () -> verifyNoMoreInteractions(countryService),
-                () -> verify(provinceRepository, times(1)).save(provinceNodeExpectedBeforeSave),
+                () -> verify(provinceRepository, times(1)).saveLinkingById(provinceNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(provinceRepository));
     }
 
@@ -500,7 +509,7 @@ class ProvinceServiceImplTest {
 
         when(objectMapper.map(provinceDTO, ProvinceNode.class)).thenReturn(provinceNodeExpectedBeforeSave);
         when(countryService.findByName(countryDTO.getName())).thenReturn(Optional.of(countryNodeExpected));
-        when(provinceRepository.save(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
+        when(provinceRepository.saveLinkingById(provinceNodeExpectedBeforeSave)).thenReturn(provinceNodeExpected);
 
         ProvinceNode provinceNodeActual = provinceService.update(provinceNodeToUpdate, provinceDTO);
 
@@ -537,7 +546,7 @@ class ProvinceServiceImplTest {
                 () -> verifyNoMoreInteractions(objectMapper),
                 () -> verify(countryService, times(1)).findByName(countryDTO.getName()),
                 () -> verifyNoMoreInteractions(countryService),
-                () -> verify(provinceRepository, times(1)).save(provinceNodeExpectedBeforeSave),
+                () -> verify(provinceRepository, times(1)).saveLinkingById(provinceNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(provinceRepository));
     }
 
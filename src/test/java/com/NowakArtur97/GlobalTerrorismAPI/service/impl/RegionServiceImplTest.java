@@ -1,6 +1,7 @@
 package com.NowakArtur97.GlobalTerrorismAPI.service.impl;
 
 import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import com.NowakArtur97.GlobalTerrorismAPI.repository.RegionRepository;
 import com.NowakArtur97.GlobalTerrorismAPI.service.api.RegionService;
 import com.NowakArtur97.GlobalTerrorismAPI.testUtil.builder.RegionBuilder;
@@ -18,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -32,6 +34,9 @@ class RegionServiceImplTest {
     @Mock
     private RegionRepository regionRepository;
 
+    @Mock
+    private LocationCache locationCache;
+
     private static RegionBuilder regionBuilder;
 
     @BeforeAll
@@ -43,7 +48,11 @@ class RegionServiceImplTest {
     @BeforeEach
     private void setUp() {
 
-        regionService = new RegionServiceImpl(regionRepository);
+        // Passes every lookup through to the repository, as if nothing was cached
+        lenient().when(locationCache.findRegion(any(), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+
+        regionService = new RegionServiceImpl(regionRepository, locationCache);
     }
 
     @Test
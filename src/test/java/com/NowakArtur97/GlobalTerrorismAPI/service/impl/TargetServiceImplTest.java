@@ -251,7 +251,7 @@ class TargetServiceImplTest {
 
         when(objectMapper.map(targetDTOExpected, TargetNode.class)).thenReturn(targetNodeExpectedBeforeSetCountry);
         when(countryService.findByName(countryDTOExpected.getName())).thenReturn(Optional.of(countryNodeExpected));
-        when(targetRepository.save(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
+        when(targetRepository.saveLinkingById(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
 
         TargetNode targetNodeActual = targetService.saveNew(targetDTOExpected);
 
@@ -284,7 +284,7 @@ class TargetServiceImplTest {
                 () -> verifyNoMoreInteractions(objectMapper),
                 () -> verify(countryService, times(1)).findByName(countryDTOExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
-                () -> verify(targetRepository, times(1)).save(targetNodeExpectedBeforeSave),
+                () -> verify(targetRepository, times(1)).saveLinkingById(targetNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(targetRepository));
     }
 
@@ -339,7 +339,7 @@ class TargetServiceImplTest {
 
         when(objectMapper.map(targetDTOExpected, TargetNode.class)).thenReturn(targetNodeExpectedBeforeSetCountry);
         when(countryService.findByName(countryDTOExpected.getName())).thenReturn(Optional.of(countryNodeExpected));
-        when(targetRepository.save(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
+        when(targetRepository.saveLinkingById(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
 
         TargetNode targetNodeActual = targetService.update(targetNodeToUpdate, targetDTOExpected);
 
@@ -369,7 +369,7 @@ class TargetServiceImplTest {
                 () -> verifyNoMoreInteractions(objectMapper),
                 () -> verify(countryService, times(1)).findByName(countryDTOExpected.getName()),
                 () -> verifyNoMoreInteractions(countryService),
-                () -> verify(targetRepository, times(1)).save(targetNodeExpectedBeforeSave),
+                () -> verify(targetRepository, times(1)).saveLinkingById(targetNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(targetRepository));
     }
 
@@ -416,7 +416,7 @@ class TargetServiceImplTest {
 
         when(countryService.findByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()))
                 .thenReturn(Optional.of(countryNodeExpected));
-        when(targetRepository.save(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
+        when(targetRepository.saveLinkingById(targetNodeExpectedBeforeSave)).thenReturn(targetNodeExpected);
 
         TargetNode targetNodeActual = targetService.save(targetNodeExpectedBeforeSave);
 
@@ -442,7 +442,7 @@ class TargetServiceImplTest {
                 () -> assertEquals(regionNodeExpected.getName(), targetNodeActual.getCountryOfOrigin().getRegion().getName(),
                         () -> "should return target node with region name: " + regionNodeExpected.getName()
                                 + ", but was: " + targetNodeActual.getCountryOfOrigin().getRegion().getName()),
-                () -> verify(targetRepository, times(1)).save(targetNodeExpectedBeforeSave),
+                () -> verify(targetRepository, times(1)).saveLinkingById(targetNodeExpectedBeforeSave),
                 () -> verifyNoMoreInteractions(targetRepository),
                 () -> verify(countryService, times(1))
                         .findByName(targetNodeExpectedBeforeSave.getCountryOfOrigin().getName()),
@@ -450,6 +450,26 @@ class TargetServiceImplTest {
                 () -> verifyNoInteractions(objectMapper));
     }
 
+    @Test
+    void when_save_properties_of_target_should_save_target_without_looking_up_country() {
+
+        RegionNode regionNodeExpected = (RegionNode) regionBuilder.build(ObjectType.NODE);
+        CountryNode countryNodeExpected = (CountryNode) countryBuilder.withRegion(regionNodeExpected).build(ObjectType.NODE);
+        TargetNode targetNodeExpected = (TargetNode) targetBuilder.withCountry(countryNodeExpected).build(ObjectType.NODE);
+
+        when(targetRepository.save(targetNodeExpected, 0)).thenReturn(targetNodeExpected);
+
+        TargetNode targetNodeActual = targetService.saveProperties(targetNodeExpected);
+
+        assertAll(
+                () -> assertEquals(targetNodeExpected, targetNodeActual,
+                        () -> "should return target node: " + targetNodeExpected + ", but was: " + targetNodeActual),
+                () -> verify(targetRepository, times(1)).save(targetNodeExpected, 0),
+                () -> verifyNoMoreInteractions(targetRepository),
+                () -> verifyNoInteractions(countryService),
+                () -> verifyNoInteractions(objectMapper));
+    }
+
     @Test
     void when_save_target_with_not_existing_country_should_throw_exception() {
 
@@ -1,5 +1,7 @@
 package com.NowakArtur97.GlobalTerrorismAPI.testUtil.database;
 
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LabelVersions;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LocationCache;
 import lombok.RequiredArgsConstructor;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.Session;
@@ -11,10 +13,17 @@ public class Neo4jDatabaseUtil {
 
     private final Driver driver;
 
+    private final LocationCache locationCache;
+
+    private final LabelVersions labelVersions;
+
     public void cleanDatabase() {
 
         try (Session session = driver.session()) {
             session.run("MATCH (n) DETACH DELETE n");
         }
+
+        locationCache.evictAll();
+        labelVersions.incrementAll();
     }
 }
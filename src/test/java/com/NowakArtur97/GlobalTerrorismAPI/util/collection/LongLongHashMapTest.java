@@ -0,0 +1,94 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.collection;
+
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("LongLongHashMap_Tests")
+class LongLongHashMapTest {
+
+    private final static long MISSING_VALUE = -1L;
+
+    private LongLongHashMap map;
+
+    @BeforeEach
+    private void setUp() {
+
+        map = new LongLongHashMap();
+    }
+
+    @Test
+    void when_get_not_existing_key_should_return_missing_value() {
+
+        long valueActual = map.get(42L, MISSING_VALUE);
+
+        assertAll(() -> assertEquals(MISSING_VALUE, valueActual,
+                () -> "should return missing value: " + MISSING_VALUE + ", but was: " + valueActual),
+                () -> assertFalse(map.containsKey(42L), () -> "should not contain key: 42"),
+                () -> assertEquals(0, map.size(), () -> "should be empty, but size was: " + map.size()));
+    }
+
+    @Test
+    void when_put_existing_key_should_replace_value() {
+
+        map.put(42L, 1L);
+        map.put(42L, 2L);
+
+        long valueActual = map.get(42L, MISSING_VALUE);
+
+        assertAll(() -> assertEquals(2L, valueActual, () -> "should return value: 2, but was: " + valueActual),
+                () -> assertEquals(1, map.size(), () -> "should contain one key, but size was: " + map.size()));
+    }
+
+    @Test
+    void when_put_zero_key_should_return_its_value() {
+
+        map.put(0L, 7L);
+
+        long valueActual = map.get(0L, MISSING_VALUE);
+
+        assertAll(() -> assertEquals(7L, valueActual, () -> "should return value: 7, but was: " + valueActual),
+                () -> assertTrue(map.containsKey(0L), () -> "should contain key: 0"),
+                () -> assertEquals(1, map.size(), () -> "should contain one key, but size was: " + map.size()));
+    }
+
+    @Test
+    void when_put_more_keys_than_initial_capacity_should_keep_all_values() {
+
+        int numberOfKeys = 10_000;
+
+        for (long key = 0; key < numberOfKeys; key++) {
+            map.put(key * 31, key);
+        }
+
+        for (long key = 0; key < numberOfKeys; key++) {
+
+            long keyExpected = key;
+            long valueActual = map.get(key * 31, MISSING_VALUE);
+
+            assertEquals(keyExpected, valueActual,
+                    () -> "should return value: " + keyExpected + ", but was: " + valueActual);
+        }
+
+        assertEquals(numberOfKeys, map.size(),
+                () -> "should contain: " + numberOfKeys + " keys, but size was: " + map.size());
+    }
+
+    @Test
+    void when_clear_should_remove_all_keys() {
+
+        map.put(0L, 1L);
+        map.put(42L, 2L);
+
+        map.clear();
+
+        assertAll(() -> assertFalse(map.containsKey(0L), () -> "should not contain key: 0"),
+                () -> assertFalse(map.containsKey(42L), () -> "should not contain key: 42"),
+                () -> assertEquals(0, map.size(), () -> "should be empty, but size was: " + map.size()));
+    }
+}
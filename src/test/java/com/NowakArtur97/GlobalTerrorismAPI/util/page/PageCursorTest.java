@@ -0,0 +1,69 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.page;
+
+import com.NowakArtur97.GlobalTerrorismAPI.exception.InvalidPageCursorException;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("PageCursor_Tests")
+class PageCursorTest {
+
+    @Test
+    void when_decode_encoded_id_cursor_should_return_equal_cursor() {
+
+        PageCursor cursorExpected = PageCursor.afterId(42L);
+
+        PageCursor cursorActual = PageCursor.decode(cursorExpected.encode());
+
+        assertAll(
+                () -> assertEquals(cursorExpected, cursorActual,
+                        () -> "should return cursor: " + cursorExpected + ", but was: " + cursorActual),
+                () -> assertFalse(cursorActual.isKeyedOnDate(), () -> "should not be keyed on date"));
+    }
+
+    @Test
+    void when_decode_encoded_date_cursor_should_return_equal_cursor_with_date_containing_separators() {
+
+        PageCursor cursorExpected = PageCursor.afterDate("1970-01-01T00:00:00.000Z", 7L);
+
+        PageCursor cursorActual = PageCursor.decode(cursorExpected.encode());
+
+        assertAll(
+                () -> assertEquals(cursorExpected, cursorActual,
+                        () -> "should return cursor: " + cursorExpected + ", but was: " + cursorActual),
+                () -> assertTrue(cursorActual.isKeyedOnDate(), () -> "should be keyed on date"));
+    }
+
+    @Test
+    void when_decode_encoded_date_cursor_without_date_should_return_cursor_without_date() {
+
+        PageCursor cursorExpected = PageCursor.afterDate(null, 7L);
+
+        PageCursor cursorActual = PageCursor.decode(cursorExpected.encode());
+
+        assertAll(
+                () -> assertEquals(cursorExpected, cursorActual,
+                        () -> "should return cursor: " + cursorExpected + ", but was: " + cursorActual),
+                () -> assertNull(cursorActual.getDate(), () -> "should not have date, but was: " + cursorActual.getDate()));
+    }
+
+    @Test
+    void when_decode_invalid_cursor_should_throw_exception() {
+
+        String notBase64Cursor = "#cursor";
+        String notNumericIdCursor = Base64.getUrlEncoder().encodeToString("id:abc".getBytes(StandardCharsets.UTF_8));
+
+        assertAll(
+                () -> assertThrows(InvalidPageCursorException.class, () -> PageCursor.decode(notBase64Cursor),
+                        () -> "should throw InvalidPageCursorException for: " + notBase64Cursor),
+                () -> assertThrows(InvalidPageCursorException.class, () -> PageCursor.decode(notNumericIdCursor),
+                        () -> "should throw InvalidPageCursorException for: " + notNumericIdCursor));
+    }
+}
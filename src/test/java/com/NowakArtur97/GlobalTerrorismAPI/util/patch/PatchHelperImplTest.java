@@ -15,6 +15,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -267,6 +268,65 @@ class PatchHelperImplTest {
         }
     }
 
+    @Nested
+    @Tag("PatchChanges_Tests")
+    class PatchChangesTest {
+
+        @Test
+        void when_only_properties_of_node_were_patched_should_return_changed_properties() {
+
+            TargetNode targetNode = (TargetNode) targetBuilder.build(ObjectType.NODE);
+            TargetNode targetNodePatched = (TargetNode) targetBuilder.withTarget("updated target").build(ObjectType.NODE);
+
+            JsonObject country = Json.createObjectBuilder().add("id", 1).add("name", "country").build();
+            JsonStructure target = Json.createObjectBuilder().add("id", 1).add("target", "target")
+                    .add("countryOfOrigin", country).build();
+            JsonStructure patched = Json.createObjectBuilder().add("id", 1).add("target", "updated target")
+                    .add("countryOfOrigin", country).build();
+
+            when(objectMapper.convertValue(targetNode, JsonStructure.class)).thenReturn(target);
+            when(objectMapper.convertValue(targetNodePatched, JsonStructure.class)).thenReturn(patched);
+
+            PatchChanges changesActual = patchHelper.getChanges(targetNode, targetNodePatched);
+
+            assertAll(() -> assertEquals(Set.of("target"), changesActual.getProperties(),
+                    () -> "should return changed properties: [target], but was: " + changesActual.getProperties()),
+                    () -> assertFalse(changesActual.hasRelationshipChanges(),
+                            () -> "should not return changed relationships, but was: " + changesActual.getRelationships()),
+                    () -> verify(objectMapper, times(1)).convertValue(targetNode, JsonStructure.class),
+                    () -> verify(objectMapper, times(1)).convertValue(targetNodePatched, JsonStructure.class),
+                    () -> verifyNoMoreInteractions(objectMapper));
+        }
+
+        @Test
+        void when_related_node_was_patched_should_return_changed_relationship() {
+
+            TargetNode targetNode = (TargetNode) targetBuilder.build(ObjectType.NODE);
+            CountryNode countryNode = (CountryNode) countryBuilder.withName("another country").build(ObjectType.NODE);
+            TargetNode targetNodePatched = (TargetNode) targetBuilder.withCountry(countryNode).build(ObjectType.NODE);
+
+            JsonStructure target = Json.createObjectBuilder().add("id", 1).add("target", "target")
+                    .add("countryOfOrigin", Json.createObjectBuilder().add("id", 1).add("name", "country")).build();
+            JsonStructure patched = Json.createObjectBuilder().add("id", 1).add("target", "target")
+                    .add("countryOfOrigin", Json.createObjectBuilder().add("id", 1).add("name", "another country"))
+                    .build();
+
+            when(objectMapper.convertValue(targetNode, JsonStructure.class)).thenReturn(target);
+            when(objectMapper.convertValue(targetNodePatched, JsonStructure.class)).thenReturn(patched);
+
+            PatchChanges changesActual = patchHelper.getChanges(targetNode, targetNodePatched);
+
+            assertAll(() -> assertEquals(Set.of("countryOfOrigin"), changesActual.getRelationships(),
+                    () -> "should return changed relationships: [countryOfOrigin], but was: "
+                            + changesActual.getRelationships()),
+                    () -> assertTrue(changesActual.getProperties().isEmpty(),
+                            () -> "should not return changed properties, but was: " + changesActual.getProperties()),
+                    () -> verify(objectMapper, times(1)).convertValue(targetNode, JsonStructure.class),
+                    () -> verify(objectMapper, times(1)).convertValue(targetNodePatched, JsonStructure.class),
+                    () -> verifyNoMoreInteractions(objectMapper));
+        }
+    }
+
     @Nested
     @Tag("EventPatch_Tests")
     class EventPatchTest {
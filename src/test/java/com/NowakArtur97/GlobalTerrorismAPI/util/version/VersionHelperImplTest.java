@@ -0,0 +1,149 @@
+package com.NowakArtur97.GlobalTerrorismAPI.util.version;
+
+import com.NowakArtur97.GlobalTerrorismAPI.exception.PreconditionFailedException;
+import com.NowakArtur97.GlobalTerrorismAPI.exception.PreconditionRequiredException;
+import com.NowakArtur97.GlobalTerrorismAPI.node.EventNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.GroupNode;
+import com.NowakArtur97.GlobalTerrorismAPI.node.RegionNode;
+import com.NowakArtur97.GlobalTerrorismAPI.property.ConditionalRequestsConfigurationProperties;
+import com.NowakArtur97.GlobalTerrorismAPI.repository.LabelVersions;
+import com.NowakArtur97.GlobalTerrorismAPI.testUtil.nameGenerator.NameWithSpacesGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayNameGeneration(NameWithSpacesGenerator.class)
+@Tag("VersionHelperImpl_Tests")
+class VersionHelperImplTest {
+
+    private VersionHelper versionHelper;
+
+    private MockHttpServletRequest request;
+
+    @Mock
+    private LabelVersions labelVersions;
+
+    @BeforeEach
+    private void setUp() {
+
+        request = new MockHttpServletRequest();
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        versionHelper = new VersionHelperImpl(new ConditionalRequestsConfigurationProperties(true, 0, false),
+                labelVersions);
+    }
+
+    @Test
+    void when_client_has_collection_with_current_tag_should_return_not_modified_headers() {
+
+        when(labelVersions.getVersion(any())).thenReturn(3L);
+
+        VersionTag tag = versionHelper.getTag(RegionNode.class);
+        String eTagExpected = versionHelper.getHeaders(tag, null).getETag();
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTagExpected);
+
+        HttpHeaders headersActual = versionHelper.checkNotModified(versionHelper.getTag(RegionNode.class), null);
+
+        assertAll(() -> assertNotNull(headersActual, () -> "should return not modified headers, but was: null"),
+                () -> assertEquals(eTagExpected, headersActual.getETag(),
+                        () -> "should return ETag: " + eTagExpected + ", but was: " + headersActual.getETag()));
+    }
+
+    @Test
+    void when_client_has_node_with_current_tag_should_return_not_modified_headers_only_for_its_id() {
+
+        when(labelVersions.getVersion(any())).thenReturn(3L);
+
+        RegionNode regionNode = new RegionNode(1L, "region");
+        regionNode.setVersion(2L);
+
+        VersionTag tag = versionHelper.getTag(RegionNode.class);
+        String eTagExpected = versionHelper.getHeaders(tag, regionNode).getETag();
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTagExpected);
+
+        HttpHeaders headersActual = versionHelper.checkNotModified(tag, 1L);
+        HttpHeaders headersOfOtherNodeActual = versionHelper.checkNotModified(tag, 2L);
+
+        assertAll(() -> assertNotNull(headersActual, () -> "should return not modified headers, but was: null"),
+                () -> assertEquals(eTagExpected, headersActual.getETag(),
+                        () -> "should return ETag: " + eTagExpected + ", but was: " + headersActual.getETag()),
+                () -> assertNull(headersOfOtherNodeActual,
+                        () -> "should not return not modified headers for other node, but was: "
+                                + headersOfOtherNodeActual));
+    }
+
+    @Test
+    void when_nodes_of_related_type_changed_should_not_return_not_modified_headers() {
+
+        long[] eventVersion = {1L};
+
+        when(labelVersions.getVersion(any())).thenAnswer(invocation ->
+                invocation.getArgument(0) == EventNode.class ? eventVersion[0] : 3L);
+
+        String eTag = versionHelper.getHeaders(versionHelper.getTag(GroupNode.class), null).getETag();
+
+        eventVersion[0]++;
+
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+
+        HttpHeaders headersActual = versionHelper.checkNotModified(versionHelper.getTag(GroupNode.class), null);
+
+        assertNull(headersActual, () -> "should not return not modified headers, but was: " + headersActual);
+    }
+
+    @Test
+    void when_if_match_has_current_version_of_node_should_not_throw_exception() {
+
+        RegionNode regionNode = new RegionNode(1L, "region");
+        regionNode.setVersion(2L);
+
+        request.addHeader(HttpHeaders.IF_MATCH, "\"tag.1.1\", \"tag.1.2\"");
+
+        assertDoesNotThrow(() -> versionHelper.checkMatch("RegionModel", 1L, regionNode),
+                () -> "should not throw exception for current version");
+    }
+
+    @Test
+    void when_if_match_has_other_version_of_node_should_throw_exception() {
+
+        RegionNode regionNode = new RegionNode(1L, "region");
+        regionNode.setVersion(3L);
+
+        request.addHeader(HttpHeaders.IF_MATCH, "\"tag.1.2\"");
+
+        assertThrows(PreconditionFailedException.class,
+                () -> versionHelper.checkMatch("RegionModel", 1L, regionNode),
+                () -> "should throw PreconditionFailedException for other version, but nothing was thrown");
+    }
+
+    @Test
+    void when_if_match_is_required_but_missing_should_throw_exception() {
+
+        versionHelper = new VersionHelperImpl(new ConditionalRequestsConfigurationProperties(true, 0, true),
+                labelVersions);
+
+        RegionNode regionNode = new RegionNode(1L, "region");
+
+        assertAll(() -> assertThrows(PreconditionRequiredException.class,
+                () -> versionHelper.checkMatch("RegionModel", 1L, regionNode),
+                () -> "should throw PreconditionRequiredException for existing node, but nothing was thrown"),
+                () -> assertDoesNotThrow(() -> versionHelper.checkMatch("RegionModel", 1L, null),
+                        () -> "should not throw exception for node which does not exist"));
+    }
+}